@@ -0,0 +1,180 @@
+package kr.co.platform.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.ibatis.datasource.pooled.PooledDataSource;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.mybatis.spring.transaction.SpringManagedTransactionFactory;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import kr.co.platform.core.domain.schedule.cache.ScheduleVersionRegistry;
+import kr.co.platform.core.domain.schedule.mapper.ScheduleMapper;
+import kr.co.platform.core.domain.schedule.mapper.ScheduleVersionMapper;
+import kr.co.platform.core.domain.schedule.model.entity.ScheduleEntity;
+
+/**
+ * 일정 인덱스/서비스 벤치마크용 내장 H2 (MariaDB 호환 모드)
+ *
+ * <p>애플리케이션과 같이 Spring 트랜잭션에 참여하는 {@link SqlSessionTemplate} 기반 Mapper를 만들어, 서비스 객체를 스프링 컨텍스트 없이 직접
+ * 생성해 쓸 수 있게 한다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+final class BenchmarkDatabase implements AutoCloseable {
+
+    /** 시드 데이터의 사용자당 일정 수 (한 달에 걸쳐 약 18시간 간격) */
+    static final int SCHEDULES_PER_USER = 40;
+
+    private static final int INSERT_CHUNK_SIZE = 500;
+
+    private final PooledDataSource dataSource;
+    private final PlatformTransactionManager transactionManager;
+    private final SqlSessionFactory sqlSessionFactory;
+    private final ScheduleMapper scheduleMapper;
+
+    private BenchmarkDatabase(String name) throws IOException, SQLException {
+        dataSource =
+                new PooledDataSource(
+                        "org.h2.Driver",
+                        "jdbc:h2:mem:" + name + ";MODE=MariaDB;DB_CLOSE_DELAY=-1",
+                        "sa",
+                        "");
+        dataSource.setPoolMaximumActiveConnections(32);
+        dataSource.setPoolMaximumIdleConnections(32);
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute(schema());
+        }
+
+        Configuration configuration =
+                new Configuration(
+                        new Environment(
+                                "benchmark", new SpringManagedTransactionFactory(), dataSource));
+        configuration.setMapUnderscoreToCamelCase(true);
+        configuration.setCallSettersOnNulls(true);
+        configuration.setUseGeneratedKeys(true);
+        configuration.setCacheEnabled(false);
+        configuration.getTypeAliasRegistry().registerAlias(ScheduleEntity.class);
+        configuration.addMapper(ScheduleMapper.class);
+        configuration.addMapper(ScheduleVersionMapper.class);
+        sqlSessionFactory = new SqlSessionFactoryBuilder().build(configuration);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+        scheduleMapper = new SqlSessionTemplate(sqlSessionFactory).getMapper(ScheduleMapper.class);
+    }
+
+    /**
+     * 빈 일정 테이블로 생성
+     *
+     * @param name 내장 DB 이름 (벤치마크마다 다르게)
+     * @return 내장 DB
+     */
+    static BenchmarkDatabase create(String name) throws IOException, SQLException {
+        return new BenchmarkDatabase(name);
+    }
+
+    /**
+     * 사용자별로 이번 달 1일부터 한 달에 걸친 일정을 채워 생성
+     *
+     * <p>인터벌 인덱스의 적재 구간은 현재 일시 기준이므로 시드 데이터도 현재 달에 둔다.
+     *
+     * @param name 내장 DB 이름 (벤치마크마다 다르게)
+     * @param users 사용자 수 (ID는 user0부터)
+     * @return 내장 DB
+     */
+    static BenchmarkDatabase seeded(String name, int users) throws IOException, SQLException {
+        BenchmarkDatabase database = new BenchmarkDatabase(name);
+        LocalDateTime monthStart = monthStart();
+        List<ScheduleEntity> chunk = new ArrayList<>(INSERT_CHUNK_SIZE);
+        for (int user = 0; user < users; user++) {
+            for (int i = 0; i < SCHEDULES_PER_USER; i++) {
+                // 사용자마다 시작 시각을 조금씩 어긋나게 해 공통 빈 시간이 남도록 한다
+                LocalDateTime start = monthStart.plusHours(i * 18L + user % 9);
+                chunk.add(BenchmarkFixtures.schedule(i, "user" + user, start));
+                if (chunk.size() == INSERT_CHUNK_SIZE) {
+                    database.scheduleMapper.insertSchedules(chunk);
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            database.scheduleMapper.insertSchedules(chunk);
+        }
+        return database;
+    }
+
+    /**
+     * 시드 데이터 기준 달의 1일 0시 (Asia/Seoul)
+     *
+     * @return 이번 달 1일 0시
+     */
+    static LocalDateTime monthStart() {
+        return LocalDate.now(ZoneId.of("Asia/Seoul")).withDayOfMonth(1).atStartOfDay();
+    }
+
+    PlatformTransactionManager transactionManager() {
+        return transactionManager;
+    }
+
+    SqlSessionFactory sqlSessionFactory() {
+        return sqlSessionFactory;
+    }
+
+    ScheduleMapper scheduleMapper() {
+        return scheduleMapper;
+    }
+
+    /**
+     * 이 DB를 쓰는 인스턴스 하나의 사용자별 일정 버전 레지스트리
+     *
+     * @return 새 버전 레지스트리
+     */
+    ScheduleVersionRegistry newVersionRegistry() {
+        return new ScheduleVersionRegistry(
+                new SqlSessionTemplate(sqlSessionFactory).getMapper(ScheduleVersionMapper.class),
+                transactionManager);
+    }
+
+    /**
+     * SQL 실행 (자동 커밋)
+     *
+     * @param sql SQL 문
+     */
+    void execute(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        execute("DROP ALL OBJECTS");
+        dataSource.forceCloseAll();
+    }
+
+    private static String schema() throws IOException {
+        try (InputStream in =
+                BenchmarkDatabase.class.getResourceAsStream("/benchmark-schema.sql")) {
+            if (in == null) {
+                throw new IOException("benchmark-schema.sql not found");
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
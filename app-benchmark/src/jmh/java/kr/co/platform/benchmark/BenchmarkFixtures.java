@@ -0,0 +1,101 @@
+package kr.co.platform.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TimeZone;
+
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import kr.co.platform.core.common.converter.EpochDateTimeModule;
+import kr.co.platform.core.domain.schedule.model.entity.ScheduleEntity;
+import kr.co.platform.core.domain.schedule.model.enums.ScheduleType;
+
+/**
+ * 벤치마크 공통 데이터
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+final class BenchmarkFixtures {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 3, 2, 9, 0);
+
+    private BenchmarkFixtures() {
+        // 유틸리티 클래스는 인스턴스화 방지
+    }
+
+    /** 애플리케이션과 같은 설정의 ObjectMapper (config/application.yml의 spring.jackson.*) */
+    static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json()
+                .timeZone(TimeZone.getTimeZone("Asia/Seoul"))
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    /** 애플리케이션과 같은 설정의 CBOR ObjectMapper (WebConfig#cborHttpMessageConverter) */
+    static ObjectMapper cborMapper() {
+        return Jackson2ObjectMapperBuilder.cbor()
+                .timeZone(TimeZone.getTimeZone("Asia/Seoul"))
+                .modulesToInstall(modules -> modules.add(new EpochDateTimeModule()))
+                .build();
+    }
+
+    /**
+     * 일정 엔티티 생성
+     *
+     * @param index 순번 (시작 일시와 유형을 바꾸는 데 사용)
+     * @param userId 사용자 ID
+     * @return 일정 엔티티
+     */
+    static ScheduleEntity schedule(int index, String userId) {
+        return schedule(index, userId, BASE.plusHours(index));
+    }
+
+    /**
+     * 시작 일시를 지정한 일정 엔티티 생성 (1시간 일정)
+     *
+     * @param index 순번 (유형을 바꾸는 데 사용)
+     * @param userId 사용자 ID
+     * @param start 시작 일시
+     * @return 일정 엔티티
+     */
+    static ScheduleEntity schedule(int index, String userId, LocalDateTime start) {
+        ScheduleEntity schedule =
+                ScheduleEntity.builder()
+                        .userId(userId)
+                        .title("주간 회의 " + index)
+                        .description("스프린트 진행 상황 공유 및 이슈 논의")
+                        .location("본사 3층 대회의실")
+                        .startDate(start)
+                        .endDate(start.plusHours(1))
+                        .allDay(false)
+                        .scheduleType(ScheduleType.values()[index % ScheduleType.values().length])
+                        .reminderMinutes(15)
+                        .color("#4285F4")
+                        .isPublic(true)
+                        .build();
+        schedule.setCreatedAt(start.minusDays(7));
+        schedule.setCreatedBy(userId);
+        return schedule;
+    }
+
+    /**
+     * 일정 엔티티 목록 생성 (ID 포함)
+     *
+     * @param size 개수
+     * @return 일정 엔티티 목록
+     */
+    static List<ScheduleEntity> schedules(int size) {
+        List<ScheduleEntity> schedules = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ScheduleEntity schedule = schedule(i, "user" + (i % 10));
+            schedule.setId((long) i + 1);
+            schedules.add(schedule);
+        }
+        return schedules;
+    }
+}
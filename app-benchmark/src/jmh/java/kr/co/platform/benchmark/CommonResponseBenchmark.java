@@ -0,0 +1,65 @@
+package kr.co.platform.benchmark;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import kr.co.platform.core.common.dto.CommonResponse;
+import kr.co.platform.core.domain.schedule.converter.ScheduleConverterImpl;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleResponseDto;
+
+/**
+ * {@link CommonResponse} 생성과 JSON 직렬화 벤치마크
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@State(Scope.Benchmark)
+public class CommonResponseBenchmark {
+
+    private ObjectMapper objectMapper;
+    private ScheduleResponseDto schedule;
+
+    @Setup
+    public void setUp() {
+        objectMapper = BenchmarkFixtures.objectMapper();
+        schedule = new ScheduleConverterImpl().toDto(BenchmarkFixtures.schedules(1).get(0));
+    }
+
+    @Benchmark
+    public byte[] successList(Page page) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(CommonResponse.success(page.schedules));
+    }
+
+    @Benchmark
+    public byte[] successSingle() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(CommonResponse.success(schedule));
+    }
+
+    @Benchmark
+    public byte[] error() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(CommonResponse.error("COMMON_001", "잘못된 입력값입니다."));
+    }
+
+    /** 목록 응답 데이터 */
+    @State(Scope.Benchmark)
+    public static class Page {
+
+        @Param({"10", "100"})
+        private int size;
+
+        private List<ScheduleResponseDto> schedules;
+
+        @Setup
+        public void setUp() {
+            schedules = new ScheduleConverterImpl().toDtoList(BenchmarkFixtures.schedules(size));
+        }
+    }
+}
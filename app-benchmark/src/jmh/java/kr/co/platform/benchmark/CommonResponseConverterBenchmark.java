@@ -0,0 +1,88 @@
+package kr.co.platform.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import kr.co.platform.core.common.converter.CommonResponseHttpMessageConverter;
+import kr.co.platform.core.common.dto.CommonResponse;
+import kr.co.platform.core.domain.schedule.converter.ScheduleConverterImpl;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleResponseDto;
+
+/**
+ * 응답 래퍼 메시지 컨버터 벤치마크 (기본 Jackson 컨버터와 {@link CommonResponseHttpMessageConverter} 비교)
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@State(Scope.Thread)
+public class CommonResponseConverterBenchmark {
+
+    @Param({"1", "100"})
+    private int size;
+
+    private MappingJackson2HttpMessageConverter jacksonConverter;
+    private CommonResponseHttpMessageConverter envelopeConverter;
+    private List<ScheduleResponseDto> schedules;
+    private BufferedOutputMessage output;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = BenchmarkFixtures.objectMapper();
+        jacksonConverter = new MappingJackson2HttpMessageConverter(objectMapper);
+        envelopeConverter = new CommonResponseHttpMessageConverter(objectMapper);
+        schedules = new ScheduleConverterImpl().toDtoList(BenchmarkFixtures.schedules(size));
+        output = new BufferedOutputMessage();
+    }
+
+    @Benchmark
+    public int jackson() throws IOException {
+        output.reset();
+        CommonResponse<List<ScheduleResponseDto>> response = CommonResponse.success(schedules);
+        jacksonConverter.write(response, response.getClass(), MediaType.APPLICATION_JSON, output);
+        return output.body.size();
+    }
+
+    @Benchmark
+    public int envelope() throws IOException {
+        output.reset();
+        CommonResponse<List<ScheduleResponseDto>> response = CommonResponse.success(schedules);
+        envelopeConverter.write(response, response.getClass(), MediaType.APPLICATION_JSON, output);
+        return output.body.size();
+    }
+
+    /** 버퍼를 재사용하는 응답 메시지 */
+    private static final class BufferedOutputMessage implements HttpOutputMessage {
+
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream(64 * 1024);
+        private HttpHeaders headers = new HttpHeaders();
+
+        void reset() {
+            body.reset();
+            headers = new HttpHeaders();
+        }
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
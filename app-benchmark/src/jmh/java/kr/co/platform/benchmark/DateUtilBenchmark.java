@@ -0,0 +1,45 @@
+package kr.co.platform.benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import kr.co.platform.core.common.util.DateUtil;
+
+/**
+ * {@link DateUtil} 벤치마크
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@State(Scope.Benchmark)
+public class DateUtilBenchmark {
+
+    private LocalDateTime dateTime = LocalDateTime.of(2026, 3, 2, 9, 30, 15);
+    private String dateTimeText = "2026-03-02 09:30:15";
+    private LocalDate from = LocalDate.of(2026, 1, 1);
+    private LocalDate to = LocalDate.of(2026, 12, 31);
+
+    @Benchmark
+    public String formatDateTime() {
+        return DateUtil.formatDateTime(dateTime);
+    }
+
+    @Benchmark
+    public String formatDateTimeKo() {
+        return DateUtil.formatDateTimeKo(dateTime);
+    }
+
+    @Benchmark
+    public LocalDateTime parseDateTime() {
+        return DateUtil.parseDateTime(dateTimeText);
+    }
+
+    @Benchmark
+    public long daysBetween() {
+        return DateUtil.daysBetween(from, to);
+    }
+}
@@ -0,0 +1,93 @@
+package kr.co.platform.benchmark;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import kr.co.platform.core.common.masking.Masked;
+import kr.co.platform.core.common.masking.Masking;
+import kr.co.platform.core.common.masking.MaskingStrategy;
+import kr.co.platform.core.common.util.StringUtil;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * {@link Masked} 직렬화와 {@link StringUtil}로 직접 마스킹한 뒤 직렬화하는 방식 비교
+ *
+ * <p>두 방식의 출력은 같으며, 차이는 마스킹된 중간 문자열의 유무다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@State(Scope.Benchmark)
+public class MaskingBenchmark {
+
+    private static final String NAME = "박성우";
+    private static final String PHONE = "010-1234-5678";
+    private static final String EMAIL = "sungwoo.park@kiyu-it.co.kr";
+
+    private ObjectWriter maskedWriter;
+    private ObjectWriter plainWriter;
+    private MaskedMember maskedMember;
+    private PlainMember plainMember;
+
+    @Setup
+    public void setUp() {
+        maskedWriter = BenchmarkFixtures.objectMapper().writerFor(MaskedMember.class);
+        plainWriter = BenchmarkFixtures.objectMapper().writerFor(PlainMember.class);
+        maskedMember = new MaskedMember(NAME, PHONE, EMAIL);
+        plainMember = new PlainMember();
+    }
+
+    @Benchmark
+    public byte[] annotated() throws IOException {
+        return maskedWriter.writeValueAsBytes(maskedMember);
+    }
+
+    /** 기존 방식: 유틸리티로 값을 가린 뒤 직렬화 */
+    @Benchmark
+    public byte[] manual() throws IOException {
+        plainMember.setName(StringUtil.maskName(NAME));
+        plainMember.setPhoneNumber(StringUtil.mask(PHONE, 4, 5));
+        plainMember.setEmail(StringUtil.mask(EMAIL, 2, EMAIL.length() - EMAIL.indexOf('@')));
+        return plainWriter.writeValueAsBytes(plainMember);
+    }
+
+    @Benchmark
+    public String logArgument() {
+        return Masking.arg(MaskingStrategy.PHONE, PHONE).toString();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class MaskedMember {
+
+        @Masked(strategy = MaskingStrategy.NAME)
+        private String name;
+
+        @Masked(strategy = MaskingStrategy.PHONE)
+        private String phoneNumber;
+
+        @Masked(strategy = MaskingStrategy.EMAIL)
+        private String email;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class PlainMember {
+
+        private String name;
+
+        private String phoneNumber;
+
+        private String email;
+    }
+}
@@ -0,0 +1,91 @@
+package kr.co.platform.benchmark;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.co.platform.core.domain.schedule.config.ScheduleProperties;
+import kr.co.platform.core.domain.schedule.index.ScheduleIntervalIndex;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleConflictDto;
+import kr.co.platform.core.domain.schedule.service.impl.ScheduleConflictServiceImpl;
+
+/**
+ * 참석자가 많은 일정의 충돌 확인 벤치마크 ({@link ScheduleConflictServiceImpl})
+ *
+ * <p>인덱스가 모두 적재된 상태와, 호출마다 빈 인덱스로 시작해 참석자 일정을 한 번에 적재하는 상태를 나누어 잰다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@State(Scope.Benchmark)
+public class ScheduleConflictBenchmark {
+
+    private static final int USERS = 500;
+
+    @Param({"200"})
+    private int participants;
+
+    private BenchmarkDatabase database;
+    private ScheduleConflictServiceImpl warmService;
+    private String[] participantUserIds;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, SQLException {
+        database = BenchmarkDatabase.seeded("conflict", USERS);
+        participantUserIds = new String[participants];
+        for (int i = 0; i < participants; i++) {
+            participantUserIds[i] = "user" + (i + 1);
+        }
+        warmService = new ScheduleConflictServiceImpl(newIndex());
+        startDate = BenchmarkDatabase.monthStart().plusDays(10).withHour(10);
+        endDate = startDate.plusHours(1);
+        warmService.findConflicts("user0", participantUserIds, startDate, endDate, null);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        database.close();
+    }
+
+    @Benchmark
+    public List<ScheduleConflictDto> findConflicts() {
+        return warmService.findConflicts("user0", participantUserIds, startDate, endDate, null);
+    }
+
+    @Benchmark
+    public List<ScheduleConflictDto> findConflictsCold(ColdIndex cold) {
+        return cold.service.findConflicts("user0", participantUserIds, startDate, endDate, null);
+    }
+
+    ScheduleIntervalIndex newIndex() {
+        return new ScheduleIntervalIndex(
+                database.scheduleMapper(),
+                database.newVersionRegistry(),
+                new ScheduleProperties(),
+                database.transactionManager(),
+                new SimpleMeterRegistry());
+    }
+
+    /** 호출마다 비어 있는 인덱스 (연산 하나가 수 ms라 호출 단위 준비 비용은 무시할 수 있음) */
+    @State(Scope.Thread)
+    public static class ColdIndex {
+        private ScheduleConflictServiceImpl service;
+
+        @Setup(Level.Invocation)
+        public void setUp(ScheduleConflictBenchmark benchmark) {
+            service = new ScheduleConflictServiceImpl(benchmark.newIndex());
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package kr.co.platform.benchmark;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import kr.co.platform.core.common.converter.GenericConverter;
+import kr.co.platform.core.domain.schedule.converter.ScheduleConverterImpl;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleResponseDto;
+import kr.co.platform.core.domain.schedule.model.entity.ScheduleEntity;
+
+/**
+ * {@link GenericConverter#toDtoList(List)} 벤치마크 (일정 변환기)
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@State(Scope.Benchmark)
+public class ScheduleConverterBenchmark {
+
+    @Param({"10", "1000"})
+    private int size;
+
+    private GenericConverter<ScheduleEntity, ScheduleResponseDto> converter;
+    private List<ScheduleEntity> schedules;
+
+    @Setup
+    public void setUp() {
+        converter = new ScheduleConverterImpl();
+        schedules = BenchmarkFixtures.schedules(size);
+    }
+
+    @Benchmark
+    public List<ScheduleResponseDto> toDtoList() {
+        return converter.toDtoList(schedules);
+    }
+}
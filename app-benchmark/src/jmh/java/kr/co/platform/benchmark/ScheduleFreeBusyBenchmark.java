@@ -0,0 +1,74 @@
+package kr.co.platform.benchmark;
+
+import java.io.IOException;
+import java.sql.SQLException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.co.platform.core.domain.schedule.config.ScheduleProperties;
+import kr.co.platform.core.domain.schedule.index.ScheduleIntervalIndex;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleFreeBusyRequestDto;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleFreeBusyResponseDto;
+import kr.co.platform.core.domain.schedule.service.impl.ScheduleFreeBusyServiceImpl;
+
+/**
+ * 여러 사용자의 한 달 free/busy 계산 벤치마크 ({@link ScheduleFreeBusyServiceImpl})
+ *
+ * <p>인덱스가 적재된 상태에서 기본 슬롯(15분) 기준 사용자별 비트맵과 공통 빈 시간을 계산하는 비용을 잰다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@State(Scope.Benchmark)
+public class ScheduleFreeBusyBenchmark {
+
+    @Param({"500"})
+    private int users;
+
+    private BenchmarkDatabase database;
+    private ScheduleFreeBusyServiceImpl service;
+    private ScheduleFreeBusyRequestDto request;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, SQLException {
+        database = BenchmarkDatabase.seeded("free_busy", users);
+        ScheduleProperties properties = new ScheduleProperties();
+        ScheduleIntervalIndex index =
+                new ScheduleIntervalIndex(
+                        database.scheduleMapper(),
+                        database.newVersionRegistry(),
+                        properties,
+                        database.transactionManager(),
+                        new SimpleMeterRegistry());
+        service = new ScheduleFreeBusyServiceImpl(index, properties);
+
+        String[] userIds = new String[users];
+        for (int i = 0; i < users; i++) {
+            userIds[i] = "user" + i;
+        }
+        request =
+                ScheduleFreeBusyRequestDto.builder()
+                        .userIds(userIds)
+                        .startDate(BenchmarkDatabase.monthStart())
+                        .endDate(BenchmarkDatabase.monthStart().plusMonths(1))
+                        .build();
+        service.getFreeBusy(request);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        database.close();
+    }
+
+    @Benchmark
+    public ScheduleFreeBusyResponseDto getFreeBusyMonth() {
+        return service.getFreeBusy(request);
+    }
+}
@@ -0,0 +1,76 @@
+package kr.co.platform.benchmark;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.co.platform.core.domain.schedule.config.ScheduleProperties;
+import kr.co.platform.core.domain.schedule.mapper.ScheduleMapper;
+import kr.co.platform.core.domain.schedule.model.entity.ScheduleEntity;
+import kr.co.platform.core.domain.schedule.writer.ScheduleInsertCoalescer;
+
+/**
+ * 일정 저장 그룹 커밋 벤치마크 ({@link ScheduleInsertCoalescer})
+ *
+ * <p>동시 요청 8개가 건마다 커밋하는 경우와 그룹 커밋으로 묶어 저장하는 경우를 비교한다. 내장 H2 메모리 DB는 커밋 시 디스크 동기화가 없으므로 운영 MariaDB에서
+ * 줄어드는 커밋 비용은 드러나지 않고, 대기열과 묶음 처리 자체의 비용 회귀를 보는 용도로 쓴다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@State(Scope.Benchmark)
+@Threads(8)
+public class ScheduleInsertCoalescerBenchmark {
+
+    private BenchmarkDatabase database;
+    private ScheduleMapper scheduleMapper;
+    private TransactionTemplate transactionTemplate;
+    private ScheduleInsertCoalescer coalescer;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, SQLException {
+        database = BenchmarkDatabase.create("insert_coalescer");
+        scheduleMapper = database.scheduleMapper();
+        transactionTemplate = new TransactionTemplate(database.transactionManager());
+
+        ScheduleProperties properties = new ScheduleProperties();
+        properties.getGroupCommit().setEnabled(true);
+        properties.getGroupCommit().setMaxDelay(Duration.ofMillis(1));
+        coalescer =
+                new ScheduleInsertCoalescer(
+                        properties,
+                        database.sqlSessionFactory(),
+                        scheduleMapper,
+                        database.transactionManager(),
+                        new SimpleMeterRegistry());
+        coalescer.start();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        coalescer.stop();
+        database.close();
+    }
+
+    @Benchmark
+    public Long insertPerRequestCommit() {
+        ScheduleEntity schedule = BenchmarkFixtures.schedule(0, "insert");
+        transactionTemplate.executeWithoutResult(status -> scheduleMapper.insertSchedule(schedule));
+        return schedule.getId();
+    }
+
+    @Benchmark
+    public Long insertGroupCommit() {
+        return coalescer.insert(BenchmarkFixtures.schedule(0, "insert"));
+    }
+}
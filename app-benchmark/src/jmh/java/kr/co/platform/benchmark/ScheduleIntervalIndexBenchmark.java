@@ -0,0 +1,74 @@
+package kr.co.platform.benchmark;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.co.platform.core.domain.schedule.config.ScheduleProperties;
+import kr.co.platform.core.domain.schedule.index.ScheduleIntervalIndex;
+import kr.co.platform.core.domain.schedule.model.entity.ScheduleEntity;
+
+/**
+ * {@link ScheduleIntervalIndex} 벤치마크
+ *
+ * <p>적재된 인덱스의 주간 겹침 조회와, 인덱스를 비운 뒤 DB에서 다시 적재하는 비용을 잰다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@State(Scope.Benchmark)
+public class ScheduleIntervalIndexBenchmark {
+
+    private static final int USERS = 500;
+
+    private BenchmarkDatabase database;
+    private ScheduleIntervalIndex index;
+    private LocalDateTime weekStart;
+    private LocalDateTime weekEnd;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, SQLException {
+        database = BenchmarkDatabase.seeded("interval_index", USERS);
+        index =
+                new ScheduleIntervalIndex(
+                        database.scheduleMapper(),
+                        database.newVersionRegistry(),
+                        new ScheduleProperties(),
+                        database.transactionManager(),
+                        new SimpleMeterRegistry());
+        List<String> userIds = new ArrayList<>(USERS);
+        for (int user = 0; user < USERS; user++) {
+            userIds.add("user" + user);
+        }
+        index.warmUp(userIds);
+        weekStart = BenchmarkDatabase.monthStart().plusDays(7);
+        weekEnd = weekStart.plusDays(7);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        database.close();
+    }
+
+    @Benchmark
+    public List<ScheduleEntity> findOverlappingWeek() {
+        return index.findOverlapping("user123", weekStart, weekEnd);
+    }
+
+    /** 사용자 인덱스를 비우고 다시 적재한 뒤 조회 (변경 후 첫 조회, TTL 만료 후 첫 조회) */
+    @Benchmark
+    public List<ScheduleEntity> reloadAndFindOverlappingWeek() {
+        index.evict("user321");
+        return index.findOverlapping("user321", weekStart, weekEnd);
+    }
+}
@@ -0,0 +1,128 @@
+package kr.co.platform.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import org.apache.ibatis.datasource.pooled.PooledDataSource;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import kr.co.platform.core.domain.schedule.mapper.ScheduleMapper;
+import kr.co.platform.core.domain.schedule.model.entity.ScheduleEntity;
+
+/**
+ * {@link ScheduleMapper} 벤치마크 (내장 H2, MariaDB 호환 모드)
+ *
+ * <p>운영과 같은 Mapper XML을 MyBatis만으로 불러와 구문 처리와 결과 매핑 비용을 잰다. 데이터베이스 자체의 성능은 운영 MariaDB와 다르므로 회귀 비교
+ * 용도로만 쓴다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@State(Scope.Benchmark)
+public class ScheduleMapperBenchmark {
+
+    /** 사용자 수 */
+    private static final int USERS = 10;
+
+    /** 사용자당 일정 수 */
+    private static final int SCHEDULES_PER_USER = 100;
+
+    private PooledDataSource dataSource;
+    private SqlSessionFactory sqlSessionFactory;
+    private long id;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, SQLException {
+        dataSource =
+                new PooledDataSource(
+                        "org.h2.Driver",
+                        "jdbc:h2:mem:benchmark;MODE=MariaDB;DB_CLOSE_DELAY=-1",
+                        "sa",
+                        "");
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute(schema());
+        }
+
+        Configuration configuration =
+                new Configuration(
+                        new Environment("benchmark", new JdbcTransactionFactory(), dataSource));
+        configuration.setMapUnderscoreToCamelCase(true);
+        configuration.setCallSettersOnNulls(true);
+        configuration.setUseGeneratedKeys(true);
+        configuration.setCacheEnabled(false);
+        configuration.getTypeAliasRegistry().registerAlias(ScheduleEntity.class);
+        configuration.addMapper(ScheduleMapper.class);
+        sqlSessionFactory = new SqlSessionFactoryBuilder().build(configuration);
+
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            ScheduleMapper mapper = session.getMapper(ScheduleMapper.class);
+            for (int i = 0; i < USERS * SCHEDULES_PER_USER; i++) {
+                mapper.insertSchedule(BenchmarkFixtures.schedule(i, "user" + (i % USERS)));
+            }
+            session.commit();
+        }
+        id = USERS * SCHEDULES_PER_USER / 2;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        dataSource.forceCloseAll();
+    }
+
+    @Benchmark
+    public ScheduleEntity selectScheduleById() {
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            return session.getMapper(ScheduleMapper.class).selectScheduleById(id);
+        }
+    }
+
+    @Benchmark
+    public List<ScheduleEntity> selectSchedulesByUserId() {
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            return session.getMapper(ScheduleMapper.class).selectSchedulesByUserId("user3");
+        }
+    }
+
+    /** 저장 후 롤백해 테이블 크기를 유지한다 */
+    @Benchmark
+    public int insertSchedule() {
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            int rows =
+                    session.getMapper(ScheduleMapper.class)
+                            .insertSchedule(BenchmarkFixtures.schedule(0, "insert"));
+            session.rollback(true);
+            return rows;
+        }
+    }
+
+    private static String schema() throws IOException {
+        try (InputStream in =
+                ScheduleMapperBenchmark.class.getResourceAsStream("/benchmark-schema.sql")) {
+            if (in == null) {
+                throw new IOException("benchmark-schema.sql not found");
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
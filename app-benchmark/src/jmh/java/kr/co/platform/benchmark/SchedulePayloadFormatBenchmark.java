@@ -0,0 +1,103 @@
+package kr.co.platform.benchmark;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import kr.co.platform.core.common.dto.CommonResponse;
+import kr.co.platform.core.domain.schedule.converter.ScheduleConverterImpl;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleResponseDto;
+
+/**
+ * 일정 목록 응답의 JSON/CBOR 인코딩·디코딩 벤치마크
+ *
+ * <p>페이로드 크기는 보조 지표({@link PayloadCounters})로 결과에 함께 기록한다 (CBOR는 날짜를 epoch 밀리초로 인코딩).
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@State(Scope.Benchmark)
+public class SchedulePayloadFormatBenchmark {
+
+    @Param({"1000"})
+    private int size;
+
+    private ObjectWriter jsonWriter;
+    private ObjectWriter cborWriter;
+    private ObjectReader jsonReader;
+    private ObjectReader cborReader;
+    private CommonResponse<List<ScheduleResponseDto>> response;
+    private byte[] json;
+    private byte[] cbor;
+
+    @Setup
+    public void setUp() throws IOException {
+        jsonWriter = BenchmarkFixtures.objectMapper().writer();
+        cborWriter = BenchmarkFixtures.cborMapper().writer();
+        jsonReader = BenchmarkFixtures.objectMapper().readerFor(ScheduleListResponse.class);
+        cborReader = BenchmarkFixtures.cborMapper().readerFor(ScheduleListResponse.class);
+        response =
+                CommonResponse.success(
+                        new ScheduleConverterImpl().toDtoList(BenchmarkFixtures.schedules(size)));
+        json = jsonWriter.writeValueAsBytes(response);
+        cbor = cborWriter.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] encodeJson(PayloadCounters counters) throws IOException {
+        byte[] payload = jsonWriter.writeValueAsBytes(response);
+        counters.payloadBytes += payload.length;
+        return payload;
+    }
+
+    @Benchmark
+    public byte[] encodeCbor(PayloadCounters counters) throws IOException {
+        byte[] payload = cborWriter.writeValueAsBytes(response);
+        counters.payloadBytes += payload.length;
+        return payload;
+    }
+
+    @Benchmark
+    public ScheduleListResponse decodeJson(PayloadCounters counters) throws IOException {
+        counters.payloadBytes += json.length;
+        return jsonReader.readValue(json);
+    }
+
+    @Benchmark
+    public ScheduleListResponse decodeCbor(PayloadCounters counters) throws IOException {
+        counters.payloadBytes += cbor.length;
+        return cborReader.readValue(cbor);
+    }
+
+    /**
+     * 페이로드 보조 지표 (결과의 {@code payloadBytes})
+     *
+     * <p>처리량 모드에서 단위 시간당 인코딩/디코딩한 바이트 수로 보고된다. 같은 항목의 처리량(ops/ms)으로 나누면 연산 하나의 페이로드 크기다.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class PayloadCounters {
+        public long payloadBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            payloadBytes = 0;
+        }
+    }
+
+    /** 클라이언트 쪽 디코딩 대상 (timestamp 등 나머지 필드는 무시) */
+    public static class ScheduleListResponse {
+        public boolean success;
+        public List<ScheduleResponseDto> data;
+    }
+}
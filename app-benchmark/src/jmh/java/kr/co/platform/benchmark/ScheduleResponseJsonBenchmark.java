@@ -0,0 +1,58 @@
+package kr.co.platform.benchmark;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import kr.co.platform.core.domain.schedule.converter.ScheduleConverter;
+import kr.co.platform.core.domain.schedule.converter.ScheduleConverterImpl;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleResponseDto;
+
+/**
+ * {@link ScheduleResponseDto} Jackson 직렬화/역직렬화 벤치마크
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@State(Scope.Benchmark)
+public class ScheduleResponseJsonBenchmark {
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private ScheduleResponseDto schedule;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = BenchmarkFixtures.objectMapper();
+        writer = objectMapper.writerFor(ScheduleResponseDto.class);
+        reader = objectMapper.readerFor(ScheduleResponseDto.class);
+        ScheduleConverter converter = new ScheduleConverterImpl();
+        schedule = converter.toDto(BenchmarkFixtures.schedules(1).get(0));
+        json = writer.writeValueAsBytes(schedule);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return writer.writeValueAsBytes(schedule);
+    }
+
+    @Benchmark
+    public ScheduleResponseDto deserialize() throws IOException {
+        return reader.readValue(json);
+    }
+
+    /** 타입을 매번 찾는 경로 (컨트롤러 메시지 컨버터와 같은 방식) */
+    @Benchmark
+    public byte[] serializeWithMapper() throws IOException {
+        return objectMapper.writeValueAsBytes(schedule);
+    }
+}
@@ -0,0 +1,42 @@
+package kr.co.platform.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import kr.co.platform.core.common.util.StringUtil;
+
+/**
+ * {@link StringUtil} 벤치마크
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@State(Scope.Benchmark)
+public class StringUtilBenchmark {
+
+    private String email = "sungwoo.park@kiyu-it.co.kr";
+    private String phoneNumber = "01012345678";
+    private String accountNumber = "110-123-456789";
+    private String name = "박성우";
+
+    @Benchmark
+    public boolean isValidEmail() {
+        return StringUtil.isValidEmail(email);
+    }
+
+    @Benchmark
+    public String formatPhoneNumber() {
+        return StringUtil.formatPhoneNumber(phoneNumber);
+    }
+
+    @Benchmark
+    public String mask() {
+        return StringUtil.mask(accountNumber, 3, 4);
+    }
+
+    @Benchmark
+    public String maskName() {
+        return StringUtil.maskName(name);
+    }
+}
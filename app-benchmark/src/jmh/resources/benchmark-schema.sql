@@ -0,0 +1,31 @@
+-- 벤치마크용 일정 테이블 (H2 MariaDB 호환 모드, 파티션 제외)
+-- id는 AUTO_INCREMENT 대신 시퀀스 기본값으로 생성한다. H2의 MariaDB 모드는 ID 컬럼에 값을 넣을 때마다 시퀀스를 그 값 이후로 맞추는데
+-- (updateSequenceOnManualIdentityInsertion), 현재 값 확인과 변경이 원자적이지 않아 동시 INSERT에서 이미 발급한 값이 다시 나올 수 있다.
+CREATE SEQUENCE schedule_id_seq;
+CREATE TABLE schedule (
+  id BIGINT DEFAULT NEXT VALUE FOR schedule_id_seq PRIMARY KEY,
+  user_id VARCHAR(50) NOT NULL,
+  title VARCHAR(200) NOT NULL,
+  description VARCHAR(1000),
+  location VARCHAR(200),
+  start_date TIMESTAMP NOT NULL,
+  end_date TIMESTAMP NOT NULL,
+  all_day BOOLEAN,
+  schedule_type VARCHAR(30),
+  reminder_minutes INT,
+  color VARCHAR(7),
+  is_public BOOLEAN,
+  recurrence_rule VARCHAR(200),
+  recurrence_exceptions VARCHAR(4000),
+  recurrence_end TIMESTAMP,
+  created_at TIMESTAMP,
+  created_by VARCHAR(50),
+  updated_at TIMESTAMP,
+  updated_by VARCHAR(50),
+  deleted_at TIMESTAMP
+);
+CREATE INDEX idx_schedule_user ON schedule (user_id);
+CREATE TABLE schedule_version (
+  user_id VARCHAR(50) PRIMARY KEY,
+  version BIGINT NOT NULL
+);
@@ -2,6 +2,7 @@ package kr.co.platform.core;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 /**
  * Core 애플리케이션 진입점
@@ -10,6 +11,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * @date 2025.08.03
  */
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class CoreApplication {
 
     /**
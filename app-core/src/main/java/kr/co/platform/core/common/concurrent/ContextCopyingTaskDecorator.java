@@ -0,0 +1,52 @@
+package kr.co.platform.core.common.concurrent;
+
+import java.util.Map;
+
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+
+import kr.co.platform.core.common.datasource.ReadYourWritesTracker;
+
+/**
+ * 요청 스레드의 컨텍스트를 작업 스레드로 복사하는 TaskDecorator
+ *
+ * <p>로그 MDC와 read-your-writes 요청 사용자(읽기/쓰기 분리 사용 시)를 작업 실행 동안 바인딩하고, 끝나면 풀 스레드에서 지운다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+public class ContextCopyingTaskDecorator implements TaskDecorator {
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    /**
+     * TaskDecorator 생성
+     *
+     * @param readYourWritesTracker 최근 쓰기 사용자 추적기 (읽기/쓰기 분리를 사용하지 않으면 null)
+     */
+    public ContextCopyingTaskDecorator(ReadYourWritesTracker readYourWritesTracker) {
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        String userId = readYourWritesTracker == null ? null : readYourWritesTracker.currentUser();
+        return () -> {
+            if (mdc != null) {
+                MDC.setContextMap(mdc);
+            }
+            if (readYourWritesTracker != null) {
+                readYourWritesTracker.bind(userId);
+            }
+            try {
+                runnable.run();
+            } finally {
+                MDC.clear();
+                if (readYourWritesTracker != null) {
+                    readYourWritesTracker.unbind();
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,129 @@
+package kr.co.platform.core.common.converter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.util.StreamUtils;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import kr.co.platform.core.common.dto.CommonResponse;
+
+/**
+ * {@link CommonResponse} 전용 JSON 메시지 컨버터
+ *
+ * <p>응답 래퍼를 Bean 직렬화기 대신 {@link JsonGenerator}로 직접 쓴다. 필드 이름은 미리 인코딩해 두고, 응답 시각은 같은 초 안에서 인코딩 결과를
+ * 재사용하며, {@code data}/{@code error}는 같은 ObjectMapper로 출력 스트림에 바로 직렬화한다. 출력 바이트는 기본 Jackson 컨버터와
+ * 같다(필드 순서, null 필드 생략, 시각 형식).
+ *
+ * <p>요청 본문 읽기는 지원하지 않으며, 그 밖의 타입은 기본 Jackson 컨버터가 처리한다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+public class CommonResponseHttpMessageConverter extends AbstractJackson2HttpMessageConverter {
+
+    private static final SerializedString SUCCESS = new SerializedString("success");
+    private static final SerializedString DATA = new SerializedString("data");
+    private static final SerializedString ERROR = new SerializedString("error");
+    private static final SerializedString TIMESTAMP = new SerializedString("timestamp");
+
+    private static final DateTimeFormatter TIMESTAMP_FORMAT =
+            DateTimeFormatter.ofPattern(CommonResponse.TIMESTAMP_PATTERN);
+
+    /** data/error 직렬화기 (값마다 flush하지 않음) */
+    private final ObjectWriter valueWriter;
+
+    /** 마지막으로 인코딩한 응답 시각 */
+    private volatile EncodedTimestamp lastTimestamp =
+            new EncodedTimestamp(LocalDateTime.MIN, new SerializedString(""));
+
+    public CommonResponseHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper, MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+        this.valueWriter =
+                objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return CommonResponse.class.isAssignableFrom(clazz) && canWrite(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return canWrite(clazz, mediaType);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        CommonResponse<?> response = (CommonResponse<?>) object;
+        MediaType contentType = outputMessage.getHeaders().getContentType();
+        JsonEncoding encoding = getJsonEncoding(contentType);
+        OutputStream outputStream = StreamUtils.nonClosing(outputMessage.getBody());
+        try (JsonGenerator generator =
+                getObjectMapper().getFactory().createGenerator(outputStream, encoding)) {
+            generator.writeStartObject();
+            generator.writeFieldName(SUCCESS);
+            generator.writeBoolean(response.isSuccess());
+            if (response.getData() != null) {
+                generator.writeFieldName(DATA);
+                valueWriter.writeValue(generator, response.getData());
+            }
+            if (response.getError() != null) {
+                generator.writeFieldName(ERROR);
+                valueWriter.writeValue(generator, response.getError());
+            }
+            if (response.getTimestamp() != null) {
+                generator.writeFieldName(TIMESTAMP);
+                generator.writeString(encode(response.getTimestamp()));
+            }
+            generator.writeEndObject();
+            generator.flush();
+        } catch (JsonProcessingException e) {
+            throw new HttpMessageNotWritableException(
+                    "Could not write JSON: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return CommonResponse.class.isAssignableFrom(clazz);
+    }
+
+    /** 같은 시각이면 이전 인코딩 결과를 재사용 (CoarseClock 시각은 초 단위로 같음) */
+    private SerializedString encode(LocalDateTime timestamp) {
+        EncodedTimestamp last = lastTimestamp;
+        if (last.value().equals(timestamp)) {
+            return last.encoded();
+        }
+        SerializedString encoded = new SerializedString(TIMESTAMP_FORMAT.format(timestamp));
+        lastTimestamp = new EncodedTimestamp(timestamp, encoded);
+        return encoded;
+    }
+
+    private record EncodedTimestamp(LocalDateTime value, SerializedString encoded) {}
+}
@@ -0,0 +1,112 @@
+package kr.co.platform.core.common.converter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+
+/**
+ * 날짜를 epoch 값으로 주고받는 Jackson 모듈 (바이너리 응답 형식용)
+ *
+ * <ul>
+ *   <li>{@link LocalDateTime}: ObjectMapper 시간대 기준 epoch 밀리초
+ *   <li>{@link LocalDate}: epoch 일수
+ * </ul>
+ *
+ * <p>필드의 {@code @JsonFormat(pattern = ...)}은 JSON 전용이므로 무시한다(문맥별 직렬화기를 만들지 않음). JavaTimeModule보다
+ * 나중에 등록해야 적용된다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+public class EpochDateTimeModule extends SimpleModule {
+
+    private static final long serialVersionUID = 1L;
+
+    public EpochDateTimeModule() {
+        super("EpochDateTimeModule");
+        addSerializer(LocalDateTime.class, new LocalDateTimeSerializer());
+        addDeserializer(LocalDateTime.class, new LocalDateTimeDeserializer());
+        addSerializer(LocalDate.class, new LocalDateSerializer());
+        addDeserializer(LocalDate.class, new LocalDateDeserializer());
+    }
+
+    private static final class LocalDateTimeSerializer extends StdScalarSerializer<LocalDateTime> {
+
+        private static final long serialVersionUID = 1L;
+
+        private LocalDateTimeSerializer() {
+            super(LocalDateTime.class);
+        }
+
+        @Override
+        public void serialize(LocalDateTime value, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            ZoneId zone = provider.getTimeZone().toZoneId();
+            gen.writeNumber(value.atZone(zone).toInstant().toEpochMilli());
+        }
+    }
+
+    private static final class LocalDateTimeDeserializer
+            extends StdScalarDeserializer<LocalDateTime> {
+
+        private static final long serialVersionUID = 1L;
+
+        private LocalDateTimeDeserializer() {
+            super(LocalDateTime.class);
+        }
+
+        @Override
+        public LocalDateTime deserialize(JsonParser parser, DeserializationContext ctxt)
+                throws IOException {
+            if (!parser.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+                return (LocalDateTime) ctxt.handleUnexpectedToken(LocalDateTime.class, parser);
+            }
+            return LocalDateTime.ofInstant(
+                    Instant.ofEpochMilli(parser.getLongValue()), ctxt.getTimeZone().toZoneId());
+        }
+    }
+
+    private static final class LocalDateSerializer extends StdScalarSerializer<LocalDate> {
+
+        private static final long serialVersionUID = 1L;
+
+        private LocalDateSerializer() {
+            super(LocalDate.class);
+        }
+
+        @Override
+        public void serialize(LocalDate value, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            gen.writeNumber(value.toEpochDay());
+        }
+    }
+
+    private static final class LocalDateDeserializer extends StdScalarDeserializer<LocalDate> {
+
+        private static final long serialVersionUID = 1L;
+
+        private LocalDateDeserializer() {
+            super(LocalDate.class);
+        }
+
+        @Override
+        public LocalDate deserialize(JsonParser parser, DeserializationContext ctxt)
+                throws IOException {
+            if (!parser.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+                return (LocalDate) ctxt.handleUnexpectedToken(LocalDate.class, parser);
+            }
+            return LocalDate.ofEpochDay(parser.getLongValue());
+        }
+    }
+}
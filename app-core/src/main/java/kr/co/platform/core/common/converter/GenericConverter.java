@@ -1,7 +1,7 @@
 package kr.co.platform.core.common.converter;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * 엔티티와 DTO 간 변환을 위한 제네릭 컨버터 인터페이스
@@ -39,7 +39,11 @@ public interface GenericConverter<E, D> {
         if (entityList == null) {
             return null;
         }
-        return entityList.stream().map(this::toDto).collect(Collectors.toList());
+        List<D> dtoList = new ArrayList<>(entityList.size());
+        for (E entity : entityList) {
+            dtoList.add(toDto(entity));
+        }
+        return dtoList;
     }
 
     /**
@@ -52,6 +56,10 @@ public interface GenericConverter<E, D> {
         if (dtoList == null) {
             return null;
         }
-        return dtoList.stream().map(this::toEntity).collect(Collectors.toList());
+        List<E> entityList = new ArrayList<>(dtoList.size());
+        for (D dto : dtoList) {
+            entityList.add(toEntity(dto));
+        }
+        return entityList;
     }
 }
@@ -0,0 +1,73 @@
+package kr.co.platform.core.common.datasource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import com.zaxxer.hikari.HikariConfig;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 읽기/쓰기 분리 DataSource 설정 (datasource.routing.*)
+ *
+ * <p>쓰기 DataSource는 spring.datasource.* 설정을 그대로 사용하고, 여기에는 읽기 전용 복제본과 라우팅 조건만 둔다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "datasource.routing")
+public class DataSourceRoutingProperties {
+
+    /** 사용 여부 (false면 spring.datasource 단일 DataSource) */
+    private boolean enabled = false;
+
+    /** 읽기 전용 복제본 목록 */
+    private List<Replica> replicas = new ArrayList<>();
+
+    /** 허용 복제 지연 (초과한 복제본은 제외하고, 모두 제외되면 쓰기 DataSource에서 읽음) */
+    private Duration maxReplicaLag = Duration.ofSeconds(5);
+
+    /** 복제 지연 확인 주기 */
+    private Duration lagCheckInterval = Duration.ofSeconds(5);
+
+    /** 복제 지연 조회 쿼리 (비어 있으면 확인하지 않고 항상 사용) */
+    private String lagQuery = "SHOW SLAVE STATUS";
+
+    /** 복제 지연(초) 컬럼 (값이 NULL이면 복제가 멈춘 것으로 보고 제외) */
+    private String lagColumn = "Seconds_Behind_Master";
+
+    /** 쓰기 후 같은 사용자의 읽기를 쓰기 DataSource로 보내는 기간 (허용 복제 지연 이상) */
+    private Duration readYourWritesWindow = Duration.ofSeconds(10);
+
+    /**
+     * 읽기 전용 복제본 설정
+     *
+     * @author 박성우
+     * @date 2026.10.18
+     */
+    @Getter
+    @Setter
+    public static class Replica {
+
+        /** 이름 (커넥션 풀 이름, 메트릭 태그) */
+        private String name;
+
+        /** JDBC URL */
+        private String url;
+
+        /** 사용자 (비어 있으면 spring.datasource.username) */
+        private String username;
+
+        /** 비밀번호 (비어 있으면 spring.datasource.password) */
+        private String password;
+
+        /** 커넥션 풀 설정 (spring.datasource.hikari.*와 같은 항목) */
+        private HikariConfig hikari = new HikariConfig();
+    }
+}
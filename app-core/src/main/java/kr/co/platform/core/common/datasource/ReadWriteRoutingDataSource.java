@@ -0,0 +1,153 @@
+package kr.co.platform.core.common.datasource;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 읽기/쓰기 분리 DataSource
+ *
+ * <p>읽기 전용 트랜잭션은 사용 가능한 복제본 중 하나(순환)로, 그 밖의 요청은 쓰기 DataSource로 보낸다. 다음 경우에는 읽기 전용이어도 쓰기
+ * DataSource에서 읽는다.
+ *
+ * <ul>
+ *   <li>현재 요청 사용자가 read-your-writes 기간 안에 쓴 경우
+ *   <li>모든 복제본이 허용 지연을 넘었거나 응답하지 않는 경우
+ * </ul>
+ *
+ * <p>트랜잭션의 읽기 전용 여부는 커넥션을 얻은 뒤에 설정되므로 반드시 {@link
+ * org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}로 감싸서 첫 쿼리 시점에 고르게 해야 한다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    /** 쓰기 DataSource 조회 키 */
+    static final String PRIMARY = "primary";
+
+    private final List<Replica> replicas;
+    private final ReadYourWritesTracker tracker;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter replicaReads;
+    private final Counter stickyReads;
+    private final Counter fallbackReads;
+
+    /**
+     * 라우팅 DataSource 생성
+     *
+     * @param primary 쓰기 DataSource
+     * @param replicas 읽기 전용 복제본
+     * @param tracker 최근 쓰기 사용자 추적기
+     * @param meterRegistry 메트릭 레지스트리
+     */
+    public ReadWriteRoutingDataSource(
+            DataSource primary,
+            List<Replica> replicas,
+            ReadYourWritesTracker tracker,
+            MeterRegistry meterRegistry) {
+        this.replicas = List.copyOf(replicas);
+        this.tracker = tracker;
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (Replica replica : this.replicas) {
+            targets.put(replica.getName(), replica.getDataSource());
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+
+        this.replicaReads = readCounter(meterRegistry, "replica");
+        this.stickyReads = readCounter(meterRegistry, "read_your_writes");
+        this.fallbackReads = readCounter(meterRegistry, "replica_unavailable");
+    }
+
+    /**
+     * 읽기 전용 복제본 목록
+     *
+     * @return 복제본 목록
+     */
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                // 같은 요청 안에서 이어지는 읽기도 쓰기 DataSource로 가도록 바로 기록
+                tracker.markWrite(tracker.currentUser());
+            }
+            return PRIMARY;
+        }
+        if (tracker.isCurrentUserRecentWriter()) {
+            stickyReads.increment();
+            return PRIMARY;
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.isAvailable()) {
+                replicaReads.increment();
+                return replica.getName();
+            }
+        }
+        fallbackReads.increment();
+        return PRIMARY;
+    }
+
+    /** 복제본 커넥션 풀 종료 (쓰기 DataSource는 별도 빈으로 종료) */
+    @Override
+    public void close() {
+        for (Replica replica : replicas) {
+            replica.getDataSource().close();
+        }
+    }
+
+    private static Counter readCounter(MeterRegistry meterRegistry, String route) {
+        return Counter.builder("datasource.routing.reads")
+                .description("읽기 전용 트랜잭션의 라우팅 결과")
+                .tag("route", route)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 읽기 전용 복제본 (복제 지연 확인 결과 포함)
+     *
+     * @author 박성우
+     * @date 2026.10.18
+     */
+    @Getter
+    public static class Replica {
+
+        /** 이름 */
+        private final String name;
+
+        /** 커넥션 풀 */
+        private final HikariDataSource dataSource;
+
+        /** 사용 가능 여부 (첫 지연 확인 전에는 사용하지 않음) */
+        @Setter private volatile boolean available;
+
+        /** 마지막으로 확인한 복제 지연(초, 확인 실패 시 -1) */
+        @Setter private volatile long lagSeconds = -1;
+
+        public Replica(String name, HikariDataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package kr.co.platform.core.common.datasource;
+
+import java.io.IOException;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 요청 사용자를 {@link ReadYourWritesTracker}에 바인딩하고, 성공한 변경 요청 후 쓰기를 기록하는 필터
+ *
+ * <p>요청이 끝난 뒤(커밋 후)에 다시 기록하므로 read-your-writes 기간은 커밋 시점부터 계산된다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    /** 요청 사용자 헤더 */
+    private static final String USER_ID_HEADER = "X-User-Id";
+
+    private final ReadYourWritesTracker tracker;
+
+    public ReadYourWritesFilter(ReadYourWritesTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String userId = request.getHeader(USER_ID_HEADER);
+        tracker.bind(userId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (isWrite(request.getMethod()) && response.getStatus() < 400) {
+                tracker.markWrite(userId);
+            }
+            tracker.unbind();
+        }
+    }
+
+    private static boolean isWrite(String method) {
+        return !("GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method));
+    }
+}
@@ -0,0 +1,78 @@
+package kr.co.platform.core.common.datasource;
+
+import java.time.Duration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * 최근 쓰기 사용자 추적 (read-your-writes)
+ *
+ * <p>사용자가 쓴 직후에는 복제본에 아직 반영되지 않았을 수 있으므로, 쓰기 후 일정 기간 동안 그 사용자의 읽기는 쓰기 DataSource로 보낸다. 현재 요청의 사용자는
+ * 요청 스레드에 바인딩한다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+public class ReadYourWritesTracker {
+
+    private final Cache<String, Boolean> recentWriters;
+    private final ThreadLocal<String> currentUser = new ThreadLocal<>();
+
+    /**
+     * 추적기 생성
+     *
+     * @param window 쓰기 후 쓰기 DataSource에서 읽는 기간
+     */
+    public ReadYourWritesTracker(Duration window) {
+        this.recentWriters = Caffeine.newBuilder().expireAfterWrite(window).build();
+    }
+
+    /**
+     * 현재 스레드에 요청 사용자 바인딩
+     *
+     * @param userId 사용자 ID (null이면 해제)
+     */
+    public void bind(String userId) {
+        if (userId == null) {
+            currentUser.remove();
+        } else {
+            currentUser.set(userId);
+        }
+    }
+
+    /** 현재 스레드의 요청 사용자 해제 */
+    public void unbind() {
+        currentUser.remove();
+    }
+
+    /**
+     * 현재 스레드의 요청 사용자
+     *
+     * @return 사용자 ID (바인딩되지 않았으면 null)
+     */
+    public String currentUser() {
+        return currentUser.get();
+    }
+
+    /**
+     * 쓰기 기록 (기간을 이 시점부터 다시 계산)
+     *
+     * @param userId 사용자 ID
+     */
+    public void markWrite(String userId) {
+        if (userId != null) {
+            recentWriters.put(userId, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * 현재 요청 사용자가 기간 안에 쓴 적이 있는지 확인
+     *
+     * @return 최근 쓰기 여부
+     */
+    public boolean isCurrentUserRecentWriter() {
+        String userId = currentUser.get();
+        return userId != null && recentWriters.getIfPresent(userId) != null;
+    }
+}
@@ -0,0 +1,127 @@
+package kr.co.platform.core.common.datasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.context.SmartLifecycle;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.co.platform.core.common.util.StringUtil;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 복제본 지연 확인 작업
+ *
+ * <p>주기적으로 각 복제본의 복제 지연을 조회해 허용 지연 이하인 복제본만 읽기에 사용하게 한다. 조회에 실패하거나 복제가 멈춘(지연 값이 NULL) 복제본은 제외된다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Slf4j
+public class ReplicaLagMonitor implements SmartLifecycle {
+
+    private final ReadWriteRoutingDataSource routingDataSource;
+    private final DataSourceRoutingProperties properties;
+
+    private ScheduledExecutorService executor;
+    private ScheduledFuture<?> checkTask;
+    private volatile boolean running;
+
+    public ReplicaLagMonitor(
+            ReadWriteRoutingDataSource routingDataSource,
+            DataSourceRoutingProperties properties,
+            MeterRegistry meterRegistry) {
+        this.routingDataSource = routingDataSource;
+        this.properties = properties;
+        for (ReadWriteRoutingDataSource.Replica replica : routingDataSource.getReplicas()) {
+            Gauge.builder("datasource.replica.lag", replica, r -> r.getLagSeconds())
+                    .description("복제본의 복제 지연(초, 확인 실패 시 -1)")
+                    .tag("replica", replica.getName())
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    public void start() {
+        if (StringUtil.isEmpty(properties.getLagQuery())) {
+            routingDataSource.getReplicas().forEach(replica -> replica.setAvailable(true));
+            running = true;
+            return;
+        }
+        executor =
+                new ScheduledThreadPoolExecutor(
+                        1,
+                        runnable -> {
+                            Thread thread = new Thread(runnable, "replica-lag-monitor");
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+        running = true;
+        checkTask =
+                executor.scheduleWithFixedDelay(
+                        this::checkAll,
+                        0,
+                        properties.getLagCheckInterval().toMillis(),
+                        TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        if (checkTask != null) {
+            checkTask.cancel(false);
+            executor.shutdown();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /** 모든 복제본의 지연 확인 */
+    public void checkAll() {
+        long maxLagSeconds = properties.getMaxReplicaLag().toSeconds();
+        for (ReadWriteRoutingDataSource.Replica replica : routingDataSource.getReplicas()) {
+            long lag = lagSeconds(replica);
+            boolean available = lag >= 0 && lag <= maxLagSeconds;
+            if (available != replica.isAvailable()) {
+                log.warn(
+                        "Replica {} is now {} (lag={}s, max={}s)",
+                        replica.getName(),
+                        available ? "available" : "unavailable",
+                        lag,
+                        maxLagSeconds);
+            }
+            replica.setLagSeconds(lag);
+            replica.setAvailable(available);
+        }
+    }
+
+    /** 복제 지연(초), 확인할 수 없으면 -1 */
+    private long lagSeconds(ReadWriteRoutingDataSource.Replica replica) {
+        try (Connection connection = replica.getDataSource().getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet rs = statement.executeQuery(properties.getLagQuery())) {
+            if (!rs.next()) {
+                return -1;
+            }
+            long lag = rs.getLong(properties.getLagColumn());
+            return rs.wasNull() ? -1 : lag;
+        } catch (SQLException e) {
+            log.debug("Replica {} lag check failed: {}", replica.getName(), e.getMessage());
+            return -1;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import java.time.LocalDateTime;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonInclude;
 
+import kr.co.platform.core.common.util.CoarseClock;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -20,6 +21,9 @@ import lombok.Getter;
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class CommonResponse<T> {
 
+    /** 응답 시간 형식 */
+    public static final String TIMESTAMP_PATTERN = "yyyy-MM-dd'T'HH:mm:ss";
+
     /** 성공 여부 */
     private final boolean success;
 
@@ -29,10 +33,10 @@ public class CommonResponse<T> {
     /** 에러 정보 */
     private final ErrorResponse error;
 
-    /** 응답 시간 */
+    /** 응답 시간 (초 단위로 출력하므로 초 단위 캐시 시각 사용) */
     @Builder.Default
-    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
-    private final LocalDateTime timestamp = LocalDateTime.now();
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = TIMESTAMP_PATTERN)
+    private final LocalDateTime timestamp = CoarseClock.now();
 
     /**
      * 성공 응답 생성
@@ -0,0 +1,46 @@
+package kr.co.platform.core.common.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 커서 기반 목록 응답 (다음 페이지 존재 여부와 연속 토큰 포함)
+ *
+ * @param <T> 목록 요소 타입
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SliceResponse<T> {
+
+    /** 목록 데이터 */
+    private final List<T> content;
+
+    /** 다음 페이지 존재 여부 */
+    private final boolean hasNext;
+
+    /** 다음 페이지 조회용 연속 토큰 (마지막 페이지면 null) */
+    private final String nextCursor;
+
+    /**
+     * 목록 응답 생성
+     *
+     * @param <T> 목록 요소 타입
+     * @param content 목록 데이터
+     * @param nextCursor 다음 페이지 연속 토큰 (없으면 null)
+     * @return 목록 응답 객체
+     */
+    public static <T> SliceResponse<T> of(List<T> content, String nextCursor) {
+        return SliceResponse.<T>builder()
+                .content(content)
+                .hasNext(nextCursor != null)
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
@@ -37,6 +37,10 @@ public enum ErrorCode {
     SCHEDULE_NOT_FOUND(HttpStatus.NOT_FOUND, "SCHEDULE_001", "일정을 찾을 수 없습니다."),
     INVALID_SCHEDULE_DATE(HttpStatus.BAD_REQUEST, "SCHEDULE_002", "잘못된 일정 날짜입니다."),
     SCHEDULE_CONFLICT(HttpStatus.CONFLICT, "SCHEDULE_003", "일정이 충돌합니다."),
+    SCHEDULE_EXPORT_BUSY(
+            HttpStatus.SERVICE_UNAVAILABLE,
+            "SCHEDULE_004",
+            "진행 중인 일정 내보내기가 많습니다. 잠시 후 다시 시도해 주세요."),
 
     // Board
     BOARD_NOT_FOUND(HttpStatus.NOT_FOUND, "BOARD_001", "게시판을 찾을 수 없습니다."),
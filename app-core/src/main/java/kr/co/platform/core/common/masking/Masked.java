@@ -0,0 +1,51 @@
+package kr.co.platform.core.common.masking;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import com.fasterxml.jackson.annotation.JacksonAnnotationsInside;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+/**
+ * 응답 직렬화 시 마스킹할 DTO 필드 지정
+ *
+ * <pre>{@code
+ * @Masked(strategy = MaskingStrategy.PHONE)
+ * private String phoneNumber;
+ * }</pre>
+ *
+ * <p>JSON/CBOR 모두 {@link MaskedSerializer}가 가린 문자를 생성기에 바로 쓴다. 로그에는 {@link
+ * Masking#arg(MaskingStrategy, Object)}로 같은 방식을 적용한다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Target({ElementType.FIELD, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@JacksonAnnotationsInside
+@JsonSerialize(using = MaskedSerializer.class)
+public @interface Masked {
+
+    /**
+     * 마스킹 방식
+     *
+     * @return 마스킹 방식
+     */
+    MaskingStrategy strategy();
+
+    /**
+     * 앞에서 보여줄 글자 수 ({@link MaskingStrategy#CUSTOM}에서만 사용)
+     *
+     * @return 글자 수
+     */
+    int visibleStart() default 1;
+
+    /**
+     * 뒤에서 보여줄 글자 수 ({@link MaskingStrategy#CUSTOM}에서만 사용)
+     *
+     * @return 글자 수
+     */
+    int visibleEnd() default 1;
+}
@@ -0,0 +1,57 @@
+package kr.co.platform.core.common.masking;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * {@link Masked} 필드 직렬화기
+ *
+ * <p>필드마다 어노테이션 값을 읽어 문맥별 인스턴스를 만들어 두므로 직렬화 시 어노테이션 조회가 없다. 문자열이 아닌 값은 {@code toString()} 결과를
+ * 마스킹한다. 어노테이션을 찾을 수 없으면 앞/뒤 한 글자만 표시한다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+public class MaskedSerializer extends StdSerializer<Object> implements ContextualSerializer {
+
+    private static final long serialVersionUID = 1L;
+
+    private final MaskingStrategy strategy;
+    private final int visibleStart;
+    private final int visibleEnd;
+
+    public MaskedSerializer() {
+        this(MaskingStrategy.CUSTOM, 1, 1);
+    }
+
+    private MaskedSerializer(MaskingStrategy strategy, int visibleStart, int visibleEnd) {
+        super(Object.class);
+        this.strategy = strategy;
+        this.visibleStart = visibleStart;
+        this.visibleEnd = visibleEnd;
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) {
+        Masked masked = property == null ? null : property.getAnnotation(Masked.class);
+        if (masked == null) {
+            return this;
+        }
+        // 잘못된 표시 글자 수는 직렬화할 때마다가 아니라 필드의 직렬화기를 만들 때 드러낸다
+        Masking.checkVisible(masked.visibleStart(), masked.visibleEnd());
+        return new MaskedSerializer(masked.strategy(), masked.visibleStart(), masked.visibleEnd());
+    }
+
+    @Override
+    public void serialize(Object value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        String text = value instanceof String string ? string : value.toString();
+        Masking.write(gen, text, strategy, visibleStart, visibleEnd);
+    }
+}
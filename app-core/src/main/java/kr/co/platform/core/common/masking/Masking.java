@@ -0,0 +1,165 @@
+package kr.co.platform.core.common.masking;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import kr.co.platform.core.common.util.StringUtil;
+
+/**
+ * 개인정보 마스킹
+ *
+ * <p>가릴 구간을 {@link MaskingStrategy}로 계산한 뒤 결과 크기의 버퍼 하나에 앞부분, 가림 문자, 뒷부분을 바로 채운다. 부분 문자열이나 반복 문자열을
+ * 따로 만들지 않는다. 방식이 값에 맞지 않아 구간이 비거나 값을 벗어나면 원본을 내보내지 않고 전체를 가린다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+public final class Masking {
+
+    /** 가림 문자 */
+    public static final char MASK = '*';
+
+    private Masking() {
+        // 유틸리티 클래스는 인스턴스화 방지
+    }
+
+    /**
+     * 문자열 마스킹
+     *
+     * @param value 마스킹할 문자열
+     * @param strategy 마스킹 방식 (CUSTOM은 앞/뒤 한 글자 표시)
+     * @return 마스킹된 문자열 (비어 있으면 원본)
+     */
+    public static String mask(String value, MaskingStrategy strategy) {
+        return mask(value, strategy, 1, 1);
+    }
+
+    /**
+     * 문자열 마스킹
+     *
+     * @param value 마스킹할 문자열
+     * @param strategy 마스킹 방식
+     * @param visibleStart 앞에서 보여줄 글자 수 (CUSTOM, 0 이상)
+     * @param visibleEnd 뒤에서 보여줄 글자 수 (CUSTOM, 0 이상)
+     * @return 마스킹된 문자열 (비어 있으면 원본)
+     * @throws IllegalArgumentException 표시 글자 수가 음수인 경우
+     */
+    public static String mask(
+            String value, MaskingStrategy strategy, int visibleStart, int visibleEnd) {
+        checkVisible(visibleStart, visibleEnd);
+        if (StringUtil.isEmpty(value)) {
+            return value;
+        }
+        int start = strategy.maskStart(value, visibleStart, visibleEnd);
+        int end = strategy.maskEnd(value, visibleStart, visibleEnd);
+        if (start < 0 || start >= end || end > value.length()) {
+            start = 0;
+            end = value.length();
+        }
+        StringBuilder masked = new StringBuilder(value.length());
+        masked.append(value, 0, start);
+        for (int i = start; i < end; i++) {
+            masked.append(MASK);
+        }
+        masked.append(value, end, value.length());
+        return masked.toString();
+    }
+
+    /**
+     * 마스킹한 문자열을 JSON/CBOR 생성기에 쓴다 (중간 문자열 없음)
+     *
+     * @param gen 생성기
+     * @param value 마스킹할 문자열
+     * @param strategy 마스킹 방식
+     * @param visibleStart 앞에서 보여줄 글자 수 (CUSTOM, 0 이상)
+     * @param visibleEnd 뒤에서 보여줄 글자 수 (CUSTOM, 0 이상)
+     * @throws IOException 쓰기 실패
+     * @throws IllegalArgumentException 표시 글자 수가 음수인 경우
+     */
+    public static void write(
+            JsonGenerator gen,
+            String value,
+            MaskingStrategy strategy,
+            int visibleStart,
+            int visibleEnd)
+            throws IOException {
+        checkVisible(visibleStart, visibleEnd);
+        if (StringUtil.isEmpty(value)) {
+            gen.writeString(value);
+            return;
+        }
+        int length = value.length();
+        int start = strategy.maskStart(value, visibleStart, visibleEnd);
+        int end = strategy.maskEnd(value, visibleStart, visibleEnd);
+        if (start < 0 || start >= end || end > length) {
+            start = 0;
+            end = length;
+        }
+        char[] buffer = new char[length];
+        value.getChars(0, start, buffer, 0);
+        Arrays.fill(buffer, start, end, MASK);
+        value.getChars(end, length, buffer, end);
+        gen.writeString(buffer, 0, length);
+    }
+
+    /**
+     * 로그 인자용 마스킹 값
+     *
+     * <p>로그가 실제로 출력될 때({@code toString()} 호출 시)만 마스킹한다.
+     *
+     * <pre>{@code
+     * log.info("Member joined: phone={}", Masking.arg(MaskingStrategy.PHONE, phoneNumber));
+     * }</pre>
+     *
+     * @param strategy 마스킹 방식 (CUSTOM은 앞/뒤 한 글자 표시)
+     * @param value 원본 값 (null 가능)
+     * @return 로그 인자
+     */
+    public static Object arg(MaskingStrategy strategy, Object value) {
+        return new MaskedArgument(value, strategy, 1, 1);
+    }
+
+    /**
+     * 로그 인자용 마스킹 값 (표시 글자 수 지정)
+     *
+     * @param value 원본 값 (null 가능)
+     * @param visibleStart 앞에서 보여줄 글자 수 (0 이상)
+     * @param visibleEnd 뒤에서 보여줄 글자 수 (0 이상)
+     * @return 로그 인자
+     * @throws IllegalArgumentException 표시 글자 수가 음수인 경우
+     */
+    public static Object arg(Object value, int visibleStart, int visibleEnd) {
+        checkVisible(visibleStart, visibleEnd);
+        return new MaskedArgument(value, MaskingStrategy.CUSTOM, visibleStart, visibleEnd);
+    }
+
+    /**
+     * 표시 글자 수 검증
+     *
+     * @param visibleStart 앞에서 보여줄 글자 수
+     * @param visibleEnd 뒤에서 보여줄 글자 수
+     * @throws IllegalArgumentException 음수인 경우
+     */
+    static void checkVisible(int visibleStart, int visibleEnd) {
+        if (visibleStart < 0 || visibleEnd < 0) {
+            throw new IllegalArgumentException(
+                    "visibleStart/visibleEnd must not be negative: "
+                            + visibleStart
+                            + ", "
+                            + visibleEnd);
+        }
+    }
+
+    private record MaskedArgument(
+            Object value, MaskingStrategy strategy, int visibleStart, int visibleEnd) {
+
+        @Override
+        public String toString() {
+            return value == null
+                    ? "null"
+                    : mask(value.toString(), strategy, visibleStart, visibleEnd);
+        }
+    }
+}
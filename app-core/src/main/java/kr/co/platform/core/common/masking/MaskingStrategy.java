@@ -0,0 +1,114 @@
+package kr.co.platform.core.common.masking;
+
+/**
+ * 개인정보 마스킹 방식
+ *
+ * <p>각 방식은 값에서 가릴 구간 [시작, 끝)만 계산한다. 구간이 비어 있거나 값을 벗어나면(형식이 맞지 않거나 너무 짧은 값) 값 전체를 가린다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+public enum MaskingStrategy {
+
+    /** 이름: 첫 글자와 마지막 글자만 표시 (두 글자면 첫 글자만, 예: 홍*동, 홍*, 한 글자면 전체) */
+    NAME {
+        @Override
+        int maskStart(String value, int visibleStart, int visibleEnd) {
+            return 1;
+        }
+
+        @Override
+        int maskEnd(String value, int visibleStart, int visibleEnd) {
+            return value.length() == 2 ? 2 : value.length() - 1;
+        }
+    },
+
+    /**
+     * 전화번호: 가운데 자리 (예: 010-****-5678, 010****5678)
+     *
+     * <p>하이픈이 두 개 이상이면 첫/마지막 하이픈 사이를, 하이픈이 없고 {@value #MIN_PHONE_DIGITS}자리 이상이면 앞 3자리와 뒤 4자리를 뺀
+     * 나머지를 가린다. 그 밖의 값(하이픈 하나, 짧은 번호 등)은 전체를 가린다.
+     */
+    PHONE {
+        @Override
+        int maskStart(String value, int visibleStart, int visibleEnd) {
+            int first = value.indexOf('-');
+            if (first < 0) {
+                return value.length() >= MIN_PHONE_DIGITS ? 3 : 0;
+            }
+            return value.lastIndexOf('-') > first ? first + 1 : 0;
+        }
+
+        @Override
+        int maskEnd(String value, int visibleStart, int visibleEnd) {
+            int first = value.indexOf('-');
+            if (first < 0) {
+                return value.length() >= MIN_PHONE_DIGITS ? value.length() - 4 : value.length();
+            }
+            int last = value.lastIndexOf('-');
+            return last > first ? last : value.length();
+        }
+    },
+
+    /** 이메일: 아이디의 앞 두 글자만 표시 (두 글자면 한 글자, 한 글자면 없음, 예: ho*******@example.com) */
+    EMAIL {
+        @Override
+        int maskStart(String value, int visibleStart, int visibleEnd) {
+            int localLength = localLength(value);
+            if (localLength <= 1) {
+                return 0;
+            }
+            return localLength == 2 ? 1 : 2;
+        }
+
+        @Override
+        int maskEnd(String value, int visibleStart, int visibleEnd) {
+            return localLength(value);
+        }
+
+        private int localLength(String value) {
+            int at = value.indexOf('@');
+            return at < 0 ? value.length() : at;
+        }
+    },
+
+    /**
+     * 앞/뒤 표시 글자 수 지정 ({@link Masked#visibleStart()}, {@link Masked#visibleEnd()})
+     *
+     * <p>표시 글자 수의 합이 값 길이 이상이면 전체를 가린다.
+     */
+    CUSTOM {
+        @Override
+        int maskStart(String value, int visibleStart, int visibleEnd) {
+            return visibleStart;
+        }
+
+        @Override
+        int maskEnd(String value, int visibleStart, int visibleEnd) {
+            return value.length() - visibleEnd;
+        }
+    };
+
+    /** 하이픈 없는 전화번호로 보고 가운데만 가릴 최소 길이 (예: 0212345678) */
+    private static final int MIN_PHONE_DIGITS = 10;
+
+    /**
+     * 가릴 구간 시작 (포함)
+     *
+     * @param value 비어 있지 않은 값
+     * @param visibleStart 앞에서 보여줄 글자 수 (CUSTOM)
+     * @param visibleEnd 뒤에서 보여줄 글자 수 (CUSTOM)
+     * @return 시작 위치
+     */
+    abstract int maskStart(String value, int visibleStart, int visibleEnd);
+
+    /**
+     * 가릴 구간 끝 (미포함)
+     *
+     * @param value 비어 있지 않은 값
+     * @param visibleStart 앞에서 보여줄 글자 수 (CUSTOM)
+     * @param visibleEnd 뒤에서 보여줄 글자 수 (CUSTOM)
+     * @return 끝 위치
+     */
+    abstract int maskEnd(String value, int visibleStart, int visibleEnd);
+}
@@ -0,0 +1,42 @@
+package kr.co.platform.core.common.mybatis;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 느린 구문 기록 (바인딩 값은 남기지 않고 파라미터 이름과 타입만 기록)
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Getter
+@AllArgsConstructor
+public class SlowStatement {
+
+    /** 실행 완료 일시 */
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss.SSS")
+    private final LocalDateTime executedAt;
+
+    /** 구문 ID (예: ScheduleMapper.insertSchedule) */
+    private final String statement;
+
+    /** 실행 시간(밀리초) */
+    private final long elapsedMillis;
+
+    /** 결과 행 수 또는 영향받은 행 수 (알 수 없으면 -1) */
+    private final long rows;
+
+    /** 성공 여부 */
+    private final boolean success;
+
+    /** SQL (공백 정리, 바인딩 위치는 ?) */
+    private final String sql;
+
+    /** 바인딩 파라미터 (이름=<타입>, 값은 제외) */
+    private final List<String> parameters;
+}
@@ -0,0 +1,42 @@
+package kr.co.platform.core.common.mybatis;
+
+import java.util.List;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 최근 느린 MyBatis 구문 조회 액추에이터 엔드포인트 (/actuator/slowstatements)
+ *
+ * <p>구문별 실행 시간 분포와 행 수는 /actuator/metrics/mybatis.statement 에서 조회한다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Component
+@Endpoint(id = "slowstatements")
+@RequiredArgsConstructor
+public class SlowStatementEndpoint {
+
+    private final SlowStatementLog slowStatementLog;
+
+    /**
+     * 최근 느린 구문 조회
+     *
+     * @return 최근 실행 순으로 정렬된 느린 구문 기록
+     */
+    @ReadOperation
+    public List<SlowStatement> slowStatements() {
+        return slowStatementLog.snapshot();
+    }
+
+    /** 느린 구문 기록 삭제 */
+    @DeleteOperation
+    public void clear() {
+        slowStatementLog.clear();
+    }
+}
@@ -0,0 +1,64 @@
+package kr.co.platform.core.common.mybatis;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 최근 느린 구문 링 버퍼 (고정 크기, 가득 차면 오래된 기록부터 덮어씀)
+ *
+ * <p>기록은 잠금 없이 슬롯 하나를 덮어쓰므로 요청 스레드가 기다리지 않는다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+public class SlowStatementLog {
+
+    private final AtomicReferenceArray<SlowStatement> slots;
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * 링 버퍼 생성
+     *
+     * @param capacity 보관할 기록 수
+     */
+    public SlowStatementLog(int capacity) {
+        this.slots = new AtomicReferenceArray<>(Math.max(1, capacity));
+    }
+
+    /**
+     * 기록 추가
+     *
+     * @param statement 느린 구문 기록
+     */
+    public void add(SlowStatement statement) {
+        int slot = (int) (sequence.getAndIncrement() % slots.length());
+        slots.set(slot, statement);
+    }
+
+    /**
+     * 최근 기록 조회
+     *
+     * @return 최근 실행 순으로 정렬된 기록
+     */
+    public List<SlowStatement> snapshot() {
+        List<SlowStatement> statements = new ArrayList<>(slots.length());
+        for (int i = 0; i < slots.length(); i++) {
+            SlowStatement statement = slots.get(i);
+            if (statement != null) {
+                statements.add(statement);
+            }
+        }
+        statements.sort(Comparator.comparing(SlowStatement::getExecutedAt).reversed());
+        return statements;
+    }
+
+    /** 기록 전체 삭제 */
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
+    }
+}
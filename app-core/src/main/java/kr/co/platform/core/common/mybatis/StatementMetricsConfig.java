@@ -0,0 +1,25 @@
+package kr.co.platform.core.common.mybatis;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * MyBatis 구문 지표 설정
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Configuration
+public class StatementMetricsConfig {
+
+    /**
+     * 최근 느린 구문 링 버퍼
+     *
+     * @param properties 구문 지표 설정
+     * @return 링 버퍼
+     */
+    @Bean
+    public SlowStatementLog slowStatementLog(StatementMetricsProperties properties) {
+        return new SlowStatementLog(properties.getSlowLogCapacity());
+    }
+}
@@ -0,0 +1,289 @@
+package kr.co.platform.core.common.mybatis;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.co.platform.core.common.timing.RequestTimings;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * MyBatis 구문별 실행 시간/행 수 지표 인터셉터
+ *
+ * <p>Mapper 구문 ID(예: ScheduleMapper.insertSchedule)별로 다음 지표를 기록한다.
+ *
+ * <ul>
+ *   <li>{@code mybatis.statement} 타이머 (백분위수 포함, outcome=success|error)
+ *   <li>{@code mybatis.statement.rows} 결과 행 수 또는 영향받은 행 수
+ *   <li>{@code mybatis.statement.slow} 기준 시간을 넘긴 실행 수
+ * </ul>
+ *
+ * <p>기준 시간을 넘긴 실행은 SQL과 파라미터 이름/타입(값 제외)을 {@link SlowStatementLog}에 남긴다. 배치 실행기는 update 시점에 쌓기만 하므로
+ * 실제 실행 시간은 flushStatements 시점에 첫 구문 ID로 기록한다. 커서 조회는 커서를 여는 시간만 기록한다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Slf4j
+@Component
+@Intercepts({
+    @Signature(
+            type = Executor.class,
+            method = "update",
+            args = {MappedStatement.class, Object.class}),
+    @Signature(
+            type = Executor.class,
+            method = "query",
+            args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+    @Signature(
+            type = Executor.class,
+            method = "query",
+            args = {
+                MappedStatement.class,
+                Object.class,
+                RowBounds.class,
+                ResultHandler.class,
+                CacheKey.class,
+                BoundSql.class
+            }),
+    @Signature(
+            type = Executor.class,
+            method = "queryCursor",
+            args = {MappedStatement.class, Object.class, RowBounds.class}),
+    @Signature(
+            type = Executor.class,
+            method = "flushStatements",
+            args = {})
+})
+public class StatementMetricsInterceptor implements Interceptor {
+
+    /** 파라미터 기록 최대 개수 (IN 목록 등) */
+    private static final int MAX_PARAMETERS = 20;
+
+    private final StatementMetricsProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final SlowStatementLog slowStatementLog;
+    private final long slowThresholdNanos;
+    private final double[] percentiles;
+    private final Map<String, StatementMeters> meters = new ConcurrentHashMap<>();
+
+    public StatementMetricsInterceptor(
+            StatementMetricsProperties properties,
+            MeterRegistry meterRegistry,
+            SlowStatementLog slowStatementLog) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.slowStatementLog = slowStatementLog;
+        this.slowThresholdNanos = properties.getSlowThreshold().toNanos();
+        this.percentiles =
+                properties.getPercentiles().stream().mapToDouble(Double::doubleValue).toArray();
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        if (!properties.isEnabled()) {
+            return invocation.proceed();
+        }
+        Object[] args = invocation.getArgs();
+        // 인자가 없는 메서드(flushStatements)는 args가 null로 전달된다
+        boolean flush = args == null || args.length == 0;
+        long startedAt = System.nanoTime();
+        Object result = null;
+        boolean success = false;
+        try {
+            result = invocation.proceed();
+            success = true;
+            return result;
+        } finally {
+            long elapsed = System.nanoTime() - startedAt;
+            RequestTimings.addDatabaseTime(elapsed);
+            try {
+                if (flush) {
+                    recordFlush(result, elapsed, success);
+                } else {
+                    MappedStatement statement = (MappedStatement) args[0];
+                    long rows = success ? rows(result) : -1;
+                    record(statement, args, elapsed, rows, success);
+                }
+            } catch (RuntimeException e) {
+                // 지표 기록 실패가 구문 실행 결과를 바꾸지 않도록 한다
+                log.warn("Statement metrics recording failed: reason={}", e.getMessage());
+            }
+        }
+    }
+
+    private void record(
+            MappedStatement statement, Object[] args, long elapsed, long rows, boolean success) {
+        String id = shortId(statement.getId());
+        StatementMeters statementMeters = meters(id, statement);
+        (success ? statementMeters.success : statementMeters.error)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+        if (rows >= 0) {
+            statementMeters.rows.record((double) rows);
+        }
+        if (elapsed >= slowThresholdNanos) {
+            statementMeters.slow.increment();
+            BoundSql boundSql =
+                    args.length == 6 ? (BoundSql) args[5] : statement.getBoundSql(args[1]);
+            slowStatementLog.add(slowStatement(id, boundSql, elapsed, rows, success));
+        }
+    }
+
+    private void recordFlush(Object result, long elapsed, boolean success) {
+        if (!(result instanceof List<?> batchResults) || batchResults.isEmpty()) {
+            return;
+        }
+        if (!(batchResults.get(0) instanceof BatchResult first)) {
+            return;
+        }
+        long rows = 0;
+        for (Object batchResult : batchResults) {
+            if (batchResult instanceof BatchResult counted) {
+                for (int count : counted.getUpdateCounts()) {
+                    rows += Math.max(count, 0);
+                }
+            }
+        }
+        // getParameterObject()는 폐기 예정이므로 배치에 쌓인 파라미터 목록의 첫 값을 쓴다
+        List<Object> parameters = first.getParameterObjects();
+        if (parameters.isEmpty()) {
+            return;
+        }
+        MappedStatement statement = first.getMappedStatement();
+        Object[] args = {statement, parameters.get(0)};
+        record(statement, args, elapsed, rows, success);
+    }
+
+    private SlowStatement slowStatement(
+            String id, BoundSql boundSql, long elapsed, long rows, boolean success) {
+        String sql = boundSql.getSql().replaceAll("\\s+", " ").trim();
+        if (sql.length() > properties.getMaxSqlLength()) {
+            sql = sql.substring(0, properties.getMaxSqlLength()) + "...";
+        }
+        List<ParameterMapping> mappings = boundSql.getParameterMappings();
+        List<String> parameters = new ArrayList<>(Math.min(mappings.size(), MAX_PARAMETERS + 1));
+        for (ParameterMapping mapping : mappings) {
+            if (parameters.size() == MAX_PARAMETERS) {
+                parameters.add("... (" + mappings.size() + " total)");
+                break;
+            }
+            Class<?> type = mapping.getJavaType();
+            parameters.add(
+                    mapping.getProperty()
+                            + "=<"
+                            + (type == null ? "?" : type.getSimpleName())
+                            + ">");
+        }
+        log.debug(
+                "Slow statement: id={}, elapsedMs={}", id, TimeUnit.NANOSECONDS.toMillis(elapsed));
+        return new SlowStatement(
+                LocalDateTime.now(),
+                id,
+                TimeUnit.NANOSECONDS.toMillis(elapsed),
+                rows,
+                success,
+                sql,
+                parameters);
+    }
+
+    private StatementMeters meters(String id, MappedStatement statement) {
+        StatementMeters statementMeters = meters.get(id);
+        if (statementMeters == null) {
+            statementMeters =
+                    meters.computeIfAbsent(
+                            id,
+                            key ->
+                                    new StatementMeters(
+                                            key,
+                                            statement
+                                                    .getSqlCommandType()
+                                                    .name()
+                                                    .toLowerCase(Locale.ROOT),
+                                            percentiles,
+                                            meterRegistry));
+        }
+        return statementMeters;
+    }
+
+    /** 조회 결과 목록 크기 또는 영향받은 행 수 (배치 대기 등 알 수 없으면 -1) */
+    private static long rows(Object result) {
+        if (result instanceof List<?> list) {
+            return list.size();
+        }
+        if (result instanceof Integer count && count >= 0) {
+            return count;
+        }
+        return -1;
+    }
+
+    /** 패키지를 뺀 Mapper 이름과 구문 이름 (예: ScheduleMapper.insertSchedule) */
+    static String shortId(String id) {
+        int method = id.lastIndexOf('.');
+        int mapper = method > 0 ? id.lastIndexOf('.', method - 1) : -1;
+        return mapper >= 0 ? id.substring(mapper + 1) : id;
+    }
+
+    /** 구문 하나의 지표 */
+    private static final class StatementMeters {
+
+        private final Timer success;
+        private final Timer error;
+        private final DistributionSummary rows;
+        private final Counter slow;
+
+        private StatementMeters(
+                String id, String command, double[] percentiles, MeterRegistry registry) {
+            this.success = timer(id, command, "success", percentiles, registry);
+            this.error = timer(id, command, "error", percentiles, registry);
+            this.rows =
+                    DistributionSummary.builder("mybatis.statement.rows")
+                            .description("구문의 결과 행 수 또는 영향받은 행 수")
+                            .tag("statement", id)
+                            .tag("command", command)
+                            .register(registry);
+            this.slow =
+                    Counter.builder("mybatis.statement.slow")
+                            .description("느린 구문 기준 시간을 넘긴 실행 수")
+                            .tag("statement", id)
+                            .tag("command", command)
+                            .register(registry);
+        }
+
+        private static Timer timer(
+                String id,
+                String command,
+                String outcome,
+                double[] percentiles,
+                MeterRegistry registry) {
+            return Timer.builder("mybatis.statement")
+                    .description("Mapper 구문 실행 시간")
+                    .tag("statement", id)
+                    .tag("command", command)
+                    .tag("outcome", outcome)
+                    .publishPercentiles(percentiles)
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package kr.co.platform.core.common.mybatis;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * MyBatis 구문 지표 설정 (mybatis-metrics.*)
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "mybatis-metrics")
+public class StatementMetricsProperties {
+
+    /** 사용 여부 */
+    private boolean enabled = true;
+
+    /** 구문 실행 시간 백분위수 (mybatis.statement 타이머) */
+    private List<Double> percentiles = new ArrayList<>(List.of(0.5, 0.95, 0.99));
+
+    /** 느린 구문 기준 시간 */
+    private Duration slowThreshold = Duration.ofMillis(200);
+
+    /** 보관할 최근 느린 구문 수 */
+    private int slowLogCapacity = 100;
+
+    /** 느린 구문 기록의 SQL 최대 길이 */
+    private int maxSqlLength = 2_000;
+}
@@ -0,0 +1,29 @@
+package kr.co.platform.core.common.timing;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 요청 처리 구간
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RequestPhase {
+    /** DispatcherServlet 진입 전 서블릿 필터 (보안 필터 체인 포함) */
+    FILTER("filter"),
+
+    /** 컨트롤러와 서비스 (DB 시간 제외) */
+    APP("app"),
+
+    /** Mapper 구문 실행 (요청 스레드에서 실행된 구문만, mybatis-metrics 사용 시) */
+    DB("db"),
+
+    /** 응답 본문 직렬화와 전송 */
+    SERIALIZATION("serialization");
+
+    /** 지표 태그와 Server-Timing 항목 이름 */
+    private final String tag;
+}
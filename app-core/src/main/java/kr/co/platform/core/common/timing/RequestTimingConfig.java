@@ -0,0 +1,93 @@
+package kr.co.platform.core.common.timing;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+
+/**
+ * 요청 구간 측정 설정
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Configuration
+@ConditionalOnProperty(
+        prefix = "request-timing",
+        name = "enabled",
+        havingValue = "true",
+        matchIfMissing = true)
+public class RequestTimingConfig implements WebMvcConfigurer {
+
+    /** 필터 순서 (관측 필터 다음, 보안 필터 체인 앞) */
+    private static final int FILTER_ORDER = Ordered.HIGHEST_PRECEDENCE + 2;
+
+    /** SLO 버킷을 적용할 지표 이름 접두사 */
+    private static final String HTTP_SERVER_REQUESTS = "http.server.requests";
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RequestTimingInterceptor());
+    }
+
+    /**
+     * 엔드포인트별 구간 시간 지표
+     *
+     * @param meterRegistry 지표 레지스트리
+     * @return 구간 시간 지표
+     */
+    @Bean
+    public RequestTimingMetrics requestTimingMetrics(MeterRegistry meterRegistry) {
+        return new RequestTimingMetrics(meterRegistry);
+    }
+
+    /**
+     * 요청 구간 측정 필터 등록
+     *
+     * @param requestTimingMetrics 구간 시간 지표
+     * @return 필터 등록 정보
+     */
+    @Bean
+    public FilterRegistrationBean<RequestTimingFilter> requestTimingFilter(
+            RequestTimingMetrics requestTimingMetrics) {
+        FilterRegistrationBean<RequestTimingFilter> registration =
+                new FilterRegistrationBean<>(new RequestTimingFilter(requestTimingMetrics));
+        registration.setOrder(FILTER_ORDER);
+        return registration;
+    }
+
+    /**
+     * http.server.requests 와 구간 지표에 SLO 히스토그램 버킷 적용
+     *
+     * @param properties 요청 구간 측정 설정
+     * @return 지표 필터
+     */
+    @Bean
+    public MeterFilter requestTimingSloMeterFilter(RequestTimingProperties properties) {
+        double[] slo =
+                properties.getSlo().stream()
+                        .mapToDouble(bucket -> (double) bucket.toNanos())
+                        .toArray();
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(
+                    Meter.Id id, DistributionStatisticConfig config) {
+                if (!id.getName().startsWith(HTTP_SERVER_REQUESTS)) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .serviceLevelObjectives(slo)
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+}
@@ -0,0 +1,43 @@
+package kr.co.platform.core.common.timing;
+
+import java.io.IOException;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 요청 구간 측정을 시작하고, 요청이 끝나면 구간 시간을 기록하는 필터
+ *
+ * <p>보안 필터 체인보다 앞에 등록해 필터 구간에 인증 시간이 포함되도록 한다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+public class RequestTimingFilter extends OncePerRequestFilter {
+
+    private final RequestTimingMetrics metrics;
+
+    public RequestTimingFilter(RequestTimingMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestTimings timings = RequestTimings.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            try {
+                metrics.record(timings, request, System.nanoTime());
+            } finally {
+                timings.end();
+            }
+        }
+    }
+}
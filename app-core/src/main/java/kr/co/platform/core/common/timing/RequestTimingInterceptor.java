@@ -0,0 +1,26 @@
+package kr.co.platform.core.common.timing;
+
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 핸들러 실행 시작 시각과 핸들러 메서드를 기록하는 인터셉터
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+public class RequestTimingInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(
+            HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestTimings timings = RequestTimings.current();
+        if (timings != null && handler instanceof HandlerMethod handlerMethod) {
+            timings.markHandler(handlerMethod.getMethod());
+        }
+        return true;
+    }
+}
@@ -0,0 +1,72 @@
+package kr.co.platform.core.common.timing;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 엔드포인트별 구간 시간 지표 ({@code http.server.requests.phase})
+ *
+ * <p>핸들러 메서드별 타이머 배열을 캐시해 요청마다 태그나 Meter.Id를 만들지 않는다. 핸들러 메서드로 처리되지 않은 요청(404, 정적 자원 등)은 기록하지 않는다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+public class RequestTimingMetrics {
+
+    /** 구간 지표 이름 */
+    public static final String METRIC = "http.server.requests.phase";
+
+    private static final RequestPhase[] PHASES = RequestPhase.values();
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, Timer[]> timers = new ConcurrentHashMap<>();
+
+    public RequestTimingMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 요청의 구간 시간 기록
+     *
+     * @param timings 요청 측정값
+     * @param request 요청 (처음 보는 핸들러의 태그를 만들 때만 사용)
+     * @param now 요청 종료 시각
+     */
+    void record(RequestTimings timings, HttpServletRequest request, long now) {
+        Method handler = timings.handler();
+        if (handler == null) {
+            return;
+        }
+        Timer[] endpoint = timers.get(handler);
+        if (endpoint == null) {
+            endpoint = timers.computeIfAbsent(handler, key -> register(request));
+        }
+        for (RequestPhase phase : PHASES) {
+            endpoint[phase.ordinal()].record(timings.elapsed(phase, now), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer[] register(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        Timer[] endpoint = new Timer[PHASES.length];
+        for (RequestPhase phase : PHASES) {
+            endpoint[phase.ordinal()] =
+                    Timer.builder(METRIC)
+                            .description("엔드포인트별 요청 처리 구간 시간")
+                            .tag("method", request.getMethod())
+                            .tag("uri", uri)
+                            .tag("phase", phase.getTag())
+                            .register(meterRegistry);
+        }
+        return endpoint;
+    }
+}
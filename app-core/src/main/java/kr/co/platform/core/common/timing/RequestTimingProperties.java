@@ -0,0 +1,39 @@
+package kr.co.platform.core.common.timing;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 요청 구간별 시간 측정 설정 (request-timing.*)
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "request-timing")
+public class RequestTimingProperties {
+
+    /** 사용 여부 */
+    private boolean enabled = true;
+
+    /** Server-Timing 응답 헤더 출력 여부 (내부 구간 시간이 노출되므로 기본 꺼짐) */
+    private boolean serverTimingHeader = false;
+
+    /** 엔드포인트별 SLO 히스토그램 버킷 (http.server.requests, http.server.requests.phase) */
+    private List<Duration> slo =
+            new ArrayList<>(
+                    List.of(
+                            Duration.ofMillis(50),
+                            Duration.ofMillis(100),
+                            Duration.ofMillis(250),
+                            Duration.ofMillis(500),
+                            Duration.ofSeconds(1),
+                            Duration.ofSeconds(2)));
+}
@@ -0,0 +1,107 @@
+package kr.co.platform.core.common.timing;
+
+import java.lang.reflect.Method;
+
+/**
+ * 요청 하나의 구간 경계 시각 (스레드별로 재사용)
+ *
+ * <p>요청마다 객체를 만들지 않도록 스레드당 하나를 두고 요청 시작 시 초기화한다. 시각은 모두 {@link System#nanoTime()} 값이며, 요청 스레드가 아닌
+ * 곳(비동기 작업 등)에서 실행된 구문은 DB 시간에 포함되지 않는다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+public final class RequestTimings {
+
+    private static final ThreadLocal<RequestTimings> HOLDER =
+            ThreadLocal.withInitial(RequestTimings::new);
+
+    private boolean active;
+    private long startedAt;
+    private long handlerStartedAt;
+    private long writeStartedAt;
+    private long databaseNanos;
+    private Method handler;
+
+    private RequestTimings() {}
+
+    /**
+     * 현재 스레드의 측정 시작
+     *
+     * @return 현재 스레드의 측정값
+     */
+    static RequestTimings begin() {
+        RequestTimings timings = HOLDER.get();
+        timings.active = true;
+        timings.startedAt = System.nanoTime();
+        timings.handlerStartedAt = 0;
+        timings.writeStartedAt = 0;
+        timings.databaseNanos = 0;
+        timings.handler = null;
+        return timings;
+    }
+
+    /**
+     * 현재 스레드에서 측정 중인 요청 (없으면 null)
+     *
+     * @return 측정값
+     */
+    static RequestTimings current() {
+        RequestTimings timings = HOLDER.get();
+        return timings.active ? timings : null;
+    }
+
+    /**
+     * 현재 요청에 DB 실행 시간을 더한다 (측정 중인 요청이 없으면 무시)
+     *
+     * @param nanos 실행 시간 (나노초)
+     */
+    public static void addDatabaseTime(long nanos) {
+        RequestTimings timings = HOLDER.get();
+        if (timings.active) {
+            timings.databaseNanos += nanos;
+        }
+    }
+
+    void end() {
+        active = false;
+        handler = null;
+    }
+
+    void markHandler(Method method) {
+        if (handlerStartedAt == 0) {
+            handlerStartedAt = System.nanoTime();
+            handler = method;
+        }
+    }
+
+    void markWrite() {
+        if (writeStartedAt == 0) {
+            writeStartedAt = System.nanoTime();
+        }
+    }
+
+    Method handler() {
+        return handler;
+    }
+
+    /**
+     * 구간 시간 (나노초)
+     *
+     * <p>직렬화 시작을 알 수 없는 응답(스트리밍 등)은 본문 작성까지 APP 구간에 포함한다.
+     *
+     * @param phase 구간
+     * @param now 기준 시각 (아직 끝나지 않은 구간의 끝)
+     * @return 구간 시간
+     */
+    long elapsed(RequestPhase phase, long now) {
+        long handlerStart = handlerStartedAt == 0 ? now : handlerStartedAt;
+        long writeStart = writeStartedAt == 0 ? now : writeStartedAt;
+        return switch (phase) {
+            case FILTER -> handlerStart - startedAt;
+            case APP -> Math.max(writeStart - handlerStart - databaseNanos, 0);
+            case DB -> databaseNanos;
+            case SERIALIZATION -> now - writeStart;
+        };
+    }
+}
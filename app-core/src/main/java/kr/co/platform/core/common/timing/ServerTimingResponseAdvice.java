@@ -0,0 +1,78 @@
+package kr.co.platform.core.common.timing;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 응답 본문 직렬화 시작 시각을 기록하고, 설정 시 Server-Timing 헤더를 붙이는 advice
+ *
+ * <p>헤더는 본문보다 먼저 전송되므로 Server-Timing에는 직렬화 전까지의 구간(filter, app, db)만 담긴다. 직렬화 시간은 {@code
+ * http.server.requests.phase} 지표로 확인한다. 측정 필터가 꺼져 있으면 아무 일도 하지 않는다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@ControllerAdvice
+public class ServerTimingResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    /** Server-Timing 응답 헤더 */
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    private static final RequestPhase[] HEADER_PHASES = {
+        RequestPhase.FILTER, RequestPhase.APP, RequestPhase.DB
+    };
+
+    private final boolean serverTimingHeader;
+
+    public ServerTimingResponseAdvice(RequestTimingProperties properties) {
+        this.serverTimingHeader = properties.isServerTimingHeader();
+    }
+
+    @Override
+    public boolean supports(
+            MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+            Object body,
+            MethodParameter returnType,
+            MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request,
+            ServerHttpResponse response) {
+        RequestTimings timings = RequestTimings.current();
+        if (timings == null) {
+            return body;
+        }
+        timings.markWrite();
+        if (serverTimingHeader) {
+            response.getHeaders()
+                    .set(SERVER_TIMING_HEADER, serverTiming(timings, System.nanoTime()));
+        }
+        return body;
+    }
+
+    /** 예: filter;dur=1.2, app;dur=3.4, db;dur=2.0 (밀리초) */
+    static String serverTiming(RequestTimings timings, long now) {
+        StringBuilder value = new StringBuilder(64);
+        for (RequestPhase phase : HEADER_PHASES) {
+            if (value.length() > 0) {
+                value.append(", ");
+            }
+            long micros = timings.elapsed(phase, now) / 1_000;
+            value.append(phase.getTag())
+                    .append(";dur=")
+                    .append(micros / 1_000)
+                    .append('.')
+                    .append(micros / 100 % 10);
+        }
+        return value.toString();
+    }
+}
@@ -0,0 +1,44 @@
+package kr.co.platform.core.common.util;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 초 단위로 캐시하는 현재 시각
+ *
+ * <p>같은 초 안에서는 같은 {@link LocalDateTime} 인스턴스를 돌려주므로 호출마다 객체를 만들지 않는다. 초 미만 정밀도가 필요 없는 응답 시각 등에만
+ * 사용한다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+public final class CoarseClock {
+
+    private static volatile Tick tick = new Tick(Long.MIN_VALUE, LocalDateTime.MIN);
+
+    private CoarseClock() {
+        // 유틸리티 클래스는 인스턴스화 방지
+    }
+
+    /**
+     * 현재 시각 (시스템 기본 시간대, 초 미만 버림)
+     *
+     * @return 현재 시각
+     */
+    public static LocalDateTime now() {
+        long epochSecond = System.currentTimeMillis() / 1_000;
+        Tick current = tick;
+        if (current.epochSecond != epochSecond) {
+            current =
+                    new Tick(
+                            epochSecond,
+                            LocalDateTime.ofInstant(
+                                    Instant.ofEpochSecond(epochSecond), ZoneId.systemDefault()));
+            tick = current;
+        }
+        return current.dateTime;
+    }
+
+    private record Tick(long epochSecond, LocalDateTime dateTime) {}
+}
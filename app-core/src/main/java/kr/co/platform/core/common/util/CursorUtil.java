@@ -0,0 +1,70 @@
+package kr.co.platform.core.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import kr.co.platform.core.common.exception.BusinessException;
+import kr.co.platform.core.common.exception.ErrorCode;
+
+/**
+ * 커서(연속 토큰) 인코딩 유틸리티 클래스 여러 값을 URL-safe Base64 문자열 하나로 인코딩한다
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+public class CursorUtil {
+
+    private static final char SEPARATOR = '.';
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private CursorUtil() {
+        // 유틸리티 클래스는 인스턴스화 방지
+    }
+
+    /**
+     * 값 목록을 커서 문자열로 인코딩
+     *
+     * @param values 인코딩할 값 목록 (null은 빈 문자열로 처리)
+     * @return 커서 문자열
+     */
+    public static String encode(String... values) {
+        StringBuilder cursor = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                cursor.append(SEPARATOR);
+            }
+            cursor.append(
+                    ENCODER.encodeToString(
+                            StringUtil.nullToEmpty(values[i]).getBytes(StandardCharsets.UTF_8)));
+        }
+        return cursor.toString();
+    }
+
+    /**
+     * 커서 문자열을 값 목록으로 디코딩
+     *
+     * @param cursor 커서 문자열
+     * @param expectedSize 기대하는 값 개수
+     * @return 값 목록
+     * @throws BusinessException 형식이 올바르지 않은 경우
+     */
+    public static String[] decode(String cursor, int expectedSize) {
+        if (StringUtil.isEmpty(cursor)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        String[] parts = cursor.split("\\" + SEPARATOR, -1);
+        if (parts.length != expectedSize) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        try {
+            for (int i = 0; i < parts.length; i++) {
+                parts[i] = new String(DECODER.decode(parts[i]), StandardCharsets.UTF_8);
+            }
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, e);
+        }
+        return parts;
+    }
+}
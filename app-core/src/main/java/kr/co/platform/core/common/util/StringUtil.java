@@ -3,6 +3,9 @@ package kr.co.platform.core.common.util;
 import java.util.UUID;
 import java.util.regex.Pattern;
 
+import kr.co.platform.core.common.masking.Masking;
+import kr.co.platform.core.common.masking.MaskingStrategy;
+
 /**
  * 문자열 관련 유틸리티 클래스
  *
@@ -98,18 +101,31 @@ public class StringUtil {
             return phoneNumber;
         }
 
-        String digits = phoneNumber.replaceAll("-", "");
-        if (digits.length() == 10) {
-            return String.format(
-                    "%s-%s-%s",
-                    digits.substring(0, 3), digits.substring(3, 6), digits.substring(6));
-        } else if (digits.length() == 11) {
-            return String.format(
-                    "%s-%s-%s",
-                    digits.substring(0, 3), digits.substring(3, 7), digits.substring(7));
+        int digitCount = 0;
+        for (int i = 0; i < phoneNumber.length(); i++) {
+            if (phoneNumber.charAt(i) != '-') {
+                digitCount++;
+            }
+        }
+        if (phoneNumber.length() == digitCount + 2) {
+            return phoneNumber;
         }
 
-        return phoneNumber;
+        // 3자리-가운데-4자리 (가운데는 10자리면 3자리, 11자리면 4자리)
+        StringBuilder formatted = new StringBuilder(digitCount + 2);
+        int written = 0;
+        for (int i = 0; i < phoneNumber.length(); i++) {
+            char c = phoneNumber.charAt(i);
+            if (c == '-') {
+                continue;
+            }
+            if (written == 3 || written == digitCount - 4) {
+                formatted.append('-');
+            }
+            formatted.append(c);
+            written++;
+        }
+        return formatted.toString();
     }
 
     /**
@@ -136,24 +152,10 @@ public class StringUtil {
      * @param str 마스킹할 문자열
      * @param visibleStart 앞에서 보여줄 글자 수
      * @param visibleEnd 뒤에서 보여줄 글자 수
-     * @return 마스킹된 문자열
+     * @return 마스킹된 문자열 (표시 글자 수의 합 이하 길이면 전체를 가림)
      */
     public static String mask(String str, int visibleStart, int visibleEnd) {
-        if (isEmpty(str) || str.length() <= visibleStart + visibleEnd) {
-            return str;
-        }
-
-        StringBuilder masked = new StringBuilder();
-        masked.append(str.substring(0, visibleStart));
-
-        int maskLength = str.length() - visibleStart - visibleEnd;
-        masked.append("*".repeat(maskLength));
-
-        if (visibleEnd > 0) {
-            masked.append(str.substring(str.length() - visibleEnd));
-        }
-
-        return masked.toString();
+        return Masking.mask(str, MaskingStrategy.CUSTOM, visibleStart, visibleEnd);
     }
 
     /**
@@ -0,0 +1,153 @@
+package kr.co.platform.core.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.co.platform.core.common.datasource.DataSourceRoutingProperties;
+import kr.co.platform.core.common.datasource.ReadWriteRoutingDataSource;
+import kr.co.platform.core.common.datasource.ReadYourWritesFilter;
+import kr.co.platform.core.common.datasource.ReadYourWritesTracker;
+import kr.co.platform.core.common.datasource.ReplicaLagMonitor;
+import kr.co.platform.core.common.util.StringUtil;
+
+/**
+ * 읽기/쓰기 분리 DataSource 설정 (datasource.routing.enabled=true일 때만 등록)
+ *
+ * <p>@Transactional(readOnly = true) 트랜잭션은 복제본에서, 그 밖의 요청은 spring.datasource(쓰기 DataSource)에서 처리한다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    /**
+     * 쓰기 DataSource (spring.datasource.*, spring.datasource.hikari.*)
+     *
+     * @param dataSourceProperties spring.datasource 설정
+     * @return 쓰기 커넥션 풀
+     */
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource =
+                dataSourceProperties
+                        .initializeDataSourceBuilder()
+                        .type(HikariDataSource.class)
+                        .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    /**
+     * 최근 쓰기 사용자 추적기
+     *
+     * @param properties 라우팅 설정
+     * @return 추적기
+     */
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(DataSourceRoutingProperties properties) {
+        return new ReadYourWritesTracker(properties.getReadYourWritesWindow());
+    }
+
+    /**
+     * 읽기/쓰기 라우팅 DataSource (복제본 커넥션 풀 포함)
+     *
+     * @param primaryDataSource 쓰기 DataSource
+     * @param dataSourceProperties spring.datasource 설정 (복제본 계정 기본값)
+     * @param properties 라우팅 설정
+     * @param readYourWritesTracker 최근 쓰기 사용자 추적기
+     * @param meterRegistry 메트릭 레지스트리
+     * @return 라우팅 DataSource
+     */
+    @Bean
+    public ReadWriteRoutingDataSource routingDataSource(
+            HikariDataSource primaryDataSource,
+            DataSourceProperties dataSourceProperties,
+            DataSourceRoutingProperties properties,
+            ReadYourWritesTracker readYourWritesTracker,
+            MeterRegistry meterRegistry) {
+        List<ReadWriteRoutingDataSource.Replica> replicas = new ArrayList<>();
+        for (DataSourceRoutingProperties.Replica replica : properties.getReplicas()) {
+            replicas.add(
+                    new ReadWriteRoutingDataSource.Replica(
+                            replica.getName(), replicaPool(replica, dataSourceProperties)));
+        }
+        return new ReadWriteRoutingDataSource(
+                primaryDataSource, replicas, readYourWritesTracker, meterRegistry);
+    }
+
+    /**
+     * 애플리케이션 DataSource (트랜잭션의 읽기 전용 여부가 정해진 뒤 첫 쿼리에서 라우팅)
+     *
+     * @param routingDataSource 라우팅 DataSource
+     * @return 지연 커넥션 DataSource
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /**
+     * 복제본 지연 확인 작업
+     *
+     * @param routingDataSource 라우팅 DataSource
+     * @param properties 라우팅 설정
+     * @param meterRegistry 메트릭 레지스트리
+     * @return 지연 확인 작업
+     */
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            ReadWriteRoutingDataSource routingDataSource,
+            DataSourceRoutingProperties properties,
+            MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(routingDataSource, properties, meterRegistry);
+    }
+
+    /**
+     * 요청 사용자 바인딩 필터
+     *
+     * @param readYourWritesTracker 최근 쓰기 사용자 추적기
+     * @return 필터
+     */
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(ReadYourWritesTracker readYourWritesTracker) {
+        return new ReadYourWritesFilter(readYourWritesTracker);
+    }
+
+    private static HikariDataSource replicaPool(
+            DataSourceRoutingProperties.Replica replica, DataSourceProperties primary) {
+        HikariConfig config = new HikariConfig();
+        replica.getHikari().copyStateTo(config);
+        config.setPoolName("replica-" + replica.getName());
+        config.setJdbcUrl(replica.getUrl());
+        config.setUsername(
+                StringUtil.isEmpty(replica.getUsername())
+                        ? primary.determineUsername()
+                        : replica.getUsername());
+        config.setPassword(
+                StringUtil.isEmpty(replica.getPassword())
+                        ? primary.determinePassword()
+                        : replica.getPassword());
+        if (config.getDriverClassName() == null) {
+            config.setDriverClassName(primary.determineDriverClassName());
+        }
+        config.setReadOnly(true);
+        return new HikariDataSource(config);
+    }
+}
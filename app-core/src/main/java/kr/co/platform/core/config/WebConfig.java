@@ -1,9 +1,18 @@
 package kr.co.platform.core.config;
 
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+import kr.co.platform.core.common.converter.CommonResponseHttpMessageConverter;
+import kr.co.platform.core.common.converter.EpochDateTimeModule;
+
 /**
  * Web MVC 설정
  *
@@ -27,4 +36,34 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowCredentials(true)
                 .maxAge(3600);
     }
+
+    /**
+     * CommonResponse 전용 JSON 컨버터 (기본 Jackson 컨버터보다 앞에 등록됨)
+     *
+     * @param objectMapper 애플리케이션 ObjectMapper
+     * @return 메시지 컨버터
+     */
+    @Bean
+    public CommonResponseHttpMessageConverter commonResponseHttpMessageConverter(
+            ObjectMapper objectMapper) {
+        return new CommonResponseHttpMessageConverter(objectMapper);
+    }
+
+    /**
+     * CBOR 컨버터 (Accept/Content-Type: application/cbor)
+     *
+     * <p>spring.jackson.* 설정을 그대로 따르되 날짜는 epoch 값으로 주고받는다. JSON이 기본 형식이며 CBOR는 요청한 경우에만 사용된다.
+     *
+     * @param builder 애플리케이션 ObjectMapper 빌더
+     * @return 메시지 컨버터 (기본 CBOR 컨버터를 대체)
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(
+            Jackson2ObjectMapperBuilder builder) {
+        ObjectMapper cborMapper =
+                builder.factory(new CBORFactory())
+                        .modulesToInstall(modules -> modules.add(new EpochDateTimeModule()))
+                        .build();
+        return new MappingJackson2CborHttpMessageConverter(cborMapper);
+    }
 }
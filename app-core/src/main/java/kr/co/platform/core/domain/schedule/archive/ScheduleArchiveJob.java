@@ -0,0 +1,204 @@
+package kr.co.platform.core.domain.schedule.archive;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.co.platform.core.domain.schedule.config.ScheduleProperties;
+import kr.co.platform.core.domain.schedule.mapper.ScheduleMapper;
+import kr.co.platform.core.domain.schedule.model.entity.ScheduleEntity;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 삭제 일정 보관/정리 작업
+ *
+ * <p>삭제(soft delete) 후 보관 기간이 지난 일정을 삭제 일시/ID 순 작은 배치로 보관 테이블에 옮기고 원본에서 지운다. 배치마다 짧은 트랜잭션 하나(커넥션
+ * 하나)만 사용하고 배치 사이에 쉬므로 긴 잠금을 잡거나 커넥션 풀을 독점하지 않는다. 한 번 실행할 때의 최대 시간을 넘기면 남은 행은 다음 주기에 이어서 처리한다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Slf4j
+@Component
+public class ScheduleArchiveJob implements SmartLifecycle {
+
+    private final ScheduleProperties.Archive properties;
+    private final ScheduleMapper scheduleMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter archivedCounter;
+    private final Timer batchTimer;
+
+    private ScheduledExecutorService executor;
+    private ScheduledFuture<?> runTask;
+    private volatile double lastRate;
+    private volatile long backlog;
+    private volatile boolean running;
+
+    public ScheduleArchiveJob(
+            ScheduleProperties scheduleProperties,
+            ScheduleMapper scheduleMapper,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this.properties = scheduleProperties.getArchive();
+        this.scheduleMapper = scheduleMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.archivedCounter =
+                Counter.builder("schedule.archive.rows")
+                        .description("보관 테이블로 옮기거나 정리한 삭제 일정 수")
+                        .register(meterRegistry);
+        this.batchTimer =
+                Timer.builder("schedule.archive.batch")
+                        .description("보관 배치 한 건의 트랜잭션 시간")
+                        .register(meterRegistry);
+        Gauge.builder("schedule.archive.rate", this, job -> job.lastRate)
+                .description("마지막 실행의 초당 처리 행 수")
+                .register(meterRegistry);
+        Gauge.builder("schedule.archive.backlog", this, job -> job.backlog)
+                .description("보관 기간이 지났지만 아직 남아 있는 삭제 일정 수")
+                .register(meterRegistry);
+
+        if (properties
+                        .getRetention()
+                        .compareTo(scheduleProperties.getSync().getTombstoneRetention())
+                < 0) {
+            // 삭제 이력이 동기화 토큰 유효 기간보다 먼저 사라지면 클라이언트가 삭제를 놓친다
+            log.warn(
+                    "schedule.archive.retention({}) is shorter than"
+                            + " schedule.sync.tombstone-retention({})",
+                    properties.getRetention(),
+                    scheduleProperties.getSync().getTombstoneRetention());
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        executor =
+                new ScheduledThreadPoolExecutor(
+                        1,
+                        runnable -> {
+                            Thread thread = new Thread(runnable, "schedule-archive");
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+        running = true;
+        runTask =
+                executor.scheduleWithFixedDelay(
+                        this::runQuietly,
+                        properties.getInitialDelay().toMillis(),
+                        properties.getInterval().toMillis(),
+                        TimeUnit.MILLISECONDS);
+        log.info(
+                "Schedule archive job started: retention={}, batchSize={}, interval={}",
+                properties.getRetention(),
+                properties.getBatchSize(),
+                properties.getInterval());
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        runTask.cancel(false);
+        // 배치 사이 대기 중이면 깨워서 종료 (진행 중인 배치 트랜잭션은 끝까지 수행)
+        executor.shutdownNow();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 보관 기간이 지난 삭제 일정을 배치 단위로 처리 (최대 실행 시간까지)
+     *
+     * @return 처리한 행 수
+     */
+    public long runOnce() {
+        LocalDateTime deletedBefore = LocalDateTime.now().minus(properties.getRetention());
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + properties.getMaxRunTime().toNanos();
+        ScheduleEntity last = null;
+        long total = 0;
+        try {
+            while (System.nanoTime() < deadline) {
+                List<ScheduleEntity> candidates =
+                        scheduleMapper.selectArchiveCandidates(
+                                deletedBefore,
+                                last == null ? null : last.getDeletedAt(),
+                                last == null ? null : last.getId(),
+                                properties.getBatchSize());
+                if (candidates.isEmpty()) {
+                    break;
+                }
+                List<Long> ids = new ArrayList<>(candidates.size());
+                for (ScheduleEntity candidate : candidates) {
+                    ids.add(candidate.getId());
+                }
+                Integer moved =
+                        batchTimer.record(() -> transactionTemplate.execute(status -> move(ids)));
+                total += moved == null ? 0 : moved;
+                archivedCounter.increment(moved == null ? 0 : moved);
+                last = candidates.get(candidates.size() - 1);
+                if (ids.size() < properties.getBatchSize()) {
+                    break;
+                }
+                Thread.sleep(properties.getBatchDelay().toMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+            lastRate = seconds > 0 ? total / seconds : 0;
+        }
+        backlog = scheduleMapper.countArchiveCandidates(deletedBefore);
+        if (total > 0 || backlog > 0) {
+            log.info(
+                    "Schedule archive run finished: rows={}, rowsPerSec={}, backlog={}",
+                    total,
+                    Math.round(lastRate),
+                    backlog);
+        }
+        return total;
+    }
+
+    /** 보관 테이블로 복사 후 원본 삭제 (같은 트랜잭션, 복사 건수가 다르면 롤백) */
+    private int move(List<Long> ids) {
+        if (properties.isArchive()) {
+            int copied = scheduleMapper.insertScheduleArchives(ids, LocalDateTime.now());
+            int purged = scheduleMapper.purgeSchedules(ids);
+            if (copied != purged) {
+                throw new IllegalStateException(
+                        "Archived and purged row counts differ: " + copied + " != " + purged);
+            }
+            return purged;
+        }
+        return scheduleMapper.purgeSchedules(ids);
+    }
+
+    private void runQuietly() {
+        try {
+            runOnce();
+        } catch (RuntimeException e) {
+            // 처리된 배치는 이미 커밋되었으므로 다음 주기에 남은 행부터 다시 시작한다
+            log.error("Schedule archive run failed: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package kr.co.platform.core.domain.schedule.cache;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import kr.co.platform.core.domain.schedule.event.ScheduleChangedEvent;
+import kr.co.platform.core.domain.schedule.mapper.ScheduleVersionMapper;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleVersionDto;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자별 일정 버전 (조건부 GET의 ETag 생성용)
+ *
+ * <p>서비스 계층의 일정 변경이 커밋되면 소유자와 참석자의 버전을 올린다. 버전은 {@code schedule_version} 테이블에 두므로 모든 인스턴스가 같은 값을
+ * 읽고, 재기동해도 이어진다. 조회 시에는 DB 조회 전에 버전을 먼저 읽어 ETag를 만들어야 커밋 직전 데이터에 새 버전이 붙지 않는다.
+ *
+ * <p>인스턴스별 캐시(인터벌/키워드 인덱스, 오늘 일정 캐시)는 항목을 적재한 버전을 함께 보관하고, 이 인스턴스가 확인한 버전({@link
+ * #observedVersion(String)})보다 오래된 항목은 다시 적재한다. ETag를 만들 때 읽은 버전이 확인한 버전에 반영되므로, 다른 인스턴스의 변경으로 올라간
+ * ETag에 이 인스턴스의 이전 응답 본문이 실리지 않는다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Slf4j
+@Component
+public class ScheduleVersionRegistry {
+
+    /** 확인한 버전을 보관하는 최대 사용자 수 (밀려난 사용자는 다음 ETag 조회 때 다시 채워짐) */
+    private static final int MAXIMUM_OBSERVED_USERS = 100_000;
+
+    private final ScheduleVersionMapper scheduleVersionMapper;
+    private final TransactionTemplate newTransaction;
+
+    /** 이 인스턴스가 DB에서 읽거나 올린 사용자별 최신 버전 */
+    private final Cache<String, Long> observed =
+            Caffeine.newBuilder().maximumSize(MAXIMUM_OBSERVED_USERS).build();
+
+    public ScheduleVersionRegistry(
+            ScheduleVersionMapper scheduleVersionMapper,
+            PlatformTransactionManager transactionManager) {
+        this.scheduleVersionMapper = scheduleVersionMapper;
+        // 커밋 후 리스너에서는 끝난 트랜잭션의 자원이 아직 묶여 있으므로 새 트랜잭션으로 쓴다
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 사용자 일정 버전 조회
+     *
+     * @param userId 사용자 ID
+     * @return 현재 버전 (변경 이력이 없으면 0)
+     */
+    public long version(String userId) {
+        Long version = scheduleVersionMapper.selectVersion(userId);
+        return observe(userId, version == null ? 0 : version);
+    }
+
+    /**
+     * 여러 사용자 일정 버전 조회
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 사용자별 현재 버전 (변경 이력이 없으면 0)
+     */
+    public Map<String, Long> versions(Collection<String> userIds) {
+        Map<String, Long> versions = new HashMap<>();
+        if (userIds.isEmpty()) {
+            return versions;
+        }
+        for (String userId : userIds) {
+            versions.put(userId, 0L);
+        }
+        for (ScheduleVersionDto row : scheduleVersionMapper.selectVersions(userIds)) {
+            versions.put(row.getUserId(), row.getVersion());
+        }
+        versions.replaceAll(this::observe);
+        return versions;
+    }
+
+    /**
+     * 이 인스턴스가 확인한 사용자 일정 버전 (DB 조회 없음)
+     *
+     * <p>캐시 항목이 이 버전보다 이전에 적재되었으면 다른 인스턴스의 변경이 빠져 있을 수 있으므로 다시 적재해야 한다.
+     *
+     * @param userId 사용자 ID
+     * @return 확인한 최신 버전 (없으면 0)
+     */
+    public long observedVersion(String userId) {
+        Long version = observed.getIfPresent(userId);
+        return version == null ? 0 : version;
+    }
+
+    /**
+     * 사용자 일정 버전 증가 (새 트랜잭션으로 바로 커밋)
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 사용자별 증가 후 버전
+     */
+    public Map<String, Long> bump(Set<String> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        SortedSet<String> sorted = new TreeSet<>(userIds);
+        Map<String, Long> versions =
+                newTransaction.execute(
+                        status -> {
+                            increase(scheduleVersionMapper, sorted);
+                            // 잠근 행을 같은 트랜잭션에서 읽으므로 이 증가로 만들어진 버전이다
+                            return versionsOf(sorted);
+                        });
+        versions.replaceAll(this::observe);
+        return versions;
+    }
+
+    /**
+     * 현재 쓰기 트랜잭션 안에서 사용자 일정 버전 증가 (데이터와 함께 커밋되거나 롤백됨)
+     *
+     * <p>커밋 전이므로 확인한 버전에는 반영하지 않는다. 캐시 항목은 다음 ETag 조회에서 올라간 버전을 확인하면 다시 적재된다.
+     *
+     * @param userIds 사용자 ID 목록
+     */
+    public void bumpInTransaction(Set<String> userIds) {
+        bumpInTransaction(userIds, scheduleVersionMapper);
+    }
+
+    /**
+     * 현재 쓰기 트랜잭션 안에서 지정한 Mapper로 사용자 일정 버전 증가
+     *
+     * <p>MyBatis는 한 트랜잭션에서 실행기 유형을 바꿀 수 없으므로 배치 실행기로 저장하는 트랜잭션은 같은 배치 실행기의 Mapper를 넘긴다 (배치를 실행할 때
+     * 함께 실행됨).
+     *
+     * @param userIds 사용자 ID 목록
+     * @param mapper 현재 트랜잭션과 같은 실행기 유형의 Mapper
+     */
+    public void bumpInTransaction(Set<String> userIds, ScheduleVersionMapper mapper) {
+        if (!userIds.isEmpty()) {
+            increase(mapper, new TreeSet<>(userIds));
+        }
+    }
+
+    /** 동시에 겹치는 사용자를 올리는 트랜잭션끼리 교착되지 않도록 정렬된 순서로 잠근다 */
+    private static void increase(ScheduleVersionMapper mapper, SortedSet<String> sorted) {
+        mapper.increaseVersions(sorted);
+    }
+
+    private Map<String, Long> versionsOf(Collection<String> userIds) {
+        Map<String, Long> versions = new HashMap<>();
+        for (ScheduleVersionDto row : scheduleVersionMapper.selectVersions(userIds)) {
+            versions.put(row.getUserId(), row.getVersion());
+        }
+        return versions;
+    }
+
+    /** 확인한 버전을 올리고(내리지 않음) 읽은 값을 그대로 반환 */
+    private long observe(String userId, long version) {
+        observed.asMap().merge(userId, version, Math::max);
+        return version;
+    }
+
+    /**
+     * 강한 ETag 생성 ("버전-요청키해시")
+     *
+     * <p>같은 소유자 데이터라도 요청자(편집 가능 여부)와 요청 URI/쿼리, 날짜 등 응답을 바꾸는 값은 variant에 모두 넣어야 한다.
+     *
+     * @param ownerId 조회 대상 일정 소유자 ID
+     * @param variant 응답을 구분하는 값 (요청자, URI, 쿼리 등)
+     * @return 따옴표를 포함한 ETag 값
+     */
+    public String eTag(String ownerId, String variant) {
+        return "\""
+                + Long.toString(version(ownerId), 36)
+                + '-'
+                + Integer.toHexString(variant.hashCode())
+                + "\"";
+    }
+
+    /**
+     * 일정 변경 시 소유자(이전 소유자 포함)와 참석자의 버전 증가
+     *
+     * <p>인덱스와 캐시가 이 변경을 반영하면서 항목 버전을 함께 올릴 수 있도록 커밋 후 가장 먼저 실행하고, 올린 버전을 이벤트에 담는다. 증가 후 인덱스 갱신 전에
+     * 들어온 조회는 항목 버전이 확인한 버전보다 낮으므로 DB에서 다시 적재한다. 쓰기 트랜잭션에서 이미 올린 변경(가져오기)은 건너뛴다. 증가에 실패하면 다음 변경까지
+     * 이전 ETag로 304가 나갈 수 있으므로 오류로 기록한다.
+     *
+     * @param event 일정 변경 이벤트
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        if (event.isVersionBumped()) {
+            return;
+        }
+        Set<String> userIds = event.getVersionedUserIds();
+        try {
+            event.setVersions(bump(userIds));
+        } catch (RuntimeException e) {
+            log.error(
+                    "Schedule version bump failed: scheduleId={}, users={}, reason={}",
+                    event.getSchedule().getId(),
+                    userIds,
+                    e.getMessage(),
+                    e);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package kr.co.platform.core.domain.schedule.cache;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import kr.co.platform.core.domain.schedule.config.ScheduleProperties;
+import kr.co.platform.core.domain.schedule.event.ScheduleChangedEvent;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleResponseDto;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 오늘 일정 캐시 (사용자 ID + 기준 시간대의 날짜 단위)
+ *
+ * <p>항목은 TTL과 다음 자정 중 먼저 오는 시각에 만료되므로 날짜가 바뀌면 전날 목록이 남지 않는다. 서비스 계층의 일정 변경 이벤트가 오면 소유자와 참석자의 항목만
+ * 무효화한다. 다른 인스턴스의 변경은 이벤트가 오지 않으므로 항목에 적재 당시 확인한 일정 버전을 함께 두고, 이 인스턴스가 확인한 버전({@link
+ * ScheduleVersionRegistry#observedVersion(String)})이 더 높으면 다시 적재한다. 적중/미적중/제거 통계는 {@code
+ * cache.*{cache=schedule.today}} 지표로 노출된다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Slf4j
+@Component
+public class TodayScheduleCache {
+
+    private static final String CACHE_NAME = "schedule.today";
+
+    private final ScheduleVersionRegistry scheduleVersionRegistry;
+    private final ScheduleProperties.TodayCache properties;
+    private final ZoneId zoneId;
+    private final AsyncCache<Key, Entry> cache;
+
+    public TodayScheduleCache(
+            ScheduleVersionRegistry scheduleVersionRegistry,
+            ScheduleProperties scheduleProperties,
+            MeterRegistry meterRegistry) {
+        this.scheduleVersionRegistry = scheduleVersionRegistry;
+        this.properties = scheduleProperties.getTodayCache();
+        this.zoneId = ZoneId.of(properties.getZoneId());
+        this.cache =
+                Caffeine.newBuilder()
+                        .maximumSize(properties.getMaximumSize())
+                        .expireAfter(new UntilMidnight())
+                        .recordStats()
+                        .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 기준 시간대의 오늘 날짜
+     *
+     * @return 오늘 날짜
+     */
+    public LocalDate today() {
+        return LocalDate.now(zoneId);
+    }
+
+    /**
+     * 오늘 일정 조회 (없거나 확인한 버전보다 먼저 적재된 항목이면 loader로 만들어 저장)
+     *
+     * <p>loader는 호출 전에 확인한 버전까지의 변경을 모두 담아야 한다 (버전을 확인하는 인터벌 인덱스 또는 DB에서 읽음).
+     *
+     * @param userId 사용자 ID
+     * @param date 기준 날짜 ({@link #today()})
+     * @param loader 일정 목록 생성기
+     * @return 오늘 일정 목록 (수정 불가)
+     */
+    public List<ScheduleResponseDto> get(
+            String userId, LocalDate date, Supplier<List<ScheduleResponseDto>> loader) {
+        if (!properties.isEnabled()) {
+            return loader.get();
+        }
+        Key key = new Key(userId, date);
+        long version = scheduleVersionRegistry.observedVersion(userId);
+        while (true) {
+            // 로더를 캐시 내부 잠금(synchronized) 밖에서 실행해 DB 조회 동안 가상 스레드가 캐리어 스레드에 고정되지 않게 한다.
+            // 같은 키의 동시 조회는 먼저 온 요청의 결과를 기다리고, 적재 중 무효화되면 결과는 캐시에 남지 않는다.
+            CompletableFuture<Entry> loading = new CompletableFuture<>();
+            CompletableFuture<Entry> future = cache.get(key, (k, executor) -> loading);
+            if (future == loading) {
+                try {
+                    loading.complete(new Entry(version, List.copyOf(loader.get())));
+                } catch (RuntimeException | Error e) {
+                    loading.completeExceptionally(e);
+                    throw e;
+                }
+            }
+            Entry entry = join(future);
+            if (entry.version() >= version) {
+                return entry.schedules();
+            }
+            // 다른 인스턴스의 변경을 확인하기 전에 적재된 항목은 버리고 다시 적재한다
+            cache.asMap().remove(key, future);
+        }
+    }
+
+    private static Entry join(CompletableFuture<Entry> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 사용자 항목 무효화 (자정 직후 남은 전날 항목 포함)
+     *
+     * @param userId 사용자 ID
+     */
+    public void invalidate(String userId) {
+        LocalDate today = today();
+        cache.synchronous().invalidate(new Key(userId, today));
+        cache.synchronous().invalidate(new Key(userId, today.minusDays(1)));
+    }
+
+    /**
+     * 일정 변경 시 소유자와 참석자의 항목 무효화
+     *
+     * <p>인터벌 인덱스가 먼저 갱신된 뒤 무효화해야 무효화 직후의 조회가 갱신 전 인덱스로 다시 캐시를 채우지 않으므로 버전 증가({@link
+     * ScheduleVersionRegistry})와 인덱스 갱신 이후에 실행한다.
+     *
+     * @param event 일정 변경 이벤트
+     */
+    @Order(Ordered.LOWEST_PRECEDENCE - 1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        for (String userId : event.getAffectedUserIds()) {
+            invalidate(userId);
+        }
+        log.debug(
+                "Today schedule cache invalidated: scheduleId={}, users={}",
+                event.getSchedule().getId(),
+                event.getAffectedUserIds().size());
+    }
+
+    /** 캐시 키 */
+    private record Key(String userId, LocalDate date) {}
+
+    /** 캐시 항목 (적재 전에 확인한 일정 버전과 일정 목록) */
+    private record Entry(long version, List<ScheduleResponseDto> schedules) {}
+
+    /** TTL과 해당 날짜의 다음 자정 중 먼저 오는 시각에 만료 */
+    private final class UntilMidnight implements Expiry<Key, Entry> {
+
+        @Override
+        public long expireAfterCreate(Key key, Entry value, long currentTime) {
+            ZonedDateTime now = ZonedDateTime.now(zoneId);
+            long untilMidnight =
+                    Duration.between(now, key.date().plusDays(1).atStartOfDay(zoneId)).toNanos();
+            return Math.max(0, Math.min(properties.getTtl().toNanos(), untilMidnight));
+        }
+
+        @Override
+        public long expireAfterUpdate(
+                Key key, Entry value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Key key, Entry value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package kr.co.platform.core.domain.schedule.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import kr.co.platform.core.common.concurrent.ContextCopyingTaskDecorator;
+import kr.co.platform.core.common.datasource.ReadYourWritesTracker;
+
+/**
+ * 일정 대시보드 설정
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Configuration
+public class ScheduleDashboardConfig {
+
+    /**
+     * 대시보드 하위 조회 실행기 (스레드 수와 대기열 크기 제한, 가득 차면 해당 조회는 생략)
+     *
+     * @param scheduleProperties 일정 도메인 설정
+     * @param readYourWritesTracker 최근 쓰기 사용자 추적기 (읽기/쓰기 분리 사용 시)
+     * @return 대시보드 실행기
+     */
+    @Bean
+    public ThreadPoolTaskExecutor scheduleDashboardExecutor(
+            ScheduleProperties scheduleProperties,
+            ObjectProvider<ReadYourWritesTracker> readYourWritesTracker) {
+        ScheduleProperties.Dashboard properties = scheduleProperties.getDashboard();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("schedule-dashboard-");
+        executor.setCorePoolSize(properties.getThreads());
+        executor.setMaxPoolSize(properties.getThreads());
+        executor.setQueueCapacity(properties.getQueueCapacity());
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setTaskDecorator(
+                new ContextCopyingTaskDecorator(readYourWritesTracker.getIfAvailable()));
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+}
@@ -0,0 +1,420 @@
+package kr.co.platform.core.domain.schedule.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleRequestDto;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 일정 도메인 설정 (schedule.*)
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "schedule")
+public class ScheduleProperties {
+
+    /** 일괄 등록 설정 */
+    private BulkImport bulkImport = new BulkImport();
+
+    /** 인터벌 인덱스 설정 */
+    private IntervalIndex intervalIndex = new IntervalIndex();
+
+    /** 단건 등록 그룹 커밋 설정 */
+    private GroupCommit groupCommit = new GroupCommit();
+
+    /** 일정 충돌 확인 설정 */
+    private Conflict conflict = new Conflict();
+
+    /** free/busy 조회 설정 */
+    private FreeBusy freeBusy = new FreeBusy();
+
+    /** 일정 알림 설정 */
+    private Reminder reminder = new Reminder();
+
+    /** 오늘 일정 캐시 설정 */
+    private TodayCache todayCache = new TodayCache();
+
+    /** 키워드 색인 설정 */
+    private KeywordIndex keywordIndex = new KeywordIndex();
+
+    /** 일정 내보내기 설정 */
+    private Export export = new Export();
+
+    /** 변경분 동기화 설정 */
+    private Sync sync = new Sync();
+
+    /** 삭제 일정 보관 설정 */
+    private Archive archive = new Archive();
+
+    /** 월 파티션 유지 설정 */
+    private Partition partition = new Partition();
+
+    /** 대시보드 설정 */
+    private Dashboard dashboard = new Dashboard();
+
+    /**
+     * 인터벌 인덱스 설정 (schedule.interval-index.*)
+     *
+     * @author 박성우
+     * @date 2026.10.18
+     */
+    @Getter
+    @Setter
+    public static class IntervalIndex {
+
+        /** 최대 항목 수 (사용자 수 기준) */
+        private long maximumSize = 10_000;
+
+        /** 조회가 없으면 제거하는 시간 */
+        private Duration expireAfterAccess = Duration.ofMinutes(30);
+
+        /** 적재 후 다시 적재하는 시간 (다른 인스턴스나 직접 SQL로 바뀐 내용이 반영되는 최대 지연) */
+        private Duration ttl = Duration.ofMinutes(10);
+
+        /** 적재 구간: 오늘 이전 기간 (구간 밖 조회는 DB에서 직접 조회) */
+        private Duration windowPast = Duration.ofDays(93);
+
+        /** 적재 구간: 오늘 이후 기간 */
+        private Duration windowFuture = Duration.ofDays(366);
+
+        /** 적재 구간 기준 시간대 */
+        private String zoneId = "Asia/Seoul";
+    }
+
+    /**
+     * 일괄 등록 설정 (schedule.bulk-import.*)
+     *
+     * @author 박성우
+     * @date 2026.10.18
+     */
+    @Getter
+    @Setter
+    public static class BulkImport {
+
+        /** 청크당 행 수 (청크 단위로 커밋) */
+        private int chunkSize = 500;
+
+        /** 요청당 최대 행 수 */
+        private int maxRows = 100_000;
+
+        /** 저장 방식 */
+        private BulkInsertMode mode = BulkInsertMode.BATCH;
+    }
+
+    /**
+     * 단건 등록 그룹 커밋 설정 (schedule.group-commit.*)
+     *
+     * @author 박성우
+     * @date 2026.10.18
+     */
+    @Getter
+    @Setter
+    public static class GroupCommit {
+
+        /** 사용 여부 (false면 요청마다 바로 INSERT) */
+        private boolean enabled = false;
+
+        /** 첫 요청 이후 묶음을 기다리는 최대 시간 (추가 지연 상한) */
+        private Duration maxDelay = Duration.ofMillis(5);
+
+        /** 한 번에 저장할 최대 행 수 */
+        private int maxBatchSize = 64;
+
+        /** 묶음 저장 스레드 수 (동시에 사용하는 커넥션 수) */
+        private int flusherThreads = 2;
+
+        /** 대기열 최대 크기 (초과 시 즉시 거절) */
+        private int queueCapacity = 10_000;
+
+        /** 호출자가 저장 시작을 기다리는 최대 시간 (지나면 대기열에서 빼고 실패, 이미 저장 중이면 끝까지 대기) */
+        private Duration timeout = Duration.ofSeconds(10);
+    }
+
+    /**
+     * 일정 충돌 확인 설정 (schedule.conflict.*)
+     *
+     * @author 박성우
+     * @date 2026.10.18
+     */
+    @Getter
+    @Setter
+    public static class Conflict {
+
+        /** 생성/수정 시 소유자 또는 참석자 일정과 겹치면 SCHEDULE_CONFLICT로 거절 */
+        private boolean rejectOnSave = false;
+    }
+
+    /**
+     * free/busy 조회 설정 (schedule.free-busy.*)
+     *
+     * @author 박성우
+     * @date 2026.10.18
+     */
+    @Getter
+    @Setter
+    public static class FreeBusy {
+
+        /** 요청에 슬롯 크기가 없을 때 사용하는 기본 슬롯 크기(분) */
+        private int defaultSlotMinutes = 15;
+
+        /** 요청당 최대 슬롯 수 (기간 / 슬롯 크기) */
+        private int maxSlots = 8_928;
+
+        /** 요청당 최대 사용자 수 */
+        private int maxUsers = 1_000;
+
+        /** 요청에 개수가 없을 때 추천하는 공통 빈 시간대 수 */
+        private int defaultSuggestions = 5;
+    }
+
+    /**
+     * 일정 알림 설정 (schedule.reminder.*)
+     *
+     * @author 박성우
+     * @date 2026.10.18
+     */
+    @Getter
+    @Setter
+    public static class Reminder {
+
+        /** 사용 여부 */
+        private boolean enabled = false;
+
+        /** 타이밍 휠 tick 길이 (알림 정밀도) */
+        private Duration tick = Duration.ofSeconds(1);
+
+        /** 레벨당 버킷 수 */
+        private int wheelSize = 64;
+
+        /** 휠 레벨 수 (tick 1초, 버킷 64개 기준 4레벨이면 약 194일) */
+        private int wheelLevels = 4;
+
+        /** 한 번에 휠에 적재하는 알림 예정 구간 길이 */
+        private Duration loadWindow = Duration.ofMinutes(10);
+
+        /** 다음 구간 적재 주기 (loadWindow보다 짧아야 빈틈이 없다) */
+        private Duration loadInterval = Duration.ofMinutes(1);
+
+        /** 적재 조회 한 번에 읽는 최대 행 수 */
+        private int batchSize = 1_000;
+
+        /** 알림 시간 최대값(분), 적재 조회의 시작 일시 범위 상한 (요청 검증 상한보다 작으면 알림이 누락됨) */
+        private int maxReminderMinutes = ScheduleRequestDto.MAX_REMINDER_MINUTES;
+
+        /** 반복 일정 목록 전체 재조회 주기 (그 사이에는 변경 이벤트로 갱신) */
+        private Duration recurringRefreshInterval = Duration.ofHours(1);
+
+        /** 알림 발송 스레드 수 */
+        private int dispatchThreads = 2;
+
+        /** 일정 일시 기준 시간대 */
+        private String zoneId = "Asia/Seoul";
+    }
+
+    /**
+     * 오늘 일정 캐시 설정 (schedule.today-cache.*)
+     *
+     * @author 박성우
+     * @date 2026.10.18
+     */
+    @Getter
+    @Setter
+    public static class TodayCache {
+
+        /** 사용 여부 */
+        private boolean enabled = true;
+
+        /** 최대 항목 수 (사용자 수 기준) */
+        private long maximumSize = 100_000;
+
+        /** 항목 유지 시간 (자정이 먼저 오면 자정에 만료) */
+        private Duration ttl = Duration.ofMinutes(10);
+
+        /** 오늘 날짜 기준 시간대 */
+        private String zoneId = "Asia/Seoul";
+    }
+
+    /**
+     * 키워드 색인 설정 (schedule.keyword-index.*)
+     *
+     * @author 박성우
+     * @date 2026.10.18
+     */
+    @Getter
+    @Setter
+    public static class KeywordIndex {
+
+        /** 사용 여부 (false면 SQL LIKE 검색) */
+        private boolean enabled = true;
+
+        /** SQL IN 절로 넘길 최대 후보 수 (초과하면 LIKE 검색으로 대체) */
+        private int maxCandidates = 1000;
+
+        /** 최대 항목 수 (사용자 수 기준) */
+        private long maximumSize = 5_000;
+
+        /** 검색이 없으면 제거하는 시간 */
+        private Duration expireAfterAccess = Duration.ofMinutes(30);
+
+        /** 적재 후 다시 적재하는 시간 (다른 인스턴스나 직접 SQL로 바뀐 내용이 반영되는 최대 지연) */
+        private Duration ttl = Duration.ofMinutes(10);
+    }
+
+    /**
+     * 일정 내보내기 설정 (schedule.export.*)
+     *
+     * @author 박성우
+     * @date 2026.10.18
+     */
+    @Getter
+    @Setter
+    public static class Export {
+
+        /** 저장된 일시의 시간대 (iCalendar는 UTC로 변환해 출력) */
+        private String zoneId = "Asia/Seoul";
+
+        /** iCalendar UID 도메인 */
+        private String uidDomain = "groupware.local";
+
+        /** 동시 내보내기 수 (내보내기마다 출력이 끝날 때까지 커넥션 하나를 점유) */
+        private int maxConcurrent = 2;
+
+        /** 동시 내보내기 수를 넘었을 때 기다리는 시간 (지나면 503 응답) */
+        private Duration acquireTimeout = Duration.ofSeconds(1);
+    }
+
+    /**
+     * 변경분 동기화 설정 (schedule.sync.*)
+     *
+     * @author 박성우
+     * @date 2026.10.18
+     */
+    @Getter
+    @Setter
+    public static class Sync {
+
+        /** 기본 변경 수 */
+        private int defaultPageSize = 100;
+
+        /** 최대 변경 수 */
+        private int maxPageSize = 500;
+
+        /** 커밋 지연 여유 (이보다 최근 변경은 다음 조회에서 전달) */
+        private Duration commitLag = Duration.ofSeconds(5);
+
+        /** 삭제 이력 보관 기간 (이보다 오래된 토큰은 재동기화 필요) */
+        private Duration tombstoneRetention = Duration.ofDays(30);
+    }
+
+    /**
+     * 삭제 일정 보관 설정 (schedule.archive.*)
+     *
+     * @author 박성우
+     * @date 2026.10.18
+     */
+    @Getter
+    @Setter
+    public static class Archive {
+
+        /** 사용 여부 */
+        private boolean enabled = false;
+
+        /** 보관 테이블로 옮길지 여부 (false면 원본에서 삭제만 함) */
+        private boolean archive = true;
+
+        /** 삭제 후 원본에 남겨 두는 기간 (변경분 동기화의 삭제 이력 보관 기간 이상) */
+        private Duration retention = Duration.ofDays(30);
+
+        /** 배치당 행 수 (트랜잭션당 잠그는 행 수) */
+        private int batchSize = 500;
+
+        /** 배치 사이 대기 시간 (DB 부하 조절) */
+        private Duration batchDelay = Duration.ofMillis(200);
+
+        /** 한 번 실행의 최대 시간 (남은 행은 다음 주기에 처리) */
+        private Duration maxRunTime = Duration.ofMinutes(10);
+
+        /** 기동 후 첫 실행까지 대기 시간 */
+        private Duration initialDelay = Duration.ofMinutes(5);
+
+        /** 실행 주기 (이전 실행 종료 기준) */
+        private Duration interval = Duration.ofHours(1);
+    }
+
+    /**
+     * 월 파티션 유지 설정 (schedule.partition.*)
+     *
+     * @author 박성우
+     * @date 2026.10.18
+     */
+    @Getter
+    @Setter
+    public static class Partition {
+
+        /** 사용 여부 (일정 테이블이 월 파티션 테이블인 경우) */
+        private boolean enabled = false;
+
+        /** 현재 월 이후로 미리 만들어 둘 월 파티션 수 */
+        private int monthsAhead = 6;
+
+        /** 기동 후 첫 확인까지 대기 시간 */
+        private Duration initialDelay = Duration.ofSeconds(30);
+
+        /** 확인 주기 */
+        private Duration interval = Duration.ofDays(1);
+
+        /** 현재 월 기준 시간대 (start_date에 저장되는 일시의 시간대) */
+        private String zoneId = "Asia/Seoul";
+    }
+
+    /**
+     * 대시보드 설정 (schedule.dashboard.*)
+     *
+     * @author 박성우
+     * @date 2026.10.18
+     */
+    @Getter
+    @Setter
+    public static class Dashboard {
+
+        /** 항목별 기본 제한 시간 (모든 항목이 동시에 시작) */
+        private Duration timeout = Duration.ofMillis(800);
+
+        /** 항목별 제한 시간 (항목 이름: today, upcoming, reminders, typeCounts) */
+        private Map<String, Duration> partTimeouts = new HashMap<>();
+
+        /** 항목 조회 스레드 수 */
+        private int threads = 16;
+
+        /** 항목 조회 대기열 크기 (가득 차면 해당 항목 생략) */
+        private int queueCapacity = 256;
+
+        /** 다가오는 일정 조회 일수 (내일부터) */
+        private int upcomingDays = 7;
+
+        /** 다가오는 일정 최대 개수 */
+        private int upcomingLimit = 10;
+
+        /** 다가오는 알림 조회 기간 */
+        private Duration reminderWindow = Duration.ofHours(24);
+
+        /** 현재 일시 기준 시간대 (알림 발송과 같은 시간대) */
+        private String zoneId = "Asia/Seoul";
+    }
+
+    /** 일괄 저장 방식 */
+    public enum BulkInsertMode {
+        /** JDBC 배치 (ExecutorType.BATCH) */
+        BATCH,
+        /** 다중 행 INSERT 문 */
+        MULTI_ROW
+    }
+}
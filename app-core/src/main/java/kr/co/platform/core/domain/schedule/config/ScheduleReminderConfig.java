@@ -0,0 +1,32 @@
+package kr.co.platform.core.domain.schedule.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import kr.co.platform.core.domain.schedule.reminder.LocalReminderSink;
+import kr.co.platform.core.domain.schedule.reminder.ReminderSink;
+
+/**
+ * 일정 알림 설정
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Configuration
+public class ScheduleReminderConfig {
+
+    /** 최근 알림 보관 개수 */
+    private static final int LOCAL_SINK_CAPACITY = 1_000;
+
+    /**
+     * 기본 알림 발송 대상 (다른 {@link ReminderSink} 빈이 없을 때만 등록)
+     *
+     * @return 프로세스 내 알림 발송 대상
+     */
+    @Bean
+    @ConditionalOnMissingBean(ReminderSink.class)
+    public LocalReminderSink localReminderSink() {
+        return new LocalReminderSink(LOCAL_SINK_CAPACITY);
+    }
+}
@@ -0,0 +1,82 @@
+package kr.co.platform.core.domain.schedule.converter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import kr.co.platform.core.common.converter.GenericConverter;
+import kr.co.platform.core.common.util.StringUtil;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleRequestDto;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleResponseDto;
+import kr.co.platform.core.domain.schedule.model.entity.ScheduleEntity;
+import kr.co.platform.core.domain.schedule.recurrence.RecurrenceExpander;
+import kr.co.platform.processor.AfterMapping;
+import kr.co.platform.processor.GenerateConverter;
+
+/**
+ * 일정 엔티티/DTO 변환기
+ *
+ * <p>같은 이름의 속성 복사는 컴파일 시 생성되는 {@code ScheduleConverterImpl}이 담당하고, 이 클래스에는 형식이 다른 속성의 변환만 둔다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@GenerateConverter
+public abstract class ScheduleConverter
+        implements GenericConverter<ScheduleEntity, ScheduleResponseDto> {
+
+    /**
+     * 일정 생성 요청 DTO를 엔티티로 변환
+     *
+     * @param userId 일정 소유자 ID
+     * @param request 일정 요청 DTO
+     * @return 일정 엔티티
+     */
+    public ScheduleEntity toEntity(String userId, ScheduleRequestDto request) {
+        ScheduleEntity entity = new ScheduleEntity();
+        entity.setUserId(userId);
+        apply(request, entity);
+        return entity;
+    }
+
+    /**
+     * 일정 요청 DTO의 값을 기존 엔티티에 반영 (ID, 소유자, 감사 정보는 유지)
+     *
+     * @param request 일정 요청 DTO
+     * @param entity 반영 대상 엔티티
+     */
+    public abstract void apply(ScheduleRequestDto request, ScheduleEntity entity);
+
+    /** 반복 제외 일시 (엔티티 → 응답) */
+    protected List<LocalDateTime> recurrenceExceptions(ScheduleEntity entity) {
+        return RecurrenceExpander.toExceptionList(entity.getRecurrenceExceptions());
+    }
+
+    /** 반복 제외 일시 (응답 → 엔티티) */
+    protected String recurrenceExceptions(ScheduleResponseDto dto) {
+        return RecurrenceExpander.formatExceptions(dto.getRecurrenceExceptions());
+    }
+
+    /** 반복 규칙 (요청 → 엔티티, 빈 문자열은 반복 없음) */
+    protected String recurrenceRule(ScheduleRequestDto request) {
+        return StringUtil.emptyToNull(request.getRecurrenceRule());
+    }
+
+    /** 반복 제외 일시 (요청 → 엔티티, 반복 일정일 때만) */
+    protected String recurrenceExceptions(ScheduleRequestDto request) {
+        return StringUtil.isEmpty(request.getRecurrenceRule())
+                ? null
+                : RecurrenceExpander.formatExceptions(request.getRecurrenceExceptions());
+    }
+
+    /** 반복 종료 일시는 복사된 규칙으로 다시 계산한다 */
+    @AfterMapping
+    protected void recurrenceEnd(ScheduleResponseDto dto, ScheduleEntity entity) {
+        entity.setRecurrenceEnd(RecurrenceExpander.seriesEnd(entity));
+    }
+
+    /** 반복 종료 일시는 반영된 규칙으로 다시 계산한다 */
+    @AfterMapping
+    protected void recurrenceEnd(ScheduleRequestDto request, ScheduleEntity entity) {
+        entity.setRecurrenceEnd(RecurrenceExpander.seriesEnd(entity));
+    }
+}
@@ -0,0 +1,165 @@
+package kr.co.platform.core.domain.schedule.event;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import kr.co.platform.core.common.util.StringUtil;
+import kr.co.platform.core.domain.schedule.model.entity.ScheduleEntity;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 일정 변경 이벤트 서비스 계층에서 일정이 생성/수정/삭제된 뒤 발행되며, 인덱스 등 파생 데이터 갱신에 사용
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Getter
+@RequiredArgsConstructor
+public class ScheduleChangedEvent {
+
+    /** 변경 유형 */
+    private final ChangeType changeType;
+
+    /** 변경 후 일정 (삭제 시 삭제 정보가 설정된 일정) */
+    private final ScheduleEntity schedule;
+
+    /** 변경 전 일정 (생성 시 null) */
+    private final ScheduleEntity previous;
+
+    /** 요청에 포함된 참석자 사용자 ID 목록 (없으면 빈 배열) */
+    private final String[] participantUserIds;
+
+    /** 쓰기 트랜잭션 안에서 이미 사용자 버전을 올렸는지 여부 (가져오기 청크) */
+    private final boolean versionBumped;
+
+    /**
+     * 이 변경으로 올린 사용자별 버전 (커밋 후 가장 먼저 실행되는 버전 증가 리스너가 채우며, 증가하지 않았으면 비어 있음)
+     *
+     * <p>캐시는 항목이 적재된 버전 바로 다음 버전일 때만 이 변경을 반영한 항목을 새 버전으로 올린다.
+     */
+    @Setter private Map<String, Long> versions = Map.of();
+
+    /**
+     * 일정 생성 이벤트 생성
+     *
+     * @param schedule 생성된 일정
+     * @return 일정 변경 이벤트
+     */
+    public static ScheduleChangedEvent created(ScheduleEntity schedule) {
+        return created(schedule, null);
+    }
+
+    /**
+     * 참석자가 있는 일정 생성 이벤트 생성
+     *
+     * @param schedule 생성된 일정
+     * @param participantUserIds 참석자 사용자 ID 목록 (null 가능)
+     * @return 일정 변경 이벤트
+     */
+    public static ScheduleChangedEvent created(
+            ScheduleEntity schedule, String[] participantUserIds) {
+        return new ScheduleChangedEvent(
+                ChangeType.CREATED, schedule, null, nullToEmpty(participantUserIds), false);
+    }
+
+    /**
+     * 가져오기로 생성된 일정 이벤트 생성 (버전은 청크 저장 트랜잭션에서 한 번에 올림)
+     *
+     * @param schedule 생성된 일정
+     * @param participantUserIds 참석자 사용자 ID 목록 (null 가능)
+     * @return 일정 변경 이벤트
+     */
+    public static ScheduleChangedEvent imported(
+            ScheduleEntity schedule, String[] participantUserIds) {
+        return new ScheduleChangedEvent(
+                ChangeType.CREATED, schedule, null, nullToEmpty(participantUserIds), true);
+    }
+
+    /**
+     * 일정 수정 이벤트 생성
+     *
+     * @param schedule 수정된 일정
+     * @param previous 수정 전 일정
+     * @return 일정 변경 이벤트
+     */
+    public static ScheduleChangedEvent updated(ScheduleEntity schedule, ScheduleEntity previous) {
+        return updated(schedule, previous, null);
+    }
+
+    /**
+     * 참석자가 있는 일정 수정 이벤트 생성
+     *
+     * @param schedule 수정된 일정
+     * @param previous 수정 전 일정
+     * @param participantUserIds 참석자 사용자 ID 목록 (null 가능)
+     * @return 일정 변경 이벤트
+     */
+    public static ScheduleChangedEvent updated(
+            ScheduleEntity schedule, ScheduleEntity previous, String[] participantUserIds) {
+        return new ScheduleChangedEvent(
+                ChangeType.UPDATED, schedule, previous, nullToEmpty(participantUserIds), false);
+    }
+
+    /**
+     * 일정 삭제 이벤트 생성
+     *
+     * @param schedule 삭제된 일정
+     * @return 일정 변경 이벤트
+     */
+    public static ScheduleChangedEvent deleted(ScheduleEntity schedule) {
+        return new ScheduleChangedEvent(
+                ChangeType.DELETED, schedule, schedule, new String[0], false);
+    }
+
+    /**
+     * 일정 소유자 ID
+     *
+     * @return 사용자 ID
+     */
+    public String getUserId() {
+        return schedule.getUserId();
+    }
+
+    /**
+     * 변경의 영향을 받는 사용자 ID 목록 (소유자 + 참석자)
+     *
+     * @return 사용자 ID 목록
+     */
+    public Set<String> getAffectedUserIds() {
+        Set<String> userIds = new LinkedHashSet<>();
+        userIds.add(getUserId());
+        for (String participantUserId : participantUserIds) {
+            if (StringUtil.isNotEmpty(participantUserId)) {
+                userIds.add(participantUserId);
+            }
+        }
+        return userIds;
+    }
+
+    /**
+     * 버전을 올릴 사용자 ID 목록 (영향받는 사용자 + 소유자가 바뀐 경우 이전 소유자)
+     *
+     * @return 사용자 ID 목록
+     */
+    public Set<String> getVersionedUserIds() {
+        Set<String> userIds = getAffectedUserIds();
+        if (previous != null) {
+            userIds.add(previous.getUserId());
+        }
+        return userIds;
+    }
+
+    private static String[] nullToEmpty(String[] userIds) {
+        return userIds == null ? new String[0] : userIds;
+    }
+
+    /** 일정 변경 유형 */
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
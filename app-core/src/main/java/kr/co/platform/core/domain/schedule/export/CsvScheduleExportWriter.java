@@ -0,0 +1,111 @@
+package kr.co.platform.core.domain.schedule.export;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import kr.co.platform.core.domain.schedule.model.entity.ScheduleEntity;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * CSV(RFC 4180) 일정 작성기
+ *
+ * <p>Excel에서 한글이 깨지지 않도록 UTF-8 BOM을 먼저 쓰고, 반복 일정은 마스터 행 하나에 반복 규칙과 제외 일시를 함께 출력한다. 스프레드시트가 수식으로
+ * 해석하는 문자({@code = + - @}, 탭, CR)로 시작하는 값은 앞에 {@code '}를 붙여 문자열로 열리게 한다 (CSV injection 방지).
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@RequiredArgsConstructor
+public class CsvScheduleExportWriter implements ScheduleExportWriter {
+
+    private static final char BOM = '\uFEFF';
+
+    private static final String LINE_END = "\r\n";
+
+    private static final String HEADER =
+            "id,title,description,location,start_date,end_date,all_day,schedule_type,"
+                    + "reminder_minutes,is_public,recurrence_rule,recurrence_exceptions";
+
+    /** 수식 해석을 막기 위해 값 앞에 붙이는 문자 */
+    private static final char FORMULA_ESCAPE = '\'';
+
+    private static final DateTimeFormatter DATE_TIME_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final Writer out;
+
+    @Override
+    public void begin() throws IOException {
+        out.write(BOM);
+        out.write(HEADER);
+        out.write(LINE_END);
+    }
+
+    @Override
+    public void write(ScheduleEntity schedule) throws IOException {
+        out.write(String.valueOf(schedule.getId()));
+        field(schedule.getTitle());
+        field(schedule.getDescription());
+        field(schedule.getLocation());
+        field(format(schedule.getStartDate()));
+        field(format(schedule.getEndDate()));
+        field(Boolean.TRUE.equals(schedule.getAllDay()) ? "Y" : "N");
+        field(schedule.getScheduleType() == null ? null : schedule.getScheduleType().name());
+        field(
+                schedule.getReminderMinutes() == null
+                        ? null
+                        : String.valueOf(schedule.getReminderMinutes()));
+        field(Boolean.TRUE.equals(schedule.getIsPublic()) ? "Y" : "N");
+        field(schedule.getRecurrenceRule());
+        field(schedule.getRecurrenceExceptions());
+        out.write(LINE_END);
+    }
+
+    @Override
+    public void end() throws IOException {
+        out.flush();
+    }
+
+    private void field(String value) throws IOException {
+        out.write(',');
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        if (isFormulaStart(value.charAt(0))) {
+            value = FORMULA_ESCAPE + value;
+        }
+        if (!needsQuote(value)) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                out.write('"');
+            }
+            out.write(c);
+        }
+        out.write('"');
+    }
+
+    private static boolean isFormulaStart(char c) {
+        return c == '=' || c == '+' || c == '-' || c == '@' || c == '\t' || c == '\r';
+    }
+
+    private static boolean needsQuote(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\r' || c == '\n') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String format(LocalDateTime dateTime) {
+        return dateTime == null ? null : DATE_TIME_FORMAT.format(dateTime);
+    }
+}
@@ -0,0 +1,201 @@
+package kr.co.platform.core.domain.schedule.export;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import kr.co.platform.core.domain.schedule.model.entity.ScheduleEntity;
+import kr.co.platform.core.domain.schedule.recurrence.RecurrenceExpander;
+import kr.co.platform.core.domain.schedule.recurrence.RecurrenceRule;
+
+/**
+ * iCalendar(RFC 5545) 일정 작성기
+ *
+ * <p>일시는 설정된 시간대의 현지 시각을 UTC로 바꿔 출력하므로 VTIMEZONE 없이 어느 클라이언트에서도 같은 시각으로 보인다. 종일 일정은 DATE 값으로, 반복
+ * 일정은 전개하지 않고 RRULE/EXDATE로 출력하며, 줄은 75바이트 단위로 접는다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+public class IcsScheduleExportWriter implements ScheduleExportWriter {
+
+    private static final String LINE_END = "\r\n";
+
+    /** 한 줄 최대 길이 (옥텟, 줄바꿈 제외) */
+    private static final int MAX_LINE_OCTETS = 75;
+
+    private static final DateTimeFormatter UTC_FORMAT =
+            DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private static final Pattern UNTIL = Pattern.compile("UNTIL=([0-9]{8}T[0-9]{6})");
+
+    private final Writer out;
+    private final ZoneId zoneId;
+    private final String uidDomain;
+
+    /**
+     * 작성기 생성
+     *
+     * @param out 출력 대상
+     * @param zoneId 저장된 일시의 시간대
+     * @param uidDomain UID 도메인 (예: schedule-1@uidDomain)
+     */
+    public IcsScheduleExportWriter(Writer out, ZoneId zoneId, String uidDomain) {
+        this.out = out;
+        this.zoneId = zoneId;
+        this.uidDomain = uidDomain;
+    }
+
+    @Override
+    public void begin() throws IOException {
+        line("BEGIN:VCALENDAR");
+        line("VERSION:2.0");
+        line("PRODID:-//KIYU-IT//Groupware Schedule//KO");
+        line("CALSCALE:GREGORIAN");
+        line("METHOD:PUBLISH");
+    }
+
+    @Override
+    public void write(ScheduleEntity schedule) throws IOException {
+        boolean allDay = Boolean.TRUE.equals(schedule.getAllDay());
+        line("BEGIN:VEVENT");
+        line("UID:schedule-" + schedule.getId() + "@" + uidDomain);
+        LocalDateTime stamp =
+                schedule.getUpdatedAt() != null
+                        ? schedule.getUpdatedAt()
+                        : schedule.getCreatedAt() != null
+                                ? schedule.getCreatedAt()
+                                : schedule.getStartDate();
+        line("DTSTAMP:" + utc(stamp));
+        if (allDay) {
+            LocalDate start = schedule.getStartDate().toLocalDate();
+            line("DTSTART;VALUE=DATE:" + DATE_FORMAT.format(start));
+            line("DTEND;VALUE=DATE:" + DATE_FORMAT.format(allDayEnd(start, schedule.getEndDate())));
+        } else {
+            line("DTSTART:" + utc(schedule.getStartDate()));
+            line("DTEND:" + utc(schedule.getEndDate()));
+        }
+        text("SUMMARY", schedule.getTitle());
+        text("DESCRIPTION", schedule.getDescription());
+        text("LOCATION", schedule.getLocation());
+        if (schedule.getScheduleType() != null) {
+            text("CATEGORIES", schedule.getScheduleType().getDisplayName());
+        }
+        line(Boolean.TRUE.equals(schedule.getIsPublic()) ? "CLASS:PUBLIC" : "CLASS:PRIVATE");
+        if (RecurrenceExpander.isRecurring(schedule)) {
+            line("RRULE:" + rrule(schedule.getRecurrenceRule(), allDay));
+            writeExceptions(schedule, allDay);
+        }
+        if (schedule.getReminderMinutes() != null && schedule.getReminderMinutes() > 0) {
+            line("BEGIN:VALARM");
+            line("ACTION:DISPLAY");
+            text("DESCRIPTION", schedule.getTitle());
+            line("TRIGGER:-PT" + schedule.getReminderMinutes() + "M");
+            line("END:VALARM");
+        }
+        line("END:VEVENT");
+    }
+
+    @Override
+    public void end() throws IOException {
+        line("END:VCALENDAR");
+        out.flush();
+    }
+
+    private void writeExceptions(ScheduleEntity schedule, boolean allDay) throws IOException {
+        long[] exceptions = RecurrenceExpander.parseExceptions(schedule.getRecurrenceExceptions());
+        if (exceptions.length == 0) {
+            return;
+        }
+        StringBuilder value = new StringBuilder(allDay ? "EXDATE;VALUE=DATE:" : "EXDATE:");
+        for (int i = 0; i < exceptions.length; i++) {
+            if (i > 0) {
+                value.append(',');
+            }
+            LocalDateTime exception = RecurrenceExpander.toDateTime(exceptions[i]);
+            value.append(allDay ? DATE_FORMAT.format(exception) : utc(exception));
+        }
+        line(value.toString());
+    }
+
+    /** 저장된 반복 규칙의 UNTIL(현지 시각)을 DTSTART와 같은 형식(UTC 또는 날짜)으로 바꾼다 */
+    private String rrule(String rule, boolean allDay) {
+        Matcher matcher = UNTIL.matcher(rule);
+        if (!matcher.find()) {
+            return rule;
+        }
+        LocalDateTime until = RecurrenceRule.parseDateTime(matcher.group(1));
+        String converted = allDay ? DATE_FORMAT.format(until) : utc(until);
+        return rule.substring(0, matcher.start(1)) + converted + rule.substring(matcher.end(1));
+    }
+
+    /** 종일 일정의 DTEND (미포함 날짜) */
+    private static LocalDate allDayEnd(LocalDate start, LocalDateTime endDate) {
+        LocalDate end = endDate.toLocalDate();
+        if (endDate.toLocalTime().equals(LocalTime.MIDNIGHT) && end.isAfter(start)) {
+            return end;
+        }
+        return end.plusDays(1);
+    }
+
+    private String utc(LocalDateTime dateTime) {
+        return UTC_FORMAT.format(dateTime.atZone(zoneId).withZoneSameInstant(ZoneOffset.UTC));
+    }
+
+    private void text(String name, String value) throws IOException {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        StringBuilder escaped = new StringBuilder(name.length() + value.length() + 8);
+        escaped.append(name).append(':');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> escaped.append("\\\\");
+                case ';' -> escaped.append("\\;");
+                case ',' -> escaped.append("\\,");
+                case '\n' -> escaped.append("\\n");
+                case '\r' -> {}
+                default -> escaped.append(c);
+            }
+        }
+        line(escaped.toString());
+    }
+
+    /** 75옥텟을 넘으면 CRLF + 공백으로 접는다 (UTF-8 멀티바이트 문자는 나누지 않음) */
+    private void line(String content) throws IOException {
+        int octets = 0;
+        for (int i = 0; i < content.length(); i++) {
+            char c = content.charAt(i);
+            int width;
+            if (c < 0x80) {
+                width = 1;
+            } else if (c < 0x800) {
+                width = 2;
+            } else if (Character.isHighSurrogate(c)) {
+                width = 4;
+            } else if (Character.isLowSurrogate(c)) {
+                width = 0;
+            } else {
+                width = 3;
+            }
+            if (octets + width > MAX_LINE_OCTETS) {
+                out.write(LINE_END);
+                out.write(' ');
+                octets = 1;
+            }
+            out.write(c);
+            octets += width;
+        }
+        out.write(LINE_END);
+    }
+}
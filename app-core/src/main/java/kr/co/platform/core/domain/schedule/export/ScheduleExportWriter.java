@@ -0,0 +1,36 @@
+package kr.co.platform.core.domain.schedule.export;
+
+import java.io.IOException;
+
+import kr.co.platform.core.domain.schedule.model.entity.ScheduleEntity;
+
+/**
+ * 일정 내보내기 작성기 (행을 받는 즉시 출력하며 상태를 누적하지 않는다)
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+public interface ScheduleExportWriter {
+
+    /**
+     * 문서 시작 출력 (헤더)
+     *
+     * @throws IOException 출력 실패
+     */
+    void begin() throws IOException;
+
+    /**
+     * 일정 한 건 출력
+     *
+     * @param schedule 일정 엔티티
+     * @throws IOException 출력 실패
+     */
+    void write(ScheduleEntity schedule) throws IOException;
+
+    /**
+     * 문서 종료 출력 및 버퍼 비우기
+     *
+     * @throws IOException 출력 실패
+     */
+    void end() throws IOException;
+}
@@ -0,0 +1,207 @@
+package kr.co.platform.core.domain.schedule.index;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+/**
+ * 시작 시각 기준으로 정렬되고 서브트리 최대 종료 시각으로 보강된 인터벌 트리 (Treap)
+ *
+ * <p>구간은 [start, end) 반열린 구간이며, 겹침 조회는 O(log n + k)에 수행된다. 동기화는 호출자 책임이다.
+ *
+ * @param <V> 구간에 연결된 값 타입
+ * @author 박성우
+ * @date 2026.10.18
+ */
+class IntervalTree<V> {
+
+    private final SplittableRandom random = new SplittableRandom();
+
+    private final Map<Long, Node<V>> nodesById = new HashMap<>();
+
+    private Node<V> root;
+
+    /**
+     * 구간 추가 (같은 ID가 있으면 교체)
+     *
+     * @param id 구간 ID
+     * @param start 시작 시각 (포함)
+     * @param end 종료 시각 (미포함)
+     * @param value 연결 값
+     */
+    void put(long id, long start, long end, V value) {
+        remove(id);
+        Node<V> node = new Node<>(id, start, Math.max(end, start + 1), random.nextInt(), value);
+        root = insert(root, node);
+        nodesById.put(id, node);
+    }
+
+    /**
+     * 구간 제거
+     *
+     * @param id 구간 ID
+     * @return 제거되었으면 true
+     */
+    boolean remove(long id) {
+        Node<V> node = nodesById.remove(id);
+        if (node == null) {
+            return false;
+        }
+        root = delete(root, node.start, node.id);
+        return true;
+    }
+
+    /** 모든 구간 제거 */
+    void clear() {
+        nodesById.clear();
+        root = null;
+    }
+
+    /**
+     * [from, to) 구간과 겹치는 값을 시작 시각 순으로 수집
+     *
+     * @param from 조회 시작 시각 (포함)
+     * @param to 조회 종료 시각 (미포함)
+     * @param out 결과를 담을 목록
+     */
+    void collectOverlapping(long from, long to, List<V> out) {
+        collect(root, from, to, out::add);
+    }
+
+    /**
+     * [from, to) 구간과 겹치는 값을 시작 시각 순으로 전달
+     *
+     * @param from 조회 시작 시각 (포함)
+     * @param to 조회 종료 시각 (미포함)
+     * @param consumer 값 소비자
+     */
+    void forEachOverlapping(long from, long to, Consumer<V> consumer) {
+        collect(root, from, to, consumer);
+    }
+
+    /**
+     * 저장된 구간 수
+     *
+     * @return 구간 수
+     */
+    int size() {
+        return nodesById.size();
+    }
+
+    private void collect(Node<V> node, long from, long to, Consumer<V> consumer) {
+        while (node != null && node.maxEnd > from) {
+            collect(node.left, from, to, consumer);
+            if (node.start >= to) {
+                return;
+            }
+            if (node.end > from) {
+                consumer.accept(node.value);
+            }
+            node = node.right;
+        }
+    }
+
+    private Node<V> insert(Node<V> node, Node<V> target) {
+        if (node == null) {
+            return target;
+        }
+        if (compare(target.start, target.id, node) < 0) {
+            node.left = insert(node.left, target);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, target);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        node.update();
+        return node;
+    }
+
+    private Node<V> delete(Node<V> node, long start, long id) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(start, id, node);
+        if (cmp < 0) {
+            node.left = delete(node.left, start, id);
+        } else if (cmp > 0) {
+            node.right = delete(node.right, start, id);
+        } else {
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            if (node.left.priority > node.right.priority) {
+                node = rotateRight(node);
+                node.right = delete(node.right, start, id);
+            } else {
+                node = rotateLeft(node);
+                node.left = delete(node.left, start, id);
+            }
+        }
+        node.update();
+        return node;
+    }
+
+    private static int compare(long start, long id, Node<?> node) {
+        int cmp = Long.compare(start, node.start);
+        return cmp != 0 ? cmp : Long.compare(id, node.id);
+    }
+
+    private static <V> Node<V> rotateRight(Node<V> node) {
+        Node<V> pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        node.update();
+        pivot.update();
+        return pivot;
+    }
+
+    private static <V> Node<V> rotateLeft(Node<V> node) {
+        Node<V> pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        node.update();
+        pivot.update();
+        return pivot;
+    }
+
+    /** 트리 노드 */
+    private static final class Node<V> {
+        private final long id;
+        private final long start;
+        private final long end;
+        private final int priority;
+        private final V value;
+        private long maxEnd;
+        private Node<V> left;
+        private Node<V> right;
+
+        private Node(long id, long start, long end, int priority, V value) {
+            this.id = id;
+            this.start = start;
+            this.end = end;
+            this.priority = priority;
+            this.value = value;
+            this.maxEnd = end;
+        }
+
+        private void update() {
+            long max = end;
+            if (left != null && left.maxEnd > max) {
+                max = left.maxEnd;
+            }
+            if (right != null && right.maxEnd > max) {
+                max = right.maxEnd;
+            }
+            maxEnd = max;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package kr.co.platform.core.domain.schedule.index;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * 검색 키워드 토크나이저 (문자 바이그램)
+ *
+ * <p>한글은 띄어쓰기 단위 안에서 조사/어미가 붙어 형태소 분석 없이는 단어 경계가 불분명하므로, 공백/문장 부호로 나눈 토큰 안의 인접한 두 글자를 색인어로 쓴다. 키워드의
+ * 바이그램을 모두 포함한 일정은 부분 일치 후보이며, 최종 일치 여부는 정규화된 원문으로 확인한다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+final class KeywordTokenizer {
+
+    private static final int[] NO_BIGRAMS = new int[0];
+
+    private KeywordTokenizer() {}
+
+    /**
+     * 비교용 정규화 (NFC 조합형 + 소문자)
+     *
+     * <p>macOS 등에서 입력된 한글은 자모가 분리된 NFD 형태일 수 있으므로 조합형으로 맞춘다.
+     *
+     * @param text 원문 (null 허용)
+     * @return 정규화된 문자열 (null이면 빈 문자열)
+     */
+    static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 정규화된 문자열의 바이그램 (중복 제거, 오름차순)
+     *
+     * @param normalized 정규화된 문자열
+     * @return 바이그램 배열 (상위 16비트: 앞 글자, 하위 16비트: 뒤 글자)
+     */
+    static int[] bigrams(String normalized) {
+        int length = normalized.length();
+        if (length < 2) {
+            return NO_BIGRAMS;
+        }
+        int[] grams = new int[length - 1];
+        int count = 0;
+        for (int i = 0; i + 1 < length; i++) {
+            char first = normalized.charAt(i);
+            char second = normalized.charAt(i + 1);
+            if (isTokenChar(first) && isTokenChar(second)) {
+                grams[count++] = (first << 16) | second;
+            }
+        }
+        if (count == 0) {
+            return NO_BIGRAMS;
+        }
+        Arrays.sort(grams, 0, count);
+        int unique = 1;
+        for (int i = 1; i < count; i++) {
+            if (grams[i] != grams[unique - 1]) {
+                grams[unique++] = grams[i];
+            }
+        }
+        return Arrays.copyOf(grams, unique);
+    }
+
+    private static boolean isTokenChar(char c) {
+        return Character.isLetterOrDigit(c);
+    }
+}
@@ -0,0 +1,165 @@
+package kr.co.platform.core.domain.schedule.index;
+
+import java.util.Arrays;
+
+/**
+ * 정렬된 일정 ID 목록을 델타 + 가변 길이(varint) 바이트로 압축한 포스팅 리스트
+ *
+ * <p>ID는 대부분 증가 순으로 추가되므로 끝에 덧붙이는 경우는 O(1)이고, 중간 삽입/삭제는 전체를 다시 인코딩한다. 동기화는 호출자 책임이다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+final class PostingList {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private byte[] data = EMPTY;
+    private int length;
+    private int size;
+    private long last;
+
+    /**
+     * ID 추가 (이미 있으면 무시)
+     *
+     * @param id 일정 ID (양수)
+     */
+    void add(long id) {
+        if (size == 0 || id > last) {
+            append(id);
+            return;
+        }
+        long[] ids = toArray();
+        int position = Arrays.binarySearch(ids, id);
+        if (position >= 0) {
+            return;
+        }
+        int insertAt = -position - 1;
+        long[] merged = new long[ids.length + 1];
+        System.arraycopy(ids, 0, merged, 0, insertAt);
+        merged[insertAt] = id;
+        System.arraycopy(ids, insertAt, merged, insertAt + 1, ids.length - insertAt);
+        encode(merged, merged.length);
+    }
+
+    /**
+     * ID 제거
+     *
+     * @param id 일정 ID
+     * @return 제거되었으면 true
+     */
+    boolean remove(long id) {
+        if (size == 0 || id > last) {
+            return false;
+        }
+        long[] ids = toArray();
+        int position = Arrays.binarySearch(ids, id);
+        if (position < 0) {
+            return false;
+        }
+        System.arraycopy(ids, position + 1, ids, position, ids.length - position - 1);
+        encode(ids, ids.length - 1);
+        return true;
+    }
+
+    /**
+     * ID 수
+     *
+     * @return ID 수
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * 압축 해제
+     *
+     * @return 오름차순 ID 배열
+     */
+    long[] toArray() {
+        long[] ids = new long[size];
+        long previous = 0;
+        int offset = 0;
+        for (int i = 0; i < size; i++) {
+            long delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[offset++];
+                delta |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            previous += delta;
+            ids[i] = previous;
+        }
+        return ids;
+    }
+
+    /**
+     * 정렬된 후보 ID 중 이 목록에 있는 ID만 남김 (압축을 풀면서 병합)
+     *
+     * @param candidates 오름차순 후보 ID 배열
+     * @param count 후보 수
+     * @return 남은 후보 수 (candidates 앞쪽에 채움)
+     */
+    int retainAll(long[] candidates, int count) {
+        int kept = 0;
+        int c = 0;
+        long current = 0;
+        int offset = 0;
+        for (int i = 0; i < size && c < count; i++) {
+            long delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[offset++];
+                delta |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            current += delta;
+            while (c < count && candidates[c] < current) {
+                c++;
+            }
+            if (c < count && candidates[c] == current) {
+                candidates[kept++] = current;
+                c++;
+            }
+        }
+        return kept;
+    }
+
+    private void append(long id) {
+        ensureCapacity(length + 10);
+        length = writeVarint(data, length, id - last);
+        last = id;
+        size++;
+    }
+
+    private void encode(long[] ids, int count) {
+        data = count == 0 ? EMPTY : new byte[count * 3];
+        length = 0;
+        size = 0;
+        last = 0;
+        for (int i = 0; i < count; i++) {
+            append(ids[i]);
+        }
+        if (data.length > length) {
+            data = Arrays.copyOf(data, length);
+        }
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > data.length) {
+            data = Arrays.copyOf(data, Math.max(required, data.length + (data.length >> 1) + 8));
+        }
+    }
+
+    private static int writeVarint(byte[] target, int offset, long value) {
+        while ((value & ~0x7FL) != 0) {
+            target[offset++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        target[offset++] = (byte) value;
+        return offset;
+    }
+}
@@ -0,0 +1,413 @@
+package kr.co.platform.core.domain.schedule.index;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import kr.co.platform.core.domain.schedule.cache.ScheduleVersionRegistry;
+import kr.co.platform.core.domain.schedule.config.ScheduleProperties;
+import kr.co.platform.core.domain.schedule.event.ScheduleChangedEvent;
+import kr.co.platform.core.domain.schedule.mapper.ScheduleMapper;
+import kr.co.platform.core.domain.schedule.model.entity.ScheduleEntity;
+import kr.co.platform.core.domain.schedule.recurrence.RecurrenceExpander;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자별 일정 인터벌 인덱스
+ *
+ * <p>사용자별 일정을 메모리 인터벌 트리로 보관하여 기간 겹침 조회를 DB 조회 없이 O(log n + k)로 처리한다. 사용자 인덱스는 최초 조회 시 오늘 기준 적재
+ * 구간({@code window-past} ~ {@code window-future})의 일정만 적재되며, 이후에는 커밋된 {@link ScheduleChangedEvent}로
+ * 갱신된다. 적재 구간을 벗어나는 조회는 DB에서 직접 읽는다.
+ *
+ * <p>인덱스는 최대 사용자 수와 미사용 시간으로 제한되고, 적재 후 {@code ttl}이 지나면 다시 적재되므로 이 인스턴스의 이벤트를 거치지 않은 변경(다른 인스턴스,
+ * 직접 SQL)도 그 안에 반영된다. 또한 사용자 인덱스는 적재한 일정 버전을 보관하여, 다른 인스턴스의 변경으로 이 인스턴스가 확인한 버전({@link
+ * ScheduleVersionRegistry#observedVersion(String)})이 올라가면 다음 조회에서 TTL을 기다리지 않고 다시 적재한다.
+ *
+ * <p>적재 조회는 호출자가 읽기 전용 트랜잭션이어도 쓰기 DataSource에서 읽는다. 복제 지연으로 빠진 변경은 이벤트가 이미 지나갔으므로 다음 재적재까지 인덱스에 남기
+ * 때문이다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Slf4j
+@Component
+public class ScheduleIntervalIndex {
+
+    private static final String CACHE_NAME = "schedule.interval_index";
+
+    /** 일괄 적재 시 IN 절에 넣는 최대 사용자 수 */
+    private static final int WARM_UP_CHUNK_SIZE = 500;
+
+    private static final Comparator<ScheduleEntity> START_ORDER =
+            Comparator.comparing(ScheduleEntity::getStartDate).thenComparing(ScheduleEntity::getId);
+
+    private final ScheduleMapper scheduleMapper;
+    private final ScheduleVersionRegistry scheduleVersionRegistry;
+    private final ScheduleProperties.IntervalIndex properties;
+    private final ZoneId zoneId;
+    private final Cache<String, UserIndex> userIndexes;
+
+    /** 적재 조회용 (호출자의 읽기 전용 트랜잭션을 보류하여 복제본이 아닌 쓰기 DataSource에서 읽음) */
+    private final TransactionTemplate primaryRead;
+
+    @Autowired
+    public ScheduleIntervalIndex(
+            ScheduleMapper scheduleMapper,
+            ScheduleVersionRegistry scheduleVersionRegistry,
+            ScheduleProperties scheduleProperties,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this(
+                scheduleMapper,
+                scheduleVersionRegistry,
+                scheduleProperties,
+                transactionManager,
+                meterRegistry,
+                Ticker.systemTicker());
+    }
+
+    /** 만료 시각 기준 시계를 지정하는 생성자 (테스트에서 TTL 경과를 대기 없이 재현) */
+    ScheduleIntervalIndex(
+            ScheduleMapper scheduleMapper,
+            ScheduleVersionRegistry scheduleVersionRegistry,
+            ScheduleProperties scheduleProperties,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            Ticker ticker) {
+        this.scheduleMapper = scheduleMapper;
+        this.scheduleVersionRegistry = scheduleVersionRegistry;
+        this.properties = scheduleProperties.getIntervalIndex();
+        this.zoneId = ZoneId.of(properties.getZoneId());
+        this.userIndexes =
+                Caffeine.newBuilder()
+                        .maximumSize(properties.getMaximumSize())
+                        .expireAfterAccess(properties.getExpireAfterAccess())
+                        .expireAfterWrite(properties.getTtl())
+                        .ticker(ticker)
+                        .recordStats()
+                        .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, userIndexes, CACHE_NAME);
+        this.primaryRead = new TransactionTemplate(transactionManager);
+        this.primaryRead.setPropagationBehavior(TransactionDefinition.PROPAGATION_NOT_SUPPORTED);
+    }
+
+    /**
+     * 기간과 겹치는 사용자 일정 조회
+     *
+     * @param userId 사용자 ID
+     * @param from 조회 시작 일시 (포함)
+     * @param to 조회 종료 일시 (미포함)
+     * @return 시작 일시 순으로 정렬된 일정 목록
+     */
+    public List<ScheduleEntity> findOverlapping(
+            String userId, LocalDateTime from, LocalDateTime to) {
+        List<ScheduleEntity> result = new ArrayList<>();
+        forEachOverlapping(userId, from, to, result::add);
+        // 반복 일정의 발생은 마스터 위치에서 전개되므로 시작 일시 순으로 다시 맞춘다 (대부분 정렬된 상태)
+        result.sort(START_ORDER);
+        return result;
+    }
+
+    /**
+     * 기간과 겹치는 사용자 일정을 목록 없이 순회 (읽기 잠금 안에서 호출되므로 consumer는 가볍게 유지)
+     *
+     * @param userId 사용자 ID
+     * @param from 조회 시작 일시 (포함)
+     * @param to 조회 종료 일시 (미포함)
+     * @param consumer 일정 처리기
+     */
+    public void forEachOverlapping(
+            String userId,
+            LocalDateTime from,
+            LocalDateTime to,
+            Consumer<ScheduleEntity> consumer) {
+        UserIndex index = load(userId);
+        if (!index.covers(from, to)) {
+            // 적재 구간 밖 조회는 인덱스에 넣지 않고 DB에서 읽는다
+            for (ScheduleEntity schedule :
+                    scheduleMapper.selectSchedulesInRange(userId, from, to)) {
+                accept(schedule, from, to, consumer);
+            }
+            return;
+        }
+        index.lock.readLock().lock();
+        try {
+            index.tree.forEachOverlapping(
+                    toEpoch(from), toEpoch(to), schedule -> accept(schedule, from, to, consumer));
+        } finally {
+            index.lock.readLock().unlock();
+        }
+    }
+
+    private static void accept(
+            ScheduleEntity schedule,
+            LocalDateTime from,
+            LocalDateTime to,
+            Consumer<ScheduleEntity> consumer) {
+        if (RecurrenceExpander.isRecurring(schedule)) {
+            RecurrenceExpander.expand(schedule, from, to, consumer);
+        } else {
+            consumer.accept(schedule);
+        }
+    }
+
+    /**
+     * 여러 사용자 인덱스를 한 번에 적재 (적재되지 않았거나 확인한 버전보다 오래된 사용자만 묶어서 조회)
+     *
+     * @param userIds 사용자 ID 목록
+     */
+    public void warmUp(Collection<String> userIds) {
+        // 교착 상태를 피하기 위해 항상 사용자 ID 순서로 잠근다
+        TreeSet<String> sorted = new TreeSet<>(userIds);
+        Map<String, UserIndex> pending = new HashMap<>();
+        try {
+            for (String userId : sorted) {
+                UserIndex index = userIndexes.get(userId, key -> new UserIndex());
+                if (index.isFresh(scheduleVersionRegistry.observedVersion(userId))) {
+                    continue;
+                }
+                index.lock.writeLock().lock();
+                if (index.isFresh(scheduleVersionRegistry.observedVersion(userId))) {
+                    index.lock.writeLock().unlock();
+                    continue;
+                }
+                pending.put(userId, index);
+            }
+
+            List<String> pendingIds = new ArrayList<>(pending.keySet());
+            LocalDateTime windowStart = windowStart();
+            LocalDateTime windowEnd = windowEnd();
+            for (UserIndex index : pending.values()) {
+                index.reset(windowStart, windowEnd);
+            }
+            for (int from = 0; from < pendingIds.size(); from += WARM_UP_CHUNK_SIZE) {
+                List<String> chunk =
+                        pendingIds.subList(
+                                from, Math.min(from + WARM_UP_CHUNK_SIZE, pendingIds.size()));
+                List<ScheduleEntity> schedules =
+                        primaryRead.execute(
+                                status -> {
+                                    // 적재한 일정이 이 버전까지의 변경을 모두 담도록 버전을 먼저 읽는다
+                                    scheduleVersionRegistry
+                                            .versions(chunk)
+                                            .forEach(
+                                                    (userId, version) ->
+                                                            pending.get(userId).version = version);
+                                    return scheduleMapper.selectSchedulesByUserIdsInRange(
+                                            chunk, windowStart, windowEnd);
+                                });
+                for (ScheduleEntity schedule : schedules) {
+                    pending.get(schedule.getUserId()).put(schedule);
+                }
+            }
+            for (UserIndex index : pending.values()) {
+                index.loaded = true;
+            }
+            if (!pendingIds.isEmpty()) {
+                log.debug("Schedule interval index warmed up: users={}", pendingIds.size());
+            }
+        } finally {
+            for (UserIndex index : pending.values()) {
+                index.lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * 사용자 인덱스 제거 (다음 조회 시 다시 적재)
+     *
+     * @param userId 사용자 ID
+     */
+    public void evict(String userId) {
+        userIndexes.invalidate(userId);
+    }
+
+    /**
+     * 일정 변경 이벤트 반영 (커밋 후, 버전 증가 다음이고 캐시 무효화보다 먼저)
+     *
+     * <p>변경을 반영한 뒤, 적재 버전 바로 다음 버전으로 올라간 사용자 인덱스는 새 버전으로 올려 다시 적재하지 않게 한다. 사이에 다른 인스턴스의 변경이 끼어 있으면
+     * 버전이 이어지지 않으므로 그대로 두어 다음 조회에서 다시 적재된다.
+     *
+     * @param event 일정 변경 이벤트
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        ScheduleEntity previous = event.getPrevious();
+        if (previous != null && !previous.getUserId().equals(event.getUserId())) {
+            apply(previous.getUserId(), previous, true);
+        }
+        apply(
+                event.getUserId(),
+                event.getSchedule(),
+                event.getChangeType() == ScheduleChangedEvent.ChangeType.DELETED);
+        // 참석자 인덱스에는 소유자 일정이 없으므로 내용 변경 없이 버전만 이어진다
+        event.getVersions().forEach(this::advance);
+    }
+
+    private void advance(String userId, long version) {
+        UserIndex index = userIndexes.getIfPresent(userId);
+        if (index == null) {
+            return;
+        }
+        index.lock.writeLock().lock();
+        try {
+            if (index.loaded && index.version == version - 1) {
+                index.version = version;
+            }
+        } finally {
+            index.lock.writeLock().unlock();
+        }
+    }
+
+    private void apply(String userId, ScheduleEntity schedule, boolean remove) {
+        UserIndex index = userIndexes.getIfPresent(userId);
+        if (index == null) {
+            // 아직 적재되지 않은 사용자는 최초 조회 시 DB에서 최신 상태로 적재된다
+            return;
+        }
+        index.lock.writeLock().lock();
+        try {
+            if (!index.loaded) {
+                // 적재 전이면 커밋된 변경이 적재 조회에 포함된다
+                return;
+            }
+            if (remove || schedule.isDeleted()) {
+                index.tree.remove(schedule.getId());
+            } else {
+                index.put(schedule);
+            }
+        } finally {
+            index.lock.writeLock().unlock();
+        }
+    }
+
+    private UserIndex load(String userId) {
+        UserIndex index = userIndexes.get(userId, key -> new UserIndex());
+        if (index.isFresh(scheduleVersionRegistry.observedVersion(userId))) {
+            return index;
+        }
+        index.lock.writeLock().lock();
+        try {
+            if (!index.isFresh(scheduleVersionRegistry.observedVersion(userId))) {
+                // 적재 중 도착한 변경은 잠금 해제 후 같은 ID로 덮어써지므로 순서가 보장된다
+                index.reset(windowStart(), windowEnd());
+                List<ScheduleEntity> schedules =
+                        primaryRead.execute(
+                                status -> {
+                                    // 적재한 일정이 이 버전까지의 변경을 모두 담도록 버전을 먼저 읽는다
+                                    index.version = scheduleVersionRegistry.version(userId);
+                                    return scheduleMapper.selectSchedulesInRange(
+                                            userId, index.windowStart, index.windowEnd);
+                                });
+                for (ScheduleEntity schedule : schedules) {
+                    index.put(schedule);
+                }
+                index.loaded = true;
+                log.debug(
+                        "Schedule interval index loaded: userId={}, size={}, version={}",
+                        userId,
+                        schedules.size(),
+                        index.version);
+            }
+        } finally {
+            index.lock.writeLock().unlock();
+        }
+        return index;
+    }
+
+    /**
+     * 현재 적재 구간 시작 일시 (오늘 - window-past)
+     *
+     * @return 적재 구간 시작 일시
+     */
+    public LocalDateTime windowStart() {
+        return LocalDate.now(zoneId).atStartOfDay().minus(properties.getWindowPast());
+    }
+
+    /**
+     * 현재 적재 구간 종료 일시 (오늘 + window-future)
+     *
+     * @return 적재 구간 종료 일시
+     */
+    public LocalDateTime windowEnd() {
+        return LocalDate.now(zoneId).atStartOfDay().plus(properties.getWindowFuture());
+    }
+
+    private static long toEpoch(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    /** 사용자별 인덱스 (적재 구간과 겹치는 일정만 보관) */
+    private static final class UserIndex {
+        private final IntervalTree<ScheduleEntity> tree = new IntervalTree<>();
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private volatile boolean loaded;
+        private volatile LocalDateTime windowStart;
+        private volatile LocalDateTime windowEnd;
+
+        /** 적재 시 읽은 일정 버전 (이후 이어지는 변경 이벤트를 반영하면 함께 올라감) */
+        private volatile long version;
+
+        /** 적재되었고 확인한 버전 이후에 적재(또는 갱신)되었는지 여부 */
+        private boolean isFresh(long observedVersion) {
+            return loaded && version >= observedVersion;
+        }
+
+        /** 다시 적재하기 위해 비우고 적재 구간 지정 (적재가 실패하면 적재 전 상태로 남음) */
+        private void reset(LocalDateTime windowStart, LocalDateTime windowEnd) {
+            loaded = false;
+            tree.clear();
+            this.windowStart = windowStart;
+            this.windowEnd = windowEnd;
+        }
+
+        /** 조회 기간이 적재 구간 안에 있는지 여부 */
+        private boolean covers(LocalDateTime from, LocalDateTime to) {
+            return !from.isBefore(windowStart) && !to.isAfter(windowEnd);
+        }
+
+        /** 반복 일정은 첫 발생 시작부터 마지막 발생 종료(없으면 무한)까지의 구간으로 넣고, 적재 구간을 벗어나면 뺀다 */
+        private void put(ScheduleEntity schedule) {
+            long start = toEpoch(schedule.getStartDate());
+            long end;
+            if (!RecurrenceExpander.isRecurring(schedule)) {
+                end = toEpoch(schedule.getEndDate());
+            } else if (schedule.getRecurrenceEnd() == null) {
+                end = RecurrenceExpander.OPEN_END;
+            } else {
+                end = toEpoch(schedule.getRecurrenceEnd());
+            }
+            if (start >= toEpoch(windowEnd) || end <= toEpoch(windowStart)) {
+                tree.remove(schedule.getId());
+            } else {
+                tree.put(schedule.getId(), start, end, schedule);
+            }
+        }
+    }
+}
@@ -0,0 +1,420 @@
+package kr.co.platform.core.domain.schedule.index;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import kr.co.platform.core.common.util.StringUtil;
+import kr.co.platform.core.domain.schedule.cache.ScheduleVersionRegistry;
+import kr.co.platform.core.domain.schedule.config.ScheduleProperties;
+import kr.co.platform.core.domain.schedule.event.ScheduleChangedEvent;
+import kr.co.platform.core.domain.schedule.mapper.ScheduleMapper;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleSearchDto;
+import kr.co.platform.core.domain.schedule.model.entity.ScheduleEntity;
+import kr.co.platform.core.domain.schedule.model.enums.ScheduleType;
+import kr.co.platform.core.domain.schedule.recurrence.RecurrenceExpander;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자별 일정 키워드 역색인 (제목, 장소, 설명)
+ *
+ * <p>필드별/공개 여부별로 바이그램 → 일정 ID 포스팅 리스트를 두고, 키워드의 바이그램 포스팅을 교집합한 뒤 기간/유형 조건과 원문 부분 일치를 확인한다. SQL의
+ * {@code LIKE '%키워드%'}와 같은 결과를 전체 스캔 없이 구하며, 결과는 관련도 순 ID 목록으로 반환하므로 호출자가 한 번에 조회한다. 사용자 색인은 최초 검색
+ * 시 적재되고 이후에는 커밋된 {@link ScheduleChangedEvent}로 갱신된다.
+ *
+ * <p>색인은 최대 사용자 수와 미사용 시간으로 제한되고, 적재 후 {@code ttl}이 지나면 다시 적재되므로 다른 인스턴스의 변경도 그 안에 반영된다. 이 인스턴스가
+ * 확인한 일정 버전이 색인을 적재한 버전보다 높으면 TTL 전이라도 다시 적재한다. 적재 조회는 복제 지연으로 변경이 빠지지 않도록 호출자의 트랜잭션과 관계없이 쓰기
+ * DataSource에서 읽는다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Slf4j
+@Component
+public class ScheduleKeywordIndex {
+
+    private static final String CACHE_NAME = "schedule.keyword_index";
+
+    private static final int TITLE = 0;
+    private static final int LOCATION = 1;
+    private static final int DESCRIPTION = 2;
+
+    /** 필드별 관련도 가중치 (제목 > 장소 > 설명) */
+    private static final int[] FIELD_WEIGHTS = {4, 2, 1};
+
+    /** 제목이 키워드로 시작하는 경우 가산점 */
+    private static final int TITLE_PREFIX_BONUS = 1;
+
+    private final ScheduleMapper scheduleMapper;
+    private final ScheduleVersionRegistry scheduleVersionRegistry;
+    private final ScheduleProperties scheduleProperties;
+
+    private final Cache<String, UserIndex> userIndexes;
+
+    /** 적재 조회용 (호출자의 읽기 전용 트랜잭션을 보류하여 복제본이 아닌 쓰기 DataSource에서 읽음) */
+    private final TransactionTemplate primaryRead;
+
+    @Autowired
+    public ScheduleKeywordIndex(
+            ScheduleMapper scheduleMapper,
+            ScheduleVersionRegistry scheduleVersionRegistry,
+            ScheduleProperties scheduleProperties,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this(
+                scheduleMapper,
+                scheduleVersionRegistry,
+                scheduleProperties,
+                transactionManager,
+                meterRegistry,
+                Ticker.systemTicker());
+    }
+
+    /** 만료 시각 기준 시계를 지정하는 생성자 (테스트에서 TTL 경과를 대기 없이 재현) */
+    ScheduleKeywordIndex(
+            ScheduleMapper scheduleMapper,
+            ScheduleVersionRegistry scheduleVersionRegistry,
+            ScheduleProperties scheduleProperties,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            Ticker ticker) {
+        this.scheduleMapper = scheduleMapper;
+        this.scheduleVersionRegistry = scheduleVersionRegistry;
+        this.scheduleProperties = scheduleProperties;
+        ScheduleProperties.KeywordIndex properties = scheduleProperties.getKeywordIndex();
+        this.userIndexes =
+                Caffeine.newBuilder()
+                        .maximumSize(properties.getMaximumSize())
+                        .expireAfterAccess(properties.getExpireAfterAccess())
+                        .expireAfterWrite(properties.getTtl())
+                        .ticker(ticker)
+                        .recordStats()
+                        .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, userIndexes, CACHE_NAME);
+        this.primaryRead = new TransactionTemplate(transactionManager);
+        this.primaryRead.setPropagationBehavior(TransactionDefinition.PROPAGATION_NOT_SUPPORTED);
+    }
+
+    /**
+     * 사용 여부
+     *
+     * @return 색인 사용 시 true
+     */
+    public boolean isEnabled() {
+        return scheduleProperties.getKeywordIndex().isEnabled();
+    }
+
+    /**
+     * 키워드와 부분 일치하는 일정 ID를 관련도 순으로 조회
+     *
+     * <p>키워드에 두 글자 이상인 단어가 없으면 바이그램으로 후보를 좁힐 수 없으므로 null을 반환한다 (SQL 검색 사용).
+     *
+     * @param userId 일정 소유자 ID
+     * @param search 검색 조건 (키워드, 유형, 공개 일정 여부)
+     * @param from 기간 시작 일시 (포함, null이면 제한 없음)
+     * @param to 기간 종료 일시 (미포함, null이면 제한 없음)
+     * @return 관련도 내림차순(같으면 최신 ID 순) 일정 ID 배열, 색인으로 처리할 수 없으면 null
+     */
+    public long[] search(
+            String userId, ScheduleSearchDto search, LocalDateTime from, LocalDateTime to) {
+        if (!isEnabled() || StringUtil.isEmpty(search.getKeyword())) {
+            return null;
+        }
+        String keyword = KeywordTokenizer.normalize(search.getKeyword());
+        int[] grams = KeywordTokenizer.bigrams(keyword);
+        if (grams.length == 0) {
+            return null;
+        }
+        long fromEpoch = from == null ? Long.MIN_VALUE : RecurrenceExpander.toEpoch(from);
+        long toEpoch = to == null ? Long.MAX_VALUE : RecurrenceExpander.toEpoch(to);
+        boolean publicOnly = Boolean.TRUE.equals(search.getPublicOnly());
+
+        UserIndex index = load(userId);
+        Map<Long, Integer> scores = new HashMap<>();
+        index.lock.readLock().lock();
+        try {
+            for (int field = TITLE; field <= DESCRIPTION; field++) {
+                for (int visibility = publicOnly ? 1 : 0; visibility <= 1; visibility++) {
+                    long[] candidates = index.intersect(grams, field, visibility == 1);
+                    for (long id : candidates) {
+                        Document document = index.documents.get(id);
+                        if (!document.matches(fromEpoch, toEpoch, search.getScheduleType())) {
+                            continue;
+                        }
+                        String text = document.texts[field];
+                        // 바이그램은 모두 포함하지만 연속되지 않은 경우를 걸러낸다
+                        if (!text.contains(keyword)) {
+                            continue;
+                        }
+                        int score = FIELD_WEIGHTS[field];
+                        if (field == TITLE && text.startsWith(keyword)) {
+                            score += TITLE_PREFIX_BONUS;
+                        }
+                        scores.merge(id, score, Integer::sum);
+                    }
+                }
+            }
+        } finally {
+            index.lock.readLock().unlock();
+        }
+
+        List<Map.Entry<Long, Integer>> ranked = new ArrayList<>(scores.entrySet());
+        ranked.sort(
+                Map.Entry.<Long, Integer>comparingByValue()
+                        .reversed()
+                        .thenComparing(Map.Entry.<Long, Integer>comparingByKey().reversed()));
+        long[] ids = new long[ranked.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = ranked.get(i).getKey();
+        }
+        return ids;
+    }
+
+    /**
+     * 사용자 색인 제거 (다음 검색 시 다시 적재)
+     *
+     * @param userId 사용자 ID
+     */
+    public void evict(String userId) {
+        userIndexes.invalidate(userId);
+    }
+
+    /**
+     * 일정 변경 이벤트 반영 (커밋 후, 버전 증가 다음)
+     *
+     * <p>변경을 반영한 뒤 적재 버전 바로 다음 버전으로 올라간 사용자 색인만 새 버전으로 올린다.
+     *
+     * @param event 일정 변경 이벤트
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        ScheduleEntity previous = event.getPrevious();
+        if (previous != null && !previous.getUserId().equals(event.getUserId())) {
+            apply(previous.getUserId(), previous, true);
+        }
+        apply(
+                event.getUserId(),
+                event.getSchedule(),
+                event.getChangeType() == ScheduleChangedEvent.ChangeType.DELETED);
+        event.getVersions().forEach(this::advance);
+    }
+
+    private void advance(String userId, long version) {
+        UserIndex index = userIndexes.getIfPresent(userId);
+        if (index == null) {
+            return;
+        }
+        index.lock.writeLock().lock();
+        try {
+            if (index.loaded && index.version == version - 1) {
+                index.version = version;
+            }
+        } finally {
+            index.lock.writeLock().unlock();
+        }
+    }
+
+    private void apply(String userId, ScheduleEntity schedule, boolean remove) {
+        UserIndex index = userIndexes.getIfPresent(userId);
+        if (index == null) {
+            // 아직 적재되지 않은 사용자는 최초 검색 시 DB에서 최신 상태로 적재된다
+            return;
+        }
+        index.lock.writeLock().lock();
+        try {
+            if (!index.loaded) {
+                // 적재 전이면 커밋된 변경이 적재 조회에 포함된다
+                return;
+            }
+            if (remove || schedule.isDeleted()) {
+                index.remove(schedule.getId());
+            } else {
+                index.put(schedule);
+            }
+        } finally {
+            index.lock.writeLock().unlock();
+        }
+    }
+
+    private UserIndex load(String userId) {
+        UserIndex index = userIndexes.get(userId, key -> new UserIndex());
+        if (index.isFresh(scheduleVersionRegistry.observedVersion(userId))) {
+            return index;
+        }
+        index.lock.writeLock().lock();
+        try {
+            if (!index.isFresh(scheduleVersionRegistry.observedVersion(userId))) {
+                index.reset();
+                List<ScheduleEntity> schedules =
+                        primaryRead.execute(
+                                status -> {
+                                    // 적재한 일정이 이 버전까지의 변경을 모두 담도록 버전을 먼저 읽는다
+                                    index.version = scheduleVersionRegistry.version(userId);
+                                    return scheduleMapper.selectSchedulesByUserId(userId);
+                                });
+                for (ScheduleEntity schedule : schedules) {
+                    index.put(schedule);
+                }
+                index.loaded = true;
+                log.debug(
+                        "Schedule keyword index loaded: userId={}, size={}, postings={},"
+                                + " version={}",
+                        userId,
+                        schedules.size(),
+                        index.postings.size(),
+                        index.version);
+            }
+        } finally {
+            index.lock.writeLock().unlock();
+        }
+        return index;
+    }
+
+    /** 포스팅 키 (바이그램 32비트 | 필드 2비트 | 공개 여부 1비트) */
+    private static long postingKey(int gram, int field, boolean isPublic) {
+        return ((gram & 0xFFFFFFFFL) << 3) | ((long) field << 1) | (isPublic ? 1 : 0);
+    }
+
+    /** 사용자별 색인 (동기화는 lock으로 처리) */
+    private static final class UserIndex {
+        private final Map<Long, PostingList> postings = new HashMap<>();
+        private final Map<Long, Document> documents = new HashMap<>();
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private volatile boolean loaded;
+
+        /** 적재 시 읽은 일정 버전 (이후 이어지는 변경 이벤트를 반영하면 함께 올라감) */
+        private volatile long version;
+
+        /** 적재되었고 확인한 버전 이후에 적재(또는 갱신)되었는지 여부 */
+        private boolean isFresh(long observedVersion) {
+            return loaded && version >= observedVersion;
+        }
+
+        /** 다시 적재하기 위해 비움 (적재가 실패하면 적재 전 상태로 남음) */
+        private void reset() {
+            loaded = false;
+            postings.clear();
+            documents.clear();
+        }
+
+        private void put(ScheduleEntity schedule) {
+            remove(schedule.getId());
+            Document document = Document.of(schedule);
+            documents.put(document.id, document);
+            for (int field = TITLE; field <= DESCRIPTION; field++) {
+                for (int gram : KeywordTokenizer.bigrams(document.texts[field])) {
+                    postings.computeIfAbsent(
+                                    postingKey(gram, field, document.isPublic),
+                                    key -> new PostingList())
+                            .add(document.id);
+                }
+            }
+        }
+
+        private void remove(long id) {
+            Document document = documents.remove(id);
+            if (document == null) {
+                return;
+            }
+            for (int field = TITLE; field <= DESCRIPTION; field++) {
+                for (int gram : KeywordTokenizer.bigrams(document.texts[field])) {
+                    long key = postingKey(gram, field, document.isPublic);
+                    PostingList list = postings.get(key);
+                    if (list != null && list.remove(id) && list.size() == 0) {
+                        postings.remove(key);
+                    }
+                }
+            }
+        }
+
+        /** 모든 바이그램 포스팅의 교집합 (짧은 목록부터 병합) */
+        private long[] intersect(int[] grams, int field, boolean isPublic) {
+            PostingList[] lists = new PostingList[grams.length];
+            for (int i = 0; i < grams.length; i++) {
+                lists[i] = postings.get(postingKey(grams[i], field, isPublic));
+                if (lists[i] == null) {
+                    return new long[0];
+                }
+            }
+            Arrays.sort(lists, (a, b) -> Integer.compare(a.size(), b.size()));
+            long[] candidates = lists[0].toArray();
+            int count = candidates.length;
+            for (int i = 1; i < lists.length && count > 0; i++) {
+                count = lists[i].retainAll(candidates, count);
+            }
+            return count == candidates.length ? candidates : Arrays.copyOf(candidates, count);
+        }
+    }
+
+    /** 색인된 일정 (기간/유형 필터와 원문 확인에 필요한 값만 보관) */
+    private static final class Document {
+        private final long id;
+        private final long start;
+        private final long end;
+        private final ScheduleType scheduleType;
+        private final boolean isPublic;
+        private final String[] texts;
+
+        private Document(
+                long id,
+                long start,
+                long end,
+                ScheduleType scheduleType,
+                boolean isPublic,
+                String[] texts) {
+            this.id = id;
+            this.start = start;
+            this.end = end;
+            this.scheduleType = scheduleType;
+            this.isPublic = isPublic;
+            this.texts = texts;
+        }
+
+        /** 반복 일정은 첫 발생 시작부터 마지막 발생 종료(없으면 무한)까지를 기간으로 본다 */
+        private static Document of(ScheduleEntity schedule) {
+            long end;
+            if (!RecurrenceExpander.isRecurring(schedule)) {
+                end = RecurrenceExpander.toEpoch(schedule.getEndDate());
+            } else if (schedule.getRecurrenceEnd() == null) {
+                end = RecurrenceExpander.OPEN_END;
+            } else {
+                end = RecurrenceExpander.toEpoch(schedule.getRecurrenceEnd());
+            }
+            String[] texts = new String[3];
+            texts[TITLE] = KeywordTokenizer.normalize(schedule.getTitle());
+            texts[LOCATION] = KeywordTokenizer.normalize(schedule.getLocation());
+            texts[DESCRIPTION] = KeywordTokenizer.normalize(schedule.getDescription());
+            return new Document(
+                    schedule.getId(),
+                    RecurrenceExpander.toEpoch(schedule.getStartDate()),
+                    end,
+                    schedule.getScheduleType(),
+                    Boolean.TRUE.equals(schedule.getIsPublic()),
+                    texts);
+        }
+
+        private boolean matches(long from, long to, ScheduleType type) {
+            return start < to && end > from && (type == null || type == scheduleType);
+        }
+    }
+}
@@ -1,8 +1,17 @@
 package kr.co.platform.core.domain.schedule.mapper;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleCursor;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleSearchDto;
 import kr.co.platform.core.domain.schedule.model.entity.ScheduleEntity;
+import kr.co.platform.core.domain.schedule.model.enums.ScheduleSortField;
 
 /**
  * 일정 MyBatis Mapper
@@ -20,4 +29,229 @@ public interface ScheduleMapper {
      * @return 영향받은 행 수
      */
     int insertSchedule(ScheduleEntity schedule);
+
+    /**
+     * 일정 다중 행 저장 (생성된 ID는 각 엔티티에 설정됨)
+     *
+     * @param schedules 일정 엔티티 목록
+     * @return 영향받은 행 수
+     */
+    int insertSchedules(List<ScheduleEntity> schedules);
+
+    /**
+     * 일정 단건 조회
+     *
+     * @param id 일정 ID
+     * @return 일정 엔티티 (삭제되었거나 없으면 null)
+     */
+    ScheduleEntity selectScheduleById(@Param("id") Long id);
+
+    /**
+     * 사용자의 삭제되지 않은 전체 일정 조회
+     *
+     * @param userId 사용자 ID
+     * @return 일정 엔티티 목록
+     */
+    List<ScheduleEntity> selectSchedulesByUserId(@Param("userId") String userId);
+
+    /**
+     * 여러 사용자의 기간과 겹치는 일정 조회 (반복 일정은 기간과 겹칠 수 있는 마스터 행)
+     *
+     * @param userIds 사용자 ID 목록
+     * @param from 조회 시작 일시 (포함)
+     * @param to 조회 종료 일시 (미포함)
+     * @return 일정 엔티티 목록
+     */
+    List<ScheduleEntity> selectSchedulesByUserIdsInRange(
+            @Param("userIds") Collection<String> userIds,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+
+    /**
+     * 여러 일정 조회 (삭제되지 않은 일정, 순서 보장 없음)
+     *
+     * @param ids 일정 ID 목록
+     * @return 일정 엔티티 목록
+     */
+    List<ScheduleEntity> selectSchedulesByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 기간과 겹치는 사용자 일정 조회 (반복 일정은 기간과 겹칠 수 있는 마스터 행)
+     *
+     * @param userId 사용자 ID
+     * @param from 조회 시작 일시 (포함)
+     * @param to 조회 종료 일시 (미포함)
+     * @return 일정 엔티티 목록 (시작 일시 순)
+     */
+    List<ScheduleEntity> selectSchedulesInRange(
+            @Param("userId") String userId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+
+    /**
+     * 일정 검색 (cursor가 없으면 OFFSET, 있으면 Keyset Seek 사용)
+     *
+     * @param search 검색 조건
+     * @param ids 키워드 색인으로 구한 후보 ID (지정 시 키워드 LIKE 대신 사용, null이면 미사용)
+     * @param from 기간 시작 일시 (포함, null이면 제한 없음)
+     * @param to 기간 종료 일시 (미포함, null이면 제한 없음)
+     * @param excludeRecurring 반복 일정 제외 여부 (반복 일정을 따로 전개하는 경우)
+     * @param sortField 정렬 필드
+     * @param descending 내림차순 여부
+     * @param cursor 마지막 행 커서 (null이면 OFFSET 사용)
+     * @param offset 건너뛸 행 수 (cursor가 없을 때만 사용)
+     * @param limit 조회 건수
+     * @return 일정 엔티티 목록
+     */
+    List<ScheduleEntity> selectSchedules(
+            @Param("search") ScheduleSearchDto search,
+            @Param("ids") Collection<Long> ids,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("excludeRecurring") boolean excludeRecurring,
+            @Param("sortField") ScheduleSortField sortField,
+            @Param("descending") boolean descending,
+            @Param("cursor") ScheduleCursor cursor,
+            @Param("offset") int offset,
+            @Param("limit") int limit);
+
+    /**
+     * 기간과 겹칠 수 있는 반복 일정 마스터 조회 (검색 조건의 유형/공개/키워드 필터 적용)
+     *
+     * @param search 검색 조건
+     * @param ids 키워드 색인으로 구한 후보 ID (null이면 미사용)
+     * @param from 기간 시작 일시 (포함)
+     * @param to 기간 종료 일시 (미포함)
+     * @return 반복 일정 엔티티 목록
+     */
+    List<ScheduleEntity> selectRecurringSchedules(
+            @Param("search") ScheduleSearchDto search,
+            @Param("ids") Collection<Long> ids,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+
+    /**
+     * 변경 토큰 이후의 일정 변경 조회 (삭제된 행 포함, 변경 일시/ID 순)
+     *
+     * @param userId 사용자 ID
+     * @param afterChangedAt 마지막으로 받은 변경 일시
+     * @param afterId 마지막으로 받은 일정 ID
+     * @param until 변경 일시 상한 (포함, 커밋 지연 여유를 뺀 시각)
+     * @param limit 조회 건수
+     * @return 일정 엔티티 목록
+     */
+    List<ScheduleEntity> selectScheduleChanges(
+            @Param("userId") String userId,
+            @Param("afterChangedAt") LocalDateTime afterChangedAt,
+            @Param("afterId") Long afterId,
+            @Param("until") LocalDateTime until,
+            @Param("limit") int limit);
+
+    /**
+     * 내보내기용 일정 커서 조회 (반복 일정은 마스터 행, 시작 일시/ID 순)
+     *
+     * <p>결과를 한 번에 올리지 않고 fetch size 단위로 읽으므로 트랜잭션(세션)이 열려 있는 동안 끝까지 읽고 닫아야 한다.
+     *
+     * @param search 내보내기 조건 (userId, scheduleType, publicOnly)
+     * @param from 기간 시작 일시 (포함, null이면 제한 없음)
+     * @param to 기간 종료 일시 (미포함, null이면 제한 없음)
+     * @return 일정 엔티티 커서
+     */
+    Cursor<ScheduleEntity> selectSchedulesForExport(
+            @Param("search") ScheduleSearchDto search,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+
+    /**
+     * 알림 예정 일시가 [from, to)인 일반 일정 조회 (시작 일시, ID 순)
+     *
+     * @param from 알림 구간 시작 (포함)
+     * @param to 알림 구간 종료 (미포함)
+     * @param maxStartDate 시작 일시 상한 (to + 최대 알림 시간, 범위 스캔용)
+     * @param afterStartDate 이전 배치 마지막 행의 시작 일시 (첫 배치는 null)
+     * @param afterId 이전 배치 마지막 행의 ID
+     * @param limit 조회 건수
+     * @return 일정 엔티티 목록
+     */
+    List<ScheduleEntity> selectUpcomingReminders(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("maxStartDate") LocalDateTime maxStartDate,
+            @Param("afterStartDate") LocalDateTime afterStartDate,
+            @Param("afterId") Long afterId,
+            @Param("limit") int limit);
+
+    /**
+     * 알림 구간에 발생이 있을 수 있는 반복 일정 조회 (ID 순)
+     *
+     * @param from 알림 구간 시작 (포함)
+     * @param maxStartDate 시작 일시 상한 (구간 종료 + 최대 알림 시간)
+     * @param afterId 이전 배치 마지막 행의 ID (첫 배치는 null)
+     * @param limit 조회 건수
+     * @return 반복 일정 엔티티 목록
+     */
+    List<ScheduleEntity> selectRecurringReminders(
+            @Param("from") LocalDateTime from,
+            @Param("maxStartDate") LocalDateTime maxStartDate,
+            @Param("afterId") Long afterId,
+            @Param("limit") int limit);
+
+    /**
+     * 보관 대상(삭제 후 보관 기간이 지난) 일정 조회 (삭제 일시/ID 순 Keyset 배치)
+     *
+     * <p>삭제 일시 색인 범위만 읽도록 (deleted_at, id) 순으로 이어 읽는다.
+     *
+     * @param deletedBefore 삭제 일시 상한 (미포함)
+     * @param afterDeletedAt 이전 배치 마지막 행의 삭제 일시 (첫 배치는 null)
+     * @param afterId 이전 배치 마지막 행의 ID (첫 배치는 null)
+     * @param limit 조회 건수
+     * @return ID와 삭제 일시만 채운 일정 엔티티 목록
+     */
+    List<ScheduleEntity> selectArchiveCandidates(
+            @Param("deletedBefore") LocalDateTime deletedBefore,
+            @Param("afterDeletedAt") LocalDateTime afterDeletedAt,
+            @Param("afterId") Long afterId,
+            @Param("limit") int limit);
+
+    /**
+     * 보관 대상 일정 수 (남은 작업량)
+     *
+     * @param deletedBefore 삭제 일시 상한 (미포함)
+     * @return 일정 수
+     */
+    long countArchiveCandidates(@Param("deletedBefore") LocalDateTime deletedBefore);
+
+    /**
+     * 삭제된 일정을 보관 테이블로 복사
+     *
+     * @param ids 일정 ID 목록
+     * @param archivedAt 보관 일시 (애플리케이션 시계)
+     * @return 복사된 행 수
+     */
+    int insertScheduleArchives(
+            @Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+
+    /**
+     * 삭제된 일정 영구 삭제
+     *
+     * @param ids 일정 ID 목록
+     * @return 삭제된 행 수
+     */
+    int purgeSchedules(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 일정 수정
+     *
+     * @param schedule 일정 엔티티
+     * @return 영향받은 행 수
+     */
+    int updateSchedule(ScheduleEntity schedule);
+
+    /**
+     * 일정 삭제 (Soft Delete)
+     *
+     * @param schedule 삭제 정보가 설정된 일정 엔티티
+     * @return 영향받은 행 수
+     */
+    int deleteSchedule(ScheduleEntity schedule);
 }
@@ -0,0 +1,32 @@
+package kr.co.platform.core.domain.schedule.mapper;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import kr.co.platform.core.domain.schedule.model.dto.SchedulePartitionDto;
+
+/**
+ * 일정 테이블 파티션 관리 MyBatis Mapper
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Mapper
+public interface SchedulePartitionMapper {
+
+    /**
+     * 일정 테이블 파티션 이름 조회 (파티션 순서)
+     *
+     * @return 파티션 이름 목록 (파티션 테이블이 아니면 빈 목록)
+     */
+    List<String> selectPartitionNames();
+
+    /**
+     * 마지막(MAXVALUE) 파티션을 나누어 월 파티션 추가
+     *
+     * @param partitions 추가할 월 파티션 (오름차순)
+     */
+    void splitFuturePartition(@Param("partitions") List<SchedulePartitionDto> partitions);
+}
@@ -0,0 +1,43 @@
+package kr.co.platform.core.domain.schedule.mapper;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleVersionDto;
+
+/**
+ * 사용자별 일정 버전 MyBatis Mapper
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Mapper
+public interface ScheduleVersionMapper {
+
+    /**
+     * 사용자 일정 버전 조회
+     *
+     * @param userId 사용자 ID
+     * @return 현재 버전 (변경 이력이 없으면 null)
+     */
+    Long selectVersion(@Param("userId") String userId);
+
+    /**
+     * 여러 사용자 일정 버전 조회
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 변경 이력이 있는 사용자의 버전 목록
+     */
+    List<ScheduleVersionDto> selectVersions(@Param("userIds") Collection<String> userIds);
+
+    /**
+     * 사용자 일정 버전 증가 (없으면 1로 생성)
+     *
+     * @param userIds 사용자 ID 목록 (잠금 순서를 맞추도록 정렬해서 전달)
+     * @return 영향받은 행 수
+     */
+    int increaseVersions(@Param("userIds") Collection<String> userIds);
+}
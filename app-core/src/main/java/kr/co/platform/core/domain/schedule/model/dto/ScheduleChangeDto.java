@@ -0,0 +1,37 @@
+package kr.co.platform.core.domain.schedule.model.dto;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import kr.co.platform.core.domain.schedule.event.ScheduleChangedEvent;
+import lombok.*;
+
+/**
+ * 일정 변경 항목 DTO (삭제는 일정 본문 없이 ID만 전달하는 툼스톤)
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ScheduleChangeDto {
+
+    /** 변경 유형 */
+    private ScheduleChangedEvent.ChangeType changeType;
+
+    /** 일정 ID */
+    private Long scheduleId;
+
+    /** 변경 일시 */
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime changedAt;
+
+    /** 변경 후 일정 (삭제면 null) */
+    private ScheduleResponseDto schedule;
+}
@@ -0,0 +1,55 @@
+package kr.co.platform.core.domain.schedule.model.dto;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+import kr.co.platform.core.common.exception.BusinessException;
+import kr.co.platform.core.common.exception.ErrorCode;
+import kr.co.platform.core.common.util.CursorUtil;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 일정 변경 토큰 (마지막으로 받은 변경의 변경 일시, ID)
+ *
+ * <p>변경 일시는 수정 일시(삭제 시에도 갱신됨)가 있으면 수정 일시, 없으면 생성 일시다. (변경 일시, ID) 순서는 단조 증가하므로 토큰 이후의 변경만 이어서 받을 수
+ * 있다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Getter
+@AllArgsConstructor
+public class ScheduleChangeToken {
+
+    /** 마지막 변경 일시 */
+    private final LocalDateTime changedAt;
+
+    /** 마지막 변경 일정 ID */
+    private final Long id;
+
+    /**
+     * 토큰 문자열 디코딩
+     *
+     * @param token 토큰 문자열
+     * @return 변경 토큰
+     * @throws BusinessException 형식이 올바르지 않은 경우
+     */
+    public static ScheduleChangeToken decode(String token) {
+        String[] parts = CursorUtil.decode(token, 2);
+        try {
+            return new ScheduleChangeToken(LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, e);
+        }
+    }
+
+    /**
+     * 토큰 문자열 인코딩
+     *
+     * @return 토큰 문자열
+     */
+    public String encode() {
+        return CursorUtil.encode(String.valueOf(changedAt), String.valueOf(id));
+    }
+}
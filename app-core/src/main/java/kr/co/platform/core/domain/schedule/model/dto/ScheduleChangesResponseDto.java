@@ -0,0 +1,31 @@
+package kr.co.platform.core.domain.schedule.model.dto;
+
+import java.util.List;
+
+import lombok.*;
+
+/**
+ * 일정 변경분 조회 응답 DTO
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScheduleChangesResponseDto {
+
+    /** 변경 일시 순 변경 목록 */
+    private List<ScheduleChangeDto> changes;
+
+    /** 다음 조회에 since로 전달할 토큰 */
+    private String nextToken;
+
+    /** 토큰 이후 변경이 더 남아 있는지 여부 (true면 바로 이어서 조회) */
+    private boolean hasMore;
+
+    /** 전체 재동기화 필요 여부 (토큰이 없거나 삭제 이력 보관 기간보다 오래된 경우) */
+    private boolean resyncRequired;
+}
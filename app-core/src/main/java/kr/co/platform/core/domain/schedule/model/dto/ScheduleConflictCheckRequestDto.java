@@ -0,0 +1,40 @@
+package kr.co.platform.core.domain.schedule.model.dto;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+/**
+ * 일정 충돌 확인 요청 DTO
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScheduleConflictCheckRequestDto {
+
+    /** 시작 일시 */
+    @NotNull(message = "시작 일시는 필수입니다.")
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime startDate;
+
+    /** 종료 일시 */
+    @NotNull(message = "종료 일시는 필수입니다.")
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime endDate;
+
+    /** 참석자 사용자 ID 목록 */
+    @Size(max = 1000, message = "참석자는 1000명을 초과할 수 없습니다.")
+    private String[] participantUserIds;
+
+    /** 충돌 확인에서 제외할 일정 ID (수정 중인 일정) */
+    private Long excludeScheduleId;
+}
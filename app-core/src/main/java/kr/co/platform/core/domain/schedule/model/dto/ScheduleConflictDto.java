@@ -0,0 +1,42 @@
+package kr.co.platform.core.domain.schedule.model.dto;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import kr.co.platform.core.domain.schedule.model.enums.ScheduleType;
+import lombok.*;
+
+/**
+ * 일정 충돌 정보 DTO (충돌한 사용자와 일정 구간)
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScheduleConflictDto {
+
+    /** 충돌한 사용자 ID */
+    private String userId;
+
+    /** 충돌한 일정 ID */
+    private Long scheduleId;
+
+    /** 충돌한 일정 제목 (비공개 일정은 숨김) */
+    private String title;
+
+    /** 일정 유형 */
+    private ScheduleType scheduleType;
+
+    /** 시작 일시 */
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime startDate;
+
+    /** 종료 일시 */
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime endDate;
+}
@@ -0,0 +1,90 @@
+package kr.co.platform.core.domain.schedule.model.dto;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+import kr.co.platform.core.common.exception.BusinessException;
+import kr.co.platform.core.common.exception.ErrorCode;
+import kr.co.platform.core.common.util.CursorUtil;
+import kr.co.platform.core.domain.schedule.model.entity.ScheduleEntity;
+import kr.co.platform.core.domain.schedule.model.enums.ScheduleSortField;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 일정 검색 커서 (마지막 행의 정렬 값, ID, 시작 일시) Keyset(Seek) 페이지네이션에 사용
+ *
+ * <p>반복 일정의 발생은 ID가 같으므로 시작 일시로 순서를 구분한다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Getter
+@AllArgsConstructor
+public class ScheduleCursor {
+
+    /** 정렬 필드 */
+    private final ScheduleSortField sortField;
+
+    /** 내림차순 여부 */
+    private final boolean descending;
+
+    /** 마지막 행의 정렬 값 */
+    private final LocalDateTime value;
+
+    /** 마지막 행의 ID */
+    private final Long id;
+
+    /** 마지막 행의 시작 일시 (같은 반복 일정의 발생 구분용) */
+    private final LocalDateTime startDate;
+
+    /**
+     * 마지막 행으로부터 커서 생성
+     *
+     * @param sortField 정렬 필드
+     * @param descending 내림차순 여부
+     * @param last 마지막 행
+     * @return 일정 커서
+     */
+    public static ScheduleCursor of(
+            ScheduleSortField sortField, boolean descending, ScheduleEntity last) {
+        return new ScheduleCursor(
+                sortField, descending, sortField.valueOf(last), last.getId(), last.getStartDate());
+    }
+
+    /**
+     * 커서 문자열 디코딩
+     *
+     * @param token 커서 문자열
+     * @return 일정 커서
+     * @throws BusinessException 형식이 올바르지 않은 경우
+     */
+    public static ScheduleCursor decode(String token) {
+        String[] parts = CursorUtil.decode(token, 5);
+        try {
+            ScheduleSortField sortField = ScheduleSortField.from(parts[0]);
+            return new ScheduleCursor(
+                    sortField,
+                    "DESC".equals(parts[1]),
+                    sortField.parse(parts[2]),
+                    Long.valueOf(parts[3]),
+                    LocalDateTime.parse(parts[4]));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, e);
+        }
+    }
+
+    /**
+     * 커서 문자열 인코딩
+     *
+     * @return 커서 문자열
+     */
+    public String encode() {
+        return CursorUtil.encode(
+                sortField.getProperty(),
+                descending ? "DESC" : "ASC",
+                String.valueOf(value),
+                String.valueOf(id),
+                String.valueOf(startDate));
+    }
+}
@@ -0,0 +1,35 @@
+package kr.co.platform.core.domain.schedule.model.dto;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import lombok.*;
+
+/**
+ * 대시보드 다가오는 알림 DTO
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScheduleDashboardReminderDto {
+
+    /** 일정 ID */
+    private Long scheduleId;
+
+    /** 일정 제목 */
+    private String title;
+
+    /** 일정 시작 일시 */
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime startDate;
+
+    /** 알림 일시 */
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime remindAt;
+}
@@ -0,0 +1,50 @@
+package kr.co.platform.core.domain.schedule.model.dto;
+
+import java.util.List;
+import java.util.Map;
+
+import kr.co.platform.core.domain.schedule.model.enums.ScheduleType;
+import lombok.*;
+
+/**
+ * 일정 대시보드 응답 DTO
+ *
+ * <p>제한 시간 안에 끝나지 않았거나 실패한 항목은 null이며 이름이 {@link #unavailableParts}에 담긴다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScheduleDashboardResponseDto {
+
+    /** 항목 이름: 오늘 일정 */
+    public static final String PART_TODAY = "today";
+
+    /** 항목 이름: 다가오는 일정 */
+    public static final String PART_UPCOMING = "upcoming";
+
+    /** 항목 이름: 다가오는 알림 */
+    public static final String PART_REMINDERS = "reminders";
+
+    /** 항목 이름: 이번 달 유형별 일정 수 */
+    public static final String PART_TYPE_COUNTS = "typeCounts";
+
+    /** 오늘 일정 */
+    private List<ScheduleResponseDto> today;
+
+    /** 내일부터 다가오는 일정 (시작 일시 순, 최대 개수 제한) */
+    private List<ScheduleResponseDto> upcoming;
+
+    /** 알림 시각이 다가오는 일정 (알림 일시 순) */
+    private List<ScheduleDashboardReminderDto> reminders;
+
+    /** 이번 달 유형별 일정 수 (반복 일정은 발생 건수) */
+    private Map<ScheduleType, Long> typeCounts;
+
+    /** 제한 시간 초과 또는 실패로 생략된 항목 */
+    private List<String> unavailableParts;
+}
@@ -0,0 +1,53 @@
+package kr.co.platform.core.domain.schedule.model.dto;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+/**
+ * free/busy 조회 요청 DTO
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScheduleFreeBusyRequestDto {
+
+    /** 조회 대상 사용자 ID 목록 */
+    @NotEmpty(message = "사용자 ID 목록은 필수입니다.")
+    private String[] userIds;
+
+    /** 조회 시작 일시 (포함) */
+    @NotNull(message = "시작 일시는 필수입니다.")
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime startDate;
+
+    /** 조회 종료 일시 (미포함) */
+    @NotNull(message = "종료 일시는 필수입니다.")
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime endDate;
+
+    /** 슬롯 크기(분), 미지정 시 설정값 사용 */
+    @Min(value = 1, message = "슬롯 크기는 1분 이상이어야 합니다.")
+    @Max(value = 1440, message = "슬롯 크기는 1440분을 초과할 수 없습니다.")
+    private Integer slotMinutes;
+
+    /** 추천할 공통 빈 시간대의 최소 길이(분), 미지정 시 슬롯 크기 */
+    @Min(value = 1, message = "최소 빈 시간은 1분 이상이어야 합니다.")
+    private Integer minFreeMinutes;
+
+    /** 추천할 공통 빈 시간대 수, 미지정 시 설정값 사용 */
+    @Min(value = 0, message = "추천 개수는 0 이상이어야 합니다.")
+    @Max(value = 100, message = "추천 개수는 100을 초과할 수 없습니다.")
+    private Integer maxSuggestions;
+}
@@ -0,0 +1,42 @@
+package kr.co.platform.core.domain.schedule.model.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import lombok.*;
+
+/**
+ * free/busy 조회 응답 DTO
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScheduleFreeBusyResponseDto {
+
+    /** 조회 시작 일시 */
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime startDate;
+
+    /** 조회 종료 일시 */
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime endDate;
+
+    /** 슬롯 크기(분) */
+    private int slotMinutes;
+
+    /** 사용자별 busy 구간 */
+    private List<ScheduleUserBusyDto> users;
+
+    /** 한 명이라도 busy인 구간 */
+    private List<ScheduleTimeRangeDto> busy;
+
+    /** 모두가 비어 있는 공통 빈 시간대 (앞에서부터 최대 요청 개수) */
+    private List<ScheduleTimeRangeDto> freeWindows;
+}
@@ -0,0 +1,37 @@
+package kr.co.platform.core.domain.schedule.model.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.*;
+
+/**
+ * 일정 일괄 등록 응답 DTO
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ScheduleImportResponseDto {
+
+    /** 처리한 전체 행 수 */
+    private int total;
+
+    /** 성공 행 수 */
+    private int succeeded;
+
+    /** 실패 행 수 */
+    private int failed;
+
+    /** 처리 중단 사유 (끝까지 처리한 경우 null) */
+    private String abortedReason;
+
+    /** 행별 결과 */
+    private List<ScheduleImportRowResultDto> results;
+}
@@ -0,0 +1,58 @@
+package kr.co.platform.core.domain.schedule.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.*;
+
+/**
+ * 일정 일괄 등록 행별 결과 DTO
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ScheduleImportRowResultDto {
+
+    /** 요청 배열 내 위치 (0부터 시작) */
+    private int index;
+
+    /** 성공 여부 */
+    private boolean success;
+
+    /** 생성된 일정 ID */
+    private Long id;
+
+    /** 실패 사유 */
+    private String message;
+
+    /**
+     * 성공 결과 생성
+     *
+     * @param index 요청 배열 내 위치
+     * @param id 생성된 일정 ID
+     * @return 행별 결과
+     */
+    public static ScheduleImportRowResultDto success(int index, Long id) {
+        return ScheduleImportRowResultDto.builder().index(index).success(true).id(id).build();
+    }
+
+    /**
+     * 실패 결과 생성
+     *
+     * @param index 요청 배열 내 위치
+     * @param message 실패 사유
+     * @return 행별 결과
+     */
+    public static ScheduleImportRowResultDto failure(int index, String message) {
+        return ScheduleImportRowResultDto.builder()
+                .index(index)
+                .success(false)
+                .message(message)
+                .build();
+    }
+}
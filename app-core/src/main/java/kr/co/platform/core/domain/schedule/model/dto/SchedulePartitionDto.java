@@ -0,0 +1,55 @@
+package kr.co.platform.core.domain.schedule.model.dto;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 일정 테이블 월 파티션 (start_date 기준 RANGE 파티션)
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Getter
+@AllArgsConstructor
+public class SchedulePartitionDto {
+
+    private static final DateTimeFormatter NAME_FORMAT = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private static final Pattern MONTH_NAME = Pattern.compile("p([0-9]{4})([0-9]{2})");
+
+    /** 파티션 이름 (예: p202611) */
+    private final String name;
+
+    /** 상한 (미포함, 다음 달 1일) */
+    private final LocalDate lessThan;
+
+    /**
+     * 월 파티션 생성
+     *
+     * @param month 파티션 월
+     * @return 월 파티션
+     */
+    public static SchedulePartitionDto of(YearMonth month) {
+        return new SchedulePartitionDto(NAME_FORMAT.format(month), month.plusMonths(1).atDay(1));
+    }
+
+    /**
+     * 파티션 이름의 월 (월 파티션 이름이 아니면 null)
+     *
+     * @param name 파티션 이름
+     * @return 파티션 월
+     */
+    public static YearMonth parseMonth(String name) {
+        Matcher matcher = name == null ? null : MONTH_NAME.matcher(name);
+        if (matcher == null || !matcher.matches()) {
+            return null;
+        }
+        return YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+    }
+}
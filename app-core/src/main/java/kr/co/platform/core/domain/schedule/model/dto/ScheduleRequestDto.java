@@ -1,13 +1,17 @@
 package kr.co.platform.core.domain.schedule.model.dto;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import kr.co.platform.core.common.util.StringUtil;
 import kr.co.platform.core.domain.schedule.model.enums.ScheduleType;
+import kr.co.platform.core.domain.schedule.recurrence.RecurrenceRule;
 import lombok.*;
 
 /**
@@ -23,6 +27,16 @@ import lombok.*;
 @Builder
 public class ScheduleRequestDto {
 
+    /** 알림 시간 최대값 (분, 7일) */
+    public static final int MAX_REMINDER_MINUTES = 10_080;
+
+    /**
+     * 일정(반복 일정은 한 번의 발생) 최대 길이 (일)
+     *
+     * <p>기간 조회가 시작 일시 하한(기간 시작 - 최대 길이)으로 월 파티션을 좁히는 데 쓰이므로 늘리면 조회하는 파티션도 늘어난다.
+     */
+    public static final int MAX_DURATION_DAYS = 31;
+
     /** 일정 제목 */
     @NotBlank(message = "일정 제목은 필수입니다.")
     @Size(max = 200, message = "일정 제목은 200자를 초과할 수 없습니다.")
@@ -54,6 +68,7 @@ public class ScheduleRequestDto {
     private ScheduleType scheduleType;
 
     /** 알림 시간 (분 단위) */
+    @Max(value = MAX_REMINDER_MINUTES, message = "알림 시간은 10080분(7일)을 초과할 수 없습니다.")
     private Integer reminderMinutes;
 
     /** 표시 색상 (HEX) */
@@ -62,6 +77,15 @@ public class ScheduleRequestDto {
     /** 공개 여부 */
     @Builder.Default private Boolean isPublic = true;
 
+    /** 반복 규칙 (RRULE 형식, 예: FREQ=WEEKLY;INTERVAL=1;BYDAY=MO,WE;COUNT=10) */
+    @Size(max = 200, message = "반복 규칙은 200자를 초과할 수 없습니다.")
+    private String recurrenceRule;
+
+    /** 반복 제외 일시 (제외할 발생의 시작 일시) */
+    @Size(max = 500, message = "반복 제외 일시는 500개를 초과할 수 없습니다.")
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private List<LocalDateTime> recurrenceExceptions;
+
     /** 참석자 사용자 ID 목록 */
     private String[] participantUserIds;
 
@@ -75,12 +99,21 @@ public class ScheduleRequestDto {
             if (endDate.isBefore(startDate)) {
                 throw new IllegalArgumentException("종료 일시는 시작 일시보다 이후여야 합니다.");
             }
+            if (endDate.isAfter(startDate.plusDays(MAX_DURATION_DAYS))) {
+                throw new IllegalArgumentException("일정 기간은 31일을 초과할 수 없습니다.");
+            }
         }
 
         if (reminderMinutes != null && reminderMinutes < 0) {
             throw new IllegalArgumentException("알림 시간은 0 이상이어야 합니다.");
         }
 
+        if (StringUtil.isNotEmpty(recurrenceRule)) {
+            RecurrenceRule.parse(recurrenceRule);
+        } else if (recurrenceExceptions != null && !recurrenceExceptions.isEmpty()) {
+            throw new IllegalArgumentException("반복 제외 일시는 반복 일정에만 지정할 수 있습니다.");
+        }
+
         if (color != null && !color.matches("^#[0-9A-Fa-f]{6}$")) {
             throw new IllegalArgumentException("색상은 HEX 형식이어야 합니다. (예: #FF0000)");
         }
@@ -1,6 +1,7 @@
 package kr.co.platform.core.domain.schedule.model.dto;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 
@@ -65,6 +66,13 @@ public class ScheduleResponseDto extends BaseDto {
     /** 공개 여부 */
     private Boolean isPublic;
 
+    /** 반복 규칙 (반복 일정의 발생이면 마스터의 규칙) */
+    private String recurrenceRule;
+
+    /** 반복 제외 일시 */
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private List<LocalDateTime> recurrenceExceptions;
+
     /** 수정 가능 여부 */
     private Boolean editable;
 
@@ -20,6 +20,9 @@ import lombok.*;
 @Builder
 public class ScheduleSearchDto {
 
+    /** 관련도 정렬 (키워드 검색 전용) */
+    public static final String SORT_RELEVANCE = "relevance";
+
     /** 사용자 ID */
     private String userId;
 
@@ -46,12 +49,33 @@ public class ScheduleSearchDto {
     /** 페이지 크기 */
     @Builder.Default private Integer pageSize = 20;
 
-    /** 정렬 필드 */
+    /** 정렬 필드 (키워드 검색 시 relevance 지정 가능) */
     @Builder.Default private String sortBy = "startDate";
 
     /** 정렬 방향 (ASC, DESC) */
     @Builder.Default private String sortDirection = "ASC";
 
+    /** 연속 토큰 (지정 시 page 대신 마지막 행 이후부터 조회) */
+    private String cursor;
+
+    /**
+     * 내림차순 정렬 여부
+     *
+     * @return 정렬 방향이 DESC이면 true
+     */
+    public boolean isDescending() {
+        return "DESC".equalsIgnoreCase(sortDirection);
+    }
+
+    /**
+     * 관련도 정렬 여부
+     *
+     * @return 정렬 필드가 relevance이면 true
+     */
+    public boolean isRelevanceSort() {
+        return SORT_RELEVANCE.equals(sortBy);
+    }
+
     /**
      * Offset 계산 페이지네이션을 위한 오프셋 값을 계산
      *
@@ -72,5 +96,11 @@ public class ScheduleSearchDto {
         if (this.pageSize > 100) {
             this.pageSize = 100; // 최대 100개로 제한
         }
+        if (this.sortBy == null) {
+            this.sortBy = "startDate";
+        }
+        if (this.sortDirection == null) {
+            this.sortDirection = "ASC";
+        }
     }
 }
@@ -0,0 +1,25 @@
+package kr.co.platform.core.domain.schedule.model.dto;
+
+import java.util.List;
+
+import lombok.*;
+
+/**
+ * 사용자별 busy 구간 DTO
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScheduleUserBusyDto {
+
+    /** 사용자 ID */
+    private String userId;
+
+    /** 슬롯 단위로 맞춘 busy 구간 목록 */
+    private List<ScheduleTimeRangeDto> busy;
+}
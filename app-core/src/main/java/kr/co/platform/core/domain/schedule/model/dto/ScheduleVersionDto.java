@@ -0,0 +1,23 @@
+package kr.co.platform.core.domain.schedule.model.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 사용자별 일정 버전
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class ScheduleVersionDto {
+
+    /** 사용자 ID */
+    private String userId;
+
+    /** 현재 버전 */
+    private long version;
+}
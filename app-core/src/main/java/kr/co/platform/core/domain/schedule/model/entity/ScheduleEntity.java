@@ -56,6 +56,15 @@ public class ScheduleEntity extends BaseEntity {
     /** 공개 여부 */
     private Boolean isPublic;
 
+    /** 반복 규칙 (RRULE 형식, 예: FREQ=WEEKLY;BYDAY=MO,WE;COUNT=10) */
+    private String recurrenceRule;
+
+    /** 반복 제외 일시 (발생 시작 일시, 쉼표로 구분된 yyyyMMdd'T'HHmmss) */
+    private String recurrenceExceptions;
+
+    /** 반복 일정의 마지막 발생 종료 일시 (종료 없는 반복이면 null, 기간 조회 필터용) */
+    private LocalDateTime recurrenceEnd;
+
     /** 기본값 설정 일정 생성 시 필수 기본값들을 설정한다 */
     public void setDefaults() {
         if (this.allDay == null) {
@@ -71,4 +80,36 @@ public class ScheduleEntity extends BaseEntity {
             this.color = "#4285F4"; // 기본 파란색
         }
     }
+
+    /**
+     * 일정 복사 변경 전 상태 보존 등을 위해 공통 필드를 포함한 사본을 생성한다
+     *
+     * @return 일정 사본
+     */
+    public ScheduleEntity copy() {
+        ScheduleEntity copy =
+                ScheduleEntity.builder()
+                        .id(id)
+                        .userId(userId)
+                        .title(title)
+                        .description(description)
+                        .location(location)
+                        .startDate(startDate)
+                        .endDate(endDate)
+                        .allDay(allDay)
+                        .scheduleType(scheduleType)
+                        .reminderMinutes(reminderMinutes)
+                        .color(color)
+                        .isPublic(isPublic)
+                        .recurrenceRule(recurrenceRule)
+                        .recurrenceExceptions(recurrenceExceptions)
+                        .recurrenceEnd(recurrenceEnd)
+                        .build();
+        copy.setCreatedAt(getCreatedAt());
+        copy.setCreatedBy(getCreatedBy());
+        copy.setUpdatedAt(getUpdatedAt());
+        copy.setUpdatedBy(getUpdatedBy());
+        copy.setDeletedAt(getDeletedAt());
+        return copy;
+    }
 }
@@ -0,0 +1,20 @@
+package kr.co.platform.core.domain.schedule.model.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 반복 주기 (RRULE FREQ)
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RecurrenceFrequency {
+    DAILY("매일"),
+    WEEKLY("매주"),
+    MONTHLY("매월");
+
+    private final String displayName;
+}
@@ -0,0 +1,38 @@
+package kr.co.platform.core.domain.schedule.model.enums;
+
+import kr.co.platform.core.common.exception.BusinessException;
+import kr.co.platform.core.common.exception.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 일정 내보내기 형식
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ScheduleExportFormat {
+    ICS("ics", "text/calendar; charset=UTF-8"),
+    CSV("csv", "text/csv; charset=UTF-8");
+
+    private final String extension;
+    private final String contentType;
+
+    /**
+     * 확장자로 조회 (대소문자 무시)
+     *
+     * @param extension 확장자 (예: ics)
+     * @return 내보내기 형식
+     * @throws BusinessException 지원하지 않는 형식인 경우
+     */
+    public static ScheduleExportFormat from(String extension) {
+        for (ScheduleExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(extension)) {
+                return format;
+            }
+        }
+        throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+    }
+}
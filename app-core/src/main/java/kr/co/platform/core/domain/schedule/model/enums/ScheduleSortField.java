@@ -0,0 +1,64 @@
+package kr.co.platform.core.domain.schedule.model.enums;
+
+import java.time.LocalDateTime;
+
+import kr.co.platform.core.common.exception.BusinessException;
+import kr.co.platform.core.common.exception.ErrorCode;
+import kr.co.platform.core.domain.schedule.model.entity.ScheduleEntity;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 일정 검색 정렬 필드 (허용된 정렬 컬럼 목록)
+ *
+ * <p>커서 페이징은 (정렬 값, ID)로 다음 행을 찾으므로 NULL이 없고 (user_id, 컬럼, id) 색인이 있는 일시 컬럼만 허용한다. NULL 가능한 생성 일시와
+ * DB 콜레이션 순서가 애플리케이션 정렬과 다른 제목은 제외한다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ScheduleSortField {
+    START_DATE("startDate", "start_date"),
+    END_DATE("endDate", "end_date");
+
+    private final String property;
+    private final String column;
+
+    /**
+     * 정렬 필드명으로 조회
+     *
+     * @param property 정렬 필드명 (예: startDate)
+     * @return 정렬 필드
+     * @throws BusinessException 허용되지 않은 필드인 경우
+     */
+    public static ScheduleSortField from(String property) {
+        for (ScheduleSortField field : values()) {
+            if (field.property.equals(property)) {
+                return field;
+            }
+        }
+        throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+    }
+
+    /**
+     * 일정에서 정렬 값 추출
+     *
+     * @param schedule 일정 엔티티
+     * @return 정렬 값
+     */
+    public LocalDateTime valueOf(ScheduleEntity schedule) {
+        return this == END_DATE ? schedule.getEndDate() : schedule.getStartDate();
+    }
+
+    /**
+     * 문자열로 직렬화된 정렬 값을 복원
+     *
+     * @param value 직렬화된 정렬 값
+     * @return 정렬 값
+     */
+    public LocalDateTime parse(String value) {
+        return LocalDateTime.parse(value);
+    }
+}
@@ -0,0 +1,151 @@
+package kr.co.platform.core.domain.schedule.partition;
+
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.co.platform.core.domain.schedule.config.ScheduleProperties;
+import kr.co.platform.core.domain.schedule.mapper.SchedulePartitionMapper;
+import kr.co.platform.core.domain.schedule.model.dto.SchedulePartitionDto;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 일정 테이블 월 파티션 유지 작업
+ *
+ * <p>현재 월부터 설정한 개월 수 뒤까지의 월 파티션이 있는지 주기적으로 확인하고, 없으면 마지막(MAXVALUE) 파티션을 나누어 만든다. 미래 파티션은 보통 비어 있으므로
+ * 나누는 비용은 거의 없다. 여러 인스턴스가 동시에 실행하면 한쪽 DDL은 실패하지만, 다음 주기에 파티션 목록을 다시 읽어 확인한다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Slf4j
+@Component
+public class SchedulePartitionMaintainer implements SmartLifecycle {
+
+    /** 나누어 쓰는 마지막 파티션 이름 */
+    static final String FUTURE_PARTITION = "p_future";
+
+    private final ScheduleProperties.Partition properties;
+    private final SchedulePartitionMapper schedulePartitionMapper;
+    private final ZoneId zoneId;
+
+    private ScheduledExecutorService executor;
+    private ScheduledFuture<?> runTask;
+    private volatile long monthsAhead = -1;
+    private volatile boolean running;
+
+    public SchedulePartitionMaintainer(
+            ScheduleProperties scheduleProperties,
+            SchedulePartitionMapper schedulePartitionMapper,
+            MeterRegistry meterRegistry) {
+        this.properties = scheduleProperties.getPartition();
+        this.schedulePartitionMapper = schedulePartitionMapper;
+        this.zoneId = ZoneId.of(properties.getZoneId());
+        Gauge.builder("schedule.partition.months.ahead", this, maintainer -> maintainer.monthsAhead)
+                .description("현재 월 이후로 미리 만들어 둔 월 파티션 수 (확인 전 -1)")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        executor =
+                new ScheduledThreadPoolExecutor(
+                        1,
+                        runnable -> {
+                            Thread thread = new Thread(runnable, "schedule-partition");
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+        running = true;
+        runTask =
+                executor.scheduleWithFixedDelay(
+                        this::runQuietly,
+                        properties.getInitialDelay().toMillis(),
+                        properties.getInterval().toMillis(),
+                        TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        runTask.cancel(false);
+        executor.shutdown();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 부족한 미래 월 파티션 생성
+     *
+     * @return 만든 파티션 수
+     */
+    public int runOnce() {
+        List<String> names = schedulePartitionMapper.selectPartitionNames();
+        if (!names.contains(FUTURE_PARTITION)) {
+            log.warn(
+                    "schedule table has no {} partition, partitions are not maintained: {}",
+                    FUTURE_PARTITION,
+                    names);
+            return 0;
+        }
+        // 서버 시간대가 아니라 start_date에 저장되는 시간대의 월 기준 (UTC 서버에서 월 경계 9시간 차이)
+        YearMonth current = YearMonth.now(zoneId);
+        YearMonth target = current.plusMonths(properties.getMonthsAhead());
+        YearMonth latest = latestMonth(names);
+
+        // 마지막 월 파티션 다음 달부터 만들어 중간에 빈 달이 생기지 않게 한다
+        List<SchedulePartitionDto> partitions = new ArrayList<>();
+        YearMonth month = latest == null ? current : latest.plusMonths(1);
+        for (; !month.isAfter(target); month = month.plusMonths(1)) {
+            partitions.add(SchedulePartitionDto.of(month));
+        }
+        if (!partitions.isEmpty()) {
+            schedulePartitionMapper.splitFuturePartition(partitions);
+            log.info(
+                    "Schedule partitions created: {}",
+                    partitions.stream().map(SchedulePartitionDto::getName).toList());
+            latest = month.minusMonths(1);
+        }
+        monthsAhead = latest == null ? 0 : Math.max(0, current.until(latest, ChronoUnit.MONTHS));
+        return partitions.size();
+    }
+
+    private static YearMonth latestMonth(List<String> names) {
+        YearMonth latest = null;
+        for (String name : names) {
+            YearMonth month = SchedulePartitionDto.parseMonth(name);
+            if (month != null && (latest == null || month.isAfter(latest))) {
+                latest = month;
+            }
+        }
+        return latest;
+    }
+
+    private void runQuietly() {
+        try {
+            runOnce();
+        } catch (RuntimeException e) {
+            log.error("Schedule partition maintenance failed: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package kr.co.platform.core.domain.schedule.recurrence;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+import kr.co.platform.core.common.util.StringUtil;
+import kr.co.platform.core.domain.schedule.model.entity.ScheduleEntity;
+
+/**
+ * 반복 일정 전개 유틸리티 클래스
+ *
+ * <p>반복 일정은 한 행(마스터)으로 저장하고, 조회 구간 안의 발생만 {@link RecurrenceIterator}로 전개해 발생별 사본을 만든다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+public final class RecurrenceExpander {
+
+    /** 종료 없는 반복 일정의 구간 끝 (epoch 초) */
+    public static final long OPEN_END = Long.MAX_VALUE / 2;
+
+    private static final long[] NO_EXCEPTIONS = new long[0];
+
+    private RecurrenceExpander() {
+        // 유틸리티 클래스는 인스턴스화 방지
+    }
+
+    /**
+     * 반복 일정 여부
+     *
+     * @param schedule 일정 엔티티
+     * @return 반복 규칙이 있으면 true
+     */
+    public static boolean isRecurring(ScheduleEntity schedule) {
+        return StringUtil.isNotEmpty(schedule.getRecurrenceRule());
+    }
+
+    /**
+     * 조회 구간 안의 발생 반복자 생성
+     *
+     * @param master 반복 일정 (마스터)
+     * @param from 조회 시작 일시 (포함)
+     * @param to 조회 종료 일시 (미포함)
+     * @return 발생 반복자
+     */
+    public static RecurrenceIterator iterator(
+            ScheduleEntity master, LocalDateTime from, LocalDateTime to) {
+        return iterator(master, toEpoch(from), toEpoch(to));
+    }
+
+    /**
+     * 조회 구간과 겹치는 발생을 시작 일시 순으로 전달
+     *
+     * @param master 반복 일정 (마스터)
+     * @param from 조회 시작 일시 (포함)
+     * @param to 조회 종료 일시 (미포함)
+     * @param consumer 발생 소비자
+     */
+    public static void expand(
+            ScheduleEntity master,
+            LocalDateTime from,
+            LocalDateTime to,
+            Consumer<ScheduleEntity> consumer) {
+        RecurrenceIterator iterator = iterator(master, from, to);
+        while (iterator.next()) {
+            consumer.accept(occurrence(master, iterator.start()));
+        }
+    }
+
+    /**
+     * 일정(반복 일정이면 발생 중 하나)이 조회 구간과 겹치는지 여부
+     *
+     * @param schedule 일정 엔티티
+     * @param from 조회 시작 일시 (포함)
+     * @param to 조회 종료 일시 (미포함, 시작과 같으면 1초 구간으로 봄)
+     * @return 겹치는 발생이 있으면 true
+     */
+    public static boolean occursWithin(
+            ScheduleEntity schedule, LocalDateTime from, LocalDateTime to) {
+        long fromEpoch = toEpoch(from);
+        long toEpoch = Math.max(toEpoch(to), fromEpoch + 1);
+        if (isRecurring(schedule)) {
+            return iterator(schedule, fromEpoch, toEpoch).next();
+        }
+        long start = toEpoch(schedule.getStartDate());
+        long end = Math.max(toEpoch(schedule.getEndDate()), start + 1);
+        return start < toEpoch && end > fromEpoch;
+    }
+
+    /**
+     * 발생 사본 생성 (ID와 반복 정보는 마스터와 같고 시작/종료 일시만 발생 기준)
+     *
+     * @param master 반복 일정 (마스터)
+     * @param start 발생 시작 (epoch 초)
+     * @return 발생 일정
+     */
+    public static ScheduleEntity occurrence(ScheduleEntity master, long start) {
+        long duration = toEpoch(master.getEndDate()) - toEpoch(master.getStartDate());
+        ScheduleEntity occurrence = master.copy();
+        occurrence.setStartDate(toDateTime(start));
+        occurrence.setEndDate(toDateTime(start + duration));
+        return occurrence;
+    }
+
+    /**
+     * 반복 일정의 마지막 발생 종료 일시 계산
+     *
+     * <p>COUNT는 실제 마지막 발생을, UNTIL은 UNTIL + 일정 길이를 상한으로 사용한다.
+     *
+     * @param schedule 일정 엔티티
+     * @return 마지막 발생 종료 일시 (반복이 아니거나 종료가 없으면 null)
+     */
+    public static LocalDateTime seriesEnd(ScheduleEntity schedule) {
+        if (!isRecurring(schedule)) {
+            return null;
+        }
+        RecurrenceRule rule = RecurrenceRule.parse(schedule.getRecurrenceRule());
+        long start = toEpoch(schedule.getStartDate());
+        long duration = toEpoch(schedule.getEndDate()) - start;
+        if (rule.getUntil() != null) {
+            return toDateTime(Math.max(toEpoch(rule.getUntil()), start) + duration);
+        }
+        if (rule.getCount() == 0) {
+            return null;
+        }
+        RecurrenceIterator iterator = iterator(schedule, start, OPEN_END);
+        long end = start + duration;
+        while (iterator.next()) {
+            end = iterator.start() + duration;
+        }
+        return toDateTime(end);
+    }
+
+    /**
+     * 저장된 제외 일시 문자열을 정렬된 epoch 초 배열로 변환
+     *
+     * @param exceptions 쉼표로 구분된 제외 일시 (yyyyMMdd'T'HHmmss)
+     * @return 정렬된 epoch 초 배열
+     */
+    public static long[] parseExceptions(String exceptions) {
+        if (StringUtil.isEmpty(exceptions)) {
+            return NO_EXCEPTIONS;
+        }
+        String[] parts = exceptions.split(",", -1);
+        long[] values = new long[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            values[i] = toEpoch(RecurrenceRule.parseDateTime(parts[i]));
+        }
+        Arrays.sort(values);
+        return values;
+    }
+
+    /**
+     * 제외 일시 목록을 저장 형식 문자열로 변환
+     *
+     * @param exceptions 제외 일시 목록
+     * @return 쉼표로 구분된 제외 일시 (없으면 null)
+     */
+    public static String formatExceptions(List<LocalDateTime> exceptions) {
+        if (exceptions == null || exceptions.isEmpty()) {
+            return null;
+        }
+        StringBuilder builder = new StringBuilder();
+        for (LocalDateTime exception : exceptions) {
+            if (builder.length() > 0) {
+                builder.append(',');
+            }
+            builder.append(RecurrenceRule.DATE_TIME_FORMAT.format(exception));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 저장된 제외 일시 문자열을 목록으로 변환
+     *
+     * @param exceptions 쉼표로 구분된 제외 일시
+     * @return 제외 일시 목록 (없으면 null)
+     */
+    public static List<LocalDateTime> toExceptionList(String exceptions) {
+        if (StringUtil.isEmpty(exceptions)) {
+            return null;
+        }
+        List<LocalDateTime> values = new ArrayList<>();
+        for (String part : exceptions.split(",", -1)) {
+            values.add(RecurrenceRule.parseDateTime(part));
+        }
+        return values;
+    }
+
+    /**
+     * 일시를 epoch 초로 변환 (UTC 기준, 인터벌 인덱스와 같은 기준)
+     *
+     * @param dateTime 일시
+     * @return epoch 초
+     */
+    public static long toEpoch(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    /**
+     * epoch 초를 일시로 변환
+     *
+     * @param epochSecond epoch 초
+     * @return 일시
+     */
+    public static LocalDateTime toDateTime(long epochSecond) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+
+    private static RecurrenceIterator iterator(ScheduleEntity master, long from, long to) {
+        long start = toEpoch(master.getStartDate());
+        return new RecurrenceIterator(
+                RecurrenceRule.parse(master.getRecurrenceRule()),
+                start,
+                toEpoch(master.getEndDate()) - start,
+                parseExceptions(master.getRecurrenceExceptions()),
+                from,
+                to);
+    }
+}
@@ -0,0 +1,254 @@
+package kr.co.platform.core.domain.schedule.recurrence;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+import kr.co.platform.core.domain.schedule.model.enums.RecurrenceFrequency;
+
+/**
+ * 반복 일정의 발생 시작 시각을 [from, to) 조회 구간 안에서만 순서대로 생성하는 반복자
+ *
+ * <p>생성 시 조회 시작 근처의 주기로 바로 이동하며, 이후 진행은 원시 타입 연산만 사용하므로 건너뛰는 발생마다 객체를 할당하지 않는다. 시각은 {@link
+ * LocalDateTime}을 UTC 기준 epoch 초로 바꾼 값이다. COUNT는 제외 일시로 빠진 발생도 포함해 센다(RFC 5545와 동일).
+ *
+ * <pre>{@code
+ * RecurrenceIterator iterator = new RecurrenceIterator(rule, start, duration, exceptions, from, to);
+ * while (iterator.next()) {
+ *     long occurrenceStart = iterator.start();
+ * }
+ * }</pre>
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+public final class RecurrenceIterator {
+
+    private static final long DAY = 86_400L;
+    private static final long WEEK = 7 * DAY;
+
+    private final RecurrenceFrequency frequency;
+    private final int interval;
+    private final long count;
+    private final long until;
+    private final int byDayMask;
+    private final long seriesStart;
+    private final long duration;
+    private final long[] exceptions;
+    private final long windowFrom;
+    private final long windowTo;
+
+    /** WEEKLY: 시작 주 월요일 + 시작 시각 / MONTHLY: 시작 시각(하루 중 초) */
+    private final long base;
+
+    /** WEEKLY: 주기당 발생 수 / MONTHLY: 시작 일(day of month) */
+    private final int perPeriod;
+
+    /** WEEKLY: 첫 주기에서 시작 일시 이전이라 빠지는 발생 수 / MONTHLY: 시작 연월(year * 12 + month - 1) */
+    private final long firstPeriodOffset;
+
+    private long period;
+    private int weekday;
+    private long ordinal;
+    private long validMonths;
+    private long candidate;
+    private long current;
+    private boolean done;
+
+    /**
+     * 반복자 생성
+     *
+     * @param rule 반복 규칙
+     * @param seriesStart 첫 발생 시작 (epoch 초)
+     * @param duration 발생 길이 (초)
+     * @param exceptions 제외할 발생 시작 목록 (정렬된 epoch 초)
+     * @param windowFrom 조회 시작 (포함, epoch 초)
+     * @param windowTo 조회 종료 (미포함, epoch 초)
+     */
+    public RecurrenceIterator(
+            RecurrenceRule rule,
+            long seriesStart,
+            long duration,
+            long[] exceptions,
+            long windowFrom,
+            long windowTo) {
+        this.frequency = rule.getFrequency();
+        this.interval = rule.getInterval();
+        this.count = rule.getCount() > 0 ? rule.getCount() : Long.MAX_VALUE;
+        this.until =
+                rule.getUntil() != null
+                        ? rule.getUntil().toEpochSecond(ZoneOffset.UTC)
+                        : Long.MAX_VALUE;
+        this.seriesStart = seriesStart;
+        // 길이가 0인 일정은 인터벌 인덱스와 같이 1초로 본다
+        this.duration = Math.max(duration, 1L);
+        this.exceptions = exceptions;
+        this.windowFrom = windowFrom;
+        this.windowTo = windowTo;
+
+        long startDay = Math.floorDiv(seriesStart, DAY);
+        long timeOfDay = seriesStart - startDay * DAY;
+        long earliest = windowFrom - this.duration;
+        switch (frequency) {
+            case WEEKLY -> {
+                int startWeekday = (int) Math.floorMod(startDay + 3, 7L); // 1970-01-01은 목요일
+                this.byDayMask = rule.getByDayMask() != 0 ? rule.getByDayMask() : 1 << startWeekday;
+                this.base = (startDay - startWeekday) * DAY + timeOfDay;
+                this.perPeriod = Integer.bitCount(byDayMask);
+                this.firstPeriodOffset = Integer.bitCount(byDayMask & ((1 << startWeekday) - 1));
+                this.period = Math.max(0, Math.floorDiv(earliest - base - WEEK, interval * WEEK));
+            }
+            case MONTHLY -> {
+                LocalDateTime start = LocalDateTime.ofEpochSecond(seriesStart, 0, ZoneOffset.UTC);
+                this.byDayMask = 0;
+                this.base = timeOfDay;
+                this.perPeriod = start.getDayOfMonth();
+                this.firstPeriodOffset = start.getYear() * 12L + start.getMonthValue() - 1;
+                long earliestMonth =
+                        earliest <= seriesStart ? firstPeriodOffset : yearMonthOf(earliest);
+                this.period =
+                        Math.max(0, Math.floorDiv(earliestMonth - firstPeriodOffset, interval));
+                // 해당 일이 없는 달은 발생으로 세지 않으므로 건너뛴 주기의 유효 발생 수를 센다
+                this.validMonths = perPeriod <= 28 ? period : countValidMonths(period);
+            }
+            default -> {
+                this.byDayMask = 0;
+                this.base = 0;
+                this.perPeriod = 0;
+                this.firstPeriodOffset = 0;
+                this.period =
+                        Math.max(0, Math.floorDiv(earliest - seriesStart, interval * DAY) + 1);
+            }
+        }
+    }
+
+    /**
+     * 다음 발생으로 이동
+     *
+     * @return 조회 구간과 겹치는 발생이 있으면 true
+     */
+    public boolean next() {
+        while (!done) {
+            if (!advance() || ordinal >= count || candidate > until || candidate >= windowTo) {
+                done = true;
+                break;
+            }
+            if (candidate + duration <= windowFrom
+                    || Arrays.binarySearch(exceptions, candidate) >= 0) {
+                continue;
+            }
+            current = candidate;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 현재 발생 시작 시각
+     *
+     * @return 발생 시작 (epoch 초)
+     */
+    public long start() {
+        return current;
+    }
+
+    /**
+     * 현재 발생 종료 시각
+     *
+     * @return 발생 종료 (epoch 초)
+     */
+    public long end() {
+        return current + duration;
+    }
+
+    /** 다음 후보 발생을 계산해 candidate와 ordinal에 담는다 */
+    private boolean advance() {
+        switch (frequency) {
+            case WEEKLY -> {
+                while (true) {
+                    while (weekday < 7) {
+                        int day = weekday++;
+                        if ((byDayMask & (1 << day)) == 0) {
+                            continue;
+                        }
+                        long start = base + (period * interval * 7 + day) * DAY;
+                        if (start < seriesStart) {
+                            continue;
+                        }
+                        candidate = start;
+                        ordinal =
+                                period * perPeriod
+                                        + Integer.bitCount(byDayMask & ((1 << day) - 1))
+                                        - firstPeriodOffset;
+                        return true;
+                    }
+                    period++;
+                    weekday = 0;
+                    if (base + period * interval * WEEK >= windowTo) {
+                        return false;
+                    }
+                }
+            }
+            case MONTHLY -> {
+                while (true) {
+                    long yearMonth = firstPeriodOffset + period * interval;
+                    period++;
+                    long year = Math.floorDiv(yearMonth, 12L);
+                    int month = (int) Math.floorMod(yearMonth, 12L) + 1;
+                    long monthStart = daysFromCivil(year, month, 1) * DAY;
+                    if (monthStart >= windowTo || monthStart > until) {
+                        return false;
+                    }
+                    if (perPeriod > daysInMonth(year, month)) {
+                        continue;
+                    }
+                    candidate = monthStart + (perPeriod - 1) * DAY + base;
+                    ordinal = validMonths++;
+                    return true;
+                }
+            }
+            default -> {
+                candidate = seriesStart + period * interval * DAY;
+                ordinal = period++;
+                return true;
+            }
+        }
+    }
+
+    private long countValidMonths(long periods) {
+        long valid = 0;
+        for (long i = 0; i < periods; i++) {
+            long yearMonth = firstPeriodOffset + i * interval;
+            if (perPeriod
+                    <= daysInMonth(
+                            Math.floorDiv(yearMonth, 12L),
+                            (int) Math.floorMod(yearMonth, 12L) + 1)) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    private static long yearMonthOf(long epochSecond) {
+        LocalDateTime dateTime = LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+        return dateTime.getYear() * 12L + dateTime.getMonthValue() - 1;
+    }
+
+    private static int daysInMonth(long year, int month) {
+        return switch (month) {
+            case 2 -> (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    /** 그레고리력 날짜를 epoch day로 변환 (객체 할당 없이 계산) */
+    private static long daysFromCivil(long year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(y, 400L);
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153L * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146_097 + dayOfEra - 719_468;
+    }
+}
@@ -0,0 +1,166 @@
+package kr.co.platform.core.domain.schedule.recurrence;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+
+import kr.co.platform.core.common.util.StringUtil;
+import kr.co.platform.core.domain.schedule.model.enums.RecurrenceFrequency;
+import lombok.Getter;
+
+/**
+ * 반복 규칙 (RRULE 형식의 부분 집합)
+ *
+ * <p>지원 항목: FREQ(DAILY, WEEKLY, MONTHLY), INTERVAL, COUNT, UNTIL(yyyyMMdd'T'HHmmss), BYDAY(WEEKLY
+ * 전용, MO~SU). 예: {@code FREQ=WEEKLY;INTERVAL=1;BYDAY=MO,WE,FR;COUNT=30}
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Getter
+public final class RecurrenceRule {
+
+    /** COUNT 최대값 */
+    public static final int MAX_COUNT = 10_000;
+
+    /** UNTIL, 제외 일시 형식 */
+    public static final DateTimeFormatter DATE_TIME_FORMAT =
+            DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+    private static final String[] WEEKDAYS = {"MO", "TU", "WE", "TH", "FR", "SA", "SU"};
+
+    /** 반복 주기 */
+    private final RecurrenceFrequency frequency;
+
+    /** 반복 간격 (1 이상) */
+    private final int interval;
+
+    /** 최대 발생 횟수 (0이면 제한 없음) */
+    private final int count;
+
+    /** 마지막 발생 시작 일시 상한 (null이면 제한 없음) */
+    private final LocalDateTime until;
+
+    /** 요일 비트 마스크 (bit0=월요일, 0이면 시작 요일) */
+    private final int byDayMask;
+
+    private RecurrenceRule(
+            RecurrenceFrequency frequency,
+            int interval,
+            int count,
+            LocalDateTime until,
+            int byDayMask) {
+        this.frequency = frequency;
+        this.interval = interval;
+        this.count = count;
+        this.until = until;
+        this.byDayMask = byDayMask;
+    }
+
+    /**
+     * 반복 규칙 문자열 파싱
+     *
+     * @param rule 반복 규칙 문자열 (RRULE: 접두어 허용)
+     * @return 반복 규칙
+     * @throws IllegalArgumentException 형식이 올바르지 않은 경우
+     */
+    public static RecurrenceRule parse(String rule) {
+        if (StringUtil.isEmpty(rule)) {
+            throw new IllegalArgumentException("반복 규칙이 비어 있습니다.");
+        }
+        String value = rule.trim();
+        if (value.regionMatches(true, 0, "RRULE:", 0, 6)) {
+            value = value.substring(6);
+        }
+
+        RecurrenceFrequency frequency = null;
+        int interval = 1;
+        int count = 0;
+        LocalDateTime until = null;
+        int byDayMask = 0;
+        for (String part : value.split(";", -1)) {
+            if (part.isEmpty()) {
+                continue;
+            }
+            int eq = part.indexOf('=');
+            if (eq <= 0) {
+                throw new IllegalArgumentException("반복 규칙 형식이 올바르지 않습니다: " + part);
+            }
+            String name = part.substring(0, eq).trim().toUpperCase(Locale.ROOT);
+            String text = part.substring(eq + 1).trim().toUpperCase(Locale.ROOT);
+            switch (name) {
+                case "FREQ" -> frequency = parseFrequency(text);
+                case "INTERVAL" -> interval = parseInt(name, text, 1, 1_000);
+                case "COUNT" -> count = parseInt(name, text, 1, MAX_COUNT);
+                case "UNTIL" -> until = parseDateTime(text);
+                case "BYDAY" -> byDayMask = parseByDay(text);
+                default -> throw new IllegalArgumentException("지원하지 않는 반복 규칙 항목입니다: " + name);
+            }
+        }
+        if (frequency == null) {
+            throw new IllegalArgumentException("반복 규칙에 FREQ가 없습니다.");
+        }
+        if (count > 0 && until != null) {
+            throw new IllegalArgumentException("COUNT와 UNTIL은 함께 지정할 수 없습니다.");
+        }
+        if (byDayMask != 0 && frequency != RecurrenceFrequency.WEEKLY) {
+            throw new IllegalArgumentException("BYDAY는 WEEKLY 반복에서만 지정할 수 있습니다.");
+        }
+        return new RecurrenceRule(frequency, interval, count, until, byDayMask);
+    }
+
+    /**
+     * 반복 일시 문자열 파싱 (yyyyMMdd'T'HHmmss)
+     *
+     * @param text 일시 문자열
+     * @return 일시
+     * @throws IllegalArgumentException 형식이 올바르지 않은 경우
+     */
+    public static LocalDateTime parseDateTime(String text) {
+        try {
+            return LocalDateTime.parse(text.trim(), DATE_TIME_FORMAT);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("반복 일시 형식이 올바르지 않습니다: " + text, e);
+        }
+    }
+
+    private static RecurrenceFrequency parseFrequency(String text) {
+        try {
+            return RecurrenceFrequency.valueOf(text);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 반복 주기입니다: " + text, e);
+        }
+    }
+
+    private static int parseInt(String name, String text, int min, int max) {
+        try {
+            int value = Integer.parseInt(text);
+            if (value >= min && value <= max) {
+                return value;
+            }
+        } catch (NumberFormatException e) {
+            // 아래에서 범위 오류와 함께 처리
+        }
+        throw new IllegalArgumentException(
+                name + "는 " + min + " 이상 " + max + " 이하의 정수여야 합니다: " + text);
+    }
+
+    private static int parseByDay(String text) {
+        int mask = 0;
+        for (String day : text.split(",", -1)) {
+            int index = -1;
+            for (int i = 0; i < WEEKDAYS.length; i++) {
+                if (WEEKDAYS[i].equals(day.trim())) {
+                    index = i;
+                    break;
+                }
+            }
+            if (index < 0) {
+                throw new IllegalArgumentException("지원하지 않는 요일입니다: " + day);
+            }
+            mask |= 1 << index;
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,134 @@
+package kr.co.platform.core.domain.schedule.recurrence;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleCursor;
+import kr.co.platform.core.domain.schedule.model.entity.ScheduleEntity;
+import kr.co.platform.core.domain.schedule.model.enums.ScheduleSortField;
+
+/**
+ * 일정 검색 결과 병합기 (일반 일정 행 + 반복 일정 발생)
+ *
+ * <p>정렬 키는 (정렬 값, ID, 시작 일시)이다. 한 반복 일정의 발생은 이 키 기준으로 시작 일시 순과 같은 방향으로 정렬되므로, 반복 일정마다 커서 이후의 발생을 최대
+ * limit개까지만 일정 객체로 만든다. 커서 이전이거나 limit을 넘는 발생은 epoch 초만 비교하고 버린다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+public final class ScheduleOccurrenceCollector {
+
+    private final ScheduleSortField sortField;
+    private final boolean descending;
+    private final ScheduleCursor cursor;
+    private final int limit;
+    private final long cursorValue;
+    private final long cursorStart;
+    private final long[] window;
+    private final List<ScheduleEntity> rows = new ArrayList<>();
+
+    /**
+     * 병합기 생성
+     *
+     * @param sortField 정렬 필드
+     * @param descending 내림차순 여부
+     * @param cursor 마지막 행 커서 (null이면 처음부터)
+     * @param limit 필요한 최대 행 수 (OFFSET + 페이지 크기 + 1)
+     */
+    public ScheduleOccurrenceCollector(
+            ScheduleSortField sortField, boolean descending, ScheduleCursor cursor, int limit) {
+        this.sortField = sortField;
+        this.descending = descending;
+        this.cursor = cursor;
+        this.limit = limit;
+        this.cursorValue = cursor != null ? RecurrenceExpander.toEpoch(cursor.getValue()) : 0;
+        this.cursorStart =
+                cursor != null && cursor.getStartDate() != null
+                        ? RecurrenceExpander.toEpoch(cursor.getStartDate())
+                        : Long.MIN_VALUE;
+        this.window = new long[limit];
+    }
+
+    /**
+     * 이미 정렬/커서 조건이 적용된 일반 일정 행 추가
+     *
+     * @param schedules 일반 일정 목록
+     */
+    public void addRows(Collection<ScheduleEntity> schedules) {
+        rows.addAll(schedules);
+    }
+
+    /**
+     * 반복 일정의 [from, to) 발생 중 커서 이후의 앞쪽 limit개 추가
+     *
+     * @param master 반복 일정 (마스터)
+     * @param from 조회 시작 일시 (포함)
+     * @param to 조회 종료 일시 (미포함)
+     */
+    public void addSeries(ScheduleEntity master, LocalDateTime from, LocalDateTime to) {
+        long duration =
+                RecurrenceExpander.toEpoch(master.getEndDate())
+                        - RecurrenceExpander.toEpoch(master.getStartDate());
+        RecurrenceIterator iterator = RecurrenceExpander.iterator(master, from, to);
+        int kept = 0;
+        while (iterator.next()) {
+            long start = iterator.start();
+            if (cursor != null) {
+                int order = compareToCursor(master, start, duration);
+                if (descending ? order >= 0 : order <= 0) {
+                    if (descending) {
+                        // 내림차순에서는 커서 이전(더 큰 키)의 발생부터는 모두 제외된다
+                        break;
+                    }
+                    continue;
+                }
+            }
+            if (!descending) {
+                rows.add(RecurrenceExpander.occurrence(master, start));
+                if (++kept == limit) {
+                    return;
+                }
+                continue;
+            }
+            // 내림차순은 조건을 만족하는 발생 중 마지막 limit개만 원형 버퍼에 유지한다
+            window[kept % limit] = start;
+            kept++;
+        }
+        if (descending) {
+            for (int i = Math.max(0, kept - limit); i < kept; i++) {
+                rows.add(RecurrenceExpander.occurrence(master, window[i % limit]));
+            }
+        }
+    }
+
+    /**
+     * 병합 결과
+     *
+     * @param offset 건너뛸 행 수
+     * @return 정렬된 일정 목록 (최대 limit - offset개)
+     */
+    public List<ScheduleEntity> result(int offset) {
+        Comparator<ScheduleEntity> order =
+                Comparator.<ScheduleEntity, LocalDateTime>comparing(sortField::valueOf)
+                        .thenComparing(ScheduleEntity::getId)
+                        .thenComparing(ScheduleEntity::getStartDate);
+        rows.sort(descending ? order.reversed() : order);
+        if (offset >= rows.size()) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(rows.subList(offset, Math.min(rows.size(), limit)));
+    }
+
+    /** 발생의 (정렬 값, ID, 시작 일시)를 커서와 비교 */
+    private int compareToCursor(ScheduleEntity master, long start, long duration) {
+        long value = sortField == ScheduleSortField.END_DATE ? start + duration : start;
+        int order = Long.compare(value, cursorValue);
+        if (order == 0) {
+            order = Long.compare(master.getId(), cursor.getId());
+        }
+        return order != 0 ? order : Long.compare(start, cursorStart);
+    }
+}
@@ -0,0 +1,174 @@
+package kr.co.platform.core.domain.schedule.reminder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import lombok.Getter;
+
+/**
+ * 계층형 타이밍 휠
+ *
+ * <p>레벨 0의 버킷 하나는 tick 하나, 레벨 i의 버킷 하나는 wheelSize^i tick을 담당한다. 항목은 만료까지 남은 거리에 맞는 가장 낮은 레벨에 들어가고,
+ * 상위 레벨 버킷의 시작 tick에 도달하면 하위 레벨로 재배치된다. 등록/취소는 O(1), 진행은 tick마다 O(1) + 만료 항목 수이다. 동기화는 호출자 책임이다.
+ *
+ * @param <T> 항목 값 타입
+ * @author 박성우
+ * @date 2026.10.18
+ */
+class HierarchicalTimingWheel<T> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final long[] spans;
+    private final List<List<Entry<T>>> buckets;
+
+    private List<Entry<T>> spare = new ArrayList<>();
+    private long currentTick;
+    private int size;
+
+    /**
+     * 타이밍 휠 생성
+     *
+     * @param tickMillis tick 길이 (밀리초)
+     * @param wheelSize 레벨당 버킷 수
+     * @param levels 레벨 수
+     * @param startMillis 시작 시각 (epoch 밀리초)
+     */
+    HierarchicalTimingWheel(long tickMillis, int wheelSize, int levels, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.spans = new long[levels];
+        this.buckets = new ArrayList<>(levels * wheelSize);
+        long span = 1;
+        for (int level = 0; level < levels; level++) {
+            spans[level] = span;
+            span *= wheelSize;
+            for (int i = 0; i < wheelSize; i++) {
+                buckets.add(new ArrayList<>());
+            }
+        }
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+    }
+
+    /**
+     * 항목 등록
+     *
+     * @param deadlineMillis 만료 시각 (epoch 밀리초)
+     * @param value 항목 값
+     * @return 등록된 항목 (이미 만료 시각이 지났으면 null)
+     */
+    Entry<T> schedule(long deadlineMillis, T value) {
+        // 만료 시각을 올림한 tick에 도달해야 만료된다
+        long deadlineTick = -Math.floorDiv(-deadlineMillis, tickMillis);
+        if (deadlineTick <= currentTick) {
+            return null;
+        }
+        Entry<T> entry = new Entry<>(deadlineMillis, deadlineTick, value);
+        place(entry);
+        size++;
+        return entry;
+    }
+
+    /**
+     * 항목 취소 (버킷에서는 만료/재배치 시점에 제거된다)
+     *
+     * @param entry 등록된 항목
+     */
+    void cancel(Entry<T> entry) {
+        if (!entry.cancelled) {
+            entry.cancelled = true;
+            size--;
+        }
+    }
+
+    /**
+     * 현재 시각까지 진행하며 만료된 항목 전달
+     *
+     * @param nowMillis 현재 시각 (epoch 밀리초)
+     * @param expired 만료 항목 소비자
+     */
+    void advance(long nowMillis, Consumer<Entry<T>> expired) {
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        while (currentTick < targetTick) {
+            currentTick++;
+            // 상위 레벨부터 내려와야 같은 tick에 만료되는 항목이 레벨 0까지 내려온다
+            for (int level = spans.length - 1; level > 0; level--) {
+                if (currentTick % spans[level] == 0) {
+                    flush(level, expired);
+                }
+            }
+            flush(0, expired);
+        }
+    }
+
+    /**
+     * 대기 중인 항목 수
+     *
+     * @return 취소되지 않은 항목 수
+     */
+    int size() {
+        return size;
+    }
+
+    private void flush(int level, Consumer<Entry<T>> expired) {
+        int index = level * wheelSize + (int) Math.floorMod(currentTick / spans[level], wheelSize);
+        List<Entry<T>> entries = buckets.get(index);
+        if (entries.isEmpty()) {
+            return;
+        }
+        buckets.set(index, spare);
+        spare = entries;
+        for (Entry<T> entry : entries) {
+            if (entry.cancelled) {
+                continue;
+            }
+            if (entry.deadlineTick <= currentTick) {
+                size--;
+                expired.accept(entry);
+            } else {
+                place(entry);
+            }
+        }
+        entries.clear();
+    }
+
+    private void place(Entry<T> entry) {
+        int top = spans.length - 1;
+        for (int level = 0; level <= top; level++) {
+            long slot = entry.deadlineTick / spans[level];
+            if (slot - currentTick / spans[level] < wheelSize) {
+                buckets.get(level * wheelSize + (int) Math.floorMod(slot, wheelSize)).add(entry);
+                return;
+            }
+        }
+        // 최상위 레벨 범위를 넘으면 가장 먼 버킷에 두고, 그 버킷에 도달했을 때 다시 배치한다
+        long slot = currentTick / spans[top] + wheelSize - 1;
+        buckets.get(top * wheelSize + (int) Math.floorMod(slot, wheelSize)).add(entry);
+    }
+
+    /**
+     * 타이밍 휠 항목
+     *
+     * @param <T> 항목 값 타입
+     */
+    @Getter
+    static final class Entry<T> {
+
+        /** 만료 시각 (epoch 밀리초) */
+        private final long deadlineMillis;
+
+        private final long deadlineTick;
+
+        /** 항목 값 */
+        private final T value;
+
+        private boolean cancelled;
+
+        private Entry(long deadlineMillis, long deadlineTick, T value) {
+            this.deadlineMillis = deadlineMillis;
+            this.deadlineTick = deadlineTick;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package kr.co.platform.core.domain.schedule.reminder;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 프로세스 내 알림 발송 대상 (기본 구현)
+ *
+ * <p>알림을 로그로 남기고 최근 알림을 정해진 개수만큼 보관한다. 로컬 실행과 테스트에서 실제 발송 채널 대신 사용한다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Slf4j
+public class LocalReminderSink implements ReminderSink {
+
+    private final int capacity;
+    private final Deque<ScheduleReminder> recentReminders = new ArrayDeque<>();
+
+    public LocalReminderSink(int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public void dispatch(ScheduleReminder reminder) {
+        log.info(
+                "Schedule reminder: userId={}, scheduleId={}, startDate={}, dueAt={}",
+                reminder.getUserId(),
+                reminder.getScheduleId(),
+                reminder.getStartDate(),
+                reminder.getDueAt());
+        synchronized (recentReminders) {
+            if (recentReminders.size() == capacity) {
+                recentReminders.pollFirst();
+            }
+            recentReminders.addLast(reminder);
+        }
+    }
+
+    /**
+     * 최근 발송된 알림 목록
+     *
+     * @return 발송 순서대로 정렬된 최근 알림 목록
+     */
+    public List<ScheduleReminder> getRecentReminders() {
+        synchronized (recentReminders) {
+            return new ArrayList<>(recentReminders);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package kr.co.platform.core.domain.schedule.reminder;
+
+/**
+ * 일정 알림 발송 대상
+ *
+ * <p>알림 발송 스레드에서 호출되므로 구현체는 스레드 안전해야 한다. 푸시/메일/메시지 큐 등 실제 채널은 이 인터페이스를 구현한 빈을 등록하면 기본 구현({@link
+ * LocalReminderSink}) 대신 사용된다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+public interface ReminderSink {
+
+    /**
+     * 알림 발송
+     *
+     * @param reminder 일정 알림
+     */
+    void dispatch(ScheduleReminder reminder);
+}
@@ -0,0 +1,39 @@
+package kr.co.platform.core.domain.schedule.reminder;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 일정 알림 (발송 단위)
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Getter
+@Builder
+@ToString
+@AllArgsConstructor
+public class ScheduleReminder {
+
+    /** 일정 ID */
+    private final Long scheduleId;
+
+    /** 알림 대상 사용자 ID (일정 소유자) */
+    private final String userId;
+
+    /** 일정 제목 */
+    private final String title;
+
+    /** 일정(발생) 시작 일시 */
+    private final LocalDateTime startDate;
+
+    /** 알림 시간 (분 단위) */
+    private final int reminderMinutes;
+
+    /** 알림 예정 일시 (시작 일시 - 알림 시간) */
+    private final LocalDateTime dueAt;
+}
@@ -0,0 +1,422 @@
+package kr.co.platform.core.domain.schedule.reminder;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.co.platform.core.domain.schedule.config.ScheduleProperties;
+import kr.co.platform.core.domain.schedule.event.ScheduleChangedEvent;
+import kr.co.platform.core.domain.schedule.mapper.ScheduleMapper;
+import kr.co.platform.core.domain.schedule.model.entity.ScheduleEntity;
+import kr.co.platform.core.domain.schedule.recurrence.RecurrenceExpander;
+import kr.co.platform.core.domain.schedule.recurrence.RecurrenceIterator;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 일정 알림 발송기
+ *
+ * <p>알림 예정 일시가 가까운 구간({@code load-window})만 배치 조회로 계층형 타이밍 휠에 적재하고, tick마다 만료된 알림을 발송 스레드 풀에서
+ * {@link ReminderSink}로 전달한다. 테이블 전체를 주기적으로 폴링하지 않는다. 일정 변경 이벤트가 오면 해당 일정의 알림을 취소하고 적재된 구간 안의 알림을
+ * 다시 등록한다. 휠 조작(진행, 적재, 재동기화)은 모두 제어 스레드 하나에서 수행하므로 휠 자체는 잠금이 없다.
+ *
+ * <p>반복 일정은 시작 일시로 범위를 좁힐 수 없어 적재마다 조회하면 활성 반복 일정 전체를 매번 읽게 된다. 그래서 반복 일정 목록은 {@code
+ * recurring-refresh-interval}만큼 앞선 구간까지 한 번에 읽어 제어 스레드에 보관하고, 그 사이에는 변경 이벤트로만 갱신한다. 다른 인스턴스에서 변경한
+ * 반복 일정은 다음 전체 재조회 때 반영된다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Slf4j
+@Component
+public class ScheduleReminderDispatcher implements SmartLifecycle {
+
+    private final ScheduleProperties.Reminder properties;
+    private final ScheduleMapper scheduleMapper;
+    private final ReminderSink reminderSink;
+    private final ZoneId zoneId;
+    private final Timer lagTimer;
+    private final Counter dispatchedCounter;
+    private final Counter failedCounter;
+
+    /** 제어 스레드 전용 상태 */
+    private final Map<Long, List<HierarchicalTimingWheel.Entry<ScheduleReminder>>> entries =
+            new HashMap<>();
+
+    /** 제어 스레드 전용 상태: 알림이 있는 반복 일정 (ID 기준) */
+    private final Map<Long, ScheduleEntity> recurring = new HashMap<>();
+
+    private HierarchicalTimingWheel<ScheduleReminder> wheel;
+    private LocalDateTime loadedUntil;
+
+    /** 보관 중인 반복 일정 목록의 시작 일시 상한 (넘어서면 전체 재조회) */
+    private LocalDateTime recurringUntil;
+
+    private ScheduledExecutorService controlExecutor;
+    private ScheduledFuture<?> loadTask;
+    private ScheduledFuture<?> tickTask;
+    private ExecutorService dispatchExecutor;
+    private volatile int pendingCount;
+    private volatile boolean running;
+
+    public ScheduleReminderDispatcher(
+            ScheduleProperties scheduleProperties,
+            ScheduleMapper scheduleMapper,
+            ReminderSink reminderSink,
+            MeterRegistry meterRegistry) {
+        this.properties = scheduleProperties.getReminder();
+        this.scheduleMapper = scheduleMapper;
+        this.reminderSink = reminderSink;
+        this.zoneId = ZoneId.of(properties.getZoneId());
+        this.lagTimer =
+                Timer.builder("schedule.reminder.lag")
+                        .description("알림 예정 시각부터 발송까지 지연")
+                        .publishPercentiles(0.5, 0.95, 0.99)
+                        .register(meterRegistry);
+        this.dispatchedCounter =
+                Counter.builder("schedule.reminder.dispatched")
+                        .description("발송된 알림 수")
+                        .register(meterRegistry);
+        this.failedCounter =
+                Counter.builder("schedule.reminder.failed")
+                        .description("발송에 실패한 알림 수")
+                        .register(meterRegistry);
+        Gauge.builder("schedule.reminder.pending", this, dispatcher -> dispatcher.pendingCount)
+                .description("타이밍 휠에 대기 중인 알림 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 일정 변경 시 알림 재동기화 (커밋 후, 제어 스레드에서 처리)
+     *
+     * @param event 일정 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        if (!running) {
+            return;
+        }
+        try {
+            controlExecutor.execute(() -> resync(event));
+        } catch (RejectedExecutionException e) {
+            log.debug("Schedule reminder resync skipped during shutdown: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long tickMillis = properties.getTick().toMillis();
+        LocalDateTime now = LocalDateTime.now(zoneId);
+        wheel =
+                new HierarchicalTimingWheel<>(
+                        tickMillis,
+                        properties.getWheelSize(),
+                        properties.getWheelLevels(),
+                        toMillis(now));
+        loadedUntil = now;
+        recurring.clear();
+        recurringUntil = null;
+
+        controlExecutor =
+                new ScheduledThreadPoolExecutor(1, namedThreads("schedule-reminder-wheel"));
+        dispatchExecutor =
+                new ThreadPoolExecutor(
+                        properties.getDispatchThreads(),
+                        properties.getDispatchThreads(),
+                        0L,
+                        TimeUnit.MILLISECONDS,
+                        new LinkedBlockingQueue<>(),
+                        namedThreads("schedule-reminder-dispatch"));
+        running = true;
+
+        loadTask =
+                controlExecutor.scheduleWithFixedDelay(
+                        this::loadQuietly,
+                        0,
+                        properties.getLoadInterval().toMillis(),
+                        TimeUnit.MILLISECONDS);
+        tickTask =
+                controlExecutor.scheduleAtFixedRate(
+                        this::tickQuietly, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        log.info(
+                "Schedule reminder dispatcher started: tick={}, loadWindow={}, dispatchThreads={}",
+                properties.getTick(),
+                properties.getLoadWindow(),
+                properties.getDispatchThreads());
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        loadTask.cancel(false);
+        tickTask.cancel(false);
+        controlExecutor.shutdownNow();
+        dispatchExecutor.shutdown();
+        try {
+            if (!dispatchExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+                dispatchExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void tickQuietly() {
+        try {
+            wheel.advance(
+                    System.currentTimeMillis(),
+                    entry -> {
+                        detach(entry);
+                        dispatch(entry.getValue());
+                    });
+            pendingCount = wheel.size();
+        } catch (RuntimeException e) {
+            log.error("Schedule reminder tick failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private void loadQuietly() {
+        try {
+            load();
+        } catch (RuntimeException e) {
+            // 적재 구간을 넘기지 않았으므로 다음 주기에 같은 구간부터 다시 읽는다
+            log.error("Schedule reminder load failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /** [loadedUntil, now + load-window) 구간의 알림을 배치 조회로 적재 */
+    private void load() {
+        LocalDateTime from = loadedUntil;
+        LocalDateTime to = LocalDateTime.now(zoneId).plus(properties.getLoadWindow());
+        if (!to.isAfter(from)) {
+            return;
+        }
+        LocalDateTime maxStartDate = to.plusMinutes(properties.getMaxReminderMinutes());
+        int batchSize = properties.getBatchSize();
+        int loaded = 0;
+
+        List<ScheduleEntity> batch;
+        ScheduleEntity last = null;
+        do {
+            batch =
+                    scheduleMapper.selectUpcomingReminders(
+                            from,
+                            to,
+                            maxStartDate,
+                            last == null ? null : last.getStartDate(),
+                            last == null ? null : last.getId(),
+                            batchSize);
+            for (ScheduleEntity schedule : batch) {
+                loaded += registerWindow(schedule, from, to);
+            }
+            last = batch.isEmpty() ? null : batch.get(batch.size() - 1);
+        } while (batch.size() == batchSize);
+
+        if (recurringUntil == null || maxStartDate.isAfter(recurringUntil)) {
+            refreshRecurring(from, maxStartDate.plus(properties.getRecurringRefreshInterval()));
+        }
+        for (ScheduleEntity schedule : recurring.values()) {
+            loaded += registerWindow(schedule, from, to);
+        }
+
+        loadedUntil = to;
+        pendingCount = wheel.size();
+        if (loaded > 0) {
+            log.debug("Schedule reminders loaded: from={}, to={}, count={}", from, to, loaded);
+        }
+    }
+
+    /**
+     * 반복 일정 목록 전체 재조회
+     *
+     * @param from 알림 구간 시작 (이전에 끝난 반복 일정 제외)
+     * @param maxStartDate 시작 일시 상한
+     */
+    private void refreshRecurring(LocalDateTime from, LocalDateTime maxStartDate) {
+        int batchSize = properties.getBatchSize();
+        Map<Long, ScheduleEntity> loaded = new HashMap<>();
+        List<ScheduleEntity> batch;
+        Long afterId = null;
+        do {
+            batch = scheduleMapper.selectRecurringReminders(from, maxStartDate, afterId, batchSize);
+            for (ScheduleEntity schedule : batch) {
+                loaded.put(schedule.getId(), schedule);
+            }
+            afterId = batch.isEmpty() ? null : batch.get(batch.size() - 1).getId();
+        } while (batch.size() == batchSize);
+
+        // 조회가 끝까지 성공한 경우에만 교체한다
+        recurring.clear();
+        recurring.putAll(loaded);
+        recurringUntil = maxStartDate;
+        log.debug(
+                "Recurring schedule reminders refreshed: until={}, count={}",
+                maxStartDate,
+                loaded.size());
+    }
+
+    /** 변경된 일정의 알림을 취소하고 이미 적재한 구간 안의 알림만 다시 등록 */
+    private void resync(ScheduleChangedEvent event) {
+        ScheduleEntity schedule = event.getSchedule();
+        boolean active =
+                event.getChangeType() != ScheduleChangedEvent.ChangeType.DELETED
+                        && !schedule.isDeleted();
+        if (active
+                && RecurrenceExpander.isRecurring(schedule)
+                && schedule.getReminderMinutes() != null) {
+            recurring.put(schedule.getId(), schedule);
+        } else {
+            recurring.remove(schedule.getId());
+        }
+
+        List<HierarchicalTimingWheel.Entry<ScheduleReminder>> removed =
+                entries.remove(schedule.getId());
+        if (removed != null) {
+            for (HierarchicalTimingWheel.Entry<ScheduleReminder> entry : removed) {
+                wheel.cancel(entry);
+            }
+        }
+        if (active) {
+            LocalDateTime now = LocalDateTime.now(zoneId);
+            if (loadedUntil.isAfter(now)) {
+                registerWindow(schedule, now, loadedUntil);
+            }
+        }
+        pendingCount = wheel.size();
+    }
+
+    /**
+     * 알림 예정 일시가 [from, to)인 일정(반복 일정은 발생별) 알림 등록
+     *
+     * @return 등록한 알림 수
+     */
+    private int registerWindow(ScheduleEntity schedule, LocalDateTime from, LocalDateTime to) {
+        Integer reminderMinutes = schedule.getReminderMinutes();
+        if (reminderMinutes == null || reminderMinutes < 0) {
+            return 0;
+        }
+        if (!RecurrenceExpander.isRecurring(schedule)) {
+            LocalDateTime dueAt = schedule.getStartDate().minusMinutes(reminderMinutes);
+            if (dueAt.isBefore(from) || !dueAt.isBefore(to)) {
+                return 0;
+            }
+            registerOccurrence(schedule, schedule.getStartDate(), dueAt);
+            return 1;
+        }
+
+        // 알림 예정 일시가 [from, to)이면 발생 시작은 [from + 알림 시간, to + 알림 시간)이다
+        LocalDateTime startFrom = from.plusMinutes(reminderMinutes);
+        long startFromEpoch = RecurrenceExpander.toEpoch(startFrom);
+        RecurrenceIterator iterator =
+                RecurrenceExpander.iterator(schedule, startFrom, to.plusMinutes(reminderMinutes));
+        int count = 0;
+        while (iterator.next()) {
+            if (iterator.start() < startFromEpoch) {
+                continue;
+            }
+            LocalDateTime startDate = RecurrenceExpander.toDateTime(iterator.start());
+            registerOccurrence(schedule, startDate, startDate.minusMinutes(reminderMinutes));
+            count++;
+        }
+        return count;
+    }
+
+    private void registerOccurrence(
+            ScheduleEntity schedule, LocalDateTime startDate, LocalDateTime dueAt) {
+        ScheduleReminder reminder =
+                ScheduleReminder.builder()
+                        .scheduleId(schedule.getId())
+                        .userId(schedule.getUserId())
+                        .title(schedule.getTitle())
+                        .startDate(startDate)
+                        .reminderMinutes(schedule.getReminderMinutes())
+                        .dueAt(dueAt)
+                        .build();
+        HierarchicalTimingWheel.Entry<ScheduleReminder> entry =
+                wheel.schedule(toMillis(dueAt), reminder);
+        if (entry == null) {
+            // 현재 tick 안에 도래한 알림은 바로 발송한다
+            dispatch(reminder);
+            return;
+        }
+        entries.computeIfAbsent(schedule.getId(), id -> new ArrayList<>(1)).add(entry);
+    }
+
+    private void detach(HierarchicalTimingWheel.Entry<ScheduleReminder> entry) {
+        Long scheduleId = entry.getValue().getScheduleId();
+        List<HierarchicalTimingWheel.Entry<ScheduleReminder>> scheduled = entries.get(scheduleId);
+        if (scheduled != null && scheduled.remove(entry) && scheduled.isEmpty()) {
+            entries.remove(scheduleId);
+        }
+    }
+
+    private void dispatch(ScheduleReminder reminder) {
+        try {
+            dispatchExecutor.execute(
+                    () -> {
+                        long lagMillis = System.currentTimeMillis() - toMillis(reminder.getDueAt());
+                        lagTimer.record(Math.max(0, lagMillis), TimeUnit.MILLISECONDS);
+                        try {
+                            reminderSink.dispatch(reminder);
+                            dispatchedCounter.increment();
+                        } catch (RuntimeException e) {
+                            failedCounter.increment();
+                            log.error(
+                                    "Schedule reminder dispatch failed: scheduleId={}, reason={}",
+                                    reminder.getScheduleId(),
+                                    e.getMessage(),
+                                    e);
+                        }
+                    });
+        } catch (RejectedExecutionException e) {
+            failedCounter.increment();
+            log.warn(
+                    "Schedule reminder dropped during shutdown: scheduleId={}",
+                    reminder.getScheduleId());
+        }
+    }
+
+    private long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(zoneId).toInstant().toEpochMilli();
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + sequence.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
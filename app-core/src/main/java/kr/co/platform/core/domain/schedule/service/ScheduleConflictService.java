@@ -0,0 +1,59 @@
+package kr.co.platform.core.domain.schedule.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleConflictDto;
+import kr.co.platform.core.domain.schedule.model.entity.ScheduleEntity;
+
+/**
+ * 일정 충돌 확인 서비스 인터페이스
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+public interface ScheduleConflictService {
+
+    /**
+     * 후보 구간과 겹치는 소유자 및 참석자의 일정 조회
+     *
+     * @param ownerId 일정 소유자 ID
+     * @param participantUserIds 참석자 사용자 ID 목록 (null 가능)
+     * @param startDate 후보 시작 일시 (포함)
+     * @param endDate 후보 종료 일시 (미포함)
+     * @param excludeScheduleId 제외할 일정 ID (null 가능)
+     * @return 사용자, 시작 일시 순으로 정렬된 충돌 목록
+     */
+    List<ScheduleConflictDto> findConflicts(
+            String ownerId,
+            String[] participantUserIds,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            Long excludeScheduleId);
+
+    /**
+     * 저장할 일정과 겹치는 소유자 및 참석자의 일정 조회
+     *
+     * <p>반복 일정이면 첫 발생만이 아니라 인터벌 인덱스 적재 구간(종료 없는 반복의 상한) 안의 모든 발생을 확인한다.
+     *
+     * @param ownerId 일정 소유자 ID
+     * @param participantUserIds 참석자 사용자 ID 목록 (null 가능)
+     * @param candidate 저장할 일정 (반복 규칙, 제외 일시, 반복 종료 일시 포함)
+     * @param excludeScheduleId 제외할 일정 ID (null 가능)
+     * @return 사용자, 시작 일시 순으로 정렬된 충돌 목록
+     */
+    List<ScheduleConflictDto> findConflicts(
+            String ownerId,
+            String[] participantUserIds,
+            ScheduleEntity candidate,
+            Long excludeScheduleId);
+
+    /**
+     * 아직 저장되지 않은 두 일정의 겹침 여부 (인덱스에 없는 일괄 등록 대기 행 비교용)
+     *
+     * @param candidate 저장할 일정
+     * @param other 비교할 일정
+     * @return 확인 구간 안에서 발생이 하나라도 겹치면 true
+     */
+    boolean overlaps(ScheduleEntity candidate, ScheduleEntity other);
+}
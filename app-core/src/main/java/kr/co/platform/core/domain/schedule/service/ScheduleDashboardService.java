@@ -0,0 +1,20 @@
+package kr.co.platform.core.domain.schedule.service;
+
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleDashboardResponseDto;
+
+/**
+ * 일정 대시보드 서비스 인터페이스
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+public interface ScheduleDashboardService {
+
+    /**
+     * 대시보드 조회 (항목을 동시에 조회하고, 제한 시간을 넘긴 항목은 생략)
+     *
+     * @param userId 사용자 ID
+     * @return 대시보드 항목
+     */
+    ScheduleDashboardResponseDto getDashboard(String userId);
+}
@@ -0,0 +1,38 @@
+package kr.co.platform.core.domain.schedule.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleSearchDto;
+import kr.co.platform.core.domain.schedule.model.enums.ScheduleExportFormat;
+
+/**
+ * 일정 내보내기 서비스 인터페이스
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+public interface ScheduleExportService {
+
+    /**
+     * 내보내기 조건 검증 및 보정, 동시 내보내기 슬롯 확보 (응답 스트리밍을 시작하기 전에 오류 응답을 보낼 수 있도록 분리)
+     *
+     * <p>정상 반환되면 슬롯을 점유하므로 반드시 {@link #export}를 호출해야 하며, 슬롯은 {@link #export}가 끝날 때 반납된다.
+     *
+     * @param requesterId 요청 사용자 ID
+     * @param search 내보내기 조건 (userId, startDate, endDate, scheduleType, publicOnly)
+     */
+    void prepare(String requesterId, ScheduleSearchDto search);
+
+    /**
+     * 조건에 맞는 일정을 DB 커서로 한 행씩 읽어 바로 출력 (행 수와 관계없이 메모리 사용량 일정, 끝나면 슬롯 반납)
+     *
+     * @param search {@link #prepare}로 보정된 내보내기 조건
+     * @param format 내보내기 형식
+     * @param out 출력 스트림
+     * @return 출력한 일정 수
+     * @throws IOException 출력 실패 (클라이언트 연결 종료 포함)
+     */
+    long export(ScheduleSearchDto search, ScheduleExportFormat format, OutputStream out)
+            throws IOException;
+}
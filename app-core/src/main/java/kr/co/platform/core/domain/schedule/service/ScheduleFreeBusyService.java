@@ -0,0 +1,21 @@
+package kr.co.platform.core.domain.schedule.service;
+
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleFreeBusyRequestDto;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleFreeBusyResponseDto;
+
+/**
+ * free/busy 조회 서비스 인터페이스
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+public interface ScheduleFreeBusyService {
+
+    /**
+     * 여러 사용자의 busy 구간과 공통 빈 시간대 조회
+     *
+     * @param request 조회 요청 (사용자, 기간, 슬롯 크기)
+     * @return 사용자별/전체 busy 구간과 공통 빈 시간대
+     */
+    ScheduleFreeBusyResponseDto getFreeBusy(ScheduleFreeBusyRequestDto request);
+}
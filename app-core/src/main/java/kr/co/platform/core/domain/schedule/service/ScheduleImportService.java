@@ -0,0 +1,23 @@
+package kr.co.platform.core.domain.schedule.service;
+
+import java.io.InputStream;
+
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleImportResponseDto;
+
+/**
+ * 일정 일괄 등록 서비스 인터페이스
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+public interface ScheduleImportService {
+
+    /**
+     * JSON 배열 스트림으로 전달된 일정을 일괄 등록 행 단위로 검증하고 청크 단위로 저장/커밋한다
+     *
+     * @param userId 일정 소유자 ID
+     * @param json {@code ScheduleRequestDto} JSON 배열 스트림
+     * @return 행별 처리 결과
+     */
+    ScheduleImportResponseDto importSchedules(String userId, InputStream json);
+}
@@ -1,9 +1,80 @@
 package kr.co.platform.core.domain.schedule.service;
 
+import java.util.List;
+
+import kr.co.platform.core.common.dto.SliceResponse;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleRequestDto;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleResponseDto;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleSearchDto;
+
 /**
  * 일정 서비스 인터페이스 (예시)
  *
  * @author 박성우
  * @date 2025.08.03
  */
-public interface ScheduleService {}
+public interface ScheduleService {
+
+    /**
+     * 오늘의 일정 조회
+     *
+     * @param userId 사용자 ID
+     * @return 오늘과 겹치는 일정 목록
+     */
+    List<ScheduleResponseDto> getTodaySchedules(String userId);
+
+    /**
+     * 기간 내 일정 조회 (캘린더 주간/월간 보기)
+     *
+     * @param requesterId 요청 사용자 ID
+     * @param search 검색 조건 (userId, startDate, endDate, scheduleType, publicOnly)
+     * @return 기간과 겹치는 일정 목록
+     */
+    List<ScheduleResponseDto> getSchedulesInRange(String requesterId, ScheduleSearchDto search);
+
+    /**
+     * 일정 검색 (page/pageSize 또는 cursor 기반 페이지네이션)
+     *
+     * @param requesterId 요청 사용자 ID
+     * @param search 검색 조건
+     * @return 일정 목록과 다음 페이지 연속 토큰
+     */
+    SliceResponse<ScheduleResponseDto> searchSchedules(
+            String requesterId, ScheduleSearchDto search);
+
+    /**
+     * 일정 단건 조회
+     *
+     * @param requesterId 요청 사용자 ID
+     * @param scheduleId 일정 ID
+     * @return 일정 응답 DTO
+     */
+    ScheduleResponseDto getSchedule(String requesterId, Long scheduleId);
+
+    /**
+     * 일정 생성
+     *
+     * @param userId 일정 소유자 ID
+     * @param request 일정 요청 DTO
+     * @return 생성된 일정
+     */
+    ScheduleResponseDto createSchedule(String userId, ScheduleRequestDto request);
+
+    /**
+     * 일정 수정
+     *
+     * @param userId 요청 사용자 ID
+     * @param scheduleId 일정 ID
+     * @param request 일정 요청 DTO
+     * @return 수정된 일정
+     */
+    ScheduleResponseDto updateSchedule(String userId, Long scheduleId, ScheduleRequestDto request);
+
+    /**
+     * 일정 삭제 (Soft Delete)
+     *
+     * @param userId 요청 사용자 ID
+     * @param scheduleId 일정 ID
+     */
+    void deleteSchedule(String userId, Long scheduleId);
+}
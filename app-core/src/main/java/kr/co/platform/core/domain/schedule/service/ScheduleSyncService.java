@@ -0,0 +1,22 @@
+package kr.co.platform.core.domain.schedule.service;
+
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleChangesResponseDto;
+
+/**
+ * 일정 변경분 동기화 서비스 인터페이스
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+public interface ScheduleSyncService {
+
+    /**
+     * 변경 토큰 이후의 생성/수정/삭제 조회
+     *
+     * @param userId 사용자 ID
+     * @param since 마지막으로 받은 변경 토큰 (없으면 재동기화 안내와 시작 토큰만 반환)
+     * @param limit 최대 변경 수 (null이면 기본값)
+     * @return 변경 목록과 다음 토큰
+     */
+    ScheduleChangesResponseDto getChanges(String userId, String since, Integer limit);
+}
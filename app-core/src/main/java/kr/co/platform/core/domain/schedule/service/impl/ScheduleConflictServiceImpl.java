@@ -0,0 +1,173 @@
+package kr.co.platform.core.domain.schedule.service.impl;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+
+import kr.co.platform.core.common.util.StringUtil;
+import kr.co.platform.core.domain.schedule.index.ScheduleIntervalIndex;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleConflictDto;
+import kr.co.platform.core.domain.schedule.model.entity.ScheduleEntity;
+import kr.co.platform.core.domain.schedule.recurrence.RecurrenceExpander;
+import kr.co.platform.core.domain.schedule.recurrence.RecurrenceIterator;
+import kr.co.platform.core.domain.schedule.service.ScheduleConflictService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 일정 충돌 확인 서비스 구현체
+ *
+ * <p>참석자별로 SQL을 반복하지 않고, 적재되지 않은 참석자의 일정을 한 번에 인터벌 인덱스로 적재한 뒤 사용자별 겹침 조회(O(log n + k))로 충돌을 찾는다.
+ * 저장할 일정이 반복 일정이면 확인 구간 전체의 기존 일정을 조회한 뒤, 각 기존 일정 구간에 저장할 일정의 발생이 있는지 반복자로 확인한다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ScheduleConflictServiceImpl implements ScheduleConflictService {
+
+    private static final String PRIVATE_TITLE = "비공개 일정";
+
+    private final ScheduleIntervalIndex scheduleIntervalIndex;
+
+    @Override
+    public List<ScheduleConflictDto> findConflicts(
+            String ownerId,
+            String[] participantUserIds,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            Long excludeScheduleId) {
+        Set<String> userIds = userIds(ownerId, participantUserIds);
+        scheduleIntervalIndex.warmUp(userIds);
+
+        List<ScheduleConflictDto> conflicts = new ArrayList<>();
+        for (String userId : userIds) {
+            for (ScheduleEntity schedule :
+                    scheduleIntervalIndex.findOverlapping(userId, startDate, endDate)) {
+                if (schedule.getId().equals(excludeScheduleId)) {
+                    continue;
+                }
+                conflicts.add(toConflict(ownerId, schedule));
+            }
+        }
+        log.debug(
+                "Schedule conflicts checked: ownerId={}, users={}, conflicts={}",
+                ownerId,
+                userIds.size(),
+                conflicts.size());
+        return conflicts;
+    }
+
+    @Override
+    public List<ScheduleConflictDto> findConflicts(
+            String ownerId,
+            String[] participantUserIds,
+            ScheduleEntity candidate,
+            Long excludeScheduleId) {
+        if (!RecurrenceExpander.isRecurring(candidate)) {
+            return findConflicts(
+                    ownerId,
+                    participantUserIds,
+                    candidate.getStartDate(),
+                    candidate.getEndDate(),
+                    excludeScheduleId);
+        }
+        LocalDateTime[] range = range(candidate);
+        Set<String> userIds = userIds(ownerId, participantUserIds);
+        scheduleIntervalIndex.warmUp(userIds);
+
+        List<ScheduleConflictDto> conflicts = new ArrayList<>();
+        for (String userId : userIds) {
+            for (ScheduleEntity schedule :
+                    scheduleIntervalIndex.findOverlapping(userId, range[0], range[1])) {
+                if (schedule.getId().equals(excludeScheduleId)
+                        || !RecurrenceExpander.occursWithin(
+                                candidate, schedule.getStartDate(), schedule.getEndDate())) {
+                    continue;
+                }
+                conflicts.add(toConflict(ownerId, schedule));
+            }
+        }
+        log.debug(
+                "Recurring schedule conflicts checked: ownerId={}, users={}, range={}~{},"
+                        + " conflicts={}",
+                ownerId,
+                userIds.size(),
+                range[0],
+                range[1],
+                conflicts.size());
+        return conflicts;
+    }
+
+    @Override
+    public boolean overlaps(ScheduleEntity candidate, ScheduleEntity other) {
+        if (!RecurrenceExpander.isRecurring(candidate)) {
+            return RecurrenceExpander.occursWithin(
+                    other, candidate.getStartDate(), candidate.getEndDate());
+        }
+        LocalDateTime[] range = range(candidate);
+        RecurrenceIterator iterator = RecurrenceExpander.iterator(candidate, range[0], range[1]);
+        while (iterator.next()) {
+            if (RecurrenceExpander.occursWithin(
+                    other,
+                    RecurrenceExpander.toDateTime(iterator.start()),
+                    RecurrenceExpander.toDateTime(iterator.end()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 반복 일정의 확인 구간 (첫 발생 ~ 마지막 발생 종료, 인덱스 적재 구간으로 제한)
+     *
+     * <p>종료 없는 반복은 적재 구간 끝까지만 확인하고, 적재 구간 이전에 시작한 반복은 지난 발생을 건너뛴다. 적재 구간 뒤에 시작하는 반복은 첫 발생만 확인한다.
+     */
+    private LocalDateTime[] range(ScheduleEntity candidate) {
+        LocalDateTime from = candidate.getStartDate();
+        LocalDateTime to = scheduleIntervalIndex.windowEnd();
+        if (to.isBefore(candidate.getEndDate())) {
+            to = candidate.getEndDate();
+        }
+        if (candidate.getRecurrenceEnd() != null && candidate.getRecurrenceEnd().isBefore(to)) {
+            to = candidate.getRecurrenceEnd();
+        }
+        LocalDateTime windowStart = scheduleIntervalIndex.windowStart();
+        if (from.isBefore(windowStart) && to.isAfter(windowStart)) {
+            from = windowStart;
+        }
+        return new LocalDateTime[] {from, to};
+    }
+
+    private static Set<String> userIds(String ownerId, String[] participantUserIds) {
+        Set<String> userIds = new LinkedHashSet<>();
+        userIds.add(ownerId);
+        if (participantUserIds != null) {
+            for (String participantUserId : participantUserIds) {
+                if (StringUtil.isNotEmpty(participantUserId)) {
+                    userIds.add(participantUserId);
+                }
+            }
+        }
+        return userIds;
+    }
+
+    private static ScheduleConflictDto toConflict(String ownerId, ScheduleEntity schedule) {
+        boolean visible =
+                schedule.getUserId().equals(ownerId) || Boolean.TRUE.equals(schedule.getIsPublic());
+        return ScheduleConflictDto.builder()
+                .userId(schedule.getUserId())
+                .scheduleId(visible ? schedule.getId() : null)
+                .title(visible ? schedule.getTitle() : PRIVATE_TITLE)
+                .scheduleType(visible ? schedule.getScheduleType() : null)
+                .startDate(schedule.getStartDate())
+                .endDate(schedule.getEndDate())
+                .build();
+    }
+}
@@ -0,0 +1,249 @@
+package kr.co.platform.core.domain.schedule.service.impl;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.co.platform.core.common.exception.BusinessException;
+import kr.co.platform.core.common.exception.ErrorCode;
+import kr.co.platform.core.common.util.StringUtil;
+import kr.co.platform.core.domain.schedule.cache.TodayScheduleCache;
+import kr.co.platform.core.domain.schedule.config.ScheduleProperties;
+import kr.co.platform.core.domain.schedule.index.ScheduleIntervalIndex;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleDashboardReminderDto;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleDashboardResponseDto;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleResponseDto;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleSearchDto;
+import kr.co.platform.core.domain.schedule.model.enums.ScheduleType;
+import kr.co.platform.core.domain.schedule.service.ScheduleDashboardService;
+import kr.co.platform.core.domain.schedule.service.ScheduleService;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 일정 대시보드 서비스 구현체
+ *
+ * <p>항목을 전용 실행기에서 동시에 조회하므로 응답 시간은 항목 시간의 합이 아니라 가장 느린 항목의 시간이다. 모든 항목은 같은 시각에 시작하고 항목별 제한 시간이 지나면
+ * 취소(인터럽트)되어 응답에서 생략되며, 실행기가 가득 차서 거절된 항목도 생략된다. 항목별 소요 시간과 결과는 {@code schedule.dashboard.part} 지표로
+ * 노출된다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Slf4j
+@Service
+public class ScheduleDashboardServiceImpl implements ScheduleDashboardService {
+
+    private final ScheduleService scheduleService;
+    private final ScheduleIntervalIndex scheduleIntervalIndex;
+    private final TodayScheduleCache todayScheduleCache;
+    private final AsyncTaskExecutor executor;
+    private final ScheduleProperties.Dashboard properties;
+    private final int maxReminderMinutes;
+    private final ZoneId zoneId;
+    private final MeterRegistry meterRegistry;
+
+    public ScheduleDashboardServiceImpl(
+            ScheduleService scheduleService,
+            ScheduleIntervalIndex scheduleIntervalIndex,
+            TodayScheduleCache todayScheduleCache,
+            AsyncTaskExecutor scheduleDashboardExecutor,
+            ScheduleProperties scheduleProperties,
+            MeterRegistry meterRegistry) {
+        this.scheduleService = scheduleService;
+        this.scheduleIntervalIndex = scheduleIntervalIndex;
+        this.todayScheduleCache = todayScheduleCache;
+        this.executor = scheduleDashboardExecutor;
+        this.properties = scheduleProperties.getDashboard();
+        this.maxReminderMinutes = scheduleProperties.getReminder().getMaxReminderMinutes();
+        this.zoneId = ZoneId.of(properties.getZoneId());
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public ScheduleDashboardResponseDto getDashboard(String userId) {
+        if (StringUtil.isEmpty(userId)) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+        LocalDate today = todayScheduleCache.today();
+        LocalDateTime now = LocalDateTime.now(zoneId);
+
+        long startedAt = System.nanoTime();
+        Part<List<ScheduleResponseDto>> todayPart =
+                submit(
+                        ScheduleDashboardResponseDto.PART_TODAY,
+                        () -> scheduleService.getTodaySchedules(userId));
+        Part<List<ScheduleResponseDto>> upcomingPart =
+                submit(ScheduleDashboardResponseDto.PART_UPCOMING, () -> upcoming(userId, today));
+        Part<List<ScheduleDashboardReminderDto>> remindersPart =
+                submit(ScheduleDashboardResponseDto.PART_REMINDERS, () -> reminders(userId, now));
+        Part<Map<ScheduleType, Long>> typeCountsPart =
+                submit(
+                        ScheduleDashboardResponseDto.PART_TYPE_COUNTS,
+                        () -> typeCounts(userId, today));
+
+        List<String> unavailable = new ArrayList<>();
+        ScheduleDashboardResponseDto response =
+                ScheduleDashboardResponseDto.builder()
+                        .today(todayPart.await(startedAt, unavailable))
+                        .upcoming(upcomingPart.await(startedAt, unavailable))
+                        .reminders(remindersPart.await(startedAt, unavailable))
+                        .typeCounts(typeCountsPart.await(startedAt, unavailable))
+                        .unavailableParts(unavailable)
+                        .build();
+
+        log.debug(
+                "Dashboard loaded: userId={}, elapsedMs={}, unavailable={}",
+                userId,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt),
+                unavailable);
+        return response;
+    }
+
+    /** 내일부터 설정한 일수 동안의 일정 (시작 일시 순, 최대 개수) */
+    private List<ScheduleResponseDto> upcoming(String userId, LocalDate today) {
+        ScheduleSearchDto search =
+                ScheduleSearchDto.builder()
+                        .startDate(today.plusDays(1))
+                        .endDate(today.plusDays(properties.getUpcomingDays()))
+                        .build();
+        List<ScheduleResponseDto> schedules = scheduleService.getSchedulesInRange(userId, search);
+        return schedules.size() > properties.getUpcomingLimit()
+                ? List.copyOf(schedules.subList(0, properties.getUpcomingLimit()))
+                : schedules;
+    }
+
+    /** 알림 일시가 지금부터 설정한 기간 안인 일정 (알림 일시 순) */
+    private List<ScheduleDashboardReminderDto> reminders(String userId, LocalDateTime now) {
+        LocalDateTime until = now.plus(properties.getReminderWindow());
+        List<ScheduleDashboardReminderDto> reminders = new ArrayList<>();
+        scheduleIntervalIndex.forEachOverlapping(
+                userId,
+                now,
+                until.plusMinutes(maxReminderMinutes),
+                schedule -> {
+                    if (schedule.getReminderMinutes() == null
+                            || schedule.getStartDate().isBefore(now)) {
+                        return;
+                    }
+                    LocalDateTime remindAt =
+                            schedule.getStartDate().minusMinutes(schedule.getReminderMinutes());
+                    if (!remindAt.isBefore(now) && remindAt.isBefore(until)) {
+                        reminders.add(
+                                ScheduleDashboardReminderDto.builder()
+                                        .scheduleId(schedule.getId())
+                                        .title(schedule.getTitle())
+                                        .startDate(schedule.getStartDate())
+                                        .remindAt(remindAt)
+                                        .build());
+                    }
+                });
+        reminders.sort(Comparator.comparing(ScheduleDashboardReminderDto::getRemindAt));
+        return reminders;
+    }
+
+    /** 이번 달과 겹치는 일정의 유형별 수 (모든 유형 포함) */
+    private Map<ScheduleType, Long> typeCounts(String userId, LocalDate today) {
+        long[] counts = new long[ScheduleType.values().length];
+        LocalDate firstDay = today.withDayOfMonth(1);
+        scheduleIntervalIndex.forEachOverlapping(
+                userId,
+                firstDay.atStartOfDay(),
+                firstDay.plusMonths(1).atStartOfDay(),
+                schedule -> {
+                    if (schedule.getScheduleType() != null) {
+                        counts[schedule.getScheduleType().ordinal()]++;
+                    }
+                });
+        Map<ScheduleType, Long> typeCounts = new EnumMap<>(ScheduleType.class);
+        for (ScheduleType type : ScheduleType.values()) {
+            typeCounts.put(type, counts[type.ordinal()]);
+        }
+        return typeCounts;
+    }
+
+    private <T> Part<T> submit(String name, Callable<T> query) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Duration timeout = properties.getPartTimeouts().getOrDefault(name, properties.getTimeout());
+        try {
+            return new Part<>(name, executor.submit(query), timeout, sample);
+        } catch (TaskRejectedException e) {
+            return new Part<>(name, null, timeout, sample);
+        }
+    }
+
+    private Timer partTimer(String name, String outcome) {
+        return Timer.builder("schedule.dashboard.part")
+                .description("대시보드 항목 조회 시간")
+                .tag("part", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /** 대시보드 항목 (조회 작업과 제한 시간) */
+    private final class Part<T> {
+
+        private final String name;
+        private final Future<T> future;
+        private final Duration timeout;
+        private final Timer.Sample sample;
+
+        private Part(String name, Future<T> future, Duration timeout, Timer.Sample sample) {
+            this.name = name;
+            this.future = future;
+            this.timeout = timeout;
+            this.sample = sample;
+        }
+
+        /** 시작 시각 기준 제한 시간까지 결과를 기다리고, 실패하면 이름을 기록하고 null 반환 */
+        private T await(long startedAt, List<String> unavailable) {
+            if (future == null) {
+                fail(unavailable, "rejected", null);
+                return null;
+            }
+            long remaining = startedAt + timeout.toNanos() - System.nanoTime();
+            try {
+                T result = future.get(Math.max(0, remaining), TimeUnit.NANOSECONDS);
+                sample.stop(partTimer(name, "success"));
+                return result;
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                fail(unavailable, "timeout", null);
+            } catch (ExecutionException e) {
+                fail(unavailable, "error", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+                fail(unavailable, "interrupted", null);
+            }
+            return null;
+        }
+
+        private void fail(List<String> unavailable, String outcome, Throwable cause) {
+            unavailable.add(name);
+            sample.stop(partTimer(name, outcome));
+            log.warn(
+                    "Dashboard part unavailable: part={}, outcome={}, timeout={}, cause={}",
+                    name,
+                    outcome,
+                    timeout,
+                    cause == null ? null : cause.toString());
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package kr.co.platform.core.domain.schedule.service.impl;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import kr.co.platform.core.common.exception.BusinessException;
+import kr.co.platform.core.common.exception.ErrorCode;
+import kr.co.platform.core.common.util.StringUtil;
+import kr.co.platform.core.domain.schedule.config.ScheduleProperties;
+import kr.co.platform.core.domain.schedule.export.CsvScheduleExportWriter;
+import kr.co.platform.core.domain.schedule.export.IcsScheduleExportWriter;
+import kr.co.platform.core.domain.schedule.export.ScheduleExportWriter;
+import kr.co.platform.core.domain.schedule.mapper.ScheduleMapper;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleSearchDto;
+import kr.co.platform.core.domain.schedule.model.entity.ScheduleEntity;
+import kr.co.platform.core.domain.schedule.model.enums.ScheduleExportFormat;
+import kr.co.platform.core.domain.schedule.service.ScheduleExportService;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 일정 내보내기 서비스 구현체
+ *
+ * <p>MyBatis {@link Cursor}는 세션(커넥션)이 열려 있는 동안만 읽을 수 있으므로 읽기 전용 트랜잭션 안에서 끝까지 출력한다. 행은 출력 즉시 버려지고
+ * 버퍼는 고정 크기이므로 힙 사용량은 행 수와 무관하다.
+ *
+ * <p>내보내기는 출력이 끝날 때까지 커넥션과 트랜잭션을 점유하므로 동시 실행 수를 {@code max-concurrent}로 제한하여 일반 요청이 커넥션 풀을 기다리지 않게
+ * 한다. 슬롯은 스트리밍을 시작하기 전 {@link #prepare}에서 확보하여 초과 요청에는 바로 503을 응답한다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Slf4j
+@Service
+public class ScheduleExportServiceImpl implements ScheduleExportService {
+
+    /** 출력 버퍼 크기 (문자) */
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final ScheduleMapper scheduleMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ScheduleProperties.Export properties;
+    private final Semaphore permits;
+
+    public ScheduleExportServiceImpl(
+            ScheduleMapper scheduleMapper,
+            PlatformTransactionManager transactionManager,
+            ScheduleProperties scheduleProperties) {
+        this.scheduleMapper = scheduleMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.properties = scheduleProperties.getExport();
+        this.permits = new Semaphore(properties.getMaxConcurrent(), true);
+    }
+
+    @Override
+    public void prepare(String requesterId, ScheduleSearchDto search) {
+        if (StringUtil.isEmpty(requesterId)) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+        if (search.getStartDate() != null
+                && search.getEndDate() != null
+                && search.getEndDate().isBefore(search.getStartDate())) {
+            throw new BusinessException(ErrorCode.INVALID_SCHEDULE_DATE);
+        }
+        if (StringUtil.isEmpty(search.getUserId())) {
+            search.setUserId(requesterId);
+        }
+        if (!search.getUserId().equals(requesterId)) {
+            search.setPublicOnly(true);
+        }
+        acquire();
+    }
+
+    private void acquire() {
+        boolean acquired;
+        try {
+            acquired =
+                    permits.tryAcquire(
+                            properties.getAcquireTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.SCHEDULE_EXPORT_BUSY, e);
+        }
+        if (!acquired) {
+            log.warn("Schedule export rejected: maxConcurrent={}", properties.getMaxConcurrent());
+            throw new BusinessException(ErrorCode.SCHEDULE_EXPORT_BUSY);
+        }
+    }
+
+    @Override
+    public long export(ScheduleSearchDto search, ScheduleExportFormat format, OutputStream out)
+            throws IOException {
+        try {
+            return write(search, format, out);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private long write(ScheduleSearchDto search, ScheduleExportFormat format, OutputStream out)
+            throws IOException {
+        LocalDateTime from =
+                search.getStartDate() == null ? null : search.getStartDate().atStartOfDay();
+        LocalDateTime to =
+                search.getEndDate() == null ? null : search.getEndDate().plusDays(1).atStartOfDay();
+        Writer writer =
+                new BufferedWriter(
+                        new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        ScheduleExportWriter exportWriter =
+                switch (format) {
+                    case ICS -> new IcsScheduleExportWriter(
+                            writer, ZoneId.of(properties.getZoneId()), properties.getUidDomain());
+                    case CSV -> new CsvScheduleExportWriter(writer);
+                };
+
+        long startedAt = System.nanoTime();
+        Long count;
+        try {
+            count =
+                    transactionTemplate.execute(
+                            status -> {
+                                try (Cursor<ScheduleEntity> cursor =
+                                        scheduleMapper.selectSchedulesForExport(search, from, to)) {
+                                    exportWriter.begin();
+                                    long written = 0;
+                                    for (ScheduleEntity schedule : cursor) {
+                                        exportWriter.write(schedule);
+                                        written++;
+                                    }
+                                    exportWriter.end();
+                                    return written;
+                                } catch (IOException e) {
+                                    throw new UncheckedIOException(e);
+                                }
+                            });
+        } catch (UncheckedIOException e) {
+            // 대부분 클라이언트가 다운로드를 중단한 경우
+            throw e.getCause();
+        }
+        log.info(
+                "Schedules exported: userId={}, format={}, rows={}, elapsedMs={}",
+                search.getUserId(),
+                format,
+                count,
+                (System.nanoTime() - startedAt) / 1_000_000);
+        return count == null ? 0 : count;
+    }
+}
@@ -0,0 +1,194 @@
+package kr.co.platform.core.domain.schedule.service.impl;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+
+import kr.co.platform.core.common.exception.BusinessException;
+import kr.co.platform.core.common.exception.ErrorCode;
+import kr.co.platform.core.common.util.StringUtil;
+import kr.co.platform.core.domain.schedule.config.ScheduleProperties;
+import kr.co.platform.core.domain.schedule.index.ScheduleIntervalIndex;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleFreeBusyRequestDto;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleFreeBusyResponseDto;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleTimeRangeDto;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleUserBusyDto;
+import kr.co.platform.core.domain.schedule.service.ScheduleFreeBusyService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * free/busy 조회 서비스 구현체
+ *
+ * <p>사용자마다 슬롯당 1비트인 BitSet을 만들고 OR로 합쳐 전체 busy를 구한다. 공통 빈 시간대는 합친 비트맵의 0 구간이다(사용자별 free 비트맵의 AND와
+ * 같다).
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ScheduleFreeBusyServiceImpl implements ScheduleFreeBusyService {
+
+    private final ScheduleIntervalIndex scheduleIntervalIndex;
+    private final ScheduleProperties scheduleProperties;
+
+    @Override
+    public ScheduleFreeBusyResponseDto getFreeBusy(ScheduleFreeBusyRequestDto request) {
+        ScheduleProperties.FreeBusy config = scheduleProperties.getFreeBusy();
+        LocalDateTime startDate = request.getStartDate();
+        LocalDateTime endDate = request.getEndDate();
+        if (!endDate.isAfter(startDate)) {
+            throw new BusinessException(ErrorCode.INVALID_SCHEDULE_DATE);
+        }
+
+        Set<String> userIds = new LinkedHashSet<>();
+        for (String userId : request.getUserIds()) {
+            if (StringUtil.isNotEmpty(userId)) {
+                userIds.add(userId);
+            }
+        }
+        if (userIds.isEmpty() || userIds.size() > config.getMaxUsers()) {
+            log.debug(
+                    "Free/busy rejected: users={}, maxUsers={}",
+                    userIds.size(),
+                    config.getMaxUsers());
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        int slotMinutes =
+                request.getSlotMinutes() != null
+                        ? request.getSlotMinutes()
+                        : config.getDefaultSlotMinutes();
+        long slotSeconds = slotMinutes * 60L;
+        long from = toEpoch(startDate);
+        long to = toEpoch(endDate);
+        long slotCount = (to - from + slotSeconds - 1) / slotSeconds;
+        if (slotCount > config.getMaxSlots()) {
+            log.debug("Free/busy rejected: slots={}, maxSlots={}", slotCount, config.getMaxSlots());
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        int slots = (int) slotCount;
+
+        scheduleIntervalIndex.warmUp(userIds);
+
+        BitSet union = new BitSet(slots);
+        List<ScheduleUserBusyDto> users = new ArrayList<>(userIds.size());
+        for (String userId : userIds) {
+            BitSet busy = new BitSet(slots);
+            scheduleIntervalIndex.forEachOverlapping(
+                    userId,
+                    startDate,
+                    endDate,
+                    schedule -> {
+                        long start = toEpoch(schedule.getStartDate()) - from;
+                        long end = toEpoch(schedule.getEndDate()) - from;
+                        int fromSlot = (int) Math.max(0, Math.floorDiv(start, slotSeconds));
+                        int toSlot =
+                                (int)
+                                        Math.min(
+                                                slots,
+                                                Math.floorDiv(end + slotSeconds - 1, slotSeconds));
+                        // 길이가 0인 일정도 시작 슬롯은 차지한다
+                        busy.set(fromSlot, Math.max(toSlot, Math.min(fromSlot + 1, slots)));
+                    });
+            union.or(busy);
+            users.add(
+                    ScheduleUserBusyDto.builder()
+                            .userId(userId)
+                            .busy(
+                                    toRanges(
+                                            busy,
+                                            false,
+                                            1,
+                                            Integer.MAX_VALUE,
+                                            slots,
+                                            from,
+                                            to,
+                                            slotSeconds))
+                            .build());
+        }
+
+        int minFreeMinutes =
+                request.getMinFreeMinutes() != null ? request.getMinFreeMinutes() : slotMinutes;
+        int minFreeSlots = (minFreeMinutes + slotMinutes - 1) / slotMinutes;
+        int maxSuggestions =
+                request.getMaxSuggestions() != null
+                        ? request.getMaxSuggestions()
+                        : config.getDefaultSuggestions();
+
+        log.debug(
+                "Free/busy computed: users={}, slots={}, slotMinutes={}",
+                users.size(),
+                slots,
+                slotMinutes);
+        return ScheduleFreeBusyResponseDto.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .slotMinutes(slotMinutes)
+                .users(users)
+                .busy(toRanges(union, false, 1, Integer.MAX_VALUE, slots, from, to, slotSeconds))
+                .freeWindows(
+                        toRanges(
+                                union,
+                                true,
+                                minFreeSlots,
+                                maxSuggestions,
+                                slots,
+                                from,
+                                to,
+                                slotSeconds))
+                .build();
+    }
+
+    /**
+     * 비트맵의 연속 구간을 시간 구간으로 변환
+     *
+     * @param bits 슬롯 비트맵
+     * @param free true면 0 구간, false면 1 구간
+     * @param minSlots 포함할 구간의 최소 슬롯 수
+     * @param limit 최대 구간 수
+     */
+    private static List<ScheduleTimeRangeDto> toRanges(
+            BitSet bits,
+            boolean free,
+            int minSlots,
+            int limit,
+            int slots,
+            long from,
+            long to,
+            long slotSeconds) {
+        List<ScheduleTimeRangeDto> ranges = new ArrayList<>();
+        int start = free ? bits.nextClearBit(0) : bits.nextSetBit(0);
+        while (start >= 0 && start < slots && ranges.size() < limit) {
+            int end = free ? bits.nextSetBit(start) : bits.nextClearBit(start);
+            if (end < 0 || end > slots) {
+                end = slots;
+            }
+            if (end - start >= minSlots) {
+                ranges.add(
+                        ScheduleTimeRangeDto.builder()
+                                .startDate(toDateTime(from + start * slotSeconds))
+                                .endDate(toDateTime(Math.min(to, from + end * slotSeconds)))
+                                .build());
+            }
+            start = free ? bits.nextClearBit(end) : bits.nextSetBit(end);
+        }
+        return ranges;
+    }
+
+    private static long toEpoch(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static LocalDateTime toDateTime(long epochSecond) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+}
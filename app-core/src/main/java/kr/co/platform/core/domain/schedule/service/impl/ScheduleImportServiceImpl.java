@@ -0,0 +1,296 @@
+package kr.co.platform.core.domain.schedule.service.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import kr.co.platform.core.common.exception.BusinessException;
+import kr.co.platform.core.common.exception.ErrorCode;
+import kr.co.platform.core.common.util.StringUtil;
+import kr.co.platform.core.domain.schedule.cache.ScheduleVersionRegistry;
+import kr.co.platform.core.domain.schedule.config.ScheduleProperties;
+import kr.co.platform.core.domain.schedule.converter.ScheduleConverter;
+import kr.co.platform.core.domain.schedule.event.ScheduleChangedEvent;
+import kr.co.platform.core.domain.schedule.mapper.ScheduleMapper;
+import kr.co.platform.core.domain.schedule.mapper.ScheduleVersionMapper;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleImportResponseDto;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleImportRowResultDto;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleRequestDto;
+import kr.co.platform.core.domain.schedule.model.entity.ScheduleEntity;
+import kr.co.platform.core.domain.schedule.service.ScheduleConflictService;
+import kr.co.platform.core.domain.schedule.service.ScheduleImportService;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 일정 일괄 등록 서비스 구현체
+ *
+ * <p>요청 본문을 Jackson 스트리밍 파서로 한 행씩 읽어 검증하고, 설정된 청크 크기만큼 모아 JDBC 배치 또는 다중 행 INSERT로 저장한다. 청크마다 별도
+ * 트랜잭션으로 커밋하므로 한 청크의 실패가 이미 커밋된 청크에 영향을 주지 않는다. 청크에 영향받는 사용자의 일정 버전은 같은 트랜잭션에서 한 번만 올리므로 버전 증가가
+ * 실패하면 청크 저장도 롤백된다.
+ *
+ * <p>배열 원소 중 객체가 아닌 값은 해당 행의 실패로 기록하고 계속 읽는다. 최대 행 수를 넘거나 JSON이 깨지면 거기서 읽기를 멈추되, 그 전까지 검증된 행은 저장한다.
+ * 충돌 거절이 켜져 있으면 일정 생성과 같이 소유자/참석자 일정과 겹치는 행을 실패로 기록한다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Slf4j
+@Service
+public class ScheduleImportServiceImpl implements ScheduleImportService {
+
+    private final ScheduleMapper scheduleMapper;
+    private final ScheduleMapper batchScheduleMapper;
+    private final ScheduleVersionMapper batchScheduleVersionMapper;
+    private final SqlSessionTemplate batchSqlSessionTemplate;
+    private final ScheduleConverter scheduleConverter;
+    private final ScheduleConflictService scheduleConflictService;
+    private final ScheduleVersionRegistry scheduleVersionRegistry;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ScheduleProperties.BulkImport properties;
+    private final ScheduleProperties.Conflict conflictProperties;
+
+    public ScheduleImportServiceImpl(
+            ScheduleMapper scheduleMapper,
+            SqlSessionFactory sqlSessionFactory,
+            ScheduleConverter scheduleConverter,
+            ScheduleConflictService scheduleConflictService,
+            ScheduleVersionRegistry scheduleVersionRegistry,
+            ObjectMapper objectMapper,
+            Validator validator,
+            PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher eventPublisher,
+            ScheduleProperties scheduleProperties) {
+        this.scheduleMapper = scheduleMapper;
+        // 기본 SqlSessionTemplate과 분리된 BATCH 실행기 (빈으로 등록하면 자동 설정과 충돌)
+        this.batchSqlSessionTemplate =
+                new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+        this.batchScheduleMapper = batchSqlSessionTemplate.getMapper(ScheduleMapper.class);
+        this.batchScheduleVersionMapper =
+                batchSqlSessionTemplate.getMapper(ScheduleVersionMapper.class);
+        this.scheduleConverter = scheduleConverter;
+        this.scheduleConflictService = scheduleConflictService;
+        this.scheduleVersionRegistry = scheduleVersionRegistry;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.properties = scheduleProperties.getBulkImport();
+        this.conflictProperties = scheduleProperties.getConflict();
+    }
+
+    @Override
+    public ScheduleImportResponseDto importSchedules(String userId, InputStream json) {
+        if (StringUtil.isEmpty(userId)) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+
+        List<ScheduleImportRowResultDto> results = new ArrayList<>();
+        List<PendingRow> chunk = new ArrayList<>(properties.getChunkSize());
+        String abortedReason = null;
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+            }
+            int index = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    abortedReason = "JSON 파싱 오류: 배열이 닫히지 않았습니다.";
+                    break;
+                }
+                if (index >= properties.getMaxRows()) {
+                    abortedReason = "최대 " + properties.getMaxRows() + "건까지 등록할 수 있습니다.";
+                    break;
+                }
+                if (token != JsonToken.START_OBJECT) {
+                    // 배열/값 원소는 건너뛰고 해당 행만 실패로 기록한다
+                    parser.skipChildren();
+                    results.add(ScheduleImportRowResultDto.failure(index, "일정 객체가 아닙니다."));
+                    index++;
+                    continue;
+                }
+                // 행 단위로 트리를 읽어 매핑 오류가 다음 행에 영향을 주지 않도록 한다
+                JsonNode node = parser.readValueAsTree();
+                String error = null;
+                ScheduleEntity schedule = null;
+                String[] participantUserIds = null;
+                try {
+                    ScheduleRequestDto request =
+                            objectMapper.treeToValue(node, ScheduleRequestDto.class);
+                    error = validate(request);
+                    if (error == null) {
+                        schedule = scheduleConverter.toEntity(userId, request);
+                        participantUserIds = request.getParticipantUserIds();
+                        if (hasConflict(schedule, participantUserIds, chunk)) {
+                            error = ErrorCode.SCHEDULE_CONFLICT.getMessage();
+                        } else {
+                            schedule.setDefaults();
+                            schedule.setCreatedInfo(userId);
+                        }
+                    }
+                } catch (JsonProcessingException e) {
+                    error = e.getOriginalMessage();
+                }
+
+                if (error != null) {
+                    results.add(ScheduleImportRowResultDto.failure(index, error));
+                } else {
+                    chunk.add(new PendingRow(index, schedule, participantUserIds));
+                    if (chunk.size() >= properties.getChunkSize()) {
+                        flush(chunk, results);
+                    }
+                }
+                index++;
+            }
+        } catch (IOException e) {
+            log.warn("Schedule import aborted: userId={}, reason={}", userId, e.getMessage());
+            abortedReason = "JSON 파싱 오류: " + e.getMessage();
+        }
+
+        // 중단되어도 중단 전까지 검증된 행은 이전 청크와 마찬가지로 저장한다
+        flush(chunk, results);
+
+        results.sort((a, b) -> Integer.compare(a.getIndex(), b.getIndex()));
+        int succeeded = 0;
+        for (ScheduleImportRowResultDto result : results) {
+            if (result.isSuccess()) {
+                succeeded++;
+            }
+        }
+        log.info(
+                "Schedule import finished: userId={}, total={}, succeeded={}",
+                userId,
+                results.size(),
+                succeeded);
+
+        return ScheduleImportResponseDto.builder()
+                .total(results.size())
+                .succeeded(succeeded)
+                .failed(results.size() - succeeded)
+                .abortedReason(abortedReason)
+                .results(results)
+                .build();
+    }
+
+    /**
+     * 청크 저장 및 커밋 (실패 시 청크 전체를 실패로 기록)
+     *
+     * @param chunk 저장할 행 목록 (처리 후 비워짐)
+     * @param results 행별 결과 목록
+     */
+    private void flush(List<PendingRow> chunk, List<ScheduleImportRowResultDto> results) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<ScheduleEntity> schedules = new ArrayList<>(chunk.size());
+        List<ScheduleChangedEvent> events = new ArrayList<>(chunk.size());
+        Set<String> userIds = new HashSet<>();
+        for (PendingRow row : chunk) {
+            schedules.add(row.schedule());
+            ScheduleChangedEvent event =
+                    ScheduleChangedEvent.imported(row.schedule(), row.participantUserIds());
+            events.add(event);
+            userIds.addAll(event.getVersionedUserIds());
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(schedules, userIds));
+            for (int i = 0; i < chunk.size(); i++) {
+                PendingRow row = chunk.get(i);
+                results.add(
+                        ScheduleImportRowResultDto.success(row.index(), row.schedule().getId()));
+                eventPublisher.publishEvent(events.get(i));
+            }
+        } catch (RuntimeException e) {
+            log.warn(
+                    "Schedule import chunk failed: size={}, reason={}",
+                    chunk.size(),
+                    e.getMessage());
+            String message = ErrorCode.INTERNAL_SERVER_ERROR.getMessage();
+            for (PendingRow row : chunk) {
+                results.add(ScheduleImportRowResultDto.failure(row.index(), message));
+            }
+        }
+        chunk.clear();
+    }
+
+    /** 청크 저장 (행마다 커밋 후 새 트랜잭션으로 버전을 올리지 않고 청크 단위로 한 번 올려 저장과 함께 커밋한다) */
+    private void insert(List<ScheduleEntity> schedules, Set<String> userIds) {
+        if (properties.getMode() == ScheduleProperties.BulkInsertMode.MULTI_ROW) {
+            scheduleMapper.insertSchedules(schedules);
+            scheduleVersionRegistry.bumpInTransaction(userIds);
+            return;
+        }
+        for (ScheduleEntity schedule : schedules) {
+            batchScheduleMapper.insertSchedule(schedule);
+        }
+        scheduleVersionRegistry.bumpInTransaction(userIds, batchScheduleVersionMapper);
+        // 커밋 전에 배치를 실행해 생성된 ID를 엔티티에 반영하고 오류를 트랜잭션 안에서 드러낸다
+        batchSqlSessionTemplate.flushStatements();
+    }
+
+    /**
+     * 일정 생성과 같은 충돌 확인 (충돌 거절이 켜져 있을 때만)
+     *
+     * <p>저장 전인 같은 청크의 행은 인덱스에 없으므로 따로 비교한다. 모두 같은 소유자의 일정이므로 발생이 겹치면 충돌이다. 반복 일정은 첫 발생만이 아니라 확인 구간
+     * 안의 모든 발생을 비교한다.
+     *
+     * @param candidate 등록할 일정 (소유자 포함)
+     * @param participantUserIds 참석자 사용자 ID 목록 (null 가능)
+     * @param chunk 저장 대기 행 목록
+     * @return 충돌하면 true
+     */
+    private boolean hasConflict(
+            ScheduleEntity candidate, String[] participantUserIds, List<PendingRow> chunk) {
+        if (!conflictProperties.isRejectOnSave()) {
+            return false;
+        }
+        for (PendingRow row : chunk) {
+            if (scheduleConflictService.overlaps(candidate, row.schedule())) {
+                return true;
+            }
+        }
+        return !scheduleConflictService
+                .findConflicts(candidate.getUserId(), participantUserIds, candidate, null)
+                .isEmpty();
+    }
+
+    private String validate(ScheduleRequestDto request) {
+        Set<ConstraintViolation<ScheduleRequestDto>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.iterator().next().getMessage();
+        }
+        try {
+            request.validate();
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+        return null;
+    }
+
+    /** 저장 대기 행 */
+    private record PendingRow(int index, ScheduleEntity schedule, String[] participantUserIds) {}
+}
@@ -1,9 +1,39 @@
 package kr.co.platform.core.domain.schedule.service.impl;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import kr.co.platform.core.common.dto.SliceResponse;
+import kr.co.platform.core.common.exception.BusinessException;
+import kr.co.platform.core.common.exception.ErrorCode;
+import kr.co.platform.core.common.util.StringUtil;
+import kr.co.platform.core.domain.schedule.cache.TodayScheduleCache;
+import kr.co.platform.core.domain.schedule.config.ScheduleProperties;
+import kr.co.platform.core.domain.schedule.converter.ScheduleConverter;
+import kr.co.platform.core.domain.schedule.event.ScheduleChangedEvent;
+import kr.co.platform.core.domain.schedule.index.ScheduleIntervalIndex;
+import kr.co.platform.core.domain.schedule.index.ScheduleKeywordIndex;
+import kr.co.platform.core.domain.schedule.mapper.ScheduleMapper;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleConflictDto;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleCursor;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleRequestDto;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleResponseDto;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleSearchDto;
+import kr.co.platform.core.domain.schedule.model.entity.ScheduleEntity;
+import kr.co.platform.core.domain.schedule.model.enums.ScheduleSortField;
+import kr.co.platform.core.domain.schedule.recurrence.ScheduleOccurrenceCollector;
+import kr.co.platform.core.domain.schedule.service.ScheduleConflictService;
 import kr.co.platform.core.domain.schedule.service.ScheduleService;
+import kr.co.platform.core.domain.schedule.writer.ScheduleInsertCoalescer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -17,4 +47,327 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
-public class ScheduleServiceImpl implements ScheduleService {}
+public class ScheduleServiceImpl implements ScheduleService {
+
+    private final ScheduleMapper scheduleMapper;
+    private final ScheduleConverter scheduleConverter;
+    private final ScheduleIntervalIndex scheduleIntervalIndex;
+    private final ScheduleKeywordIndex scheduleKeywordIndex;
+    private final TodayScheduleCache todayScheduleCache;
+    private final ScheduleInsertCoalescer scheduleInsertCoalescer;
+    private final ScheduleConflictService scheduleConflictService;
+    private final ScheduleProperties scheduleProperties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public List<ScheduleResponseDto> getTodaySchedules(String userId) {
+        requireUserId(userId);
+        LocalDate today = todayScheduleCache.today();
+        return todayScheduleCache.get(
+                userId,
+                today,
+                () ->
+                        toResponseList(
+                                userId,
+                                scheduleIntervalIndex.findOverlapping(
+                                        userId,
+                                        today.atStartOfDay(),
+                                        today.plusDays(1).atStartOfDay())));
+    }
+
+    @Override
+    public List<ScheduleResponseDto> getSchedulesInRange(
+            String requesterId, ScheduleSearchDto search) {
+        requireUserId(requesterId);
+        if (search.getStartDate() == null || search.getEndDate() == null) {
+            throw new BusinessException(ErrorCode.INVALID_SCHEDULE_DATE);
+        }
+        if (search.getEndDate().isBefore(search.getStartDate())) {
+            throw new BusinessException(ErrorCode.INVALID_SCHEDULE_DATE);
+        }
+
+        String ownerId = StringUtil.isEmpty(search.getUserId()) ? requesterId : search.getUserId();
+        boolean publicOnly =
+                Boolean.TRUE.equals(search.getPublicOnly()) || !ownerId.equals(requesterId);
+
+        List<ScheduleEntity> schedules =
+                scheduleIntervalIndex.findOverlapping(
+                        ownerId,
+                        search.getStartDate().atStartOfDay(),
+                        search.getEndDate().plusDays(1).atStartOfDay());
+
+        List<ScheduleEntity> filtered = new ArrayList<>(schedules.size());
+        for (ScheduleEntity schedule : schedules) {
+            if (publicOnly && !Boolean.TRUE.equals(schedule.getIsPublic())) {
+                continue;
+            }
+            if (search.getScheduleType() != null
+                    && search.getScheduleType() != schedule.getScheduleType()) {
+                continue;
+            }
+            filtered.add(schedule);
+        }
+        return toResponseList(requesterId, filtered);
+    }
+
+    @Override
+    public SliceResponse<ScheduleResponseDto> searchSchedules(
+            String requesterId, ScheduleSearchDto search) {
+        requireUserId(requesterId);
+        search.setDefaults();
+        if (StringUtil.isEmpty(search.getUserId())) {
+            search.setUserId(requesterId);
+        }
+        if (!search.getUserId().equals(requesterId)) {
+            search.setPublicOnly(true);
+        }
+
+        LocalDateTime from =
+                search.getStartDate() == null ? null : search.getStartDate().atStartOfDay();
+        LocalDateTime to =
+                search.getEndDate() == null ? null : search.getEndDate().plusDays(1).atStartOfDay();
+
+        // 키워드는 역색인으로 후보 ID를 구해 LIKE 전체 스캔 대신 PK 조회로 바꾼다
+        long[] keywordIds = scheduleKeywordIndex.search(search.getUserId(), search, from, to);
+        if (search.isRelevanceSort()) {
+            return searchByRelevance(requesterId, search, keywordIds);
+        }
+        if (keywordIds != null && keywordIds.length == 0) {
+            return SliceResponse.of(List.of(), null);
+        }
+        List<Long> ids = null;
+        if (keywordIds != null
+                && keywordIds.length <= scheduleProperties.getKeywordIndex().getMaxCandidates()) {
+            ids = toIdList(keywordIds, 0, keywordIds.length);
+        }
+
+        ScheduleSortField sortField = ScheduleSortField.from(search.getSortBy());
+        boolean descending = search.isDescending();
+        ScheduleCursor cursor = null;
+        if (StringUtil.isNotEmpty(search.getCursor())) {
+            cursor = ScheduleCursor.decode(search.getCursor());
+            if (cursor.getSortField() != sortField || cursor.isDescending() != descending) {
+                // 정렬 조건이 바뀌면 이전 커서의 위치는 의미가 없다
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+            }
+        }
+
+        int pageSize = search.getPageSize();
+        int offset = cursor == null ? search.getOffset() : 0;
+        List<ScheduleEntity> rows;
+        if (from != null && to != null) {
+            // 기간이 정해지면 반복 일정은 마스터 대신 기간 안의 발생으로 펼쳐 일반 일정과 병합한다
+            int limit = offset + pageSize + 1;
+            ScheduleOccurrenceCollector collector =
+                    new ScheduleOccurrenceCollector(sortField, descending, cursor, limit);
+            collector.addRows(
+                    scheduleMapper.selectSchedules(
+                            search, ids, from, to, true, sortField, descending, cursor, 0, limit));
+            for (ScheduleEntity master :
+                    scheduleMapper.selectRecurringSchedules(search, ids, from, to)) {
+                collector.addSeries(master, from, to);
+            }
+            rows = collector.result(offset);
+        } else {
+            rows =
+                    scheduleMapper.selectSchedules(
+                            search,
+                            ids,
+                            from,
+                            to,
+                            false,
+                            sortField,
+                            descending,
+                            cursor,
+                            offset,
+                            pageSize + 1);
+        }
+
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            nextCursor = ScheduleCursor.of(sortField, descending, rows.get(pageSize - 1)).encode();
+        }
+        return SliceResponse.of(toResponseList(requesterId, rows), nextCursor);
+    }
+
+    /**
+     * 관련도 순 키워드 검색 (색인 순위대로 한 페이지의 ID를 한 번에 조회)
+     *
+     * <p>순위는 요청 시점의 색인 기준이므로 연속 토큰 없이 page/pageSize로만 이동하며, 반복 일정은 발생으로 전개하지 않고 마스터 행으로 반환한다.
+     */
+    private SliceResponse<ScheduleResponseDto> searchByRelevance(
+            String requesterId, ScheduleSearchDto search, long[] rankedIds) {
+        if (rankedIds == null || StringUtil.isNotEmpty(search.getCursor())) {
+            // 두 글자 이상의 키워드가 없으면 순위를 매길 수 없다
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        int offset = search.getOffset();
+        int end = Math.min(rankedIds.length, offset + search.getPageSize());
+        if (offset >= end) {
+            return SliceResponse.of(List.of(), null);
+        }
+        List<Long> pageIds = toIdList(rankedIds, offset, end);
+        Map<Long, ScheduleEntity> byId = new HashMap<>();
+        for (ScheduleEntity schedule : scheduleMapper.selectSchedulesByIds(pageIds)) {
+            byId.put(schedule.getId(), schedule);
+        }
+        List<ScheduleEntity> rows = new ArrayList<>(pageIds.size());
+        for (Long id : pageIds) {
+            ScheduleEntity schedule = byId.get(id);
+            if (schedule != null) {
+                rows.add(schedule);
+            }
+        }
+        return SliceResponse.<ScheduleResponseDto>builder()
+                .content(toResponseList(requesterId, rows))
+                .hasNext(end < rankedIds.length)
+                .build();
+    }
+
+    private static List<Long> toIdList(long[] ids, int from, int to) {
+        List<Long> list = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            list.add(ids[i]);
+        }
+        return list;
+    }
+
+    @Override
+    public ScheduleResponseDto getSchedule(String requesterId, Long scheduleId) {
+        requireUserId(requesterId);
+        ScheduleEntity schedule = findSchedule(scheduleId);
+        if (!schedule.getUserId().equals(requesterId)
+                && !Boolean.TRUE.equals(schedule.getIsPublic())) {
+            throw new BusinessException(ErrorCode.ACCESS_DENIED);
+        }
+        return toResponse(requesterId, schedule);
+    }
+
+    /** 일정 생성 단일 행 INSERT이므로 트랜잭션(커넥션)을 미리 잡지 않고, 그룹 커밋이 켜져 있으면 동시 요청과 묶어 저장한다 */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ScheduleResponseDto createSchedule(String userId, ScheduleRequestDto request) {
+        requireUserId(userId);
+        validate(request);
+
+        ScheduleEntity schedule = scheduleConverter.toEntity(userId, request);
+        checkConflicts(schedule, request.getParticipantUserIds(), null);
+
+        schedule.setDefaults();
+        schedule.setCreatedInfo(userId);
+        if (scheduleInsertCoalescer.isEnabled()) {
+            scheduleInsertCoalescer.insert(schedule);
+        } else {
+            scheduleMapper.insertSchedule(schedule);
+        }
+        log.debug("Schedule created: id={}, userId={}", schedule.getId(), userId);
+
+        eventPublisher.publishEvent(
+                ScheduleChangedEvent.created(schedule, request.getParticipantUserIds()));
+        return toResponse(userId, schedule);
+    }
+
+    @Override
+    @Transactional
+    public ScheduleResponseDto updateSchedule(
+            String userId, Long scheduleId, ScheduleRequestDto request) {
+        requireUserId(userId);
+        validate(request);
+
+        ScheduleEntity schedule = findOwnedSchedule(userId, scheduleId);
+        checkConflicts(
+                scheduleConverter.toEntity(userId, request),
+                request.getParticipantUserIds(),
+                scheduleId);
+        ScheduleEntity previous = schedule.copy();
+        scheduleConverter.apply(request, schedule);
+        schedule.setDefaults();
+        schedule.setUpdatedInfo(userId);
+        if (scheduleMapper.updateSchedule(schedule) == 0) {
+            throw new BusinessException(ErrorCode.SCHEDULE_NOT_FOUND);
+        }
+        log.debug("Schedule updated: id={}, userId={}", scheduleId, userId);
+
+        eventPublisher.publishEvent(
+                ScheduleChangedEvent.updated(schedule, previous, request.getParticipantUserIds()));
+        return toResponse(userId, schedule);
+    }
+
+    @Override
+    @Transactional
+    public void deleteSchedule(String userId, Long scheduleId) {
+        requireUserId(userId);
+
+        ScheduleEntity schedule = findOwnedSchedule(userId, scheduleId);
+        schedule.delete(userId);
+        if (scheduleMapper.deleteSchedule(schedule) == 0) {
+            throw new BusinessException(ErrorCode.SCHEDULE_NOT_FOUND);
+        }
+        log.debug("Schedule deleted: id={}, userId={}", scheduleId, userId);
+
+        eventPublisher.publishEvent(ScheduleChangedEvent.deleted(schedule));
+    }
+
+    /** 저장할 일정(반복 일정이면 확인 구간 안의 모든 발생)이 소유자/참석자 일정과 겹치면 거절 */
+    private void checkConflicts(
+            ScheduleEntity candidate, String[] participantUserIds, Long scheduleId) {
+        if (!scheduleProperties.getConflict().isRejectOnSave()) {
+            return;
+        }
+        List<ScheduleConflictDto> conflicts =
+                scheduleConflictService.findConflicts(
+                        candidate.getUserId(), participantUserIds, candidate, scheduleId);
+        if (!conflicts.isEmpty()) {
+            throw new BusinessException(ErrorCode.SCHEDULE_CONFLICT);
+        }
+    }
+
+    private ScheduleEntity findSchedule(Long scheduleId) {
+        ScheduleEntity schedule = scheduleMapper.selectScheduleById(scheduleId);
+        if (schedule == null) {
+            throw new BusinessException(ErrorCode.SCHEDULE_NOT_FOUND);
+        }
+        return schedule;
+    }
+
+    private ScheduleEntity findOwnedSchedule(String userId, Long scheduleId) {
+        ScheduleEntity schedule = findSchedule(scheduleId);
+        if (!schedule.getUserId().equals(userId)) {
+            throw new BusinessException(ErrorCode.ACCESS_DENIED);
+        }
+        return schedule;
+    }
+
+    private List<ScheduleResponseDto> toResponseList(
+            String requesterId, List<ScheduleEntity> schedules) {
+        List<ScheduleResponseDto> responses = new ArrayList<>(schedules.size());
+        for (ScheduleEntity schedule : schedules) {
+            responses.add(toResponse(requesterId, schedule));
+        }
+        return responses;
+    }
+
+    private ScheduleResponseDto toResponse(String requesterId, ScheduleEntity schedule) {
+        ScheduleResponseDto response = scheduleConverter.toDto(schedule);
+        boolean owner = schedule.getUserId().equals(requesterId);
+        response.setEditable(owner);
+        response.setDeletable(owner);
+        return response;
+    }
+
+    private static void requireUserId(String userId) {
+        if (StringUtil.isEmpty(userId)) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+    }
+
+    /** 요청의 비즈니스 규칙 검증 (반복 규칙 포함, 실패 사유는 원인 예외로만 남긴다) */
+    private static void validate(ScheduleRequestDto request) {
+        try {
+            request.validate();
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, e);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package kr.co.platform.core.domain.schedule.service.impl;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import kr.co.platform.core.common.exception.BusinessException;
+import kr.co.platform.core.common.exception.ErrorCode;
+import kr.co.platform.core.common.util.StringUtil;
+import kr.co.platform.core.domain.schedule.config.ScheduleProperties;
+import kr.co.platform.core.domain.schedule.converter.ScheduleConverter;
+import kr.co.platform.core.domain.schedule.event.ScheduleChangedEvent;
+import kr.co.platform.core.domain.schedule.mapper.ScheduleMapper;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleChangeDto;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleChangeToken;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleChangesResponseDto;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleResponseDto;
+import kr.co.platform.core.domain.schedule.model.entity.ScheduleEntity;
+import kr.co.platform.core.domain.schedule.service.ScheduleSyncService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 일정 변경분 동기화 서비스 구현체
+ *
+ * <p>변경 일시(created_at, updated_at, deleted_at)는 모두 애플리케이션이 INSERT/UPDATE 전에 JVM 시계로 정하며(DB {@code
+ * NOW()}는 쓰지 않음), 조회 기준 시각도 같은 시계로 구한다. 시각을 커밋보다 먼저 정하므로 늦게 커밋된 트랜잭션이 이미 지나간 토큰 앞에 끼어들 수 있다. 이를 막기
+ * 위해 현재 시각에서 커밋 지연 여유만큼 이전까지의 변경만 내려준다. 삭제 이력(soft delete 행)이 정리되는 보관 기간보다 오래된 토큰은 툼스톤을 놓칠 수 있으므로
+ * 재동기화를 요구한다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ScheduleSyncServiceImpl implements ScheduleSyncService {
+
+    private final ScheduleMapper scheduleMapper;
+    private final ScheduleConverter scheduleConverter;
+    private final ScheduleProperties scheduleProperties;
+
+    @Override
+    public ScheduleChangesResponseDto getChanges(String userId, String since, Integer limit) {
+        if (StringUtil.isEmpty(userId)) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+        ScheduleProperties.Sync config = scheduleProperties.getSync();
+        int pageSize =
+                limit == null
+                        ? config.getDefaultPageSize()
+                        : Math.max(1, Math.min(limit, config.getMaxPageSize()));
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.minus(config.getCommitLag());
+        if (StringUtil.isEmpty(since)) {
+            return resync(until);
+        }
+        ScheduleChangeToken token = ScheduleChangeToken.decode(since);
+        if (token.getChangedAt().isBefore(now.minus(config.getTombstoneRetention()))) {
+            log.debug("Change token expired: userId={}, since={}", userId, token.getChangedAt());
+            return resync(until);
+        }
+
+        List<ScheduleEntity> rows =
+                scheduleMapper.selectScheduleChanges(
+                        userId, token.getChangedAt(), token.getId(), until, pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        if (hasMore) {
+            rows = rows.subList(0, pageSize);
+        }
+
+        List<ScheduleChangeDto> changes = new ArrayList<>(rows.size());
+        for (ScheduleEntity row : rows) {
+            changes.add(toChange(row));
+        }
+        String nextToken = since;
+        if (!rows.isEmpty()) {
+            ScheduleEntity last = rows.get(rows.size() - 1);
+            nextToken = new ScheduleChangeToken(changedAt(last), last.getId()).encode();
+        }
+        return ScheduleChangesResponseDto.builder()
+                .changes(changes)
+                .nextToken(nextToken)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    /** 전체 재조회 후 이어받을 시작 토큰 (재조회 중 생긴 변경은 다시 받아도 덮어쓰기이므로 안전) */
+    private static ScheduleChangesResponseDto resync(LocalDateTime until) {
+        return ScheduleChangesResponseDto.builder()
+                .changes(List.of())
+                .nextToken(new ScheduleChangeToken(until, 0L).encode())
+                .resyncRequired(true)
+                .build();
+    }
+
+    private ScheduleChangeDto toChange(ScheduleEntity row) {
+        ScheduleChangeDto.ScheduleChangeDtoBuilder change =
+                ScheduleChangeDto.builder().scheduleId(row.getId()).changedAt(changedAt(row));
+        if (row.isDeleted()) {
+            return change.changeType(ScheduleChangedEvent.ChangeType.DELETED).build();
+        }
+        ScheduleResponseDto schedule = scheduleConverter.toDto(row);
+        schedule.setEditable(true);
+        schedule.setDeletable(true);
+        return change.changeType(
+                        row.getUpdatedAt() == null
+                                ? ScheduleChangedEvent.ChangeType.CREATED
+                                : ScheduleChangedEvent.ChangeType.UPDATED)
+                .schedule(schedule)
+                .build();
+    }
+
+    private static LocalDateTime changedAt(ScheduleEntity row) {
+        return row.getUpdatedAt() != null ? row.getUpdatedAt() : row.getCreatedAt();
+    }
+}
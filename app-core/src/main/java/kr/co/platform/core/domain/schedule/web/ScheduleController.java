@@ -1,22 +1,51 @@
 package kr.co.platform.core.domain.schedule.web;
 
-import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.List;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import kr.co.platform.core.common.dto.CommonResponse;
+import kr.co.platform.core.common.dto.SliceResponse;
+import kr.co.platform.core.common.exception.BusinessException;
+import kr.co.platform.core.common.exception.ErrorCode;
+import kr.co.platform.core.common.util.StringUtil;
+import kr.co.platform.core.domain.schedule.cache.ScheduleVersionRegistry;
+import kr.co.platform.core.domain.schedule.cache.TodayScheduleCache;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleChangesResponseDto;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleConflictCheckRequestDto;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleConflictDto;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleDashboardResponseDto;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleFreeBusyRequestDto;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleFreeBusyResponseDto;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleImportResponseDto;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleRequestDto;
 import kr.co.platform.core.domain.schedule.model.dto.ScheduleResponseDto;
-import kr.co.platform.core.domain.schedule.model.enums.ScheduleType;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleSearchDto;
+import kr.co.platform.core.domain.schedule.model.enums.ScheduleExportFormat;
+import kr.co.platform.core.domain.schedule.service.ScheduleConflictService;
+import kr.co.platform.core.domain.schedule.service.ScheduleDashboardService;
+import kr.co.platform.core.domain.schedule.service.ScheduleExportService;
+import kr.co.platform.core.domain.schedule.service.ScheduleFreeBusyService;
+import kr.co.platform.core.domain.schedule.service.ScheduleImportService;
 import kr.co.platform.core.domain.schedule.service.ScheduleService;
+import kr.co.platform.core.domain.schedule.service.ScheduleSyncService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -35,16 +64,26 @@ import lombok.extern.slf4j.Slf4j;
 public class ScheduleController {
 
     private final ScheduleService scheduleService;
+    private final ScheduleImportService scheduleImportService;
+    private final ScheduleConflictService scheduleConflictService;
+    private final ScheduleFreeBusyService scheduleFreeBusyService;
+    private final ScheduleExportService scheduleExportService;
+    private final ScheduleSyncService scheduleSyncService;
+    private final ScheduleDashboardService scheduleDashboardService;
+    private final ScheduleVersionRegistry scheduleVersionRegistry;
+    private final TodayScheduleCache todayScheduleCache;
 
     /**
      * 오늘의 일정 조회
      *
      * @param userId 사용자 ID
-     * @return 오늘의 일정 목록
+     * @param webRequest 요청 (If-None-Match 확인)
+     * @return 오늘의 일정 목록 (ETag가 같으면 304)
      */
     @Operation(summary = "오늘의 일정 조회", description = "현재 사용자의 오늘 일정 목록을 조회합니다.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
         @ApiResponse(responseCode = "401", description = "인증 실패"),
         @ApiResponse(responseCode = "500", description = "서버 오류")
     })
@@ -52,45 +91,440 @@ public class ScheduleController {
     public ResponseEntity<CommonResponse<List<ScheduleResponseDto>>> getTodaySchedules(
             @Parameter(description = "사용자 ID", required = false)
                     @RequestHeader(value = "X-User-Id", required = false)
-                    String userId) {
+                    String userId,
+            ServletWebRequest webRequest) {
 
         log.debug("Get today's schedules: userId={}", userId);
 
-        // Mock 데이터 생성
-        List<ScheduleResponseDto> mockSchedules = new ArrayList<>();
-
-        mockSchedules.add(
-                ScheduleResponseDto.builder()
-                        .id(1L)
-                        .title("월간 회의")
-                        .description("월간 실적 검토 및 계획 수립")
-                        .startDate(LocalDateTime.now().withHour(10).withMinute(0))
-                        .endDate(LocalDateTime.now().withHour(12).withMinute(0))
-                        .location("대회의실")
-                        .scheduleType(ScheduleType.MEETING)
-                        .color("#FF5733")
-                        .allDay(false)
-                        .isPublic(true)
-                        .editable(true)
-                        .deletable(true)
-                        .build());
-
-        mockSchedules.add(
-                ScheduleResponseDto.builder()
-                        .id(2L)
-                        .title("프로젝트 리뷰")
-                        .description("신규 프로젝트 진행 상황 점검")
-                        .startDate(LocalDateTime.now().withHour(14).withMinute(0))
-                        .endDate(LocalDateTime.now().withHour(15).withMinute(30))
-                        .location("소회의실 A")
-                        .scheduleType(ScheduleType.MEETING)
-                        .color("#33FF57")
-                        .allDay(false)
-                        .isPublic(true)
-                        .editable(true)
-                        .deletable(true)
-                        .build());
-
-        return ResponseEntity.ok(CommonResponse.success(mockSchedules));
+        String eTag = eTag(webRequest, userId, null, todayScheduleCache.today());
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ok(eTag, CommonResponse.success(scheduleService.getTodaySchedules(userId)));
+    }
+
+    /**
+     * 대시보드 조회
+     *
+     * @param userId 사용자 ID
+     * @return 오늘 일정, 다가오는 일정/알림, 이번 달 유형별 일정 수 (제한 시간을 넘긴 항목은 생략)
+     */
+    @Operation(
+            summary = "대시보드 조회",
+            description =
+                    "오늘 일정, 다가오는 일정과 알림, 이번 달 유형별 일정 수를 한 번에 조회합니다. 항목은 동시에 조회되며, 제한 시간 안에 끝나지 않은"
+                            + " 항목은 null로 응답하고 unavailableParts에 표시합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공 (일부 항목 생략 가능)"),
+        @ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    @GetMapping("/dashboard")
+    public ResponseEntity<CommonResponse<ScheduleDashboardResponseDto>> getDashboard(
+            @Parameter(description = "사용자 ID", required = false)
+                    @RequestHeader(value = "X-User-Id", required = false)
+                    String userId) {
+
+        log.debug("Get schedule dashboard: userId={}", userId);
+
+        return ResponseEntity.ok(
+                CommonResponse.success(scheduleDashboardService.getDashboard(userId)));
+    }
+
+    /**
+     * 일정 검색
+     *
+     * @param userId 사용자 ID
+     * @param search 검색 조건 (page/pageSize 또는 cursor, 키워드 검색은 sortBy=relevance 가능)
+     * @param webRequest 요청 (If-None-Match 확인)
+     * @return 일정 목록과 다음 페이지 연속 토큰 (ETag가 같으면 304)
+     */
+    @Operation(
+            summary = "일정 검색",
+            description =
+                    "검색 조건으로 일정 목록을 조회합니다. 응답의 nextCursor를 cursor로 전달하면 깊은 페이지도 일정한 속도로 조회됩니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
+        @ApiResponse(responseCode = "400", description = "잘못된 검색 조건"),
+        @ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    @GetMapping
+    public ResponseEntity<CommonResponse<SliceResponse<ScheduleResponseDto>>> searchSchedules(
+            @Parameter(description = "사용자 ID", required = false)
+                    @RequestHeader(value = "X-User-Id", required = false)
+                    String userId,
+            @ModelAttribute ScheduleSearchDto search,
+            ServletWebRequest webRequest) {
+
+        log.debug(
+                "Search schedules: userId={}, page={}, cursor={}",
+                userId,
+                search.getPage(),
+                search.getCursor());
+
+        String eTag = eTag(webRequest, userId, search.getUserId(), null);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ok(eTag, CommonResponse.success(scheduleService.searchSchedules(userId, search)));
+    }
+
+    /**
+     * 기간 내 일정 조회
+     *
+     * @param userId 사용자 ID
+     * @param search 검색 조건
+     * @param webRequest 요청 (If-None-Match 확인)
+     * @return 기간과 겹치는 일정 목록 (ETag가 같으면 304)
+     */
+    @Operation(summary = "기간 내 일정 조회", description = "주간/월간 캘린더 보기를 위해 기간과 겹치는 일정 목록을 조회합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
+        @ApiResponse(responseCode = "400", description = "잘못된 기간"),
+        @ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    @GetMapping("/calendar")
+    public ResponseEntity<CommonResponse<List<ScheduleResponseDto>>> getCalendarSchedules(
+            @Parameter(description = "사용자 ID", required = false)
+                    @RequestHeader(value = "X-User-Id", required = false)
+                    String userId,
+            @ModelAttribute ScheduleSearchDto search,
+            ServletWebRequest webRequest) {
+
+        log.debug(
+                "Get calendar schedules: userId={}, startDate={}, endDate={}",
+                userId,
+                search.getStartDate(),
+                search.getEndDate());
+
+        String eTag = eTag(webRequest, userId, search.getUserId(), null);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ok(
+                eTag, CommonResponse.success(scheduleService.getSchedulesInRange(userId, search)));
+    }
+
+    /**
+     * 일정 변경분 조회
+     *
+     * @param userId 사용자 ID
+     * @param since 마지막으로 받은 변경 토큰
+     * @param limit 최대 변경 수
+     * @return 변경 목록과 다음 토큰
+     */
+    @Operation(
+            summary = "일정 변경분 조회",
+            description =
+                    "since 토큰 이후 생성/수정/삭제된 일정만 조회합니다. resyncRequired가 true면 전체 일정을 다시 받은 뒤"
+                            + " nextToken부터 이어서 조회합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 토큰"),
+        @ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    @GetMapping("/changes")
+    public ResponseEntity<CommonResponse<ScheduleChangesResponseDto>> getChanges(
+            @Parameter(description = "사용자 ID", required = false)
+                    @RequestHeader(value = "X-User-Id", required = false)
+                    String userId,
+            @Parameter(description = "마지막으로 받은 변경 토큰 (없으면 재동기화)") @RequestParam(required = false)
+                    String since,
+            @Parameter(description = "최대 변경 수") @RequestParam(required = false) Integer limit) {
+
+        log.debug("Get schedule changes: userId={}, since={}", userId, since);
+
+        return ResponseEntity.ok(
+                CommonResponse.success(scheduleSyncService.getChanges(userId, since, limit)));
+    }
+
+    /**
+     * 일정 내보내기
+     *
+     * @param userId 사용자 ID
+     * @param format 내보내기 형식 (ics, csv)
+     * @param search 내보내기 조건 (userId, startDate, endDate, scheduleType, publicOnly)
+     * @return 일정 파일 스트림
+     */
+    @Operation(
+            summary = "일정 내보내기",
+            description =
+                    "조건에 맞는 전체 일정을 iCalendar(.ics) 또는 CSV 파일로 내려받습니다. 페이지 크기 제한 없이 스트리밍으로 출력합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "내보내기 시작"),
+        @ApiResponse(responseCode = "400", description = "잘못된 형식 또는 기간"),
+        @ApiResponse(responseCode = "401", description = "인증 실패"),
+        @ApiResponse(responseCode = "503", description = "동시 내보내기 수 초과")
+    })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportSchedules(
+            @Parameter(description = "사용자 ID", required = false)
+                    @RequestHeader(value = "X-User-Id", required = false)
+                    String userId,
+            @Parameter(description = "내보내기 형식 (ics, csv)") @RequestParam(defaultValue = "ics")
+                    String format,
+            @ModelAttribute ScheduleSearchDto search) {
+
+        log.debug("Export schedules: userId={}, format={}", userId, format);
+
+        ScheduleExportFormat exportFormat = ScheduleExportFormat.from(format);
+        scheduleExportService.prepare(userId, search);
+        StreamingResponseBody body = out -> scheduleExportService.export(search, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(
+                        HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment()
+                                .filename("schedules." + exportFormat.getExtension())
+                                .build()
+                                .toString())
+                .body(body);
+    }
+
+    /**
+     * 일정 단건 조회
+     *
+     * @param userId 사용자 ID
+     * @param scheduleId 일정 ID
+     * @return 일정 정보
+     */
+    @Operation(summary = "일정 단건 조회", description = "일정 상세 정보를 조회합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "403", description = "접근 거부"),
+        @ApiResponse(responseCode = "404", description = "일정 없음")
+    })
+    @GetMapping("/{scheduleId}")
+    public ResponseEntity<CommonResponse<ScheduleResponseDto>> getSchedule(
+            @Parameter(description = "사용자 ID", required = false)
+                    @RequestHeader(value = "X-User-Id", required = false)
+                    String userId,
+            @Parameter(description = "일정 ID") @PathVariable Long scheduleId) {
+
+        return ResponseEntity.ok(
+                CommonResponse.success(scheduleService.getSchedule(userId, scheduleId)));
+    }
+
+    /**
+     * 일정 생성
+     *
+     * @param userId 사용자 ID
+     * @param request 일정 요청
+     * @return 생성된 일정
+     */
+    @Operation(summary = "일정 생성", description = "새 일정을 생성합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "201", description = "생성 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 입력"),
+        @ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    @PostMapping
+    public ResponseEntity<CommonResponse<ScheduleResponseDto>> createSchedule(
+            @Parameter(description = "사용자 ID", required = false)
+                    @RequestHeader(value = "X-User-Id", required = false)
+                    String userId,
+            @Valid @RequestBody ScheduleRequestDto request) {
+
+        log.debug("Create schedule: userId={}", userId);
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(CommonResponse.success(scheduleService.createSchedule(userId, request)));
+    }
+
+    /**
+     * 일정 일괄 등록
+     *
+     * @param userId 사용자 ID
+     * @param request HTTP 요청 (본문: 일정 요청 JSON 배열)
+     * @return 행별 처리 결과
+     * @throws IOException 요청 본문 읽기 실패
+     */
+    @Operation(
+            summary = "일정 일괄 등록",
+            description = "일정 요청 JSON 배열을 스트리밍으로 읽어 청크 단위로 저장합니다. 행별 성공 여부와 생성된 ID를 반환합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "처리 완료 (행별 결과 포함)"),
+        @ApiResponse(responseCode = "400", description = "JSON 배열이 아님"),
+        @ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<CommonResponse<ScheduleImportResponseDto>> importSchedules(
+            @Parameter(description = "사용자 ID", required = false)
+                    @RequestHeader(value = "X-User-Id", required = false)
+                    String userId,
+            HttpServletRequest request)
+            throws IOException {
+
+        log.debug("Import schedules: userId={}", userId);
+
+        return ResponseEntity.ok(
+                CommonResponse.success(
+                        scheduleImportService.importSchedules(userId, request.getInputStream())));
+    }
+
+    /**
+     * 일정 충돌 확인
+     *
+     * @param userId 사용자 ID
+     * @param request 충돌 확인 요청 (후보 구간과 참석자)
+     * @return 충돌한 사용자와 일정 구간 목록
+     */
+    @Operation(summary = "일정 충돌 확인", description = "후보 시간대가 본인 및 참석자의 기존 일정과 겹치는지 확인합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "확인 성공 (충돌이 없으면 빈 목록)"),
+        @ApiResponse(responseCode = "400", description = "잘못된 입력"),
+        @ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    @PostMapping("/conflicts")
+    public ResponseEntity<CommonResponse<List<ScheduleConflictDto>>> checkConflicts(
+            @Parameter(description = "사용자 ID", required = false)
+                    @RequestHeader(value = "X-User-Id", required = false)
+                    String userId,
+            @Valid @RequestBody ScheduleConflictCheckRequestDto request) {
+
+        if (StringUtil.isEmpty(userId)) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+        if (!request.getEndDate().isAfter(request.getStartDate())) {
+            throw new BusinessException(ErrorCode.INVALID_SCHEDULE_DATE);
+        }
+
+        return ResponseEntity.ok(
+                CommonResponse.success(
+                        scheduleConflictService.findConflicts(
+                                userId,
+                                request.getParticipantUserIds(),
+                                request.getStartDate(),
+                                request.getEndDate(),
+                                request.getExcludeScheduleId())));
+    }
+
+    /**
+     * free/busy 조회
+     *
+     * @param userId 사용자 ID
+     * @param request 조회 요청 (사용자 목록, 기간, 슬롯 크기)
+     * @return 사용자별/전체 busy 구간과 공통 빈 시간대
+     */
+    @Operation(
+            summary = "free/busy 조회",
+            description = "여러 사용자의 busy 구간을 슬롯 단위로 합쳐 반환하고 공통 빈 시간대를 추천합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 입력"),
+        @ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    @PostMapping("/free-busy")
+    public ResponseEntity<CommonResponse<ScheduleFreeBusyResponseDto>> getFreeBusy(
+            @Parameter(description = "사용자 ID", required = false)
+                    @RequestHeader(value = "X-User-Id", required = false)
+                    String userId,
+            @Valid @RequestBody ScheduleFreeBusyRequestDto request) {
+
+        if (StringUtil.isEmpty(userId)) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+
+        return ResponseEntity.ok(
+                CommonResponse.success(scheduleFreeBusyService.getFreeBusy(request)));
+    }
+
+    /**
+     * 일정 수정
+     *
+     * @param userId 사용자 ID
+     * @param scheduleId 일정 ID
+     * @param request 일정 요청
+     * @return 수정된 일정
+     */
+    @Operation(summary = "일정 수정", description = "본인 일정을 수정합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "수정 성공"),
+        @ApiResponse(responseCode = "403", description = "접근 거부"),
+        @ApiResponse(responseCode = "404", description = "일정 없음")
+    })
+    @PutMapping("/{scheduleId}")
+    public ResponseEntity<CommonResponse<ScheduleResponseDto>> updateSchedule(
+            @Parameter(description = "사용자 ID", required = false)
+                    @RequestHeader(value = "X-User-Id", required = false)
+                    String userId,
+            @Parameter(description = "일정 ID") @PathVariable Long scheduleId,
+            @Valid @RequestBody ScheduleRequestDto request) {
+
+        log.debug("Update schedule: userId={}, scheduleId={}", userId, scheduleId);
+
+        return ResponseEntity.ok(
+                CommonResponse.success(
+                        scheduleService.updateSchedule(userId, scheduleId, request)));
+    }
+
+    /**
+     * 일정 삭제
+     *
+     * @param userId 사용자 ID
+     * @param scheduleId 일정 ID
+     * @return 빈 응답
+     */
+    @Operation(summary = "일정 삭제", description = "본인 일정을 삭제합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "삭제 성공"),
+        @ApiResponse(responseCode = "403", description = "접근 거부"),
+        @ApiResponse(responseCode = "404", description = "일정 없음")
+    })
+    @DeleteMapping("/{scheduleId}")
+    public ResponseEntity<CommonResponse<Void>> deleteSchedule(
+            @Parameter(description = "사용자 ID", required = false)
+                    @RequestHeader(value = "X-User-Id", required = false)
+                    String userId,
+            @Parameter(description = "일정 ID") @PathVariable Long scheduleId) {
+
+        log.debug("Delete schedule: userId={}, scheduleId={}", userId, scheduleId);
+
+        scheduleService.deleteSchedule(userId, scheduleId);
+        return ResponseEntity.ok(CommonResponse.success());
+    }
+
+    /**
+     * 조건부 GET용 ETag 생성 (DB 조회 전에 호출해야 한다)
+     *
+     * <p>같은 데이터라도 Accept에 따라 JSON/CBOR로 표현이 달라지므로 Accept를 ETag에 넣고, 304 응답에도 {@code Vary: Accept}를
+     * 내려 중간 캐시가 표현을 섞지 않게 한다.
+     *
+     * @param webRequest 요청
+     * @param requesterId 요청 사용자 ID (없으면 ETag 없음)
+     * @param ownerId 조회 대상 소유자 ID (없으면 요청 사용자)
+     * @param extra 응답을 바꾸는 추가 값 (예: 오늘 날짜)
+     * @return ETag (요청 사용자가 없으면 null)
+     */
+    private String eTag(
+            ServletWebRequest webRequest, String requesterId, String ownerId, Object extra) {
+        if (StringUtil.isEmpty(requesterId)) {
+            return null;
+        }
+        HttpServletRequest request = webRequest.getRequest();
+        if (webRequest.getResponse() != null) {
+            webRequest.getResponse().addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+        return scheduleVersionRegistry.eTag(
+                StringUtil.isEmpty(ownerId) ? requesterId : ownerId,
+                requesterId
+                        + '|'
+                        + request.getRequestURI()
+                        + '?'
+                        + request.getQueryString()
+                        + '|'
+                        + request.getHeader(HttpHeaders.ACCEPT)
+                        + '|'
+                        + extra);
+    }
+
+    /** ETag가 있으면 함께 내려주고 매번 재검증하도록 지정 (Spring Security의 no-store 기본값 대체) */
+    private static <T> ResponseEntity<T> ok(String eTag, T body) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (eTag != null) {
+            builder.eTag(eTag).cacheControl(CacheControl.noCache().cachePrivate());
+        }
+        return builder.body(body);
     }
 }
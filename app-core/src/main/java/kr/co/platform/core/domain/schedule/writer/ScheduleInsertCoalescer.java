@@ -0,0 +1,341 @@
+package kr.co.platform.core.domain.schedule.writer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.co.platform.core.common.exception.BusinessException;
+import kr.co.platform.core.common.exception.ErrorCode;
+import kr.co.platform.core.domain.schedule.config.ScheduleProperties;
+import kr.co.platform.core.domain.schedule.mapper.ScheduleMapper;
+import kr.co.platform.core.domain.schedule.model.entity.ScheduleEntity;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 일정 단건 INSERT 그룹 커밋 처리기
+ *
+ * <p>동시에 들어온 단건 INSERT를 최대 {@code max-delay} 동안 또는 {@code max-batch-size}건까지 모아 하나의 커넥션에서 JDBC 배치로
+ * 저장하고 한 번에 커밋한다. 각 호출자는 자신의 행에 생성된 ID로 완료되는 Future를 받는다. 묶음 저장이 실패하면 행 단위로 다시 저장하여 잘못된 행 하나가 다른
+ * 호출자를 실패시키지 않도록 한다.
+ *
+ * <p>대기 요청은 저장 스레드가 가져가는 순간과 호출자가 시간 초과로 포기하는 순간 중 먼저 일어난 쪽만 성공한다. 시간 초과로 실패를 받은 요청은 저장되지 않으며, 이미
+ * 저장이 시작된 요청은 시간 초과 없이 결과를 기다린다(실패 응답이면 행이 없다는 것을 보장).
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Slf4j
+@Component
+public class ScheduleInsertCoalescer implements SmartLifecycle {
+
+    private final ScheduleProperties.GroupCommit properties;
+    private final SqlSessionTemplate batchSqlSessionTemplate;
+    private final ScheduleMapper batchScheduleMapper;
+    private final ScheduleMapper scheduleMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<PendingInsert> queue;
+    private final DistributionSummary batchSizeSummary;
+
+    private final List<Thread> flushers = new ArrayList<>();
+    private volatile boolean running;
+
+    public ScheduleInsertCoalescer(
+            ScheduleProperties scheduleProperties,
+            SqlSessionFactory sqlSessionFactory,
+            ScheduleMapper scheduleMapper,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this.properties = scheduleProperties.getGroupCommit();
+        this.batchSqlSessionTemplate =
+                new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+        this.batchScheduleMapper = batchSqlSessionTemplate.getMapper(ScheduleMapper.class);
+        this.scheduleMapper = scheduleMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.batchSizeSummary =
+                DistributionSummary.builder("schedule.group_commit.batch.size")
+                        .description("그룹 커밋 한 번에 저장된 행 수")
+                        .publishPercentiles(0.5, 0.95, 0.99)
+                        .register(meterRegistry);
+    }
+
+    /**
+     * 그룹 커밋 사용 여부
+     *
+     * @return 설정에서 활성화되어 있고 실행 중이면 true
+     */
+    public boolean isEnabled() {
+        return properties.isEnabled() && running;
+    }
+
+    /**
+     * 일정 저장 요청 (비동기)
+     *
+     * @param schedule 저장할 일정 (저장 후 ID가 설정됨)
+     * @return 생성된 일정 ID로 완료되는 Future
+     */
+    public CompletableFuture<Long> submit(ScheduleEntity schedule) {
+        return enqueue(schedule).future();
+    }
+
+    /**
+     * 일정 저장 (그룹 커밋 완료까지 대기)
+     *
+     * <p>{@code timeout} 안에 저장이 시작되지 않으면 대기열에서 빼고 실패한다. 저장이 이미 시작되었으면 커밋 결과를 끝까지 기다린다.
+     *
+     * @param schedule 저장할 일정 (저장 후 ID가 설정됨)
+     * @return 생성된 일정 ID
+     */
+    public Long insert(ScheduleEntity schedule) {
+        PendingInsert pending = enqueue(schedule);
+        try {
+            return pending.future().get(properties.getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            if (pending.cancel()) {
+                queue.remove(pending);
+                Thread.currentThread().interrupt();
+                throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, e);
+            }
+            Thread.currentThread().interrupt();
+            return awaitClaimed(pending);
+        } catch (TimeoutException e) {
+            if (pending.cancel()) {
+                queue.remove(pending);
+                log.warn(
+                        "Schedule group commit timed out before flush: timeout={}",
+                        properties.getTimeout());
+                throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, e);
+            }
+            return awaitClaimed(pending);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private PendingInsert enqueue(ScheduleEntity schedule) {
+        PendingInsert pending = new PendingInsert(schedule);
+        if (!running || !queue.offer(pending)) {
+            pending.cancel();
+            pending.future()
+                    .completeExceptionally(new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR));
+        }
+        return pending;
+    }
+
+    /** 저장 스레드가 이미 가져간 요청의 커밋 결과 (인터럽트와 무관하게 대기) */
+    private static Long awaitClaimed(PendingInsert pending) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return pending.future().get();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    throw unwrap(e);
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static RuntimeException unwrap(ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException cause) {
+            return cause;
+        }
+        return new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, e.getCause());
+    }
+
+    @Override
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        running = true;
+        for (int i = 0; i < properties.getFlusherThreads(); i++) {
+            Thread flusher = new Thread(this::runFlusher, "schedule-group-commit-" + i);
+            flusher.setDaemon(true);
+            flusher.start();
+            flushers.add(flusher);
+        }
+        log.info(
+                "Schedule group commit started: maxDelay={}, maxBatchSize={}, flushers={}",
+                properties.getMaxDelay(),
+                properties.getMaxBatchSize(),
+                properties.getFlusherThreads());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        for (Thread flusher : flushers) {
+            flusher.interrupt();
+        }
+        for (Thread flusher : flushers) {
+            try {
+                flusher.join(properties.getTimeout().toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flushers.clear();
+
+        // 종료 시점에 남은 요청은 바로 저장한다
+        List<PendingInsert> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            flush(remaining);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void runFlusher() {
+        int maxBatchSize = properties.getMaxBatchSize();
+        long maxDelayNanos = properties.getMaxDelay().toNanos();
+        List<PendingInsert> batch = new ArrayList<>(maxBatchSize);
+
+        while (running) {
+            try {
+                PendingInsert first = queue.take();
+                batch.add(first);
+                long deadline = System.nanoTime() + maxDelayNanos;
+                while (batch.size() < maxBatchSize) {
+                    if (queue.drainTo(batch, maxBatchSize - batch.size()) > 0) {
+                        continue;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    PendingInsert next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                if (!running) {
+                    flushQuietly(batch);
+                    return;
+                }
+            }
+            flushQuietly(batch);
+        }
+    }
+
+    private void flushQuietly(List<PendingInsert> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            flush(batch);
+        } catch (RuntimeException e) {
+            log.error("Schedule group commit flush failed: {}", e.getMessage(), e);
+            for (PendingInsert pending : batch) {
+                pending.future().completeExceptionally(e);
+            }
+        } finally {
+            batch.clear();
+        }
+    }
+
+    private void flush(List<PendingInsert> pendingBatch) {
+        // 호출자가 시간 초과로 포기한 요청은 저장하지 않는다
+        List<PendingInsert> batch = new ArrayList<>(pendingBatch.size());
+        for (PendingInsert pending : pendingBatch) {
+            if (pending.claim()) {
+                batch.add(pending);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        batchSizeSummary.record(batch.size());
+        try {
+            transactionTemplate.executeWithoutResult(
+                    status -> {
+                        for (PendingInsert pending : batch) {
+                            batchScheduleMapper.insertSchedule(pending.schedule());
+                        }
+                        batchSqlSessionTemplate.flushStatements();
+                    });
+        } catch (RuntimeException e) {
+            log.warn(
+                    "Schedule group commit batch failed, retrying row by row: size={}, reason={}",
+                    batch.size(),
+                    e.getMessage());
+            for (PendingInsert pending : batch) {
+                try {
+                    scheduleMapper.insertSchedule(pending.schedule());
+                    pending.future().complete(pending.schedule().getId());
+                } catch (RuntimeException rowError) {
+                    pending.future().completeExceptionally(rowError);
+                }
+            }
+            return;
+        }
+        for (PendingInsert pending : batch) {
+            pending.future().complete(pending.schedule().getId());
+        }
+    }
+
+    /** 저장 대기 요청 상태 */
+    private enum State {
+        WAITING,
+        CLAIMED,
+        CANCELLED
+    }
+
+    /** 저장 대기 요청 */
+    private static final class PendingInsert {
+
+        private final ScheduleEntity schedule;
+        private final CompletableFuture<Long> future = new CompletableFuture<>();
+        private final AtomicReference<State> state = new AtomicReference<>(State.WAITING);
+
+        private PendingInsert(ScheduleEntity schedule) {
+            this.schedule = schedule;
+        }
+
+        ScheduleEntity schedule() {
+            return schedule;
+        }
+
+        CompletableFuture<Long> future() {
+            return future;
+        }
+
+        /** 저장 스레드가 가져감 (호출자가 이미 포기했으면 false) */
+        boolean claim() {
+            return state.compareAndSet(State.WAITING, State.CLAIMED);
+        }
+
+        /** 호출자가 포기함 (저장이 이미 시작되었으면 false) */
+        boolean cancel() {
+            return state.compareAndSet(State.WAITING, State.CANCELLED);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+-- Flyway Migration V2: Create schedule archive table
+-- 작성자: 박성우
+-- 작성일: 2026.10.18
+
+-- 삭제(soft delete) 후 보관 기간이 지난 일정을 옮겨 두는 테이블
+-- 조회 빈도가 낮으므로 압축 행 형식으로 저장하고, 원본 ID를 그대로 기본 키로 사용한다
+CREATE TABLE IF NOT EXISTS schedule_archive (
+    id                    BIGINT        NOT NULL,
+    user_id               VARCHAR(50)   NOT NULL,
+    title                 VARCHAR(200)  NOT NULL,
+    description           VARCHAR(1000) NULL,
+    location              VARCHAR(200)  NULL,
+    start_date            DATETIME      NOT NULL,
+    end_date              DATETIME      NOT NULL,
+    all_day               TINYINT(1)    NOT NULL DEFAULT 0,
+    schedule_type         VARCHAR(30)   NOT NULL,
+    reminder_minutes      INT           NULL,
+    color                 VARCHAR(7)    NULL,
+    is_public             TINYINT(1)    NOT NULL DEFAULT 1,
+    recurrence_rule       VARCHAR(200)  NULL,
+    recurrence_exceptions TEXT          NULL,
+    recurrence_end        DATETIME      NULL,
+    created_at            DATETIME      NULL,
+    created_by            VARCHAR(50)   NULL,
+    updated_at            DATETIME      NULL,
+    updated_by            VARCHAR(50)   NULL,
+    deleted_at            DATETIME      NOT NULL,
+    archived_at           DATETIME      NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id),
+    KEY idx_schedule_archive_user (user_id, start_date),
+    KEY idx_schedule_archive_archived (archived_at)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci
+  ROW_FORMAT = COMPRESSED
+  COMMENT = '보관된 삭제 일정';
@@ -0,0 +1,101 @@
+-- Flyway Migration V3: Create schedule table
+-- 작성자: 박성우
+-- 작성일: 2026.10.18
+
+-- 일정 테이블 (start_date 월 단위 RANGE 파티션)
+-- 파티션 이전 구조의 schedule 테이블이 이미 있으면 빠진 컬럼을 보강한 뒤 새 파티션 테이블로 행을 옮기고 바꿔 단다.
+-- 중간에 실패해 schedule_partitioned가 남아 있으면 첫 CREATE TABLE에서 다시 실패하므로 확인 후 정리하고 재실행한다.
+-- 일정 조회는 대부분 기간 조건(start_date)을 포함하므로 해당 월 파티션만 읽는다.
+-- 파티션 테이블의 모든 고유 키에는 파티션 컬럼이 포함되어야 하므로 기본 키는 (id, start_date)이며,
+-- AUTO_INCREMENT인 id가 첫 컬럼이라 ID 조회도 기본 키를 사용한다.
+-- 앞으로의 월 파티션은 SchedulePartitionMaintainer가 p_future를 나누어 미리 만든다.
+-- (InnoDB 파티션 테이블은 FULLTEXT 색인을 지원하지 않으며, 키워드 검색은 애플리케이션 키워드 색인을 사용한다)
+CREATE TABLE schedule_partitioned (
+    id                    BIGINT        NOT NULL AUTO_INCREMENT,
+    user_id               VARCHAR(50)   NOT NULL,
+    title                 VARCHAR(200)  NOT NULL,
+    description           VARCHAR(1000) NULL,
+    location              VARCHAR(200)  NULL,
+    start_date            DATETIME      NOT NULL,
+    end_date              DATETIME      NOT NULL,
+    all_day               TINYINT(1)    NOT NULL DEFAULT 0,
+    schedule_type         VARCHAR(30)   NOT NULL,
+    reminder_minutes      INT           NULL,
+    color                 VARCHAR(7)    NULL,
+    is_public             TINYINT(1)    NOT NULL DEFAULT 1,
+    recurrence_rule       VARCHAR(200)  NULL,
+    recurrence_exceptions TEXT          NULL,
+    recurrence_end        DATETIME      NULL,
+    created_at            DATETIME      NULL,
+    created_by            VARCHAR(50)   NULL,
+    updated_at            DATETIME      NULL,
+    updated_by            VARCHAR(50)   NULL,
+    deleted_at            DATETIME      NULL,
+    PRIMARY KEY (id, start_date),
+    -- 사용자별 기간 조회/커서 페이징 (삭제 여부까지 색인에서 판단)
+    KEY idx_schedule_user_range (user_id, start_date, end_date, deleted_at),
+    -- 사용자별 유형/공개 여부 검색 필터
+    KEY idx_schedule_user_type (user_id, schedule_type, start_date),
+    KEY idx_schedule_user_public (user_id, is_public, start_date),
+    -- 변경분 동기화 (수정 시각 또는 생성 시각 기준)
+    KEY idx_schedule_user_updated (user_id, updated_at),
+    KEY idx_schedule_user_created (user_id, created_at),
+    -- 알림 대상 조회 (전체 사용자, 시작 시각 기준)
+    KEY idx_schedule_reminder (start_date, reminder_minutes),
+    -- 삭제 일정 보관 대상 조회 ((deleted_at, id) 순 Keyset 배치)
+    KEY idx_schedule_deleted (deleted_at, id)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci
+  COMMENT = '일정'
+PARTITION BY RANGE COLUMNS (start_date) (
+    PARTITION p_history VALUES LESS THAN ('2026-01-01'),
+    PARTITION p202601 VALUES LESS THAN ('2026-02-01'),
+    PARTITION p202602 VALUES LESS THAN ('2026-03-01'),
+    PARTITION p202603 VALUES LESS THAN ('2026-04-01'),
+    PARTITION p202604 VALUES LESS THAN ('2026-05-01'),
+    PARTITION p202605 VALUES LESS THAN ('2026-06-01'),
+    PARTITION p202606 VALUES LESS THAN ('2026-07-01'),
+    PARTITION p202607 VALUES LESS THAN ('2026-08-01'),
+    PARTITION p202608 VALUES LESS THAN ('2026-09-01'),
+    PARTITION p202609 VALUES LESS THAN ('2026-10-01'),
+    PARTITION p202610 VALUES LESS THAN ('2026-11-01'),
+    PARTITION p202611 VALUES LESS THAN ('2026-12-01'),
+    PARTITION p202612 VALUES LESS THAN ('2027-01-01'),
+    PARTITION p202701 VALUES LESS THAN ('2027-02-01'),
+    PARTITION p202702 VALUES LESS THAN ('2027-03-01'),
+    PARTITION p202703 VALUES LESS THAN ('2027-04-01'),
+    PARTITION p202704 VALUES LESS THAN ('2027-05-01'),
+    PARTITION p202705 VALUES LESS THAN ('2027-06-01'),
+    PARTITION p202706 VALUES LESS THAN ('2027-07-01'),
+    PARTITION p_future VALUES LESS THAN (MAXVALUE)
+);
+
+-- 기존 테이블이 없으면 빈 테이블을 만들어 아래 이관 단계를 같은 경로로 처리한다
+CREATE TABLE IF NOT EXISTS schedule LIKE schedule_partitioned;
+
+-- 파티션 이전 구조에는 없던 컬럼 보강 (반복 일정, 수정/삭제 이력)
+ALTER TABLE schedule
+    ADD COLUMN IF NOT EXISTS recurrence_rule       VARCHAR(200)  NULL,
+    ADD COLUMN IF NOT EXISTS recurrence_exceptions TEXT          NULL,
+    ADD COLUMN IF NOT EXISTS recurrence_end        DATETIME      NULL,
+    ADD COLUMN IF NOT EXISTS updated_at            DATETIME      NULL,
+    ADD COLUMN IF NOT EXISTS updated_by            VARCHAR(50)   NULL,
+    ADD COLUMN IF NOT EXISTS deleted_at            DATETIME      NULL;
+
+-- 기존 행 이관 (ID를 유지하므로 AUTO_INCREMENT도 최대 ID 다음부터 이어진다)
+INSERT INTO schedule_partitioned (
+    id, user_id, title, description, location, start_date, end_date, all_day, schedule_type,
+    reminder_minutes, color, is_public, recurrence_rule, recurrence_exceptions, recurrence_end,
+    created_at, created_by, updated_at, updated_by, deleted_at
+)
+SELECT
+    id, user_id, title, description, location, start_date, end_date, COALESCE(all_day, 0),
+    schedule_type, reminder_minutes, color, COALESCE(is_public, 1), recurrence_rule,
+    recurrence_exceptions, recurrence_end, created_at, created_by, updated_at, updated_by,
+    deleted_at
+FROM schedule;
+
+-- 한 번에 바꿔 단 뒤 이전 테이블 삭제
+RENAME TABLE schedule TO schedule_before_partition, schedule_partitioned TO schedule;
+DROP TABLE schedule_before_partition;
@@ -0,0 +1,14 @@
+-- Flyway Migration V4: Create schedule version table
+-- 작성자: 박성우
+-- 작성일: 2026.10.18
+
+-- 사용자별 일정 버전 (조건부 GET의 ETag 생성용)
+-- 일정 변경이 커밋되면 소유자와 참석자의 버전을 올린다. 모든 인스턴스가 같은 값을 읽으므로 재기동이나 인스턴스가 달라도 ETag가 같다.
+CREATE TABLE IF NOT EXISTS schedule_version (
+    user_id VARCHAR(50) NOT NULL,
+    version BIGINT      NOT NULL,
+    PRIMARY KEY (user_id)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci
+  COMMENT = '사용자별 일정 버전';
@@ -0,0 +1,10 @@
+-- Flyway Migration V5: Add schedule sort indexes
+-- 작성자: 박성우
+-- 작성일: 2026.10.18
+
+-- 일정 검색 커서 페이징 (정렬 값, id) Seek용 색인
+-- idx_schedule_user_range는 (start_date, end_date, deleted_at) 뒤에 id가 오므로 ORDER BY start_date, id를 색인 순서로 읽지 못하고,
+-- end_date 정렬에는 사용자별 색인이 없다. 두 색인이 있으면 깊은 페이지도 커서 위치부터 LIMIT 건만 읽는다.
+ALTER TABLE schedule
+    ADD KEY idx_schedule_user_start (user_id, start_date, id),
+    ADD KEY idx_schedule_user_end (user_id, end_date, id);
@@ -0,0 +1,137 @@
+package kr.co.platform.core.common.converter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import kr.co.platform.core.common.dto.CommonResponse;
+import kr.co.platform.core.common.masking.Masked;
+import kr.co.platform.core.common.masking.MaskingStrategy;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleResponseDto;
+import kr.co.platform.core.domain.schedule.model.enums.ScheduleType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link CommonResponseHttpMessageConverter} 테스트
+ *
+ * <p>데이터, 에러, null 필드, {@link Masked} 필드가 섞인 응답을 기본 Jackson 컨버터와 같은 바이트로 쓰는지 확인한다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+class CommonResponseHttpMessageConverterTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 18, 9, 30, 15, 123_000_000);
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final MappingJackson2HttpMessageConverter jacksonConverter =
+            new MappingJackson2HttpMessageConverter(objectMapper);
+    private final CommonResponseHttpMessageConverter envelopeConverter =
+            new CommonResponseHttpMessageConverter(objectMapper);
+
+    @Test
+    void dataMatchesDefaultConverter() throws IOException {
+        ScheduleResponseDto schedule =
+                ScheduleResponseDto.builder()
+                        .id(1L)
+                        .userId("user1")
+                        .title("주간 회의 \"A\" \\ \n 😀")
+                        .startDate(NOW)
+                        .endDate(NOW.plusHours(1))
+                        .scheduleType(ScheduleType.MEETING)
+                        .build();
+
+        assertSameBytes(response(true, List.of(schedule, schedule), null));
+        assertSameBytes(response(true, Map.of("count", 2), null));
+        assertSameBytes(response(true, "문자열", null));
+    }
+
+    @Test
+    void errorMatchesDefaultConverter() throws IOException {
+        assertSameBytes(
+                response(false, null, CommonResponse.ErrorResponse.of("E001", "잘못된 입력입니다.")));
+        assertSameBytes(
+                response(
+                        false,
+                        null,
+                        CommonResponse.ErrorResponse.of(
+                                "E001", "잘못된 입력입니다.", Map.of("title", "필수 값입니다."))));
+        assertSameBytes(CommonResponse.error("E002", null));
+    }
+
+    @Test
+    void nullFieldsAreOmittedLikeDefaultConverter() throws IOException {
+        assertSameBytes(response(true, null, null));
+        assertSameBytes(CommonResponse.builder().success(true).timestamp(null).build());
+        assertSameBytes(response(true, ScheduleResponseDto.builder().title("빈 필드").build(), null));
+    }
+
+    @Test
+    void maskedFieldsMatchDefaultConverter() throws IOException {
+        assertSameBytes(
+                response(true, new Contact("홍길동", "010-1234-5678", "hong@example.com"), null));
+        assertSameBytes(response(true, List.of(new Contact("홍", "1588-1234", "h@x.com")), null));
+    }
+
+    @Test
+    void reusedTimestampAndOtherCharsetsMatchDefaultConverter() throws IOException {
+        CommonResponse<String> first = response(true, "첫 응답", null);
+        CommonResponse<String> second = response(true, "두 번째 응답", null);
+
+        assertSameBytes(first);
+        assertSameBytes(second);
+        assertSameBytes(first, new MediaType("application", "json", StandardCharsets.UTF_16));
+        assertSameBytes(second, MediaType.parseMediaType("application/problem+json"));
+    }
+
+    private void assertSameBytes(CommonResponse<?> response) throws IOException {
+        assertSameBytes(response, MediaType.APPLICATION_JSON);
+    }
+
+    private void assertSameBytes(CommonResponse<?> response, MediaType mediaType)
+            throws IOException {
+        byte[] expected = write(jacksonConverter, response, mediaType);
+
+        assertThat(write(envelopeConverter, response, mediaType))
+                .as(new String(expected, StandardCharsets.UTF_8))
+                .isEqualTo(expected);
+    }
+
+    private static byte[] write(
+            AbstractGenericHttpMessageConverter<Object> converter,
+            CommonResponse<?> response,
+            MediaType mediaType)
+            throws IOException {
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        converter.write(response, CommonResponse.class, mediaType, output);
+        return output.getBodyAsBytes();
+    }
+
+    private static <T> CommonResponse<T> response(
+            boolean success, T data, CommonResponse.ErrorResponse error) {
+        return CommonResponse.<T>builder()
+                .success(success)
+                .data(data)
+                .error(error)
+                .timestamp(NOW)
+                .build();
+    }
+
+    /** 마스킹 필드를 가진 응답 데이터 */
+    private record Contact(
+            @Masked(strategy = MaskingStrategy.NAME) String name,
+            @Masked(strategy = MaskingStrategy.PHONE) String phone,
+            @Masked(strategy = MaskingStrategy.EMAIL) String email) {}
+}
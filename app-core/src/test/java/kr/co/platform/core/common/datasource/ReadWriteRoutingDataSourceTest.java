@@ -0,0 +1,150 @@
+package kr.co.platform.core.common.datasource;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import kr.co.platform.core.CoreApplication;
+import kr.co.platform.core.domain.schedule.index.ScheduleIntervalIndex;
+import kr.co.platform.core.domain.schedule.mapper.ScheduleMapper;
+import kr.co.platform.core.domain.schedule.model.entity.ScheduleEntity;
+import kr.co.platform.core.domain.schedule.model.enums.ScheduleType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link ReadWriteRoutingDataSource} 테스트 (H2 인메모리 DB 두 개를 쓰기 DataSource와 복제본으로 사용)
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@SpringBootTest(
+        classes = CoreApplication.class,
+        properties = {
+            "spring.datasource.url=jdbc:h2:mem:routing-primary;MODE=MariaDB;DB_CLOSE_DELAY=-1",
+            "datasource.routing.enabled=true",
+            "datasource.routing.lag-query=SELECT 0 AS LAG_SECONDS",
+            "datasource.routing.lag-column=LAG_SECONDS",
+            "datasource.routing.read-your-writes-window=1m",
+            "datasource.routing.replicas[0].name=replica",
+            "datasource.routing.replicas[0].url=jdbc:h2:mem:routing-replica;MODE=MariaDB;"
+                    + "DB_CLOSE_DELAY=-1;INIT=RUNSCRIPT FROM 'classpath:db/h2/schedule.sql'",
+            "datasource.routing.replicas[0].hikari.maximum-pool-size=2"
+        })
+@ActiveProfiles("test")
+class ReadWriteRoutingDataSourceTest {
+
+    private final LocalDateTime today = LocalDate.now().atStartOfDay();
+
+    @Autowired private HikariDataSource primaryDataSource;
+    @Autowired private ReadWriteRoutingDataSource routingDataSource;
+    @Autowired private ReadYourWritesTracker tracker;
+    @Autowired private ScheduleMapper scheduleMapper;
+    @Autowired private ScheduleIntervalIndex scheduleIntervalIndex;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        ReadWriteRoutingDataSource.Replica replicaSource = routingDataSource.getReplicas().get(0);
+        replicaSource.setAvailable(true);
+        primary = new JdbcTemplate(primaryDataSource);
+        replica = new JdbcTemplate(replicaSource.getDataSource());
+        primary.update("DELETE FROM schedule");
+        replica.update("DELETE FROM schedule");
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tracker.unbind();
+    }
+
+    @Test
+    void readOnlyTransactionReadsReplica() {
+        insert(replica, "reader", "복제본");
+        insert(primary, "reader", "쓰기");
+        tracker.bind("reader");
+
+        assertThat(titles(readOnly, "reader")).containsExactly("복제본");
+        assertThat(titles(readWrite, "reader")).containsExactly("쓰기");
+    }
+
+    @Test
+    void writerReadsOwnWritesFromPrimary() {
+        tracker.bind("writer");
+        readWrite.executeWithoutResult(status -> scheduleMapper.insertSchedule(schedule("writer")));
+
+        assertThat(titles(readOnly, "writer")).containsExactly("writer");
+
+        // 다른 사용자는 아직 쓰지 않았으므로 복제본에서 읽는다 (복제본에는 없음)
+        tracker.bind("other");
+        assertThat(titles(readOnly, "writer")).isEmpty();
+    }
+
+    @Test
+    void indexLoadReadsPrimaryWithoutMarkingWrite() {
+        insert(primary, "indexed", "쓰기");
+        tracker.bind("indexed");
+
+        List<ScheduleEntity> schedules =
+                readOnly.execute(
+                        status ->
+                                scheduleIntervalIndex.findOverlapping(
+                                        "indexed", today, today.plusDays(1)));
+
+        assertThat(schedules).extracting(ScheduleEntity::getTitle).containsExactly("쓰기");
+        assertThat(tracker.isCurrentUserRecentWriter()).isFalse();
+    }
+
+    private List<String> titles(TransactionTemplate transaction, String userId) {
+        return transaction.execute(
+                status ->
+                        scheduleMapper
+                                .selectSchedulesInRange(userId, today, today.plusDays(1))
+                                .stream()
+                                .map(ScheduleEntity::getTitle)
+                                .toList());
+    }
+
+    private void insert(JdbcTemplate jdbcTemplate, String userId, String title) {
+        jdbcTemplate.update(
+                "INSERT INTO schedule (user_id, title, start_date, end_date, schedule_type,"
+                        + " all_day, is_public) VALUES (?, ?, ?, ?, 'MEETING', FALSE, TRUE)",
+                userId,
+                title,
+                today.plusHours(10),
+                today.plusHours(11));
+    }
+
+    private ScheduleEntity schedule(String userId) {
+        ScheduleEntity schedule =
+                ScheduleEntity.builder()
+                        .userId(userId)
+                        .title(userId)
+                        .startDate(today.plusHours(10))
+                        .endDate(today.plusHours(11))
+                        .scheduleType(ScheduleType.MEETING)
+                        .build();
+        schedule.setDefaults();
+        return schedule;
+    }
+}
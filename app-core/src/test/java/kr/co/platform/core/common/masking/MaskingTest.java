@@ -0,0 +1,89 @@
+package kr.co.platform.core.common.masking;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link Masking} 테스트
+ *
+ * <p>방식이 값에 맞지 않으면 원본을 내보내지 않고 전체를 가리는지 확인한다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+class MaskingTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void phoneMasksMiddleGroup() {
+        assertThat(Masking.mask("010-1234-5678", MaskingStrategy.PHONE)).isEqualTo("010-****-5678");
+        assertThat(Masking.mask("02-123-4567", MaskingStrategy.PHONE)).isEqualTo("02-***-4567");
+        assertThat(Masking.mask("01012345678", MaskingStrategy.PHONE)).isEqualTo("010****5678");
+        assertThat(Masking.mask("0212345678", MaskingStrategy.PHONE)).isEqualTo("021***5678");
+    }
+
+    @Test
+    void phoneMasksWholeValueWhenPatternDoesNotApply() {
+        // 하이픈 하나
+        assertThat(Masking.mask("1588-1234", MaskingStrategy.PHONE)).isEqualTo("*********");
+        assertThat(Masking.mask("010-12345678", MaskingStrategy.PHONE)).isEqualTo("************");
+        // 하이픈 없는 짧은 번호
+        assertThat(Masking.mask("1234567", MaskingStrategy.PHONE)).isEqualTo("*******");
+        assertThat(Masking.mask("123456789", MaskingStrategy.PHONE)).isEqualTo("*********");
+        // 가운데 자리 없음
+        assertThat(Masking.mask("010--5678", MaskingStrategy.PHONE)).isEqualTo("*********");
+    }
+
+    @Test
+    void nameAndEmailNeverReturnShortValuesUnmasked() {
+        assertThat(Masking.mask("홍길동", MaskingStrategy.NAME)).isEqualTo("홍*동");
+        assertThat(Masking.mask("홍길", MaskingStrategy.NAME)).isEqualTo("홍*");
+        assertThat(Masking.mask("홍", MaskingStrategy.NAME)).isEqualTo("*");
+
+        assertThat(Masking.mask("hong@example.com", MaskingStrategy.EMAIL))
+                .isEqualTo("ho**@example.com");
+        assertThat(Masking.mask("ho@example.com", MaskingStrategy.EMAIL))
+                .isEqualTo("h*@example.com");
+        assertThat(Masking.mask("h@example.com", MaskingStrategy.EMAIL)).isEqualTo("*@example.com");
+    }
+
+    @Test
+    void customMasksWholeValueWhenVisiblePartsCoverIt() {
+        assertThat(Masking.mask("abcdef", MaskingStrategy.CUSTOM, 2, 1)).isEqualTo("ab***f");
+        assertThat(Masking.mask("abcdef", MaskingStrategy.CUSTOM, 0, 0)).isEqualTo("******");
+        assertThat(Masking.mask("abc", MaskingStrategy.CUSTOM, 2, 1)).isEqualTo("***");
+        assertThat(Masking.mask("abc", MaskingStrategy.CUSTOM, 5, 0)).isEqualTo("***");
+    }
+
+    @Test
+    void negativeVisibleCountIsRejected() {
+        assertThatThrownBy(() -> Masking.mask("abcdef", MaskingStrategy.CUSTOM, 1, -1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Masking.arg("abcdef", -1, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> objectMapper.writeValueAsString(new InvalidMasked("abcdef")))
+                .isInstanceOf(JsonMappingException.class)
+                .hasMessageContaining("must not be negative");
+    }
+
+    @Test
+    void serializerWritesSameResultAsMask() throws Exception {
+        assertThat(objectMapper.writeValueAsString(new Contact("1588-1234", "h@example.com")))
+                .isEqualTo("{\"phone\":\"*********\",\"email\":\"*@example.com\"}");
+        assertThat(Masking.arg(MaskingStrategy.PHONE, "010-1234-5678"))
+                .hasToString("010-****-5678");
+    }
+
+    record Contact(
+            @Masked(strategy = MaskingStrategy.PHONE) String phone,
+            @Masked(strategy = MaskingStrategy.EMAIL) String email) {}
+
+    record InvalidMasked(
+            @Masked(strategy = MaskingStrategy.CUSTOM, visibleEnd = -1) String value) {}
+}
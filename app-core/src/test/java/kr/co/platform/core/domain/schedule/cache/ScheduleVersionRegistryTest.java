@@ -0,0 +1,98 @@
+package kr.co.platform.core.domain.schedule.cache;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import kr.co.platform.core.domain.schedule.event.ScheduleChangedEvent;
+import kr.co.platform.core.domain.schedule.mapper.ScheduleVersionMapper;
+import kr.co.platform.core.domain.schedule.model.entity.ScheduleEntity;
+import kr.co.platform.core.domain.schedule.model.enums.ScheduleType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+/**
+ * {@link ScheduleVersionRegistry} 테스트
+ *
+ * <p>레지스트리 두 개를 인스턴스 두 개처럼 사용해 버전과 ETag가 DB 값으로 공유되는지 확인한다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@MybatisTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ScheduleVersionRegistryTest {
+
+    @Autowired private ScheduleVersionMapper scheduleVersionMapper;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private DataSource dataSource;
+
+    private ScheduleVersionRegistry writer;
+    private ScheduleVersionRegistry reader;
+
+    @BeforeEach
+    void setUp() {
+        new JdbcTemplate(dataSource).update("DELETE FROM schedule_version");
+        writer = new ScheduleVersionRegistry(scheduleVersionMapper, transactionManager);
+        reader = new ScheduleVersionRegistry(scheduleVersionMapper, transactionManager);
+    }
+
+    @Test
+    void bumpIsVisibleToOtherInstances() {
+        String before = reader.eTag("user1", "variant");
+        assertThat(writer.eTag("user1", "variant")).isEqualTo(before);
+
+        writer.bump(Set.of("user1", "user2"));
+        assertThat(writer.bump(Set.of("user1"))).containsExactly(entry("user1", 2L));
+        assertThat(writer.observedVersion("user1")).isEqualTo(2);
+
+        // 다른 인스턴스는 DB에서 읽기 전까지 올라간 버전을 알지 못한다
+        assertThat(reader.observedVersion("user1")).isZero();
+        assertThat(reader.version("user1")).isEqualTo(2);
+        assertThat(reader.observedVersion("user1")).isEqualTo(2);
+        assertThat(reader.version("user2")).isEqualTo(1);
+        assertThat(reader.eTag("user1", "variant"))
+                .isNotEqualTo(before)
+                .isEqualTo(writer.eTag("user1", "variant"));
+    }
+
+    @Test
+    void changeBumpsPreviousOwnerAndParticipants() {
+        ScheduleEntity previous = schedule("user1");
+        ScheduleEntity moved = schedule("user2");
+
+        writer.onScheduleChanged(
+                ScheduleChangedEvent.updated(moved, previous, new String[] {"user3"}));
+
+        assertThat(reader.version("user1")).isEqualTo(1);
+        assertThat(reader.version("user2")).isEqualTo(1);
+        assertThat(reader.version("user3")).isEqualTo(1);
+        assertThat(reader.version("user4")).isZero();
+    }
+
+    private static ScheduleEntity schedule(String userId) {
+        LocalDateTime start = LocalDateTime.of(2026, 10, 18, 10, 0);
+        return ScheduleEntity.builder()
+                .id(1L)
+                .userId(userId)
+                .title("회의")
+                .startDate(start)
+                .endDate(start.plusHours(1))
+                .scheduleType(ScheduleType.MEETING)
+                .build();
+    }
+}
@@ -0,0 +1,57 @@
+package kr.co.platform.core.domain.schedule.cache;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.co.platform.core.domain.schedule.config.ScheduleProperties;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleResponseDto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * {@link TodayScheduleCache} 테스트
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+class TodayScheduleCacheTest {
+
+    private static final String USER_ID = "user1";
+
+    private final ScheduleVersionRegistry versions = mock(ScheduleVersionRegistry.class);
+    private final TodayScheduleCache cache =
+            new TodayScheduleCache(versions, new ScheduleProperties(), new SimpleMeterRegistry());
+
+    @Test
+    void reloadsEntryLoadedBeforeTheObservedVersion() {
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<List<ScheduleResponseDto>> loader =
+                () ->
+                        List.of(
+                                ScheduleResponseDto.builder()
+                                        .title("적재 " + loads.incrementAndGet())
+                                        .build());
+        LocalDate today = cache.today();
+
+        when(versions.observedVersion(USER_ID)).thenReturn(0L);
+        assertThat(titles(cache.get(USER_ID, today, loader))).containsExactly("적재 1");
+        assertThat(titles(cache.get(USER_ID, today, loader))).containsExactly("적재 1");
+
+        // 다른 인스턴스의 변경으로 올라간 버전을 확인하면 이전 항목을 버린다
+        when(versions.observedVersion(USER_ID)).thenReturn(1L);
+        assertThat(titles(cache.get(USER_ID, today, loader))).containsExactly("적재 2");
+        assertThat(titles(cache.get(USER_ID, today, loader))).containsExactly("적재 2");
+        assertThat(loads).hasValue(2);
+    }
+
+    private static List<String> titles(List<ScheduleResponseDto> schedules) {
+        return schedules.stream().map(ScheduleResponseDto::getTitle).toList();
+    }
+}
@@ -0,0 +1,62 @@
+package kr.co.platform.core.domain.schedule.export;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import kr.co.platform.core.domain.schedule.model.entity.ScheduleEntity;
+import kr.co.platform.core.domain.schedule.model.enums.ScheduleType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link CsvScheduleExportWriter} 테스트
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+class CsvScheduleExportWriterTest {
+
+    @ParameterizedTest
+    @CsvSource(
+            delimiter = '|',
+            quoteCharacter = '`',
+            value = {
+                "=HYPERLINK(\"x\")|\"'=HYPERLINK(\"\"x\"\")\"",
+                "+1|'+1",
+                "-1+2|'-1+2",
+                "@SUM(A1)|'@SUM(A1)",
+                "회의|회의"
+            })
+    void escapesFormulaStart(String title, String expected) throws IOException {
+        assertThat(titleCell(title)).isEqualTo(expected);
+    }
+
+    @Test
+    void escapesControlCharacterStart() throws IOException {
+        assertThat(titleCell("\tcmd")).isEqualTo("'\tcmd");
+        assertThat(titleCell("\rcmd")).isEqualTo("\"'\rcmd\"");
+    }
+
+    private static String titleCell(String title) throws IOException {
+        StringWriter out = new StringWriter();
+        LocalDateTime start = LocalDateTime.of(2026, 10, 18, 10, 0);
+        ScheduleEntity schedule =
+                ScheduleEntity.builder()
+                        .id(1L)
+                        .userId("user1")
+                        .title(title)
+                        .startDate(start)
+                        .endDate(start.plusHours(1))
+                        .scheduleType(ScheduleType.MEETING)
+                        .build();
+        new CsvScheduleExportWriter(out).write(schedule);
+        String row = out.toString();
+        // "1," 다음부터 두 번째 열(description)의 구분자 전까지
+        return row.substring(2, row.indexOf(",,"));
+    }
+}
@@ -0,0 +1,114 @@
+package kr.co.platform.core.domain.schedule.index;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link IntervalTree} 테스트
+ *
+ * <p>무작위 추가/교체/제거 후의 겹침 조회 결과를 전체 구간을 훑는 결과와 비교한다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+class IntervalTreeTest {
+
+    @Test
+    void overlapUsesHalfOpenIntervals() {
+        IntervalTree<String> tree = new IntervalTree<>();
+        tree.put(1, 10, 20, "a");
+        tree.put(2, 20, 30, "b");
+        tree.put(3, 5, 5, "empty");
+
+        assertThat(collect(tree, 20, 21)).containsExactly("b");
+        assertThat(collect(tree, 19, 20)).containsExactly("a");
+        assertThat(collect(tree, 0, 10)).containsExactly("empty");
+        assertThat(collect(tree, 30, 40)).isEmpty();
+        // 길이가 0인 구간은 1로 본다
+        assertThat(collect(tree, 5, 6)).containsExactly("empty");
+    }
+
+    @Test
+    void longIntervalStartingEarlyIsFound() {
+        IntervalTree<String> tree = new IntervalTree<>();
+        tree.put(1, 0, 1_000, "long");
+        for (long id = 2; id < 100; id++) {
+            tree.put(id, id * 10, id * 10 + 1, "short" + id);
+        }
+
+        assertThat(collect(tree, 995, 996)).containsExactly("long");
+    }
+
+    @Test
+    void putReplacesAndRemoveDeletes() {
+        IntervalTree<String> tree = new IntervalTree<>();
+        tree.put(1, 10, 20, "before");
+        tree.put(1, 50, 60, "after");
+
+        assertThat(tree.size()).isEqualTo(1);
+        assertThat(collect(tree, 10, 20)).isEmpty();
+        assertThat(collect(tree, 50, 60)).containsExactly("after");
+
+        assertThat(tree.remove(1)).isTrue();
+        assertThat(tree.remove(1)).isFalse();
+        assertThat(tree.size()).isZero();
+        assertThat(collect(tree, 0, 100)).isEmpty();
+    }
+
+    @Test
+    void matchesLinearScanAfterRandomChanges() {
+        SplittableRandom random = new SplittableRandom(42);
+        IntervalTree<Long> tree = new IntervalTree<>();
+        Map<Long, long[]> intervals = new HashMap<>();
+
+        for (int step = 0; step < 5_000; step++) {
+            long id = random.nextLong(500);
+            if (random.nextInt(4) == 0) {
+                assertThat(tree.remove(id)).isEqualTo(intervals.remove(id) != null);
+            } else {
+                long start = random.nextLong(10_000);
+                long end = start + random.nextLong(random.nextBoolean() ? 50 : 2_000);
+                tree.put(id, start, end, id);
+                intervals.put(id, new long[] {start, Math.max(end, start + 1)});
+            }
+
+            if (step % 50 == 0) {
+                long from = random.nextLong(10_000);
+                long to = from + 1 + random.nextLong(500);
+                assertThat(collect(tree, from, to))
+                        .as("step %d [%d, %d)", step, from, to)
+                        .containsExactlyElementsOf(linearScan(intervals, from, to));
+            }
+        }
+        assertThat(tree.size()).isEqualTo(intervals.size());
+    }
+
+    private static <V> List<V> collect(IntervalTree<V> tree, long from, long to) {
+        List<V> out = new ArrayList<>();
+        tree.collectOverlapping(from, to, out);
+        return out;
+    }
+
+    /** 시작 시각, ID 순으로 정렬한 겹치는 구간 ID */
+    private static List<Long> linearScan(Map<Long, long[]> intervals, long from, long to) {
+        List<Long> ids = new ArrayList<>();
+        for (Map.Entry<Long, long[]> entry : intervals.entrySet()) {
+            long[] interval = entry.getValue();
+            if (interval[0] < to && interval[1] > from) {
+                ids.add(entry.getKey());
+            }
+        }
+        ids.sort(
+                Comparator.<Long>comparingLong(id -> intervals.get(id)[0])
+                        .thenComparing(Comparator.naturalOrder()));
+        return ids;
+    }
+}
@@ -0,0 +1,115 @@
+package kr.co.platform.core.domain.schedule.index;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import kr.co.platform.core.domain.schedule.cache.ScheduleVersionRegistry;
+import kr.co.platform.core.domain.schedule.config.ScheduleProperties;
+import kr.co.platform.core.domain.schedule.mapper.ScheduleMapper;
+import kr.co.platform.core.domain.schedule.mapper.ScheduleVersionMapper;
+import kr.co.platform.core.domain.schedule.model.entity.ScheduleEntity;
+import kr.co.platform.core.domain.schedule.model.enums.ScheduleType;
+
+/**
+ * 일정 인덱스 테스트 공통 설정
+ *
+ * <p>일정/버전 테이블을 비우고, 이벤트 없이 DB에만 저장하는 도우미와 수동으로 진행하는 시계를 제공한다. 인덱스는 각 테스트가 {@link #ticker}로 만들어 TTL
+ * 경과를 대기 없이 재현한다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@MybatisTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+abstract class ScheduleIndexTestSupport {
+
+    protected static final String USER_ID = "user1";
+
+    @Autowired protected ScheduleMapper scheduleMapper;
+    @Autowired protected ScheduleVersionMapper scheduleVersionMapper;
+    @Autowired protected PlatformTransactionManager transactionManager;
+    @Autowired private DataSource dataSource;
+
+    protected final ScheduleProperties properties = new ScheduleProperties();
+    protected final ManualTicker ticker = new ManualTicker();
+
+    @BeforeEach
+    void clearSchedules() {
+        new JdbcTemplate(dataSource).update("DELETE FROM schedule");
+        new JdbcTemplate(dataSource).update("DELETE FROM schedule_version");
+    }
+
+    /**
+     * 인스턴스 하나의 버전 레지스트리 (같은 DB의 버전을 읽고 확인한 버전은 따로 보관)
+     *
+     * @return 새 버전 레지스트리
+     */
+    protected ScheduleVersionRegistry newVersionRegistry() {
+        return new ScheduleVersionRegistry(scheduleVersionMapper, transactionManager);
+    }
+
+    /**
+     * 일정 엔티티 빌더 (1시간 길이의 회의)
+     *
+     * @param title 제목
+     * @param start 시작 일시
+     * @return 일정 엔티티 빌더
+     */
+    protected static ScheduleEntity.ScheduleEntityBuilder schedule(
+            String title, LocalDateTime start) {
+        return ScheduleEntity.builder()
+                .userId(USER_ID)
+                .title(title)
+                .startDate(start)
+                .endDate(start.plusHours(1))
+                .scheduleType(ScheduleType.MEETING);
+    }
+
+    /**
+     * DB에만 저장 (이 인스턴스에 이벤트가 오지 않는 다른 인스턴스의 저장)
+     *
+     * @param schedule 일정 엔티티
+     * @return 저장된 일정 (ID 포함)
+     */
+    protected ScheduleEntity insert(ScheduleEntity schedule) {
+        schedule.setDefaults();
+        scheduleMapper.insertSchedule(schedule);
+        return schedule;
+    }
+
+    /** 수동으로 진행하는 Caffeine 시계 */
+    protected static final class ManualTicker implements Ticker {
+
+        private final AtomicLong nanos = new AtomicLong();
+
+        @Override
+        public long read() {
+            return nanos.get();
+        }
+
+        /**
+         * 시계 진행
+         *
+         * @param duration 진행할 시간
+         */
+        void advance(Duration duration) {
+            nanos.addAndGet(duration.toNanos());
+        }
+    }
+}
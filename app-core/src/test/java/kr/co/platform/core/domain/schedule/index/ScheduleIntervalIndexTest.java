@@ -0,0 +1,221 @@
+package kr.co.platform.core.domain.schedule.index;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.co.platform.core.domain.schedule.cache.ScheduleVersionRegistry;
+import kr.co.platform.core.domain.schedule.event.ScheduleChangedEvent;
+import kr.co.platform.core.domain.schedule.model.entity.ScheduleEntity;
+import kr.co.platform.core.domain.schedule.recurrence.RecurrenceExpander;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * {@link ScheduleIntervalIndex} 테스트
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+class ScheduleIntervalIndexTest extends ScheduleIndexTestSupport {
+
+    private final LocalDateTime today =
+            LocalDate.now(ZoneId.of(properties.getIntervalIndex().getZoneId())).atStartOfDay();
+
+    @Test
+    void loadsOnlyTheWindowAndReadsOutsideFromDatabase() {
+        insert(schedule("올해", today.plusHours(10)).build());
+        insert(schedule("작년", today.minusYears(1).plusHours(10)).build());
+        ScheduleIntervalIndex index = index();
+
+        assertThat(titles(index, today, today.plusDays(1))).containsExactly("올해");
+        assertThat(titles(index, today.minusYears(1), today.minusYears(1).plusDays(1)))
+                .containsExactly("작년");
+    }
+
+    @Test
+    void overlapMatchesHalfOpenRanges() {
+        insert(schedule("회의", today.plusHours(10)).build());
+        insert(schedule("출장", today.minusDays(2)).endDate(today.plusDays(2)).build());
+        ScheduleIntervalIndex index = index();
+
+        assertThat(titles(index, today.plusHours(11), today.plusHours(12))).containsExactly("출장");
+        assertThat(titles(index, today.plusMinutes(630), today.plusMinutes(631)))
+                .containsExactly("출장", "회의");
+        assertThat(titles(index, today.plusDays(1), today.plusDays(1).plusHours(1)))
+                .containsExactly("출장");
+        assertThat(titles(index, today.plusDays(2), today.plusDays(3))).isEmpty();
+    }
+
+    @Test
+    void reloadsAfterTtlToSeeChangesWithoutEvents() {
+        insert(schedule("기존", today.plusHours(10)).build());
+        ScheduleIntervalIndex index = index();
+        assertThat(titles(index, today, today.plusDays(1))).containsExactly("기존");
+
+        insert(schedule("다른 인스턴스", today.plusHours(12)).build());
+        ticker.advance(properties.getIntervalIndex().getTtl().minusSeconds(1));
+        assertThat(titles(index, today, today.plusDays(1))).containsExactly("기존");
+
+        ticker.advance(Duration.ofSeconds(1));
+        assertThat(titles(index, today, today.plusDays(1))).containsExactly("기존", "다른 인스턴스");
+    }
+
+    @Test
+    void appliesCreateUpdateAndDeleteEvents() {
+        ScheduleIntervalIndex index = index();
+        assertThat(titles(index, today, today.plusDays(2))).isEmpty();
+
+        ScheduleEntity created = insert(schedule("회의", today.plusHours(10)).build());
+        index.onScheduleChanged(ScheduleChangedEvent.created(created));
+        assertThat(titles(index, today, today.plusDays(1))).containsExactly("회의");
+
+        ScheduleEntity moved = created.copy();
+        moved.setTitle("옮긴 회의");
+        moved.setStartDate(today.plusDays(1).plusHours(10));
+        moved.setEndDate(today.plusDays(1).plusHours(11));
+        index.onScheduleChanged(ScheduleChangedEvent.updated(moved, created));
+        assertThat(titles(index, today, today.plusDays(1))).isEmpty();
+        assertThat(titles(index, today.plusDays(1), today.plusDays(2))).containsExactly("옮긴 회의");
+
+        // 적재 구간 밖으로 옮기면 인덱스에서 빠지고 구간 밖 조회는 DB에서 읽는다
+        ScheduleEntity far = moved.copy();
+        far.setStartDate(today.plusYears(3));
+        far.setEndDate(today.plusYears(3).plusHours(1));
+        index.onScheduleChanged(ScheduleChangedEvent.updated(far, moved));
+        assertThat(titles(index, today, today.plusDays(2))).isEmpty();
+
+        ScheduleEntity restored = created.copy();
+        index.onScheduleChanged(ScheduleChangedEvent.updated(restored, far));
+        assertThat(titles(index, today, today.plusDays(1))).containsExactly("회의");
+
+        index.onScheduleChanged(ScheduleChangedEvent.deleted(restored));
+        assertThat(titles(index, today, today.plusDays(2))).isEmpty();
+    }
+
+    @Test
+    void ownerChangeRemovesFromPreviousOwner() {
+        ScheduleEntity schedule = insert(schedule("회의", today.plusHours(10)).build());
+        ScheduleIntervalIndex index = index();
+        assertThat(titles(index, today, today.plusDays(1))).containsExactly("회의");
+
+        ScheduleEntity transferred = schedule.copy();
+        transferred.setUserId("user2");
+        index.onScheduleChanged(ScheduleChangedEvent.updated(transferred, schedule));
+
+        assertThat(titles(index, today, today.plusDays(1))).isEmpty();
+    }
+
+    @Test
+    void otherInstanceReloadsOnceItSeesTheNewVersion() {
+        insert(schedule("기존", today.plusHours(10)).build());
+        ScheduleVersionRegistry versionsA = newVersionRegistry();
+        ScheduleVersionRegistry versionsB = newVersionRegistry();
+        ScheduleIntervalIndex indexA = index(versionsA);
+        ScheduleIntervalIndex indexB = index(versionsB);
+        assertThat(titles(indexA, today, today.plusDays(1))).containsExactly("기존");
+        assertThat(titles(indexB, today, today.plusDays(1))).containsExactly("기존");
+
+        // A 인스턴스의 생성: 커밋 후 리스너 순서대로 버전 증가, 인덱스 반영
+        ScheduleEntity created = insert(schedule("새 회의", today.plusHours(12)).build());
+        ScheduleChangedEvent event = ScheduleChangedEvent.created(created);
+        versionsA.onScheduleChanged(event);
+        indexA.onScheduleChanged(event);
+
+        // B는 이벤트를 받지 못했지만 ETag를 만들며 올라간 버전을 확인했으므로 TTL 전이라도 다시 적재한다
+        String eTag = versionsB.eTag(USER_ID, "today");
+        assertThat(eTag).isEqualTo(versionsA.eTag(USER_ID, "today"));
+        assertThat(titles(indexB, today, today.plusDays(1))).containsExactly("기존", "새 회의");
+
+        // A는 이벤트로 다음 버전을 이어받았으므로 다시 적재하지 않는다 (이벤트 없는 저장은 TTL까지 보이지 않음)
+        insert(schedule("직접 SQL", today.plusHours(14)).build());
+        assertThat(titles(indexA, today, today.plusDays(1))).containsExactly("기존", "새 회의");
+        assertThat(titles(indexB, today, today.plusDays(1))).containsExactly("기존", "새 회의");
+    }
+
+    @Test
+    void versionGapFromAnotherInstanceForcesReloadAfterEvent() {
+        ScheduleVersionRegistry versionsA = newVersionRegistry();
+        ScheduleVersionRegistry versionsB = newVersionRegistry();
+        ScheduleIntervalIndex indexA = index(versionsA);
+        assertThat(titles(indexA, today, today.plusDays(1))).isEmpty();
+
+        // B의 변경(버전 1)이 끼어든 뒤 A의 변경(버전 2)이 오면 A 인덱스는 버전을 이어받지 않는다
+        ScheduleEntity other = insert(schedule("B 회의", today.plusHours(9)).build());
+        versionsB.onScheduleChanged(ScheduleChangedEvent.created(other));
+        ScheduleEntity created = insert(schedule("A 회의", today.plusHours(11)).build());
+        ScheduleChangedEvent event = ScheduleChangedEvent.created(created);
+        versionsA.onScheduleChanged(event);
+        indexA.onScheduleChanged(event);
+
+        assertThat(event.getVersions()).containsEntry(USER_ID, 2L);
+        assertThat(titles(indexA, today, today.plusDays(1))).containsExactly("B 회의", "A 회의");
+    }
+
+    @Test
+    void expandsRecurringSeriesInsideTheWindow() {
+        // 3주 전 같은 요일에 시작한 매주 반복 (오늘 한 번 발생)
+        ScheduleEntity weekly =
+                insert(
+                        schedule("주간 회의", today.minusWeeks(3).plusHours(9))
+                                .recurrenceRule("FREQ=WEEKLY")
+                                .build());
+        // 어제부터 3회 (오늘, 내일 발생)
+        ScheduleEntity daily = schedule("점검", today.minusDays(1).plusHours(8)).build();
+        daily.setRecurrenceRule("FREQ=DAILY;COUNT=3");
+        daily.setRecurrenceEnd(RecurrenceExpander.seriesEnd(daily));
+        insert(daily);
+        // 오늘 발생을 제외한 매주 반복
+        ScheduleEntity skipped =
+                insert(
+                        schedule("취소된 회의", today.minusWeeks(1).plusHours(15))
+                                .recurrenceRule("FREQ=WEEKLY")
+                                .recurrenceExceptions(
+                                        RecurrenceExpander.formatExceptions(
+                                                List.of(today.plusHours(15))))
+                                .build());
+        ScheduleIntervalIndex index = index();
+
+        List<ScheduleEntity> occurrences = index.findOverlapping(USER_ID, today, today.plusDays(2));
+
+        assertThat(occurrences)
+                .extracting(ScheduleEntity::getTitle, ScheduleEntity::getStartDate)
+                .containsExactly(
+                        tuple("점검", today.plusHours(8)),
+                        tuple("주간 회의", today.plusHours(9)),
+                        tuple("점검", today.plusDays(1).plusHours(8)));
+        assertThat(occurrences.get(1).getId()).isEqualTo(weekly.getId());
+        assertThat(occurrences.get(1).getEndDate()).isEqualTo(today.plusHours(10));
+        assertThat(occurrences).extracting(ScheduleEntity::getId).doesNotContain(skipped.getId());
+        // 다음 주 발생은 제외 일시와 관계없이 나온다
+        assertThat(titles(index, today.plusWeeks(1), today.plusWeeks(1).plusDays(1)))
+                .containsExactly("주간 회의", "취소된 회의");
+    }
+
+    private ScheduleIntervalIndex index() {
+        return index(newVersionRegistry());
+    }
+
+    private ScheduleIntervalIndex index(ScheduleVersionRegistry versions) {
+        return new ScheduleIntervalIndex(
+                scheduleMapper,
+                versions,
+                properties,
+                transactionManager,
+                new SimpleMeterRegistry(),
+                ticker);
+    }
+
+    private static List<String> titles(
+            ScheduleIntervalIndex index, LocalDateTime from, LocalDateTime to) {
+        return index.findOverlapping(USER_ID, from, to).stream()
+                .map(ScheduleEntity::getTitle)
+                .toList();
+    }
+}
@@ -0,0 +1,166 @@
+package kr.co.platform.core.domain.schedule.index;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.co.platform.core.domain.schedule.cache.ScheduleVersionRegistry;
+import kr.co.platform.core.domain.schedule.event.ScheduleChangedEvent;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleSearchDto;
+import kr.co.platform.core.domain.schedule.model.entity.ScheduleEntity;
+import kr.co.platform.core.domain.schedule.model.enums.ScheduleType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link ScheduleKeywordIndex} 테스트
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+class ScheduleKeywordIndexTest extends ScheduleIndexTestSupport {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 10, 18, 10, 0);
+
+    @Test
+    void ranksTitleAboveLocationAndDescription() {
+        long description = insert(schedule("준비", START).description("회의 자료 정리").build()).getId();
+        long title = insert(schedule("주간 회의", START).build()).getId();
+        long location = insert(schedule("면담", START).location("3층 회의실").build()).getId();
+        long prefix = insert(schedule("회의 정리", START).build()).getId();
+        insert(schedule("점심", START).build());
+
+        assertThat(search(index(), "회의")).containsExactly(prefix, title, location, description);
+    }
+
+    @Test
+    void requiresContiguousMatch() {
+        // 바이그램(회의, 의실)은 모두 있지만 이어지지 않는 경우
+        insert(schedule("회의와 의실", START).build());
+        long matched = insert(schedule("대회의실 예약", START).build()).getId();
+
+        assertThat(search(index(), "회의실")).containsExactly(matched);
+        assertThat(search(index(), "회")).isNull();
+    }
+
+    @Test
+    void filtersByVisibilityTypeAndPeriod() {
+        long open = insert(schedule("공개 회의", START).build()).getId();
+        long hidden = insert(schedule("비공개 회의", START).isPublic(false).build()).getId();
+        long trip =
+                insert(schedule("출장 회의", START).scheduleType(ScheduleType.BUSINESS_TRIP).build())
+                        .getId();
+        long weekly =
+                insert(schedule("주간 회의", START.minusYears(1)).recurrenceRule("FREQ=WEEKLY").build())
+                        .getId();
+        ScheduleKeywordIndex index = index();
+
+        ScheduleSearchDto publicOnly =
+                ScheduleSearchDto.builder().keyword("회의").publicOnly(true).build();
+        assertThat(index.search(USER_ID, publicOnly, null, null))
+                .doesNotContain(hidden)
+                .contains(open);
+
+        ScheduleSearchDto trips =
+                ScheduleSearchDto.builder()
+                        .keyword("회의")
+                        .scheduleType(ScheduleType.BUSINESS_TRIP)
+                        .build();
+        assertThat(index.search(USER_ID, trips, null, null)).containsExactly(trip);
+
+        // 종료 없는 반복 일정은 먼 미래 기간에도 걸린다
+        ScheduleSearchDto keyword = ScheduleSearchDto.builder().keyword("회의").build();
+        assertThat(
+                        index.search(
+                                USER_ID,
+                                keyword,
+                                START.plusYears(5),
+                                START.plusYears(5).plusDays(1)))
+                .containsExactly(weekly);
+        assertThat(index.search(USER_ID, keyword, START, START.plusHours(1)))
+                .containsExactlyInAnyOrder(open, hidden, trip, weekly);
+    }
+
+    @Test
+    void appliesCreateUpdateAndDeleteEvents() {
+        ScheduleKeywordIndex index = index();
+        assertThat(search(index, "회의")).isEmpty();
+
+        ScheduleEntity created = insert(schedule("주간 회의", START).build());
+        index.onScheduleChanged(ScheduleChangedEvent.created(created));
+        assertThat(search(index, "회의")).containsExactly(created.getId());
+
+        ScheduleEntity renamed = created.copy();
+        renamed.setTitle("주간 보고");
+        index.onScheduleChanged(ScheduleChangedEvent.updated(renamed, created));
+        assertThat(search(index, "회의")).isEmpty();
+        assertThat(search(index, "보고")).containsExactly(created.getId());
+
+        ScheduleEntity transferred = renamed.copy();
+        transferred.setUserId("user2");
+        index.onScheduleChanged(ScheduleChangedEvent.updated(transferred, renamed));
+        assertThat(search(index, "보고")).isEmpty();
+
+        index.onScheduleChanged(ScheduleChangedEvent.created(created));
+        index.onScheduleChanged(ScheduleChangedEvent.deleted(created));
+        assertThat(search(index, "회의")).isEmpty();
+    }
+
+    @Test
+    void reloadsAfterTtlToSeeChangesWithoutEvents() {
+        long first = insert(schedule("주간 회의", START).build()).getId();
+        ScheduleKeywordIndex index = index();
+        assertThat(search(index, "회의")).containsExactly(first);
+
+        long second = insert(schedule("월간 회의", START).build()).getId();
+        ticker.advance(properties.getKeywordIndex().getTtl().minusSeconds(1));
+        assertThat(search(index, "회의")).containsExactly(first);
+
+        ticker.advance(Duration.ofSeconds(1));
+        assertThat(search(index, "회의")).containsExactly(second, first);
+    }
+
+    @Test
+    void reloadsWhenAnotherInstanceBumpedTheVersion() {
+        long first = insert(schedule("주간 회의", START).build()).getId();
+        ScheduleVersionRegistry versions = newVersionRegistry();
+        ScheduleKeywordIndex index = index(versions);
+        assertThat(search(index, "회의")).containsExactly(first);
+
+        // 다른 인스턴스의 저장과 버전 증가 (이 인스턴스에는 이벤트 없음)
+        ScheduleEntity second = insert(schedule("월간 회의", START).build());
+        newVersionRegistry().onScheduleChanged(ScheduleChangedEvent.created(second));
+        assertThat(search(index, "회의")).containsExactly(first);
+
+        versions.eTag(USER_ID, "search");
+        assertThat(search(index, "회의")).containsExactly(second.getId(), first);
+    }
+
+    @Test
+    void disabledIndexFallsBackToSql() {
+        properties.getKeywordIndex().setEnabled(false);
+
+        assertThat(search(index(), "회의")).isNull();
+    }
+
+    private ScheduleKeywordIndex index() {
+        return index(newVersionRegistry());
+    }
+
+    private ScheduleKeywordIndex index(ScheduleVersionRegistry versions) {
+        return new ScheduleKeywordIndex(
+                scheduleMapper,
+                versions,
+                properties,
+                transactionManager,
+                new SimpleMeterRegistry(),
+                ticker);
+    }
+
+    private static long[] search(ScheduleKeywordIndex index, String keyword) {
+        return index.search(
+                USER_ID, ScheduleSearchDto.builder().keyword(keyword).build(), null, null);
+    }
+}
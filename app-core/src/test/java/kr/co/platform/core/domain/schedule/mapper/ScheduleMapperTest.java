@@ -0,0 +1,155 @@
+package kr.co.platform.core.domain.schedule.mapper;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleRequestDto;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleSearchDto;
+import kr.co.platform.core.domain.schedule.model.entity.ScheduleEntity;
+import kr.co.platform.core.domain.schedule.model.enums.ScheduleSortField;
+import kr.co.platform.core.domain.schedule.model.enums.ScheduleType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link ScheduleMapper} 테스트
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@MybatisTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ScheduleMapperTest {
+
+    /** DB 시계와 구분되도록 과거로 둔 애플리케이션 시각 */
+    private static final LocalDateTime APPLICATION_TIME = LocalDateTime.of(2020, 1, 2, 3, 4, 5);
+
+    @Autowired private ScheduleMapper scheduleMapper;
+    @Autowired private DataSource dataSource;
+
+    @Test
+    void insertsStoreTheApplicationCreatedAt() {
+        ScheduleEntity single = schedule("단건");
+        scheduleMapper.insertSchedule(single);
+        ScheduleEntity multi = schedule("다건");
+        scheduleMapper.insertSchedules(List.of(multi));
+
+        assertThat(scheduleMapper.selectScheduleById(single.getId()).getCreatedAt())
+                .isEqualTo(APPLICATION_TIME);
+        assertThat(scheduleMapper.selectScheduleById(multi.getId()).getCreatedAt())
+                .isEqualTo(APPLICATION_TIME);
+    }
+
+    @Test
+    void archiveCandidatesSeekByDeletedAtThenId() {
+        LocalDateTime earlier = LocalDateTime.of(2026, 1, 1, 0, 0);
+        LocalDateTime later = earlier.plusDays(1);
+        // ID 순서와 삭제 순서가 다르고, 삭제 일시가 같은 행이 배치 경계에 걸친다
+        long first = insertDeleted("나중 삭제 1", later);
+        long second = insertDeleted("나중 삭제 2", later);
+        long third = insertDeleted("먼저 삭제", earlier);
+        insertDeleted("보관 기간 전", later.plusDays(30));
+        LocalDateTime deletedBefore = later.plusDays(1);
+
+        List<ScheduleEntity> batch =
+                scheduleMapper.selectArchiveCandidates(deletedBefore, null, null, 2);
+        assertThat(batch).extracting(ScheduleEntity::getId).containsExactly(third, first);
+        assertThat(batch.get(1).getDeletedAt()).isEqualTo(later);
+
+        ScheduleEntity last = batch.get(1);
+        assertThat(
+                        scheduleMapper.selectArchiveCandidates(
+                                deletedBefore, last.getDeletedAt(), last.getId(), 2))
+                .extracting(ScheduleEntity::getId)
+                .containsExactly(second);
+    }
+
+    @Test
+    void rangeQueriesBoundStartByMaxDurationButKeepOldSeries() {
+        LocalDateTime from = LocalDateTime.of(2026, 3, 10, 0, 0);
+        LocalDateTime to = from.plusDays(7);
+        LocalDateTime earliest = from.minusDays(ScheduleRequestDto.MAX_DURATION_DAYS);
+        long longest = insert("최대 길이", earliest, from.plusHours(1), null);
+        long series =
+                insert(
+                        "2년 전 시작 매주",
+                        from.minusYears(2),
+                        from.minusYears(2).plusHours(1),
+                        "FREQ=WEEKLY");
+        insert("기간 전 종료", earliest, from, null);
+        ScheduleEntity ended = schedule("끝난 반복");
+        ended.setUserId("range-user");
+        ended.setStartDate(from.minusYears(1));
+        ended.setEndDate(from.minusYears(1).plusHours(1));
+        ended.setRecurrenceRule("FREQ=DAILY");
+        ended.setRecurrenceEnd(from.minusDays(1));
+        scheduleMapper.insertSchedule(ended);
+
+        assertThat(scheduleMapper.selectSchedulesInRange("range-user", from, to))
+                .extracting(ScheduleEntity::getId)
+                .containsExactly(series, longest);
+        assertThat(scheduleMapper.selectSchedulesByUserIdsInRange(List.of("range-user"), from, to))
+                .extracting(ScheduleEntity::getId)
+                .containsExactlyInAnyOrder(series, longest);
+        assertThat(
+                        scheduleMapper.selectSchedules(
+                                ScheduleSearchDto.builder().userId("range-user").build(),
+                                null,
+                                from,
+                                to,
+                                true,
+                                ScheduleSortField.START_DATE,
+                                false,
+                                null,
+                                0,
+                                10))
+                .extracting(ScheduleEntity::getId)
+                .containsExactly(longest);
+    }
+
+    private long insert(String title, LocalDateTime start, LocalDateTime end, String rule) {
+        ScheduleEntity schedule = schedule(title);
+        schedule.setUserId("range-user");
+        schedule.setStartDate(start);
+        schedule.setEndDate(end);
+        schedule.setRecurrenceRule(rule);
+        scheduleMapper.insertSchedule(schedule);
+        return schedule.getId();
+    }
+
+    private long insertDeleted(String title, LocalDateTime deletedAt) {
+        ScheduleEntity schedule = schedule(title);
+        scheduleMapper.insertSchedule(schedule);
+        new JdbcTemplate(dataSource)
+                .update(
+                        "UPDATE schedule SET deleted_at = ? WHERE id = ?",
+                        deletedAt,
+                        schedule.getId());
+        return schedule.getId();
+    }
+
+    private static ScheduleEntity schedule(String title) {
+        LocalDateTime start = LocalDateTime.of(2026, 10, 18, 10, 0);
+        ScheduleEntity schedule =
+                ScheduleEntity.builder()
+                        .userId("user1")
+                        .title(title)
+                        .startDate(start)
+                        .endDate(start.plusHours(1))
+                        .scheduleType(ScheduleType.MEETING)
+                        .build();
+        schedule.setDefaults();
+        schedule.setCreatedInfo("user1");
+        schedule.setCreatedAt(APPLICATION_TIME);
+        return schedule;
+    }
+}
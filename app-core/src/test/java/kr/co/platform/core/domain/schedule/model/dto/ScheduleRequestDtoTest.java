@@ -0,0 +1,60 @@
+package kr.co.platform.core.domain.schedule.model.dto;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import kr.co.platform.core.domain.schedule.model.enums.ScheduleType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link ScheduleRequestDto} 검증 테스트
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+class ScheduleRequestDtoTest {
+
+    private static ValidatorFactory validatorFactory;
+    private static Validator validator;
+
+    @BeforeAll
+    static void setUpValidator() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+    }
+
+    @AfterAll
+    static void closeValidator() {
+        validatorFactory.close();
+    }
+
+    @Test
+    void reminderMinutesUpToMaximumIsValid() {
+        assertThat(validator.validate(request(ScheduleRequestDto.MAX_REMINDER_MINUTES))).isEmpty();
+    }
+
+    @Test
+    void reminderMinutesOverMaximumIsRejected() {
+        assertThat(validator.validate(request(ScheduleRequestDto.MAX_REMINDER_MINUTES + 1)))
+                .extracting(violation -> violation.getPropertyPath().toString())
+                .containsExactly("reminderMinutes");
+    }
+
+    private static ScheduleRequestDto request(int reminderMinutes) {
+        LocalDateTime start = LocalDateTime.of(2026, 10, 18, 10, 0);
+        return ScheduleRequestDto.builder()
+                .title("회의")
+                .startDate(start)
+                .endDate(start.plusHours(1))
+                .scheduleType(ScheduleType.MEETING)
+                .reminderMinutes(reminderMinutes)
+                .build();
+    }
+}
@@ -0,0 +1,170 @@
+package kr.co.platform.core.domain.schedule.partition;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.session.Configuration;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import kr.co.platform.core.domain.schedule.mapper.ScheduleMapper;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleSearchDto;
+import kr.co.platform.core.domain.schedule.model.entity.ScheduleEntity;
+import kr.co.platform.core.domain.schedule.model.enums.ScheduleSortField;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일정 테이블 마이그레이션(V3)과 기간 조회 파티션 정리 테스트 (MariaDB 컨테이너, Docker가 없으면 건너뜀)
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ScheduleTableMigrationTest {
+
+    @Container
+    private static final MariaDBContainer<?> MARIADB = new MariaDBContainer<>("mariadb:10.11");
+
+    private JdbcTemplate jdbcTemplate;
+    private Flyway flyway;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource =
+                new DriverManagerDataSource(
+                        MARIADB.getJdbcUrl(), MARIADB.getUsername(), MARIADB.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        flyway =
+                Flyway.configure()
+                        .dataSource(dataSource)
+                        .locations("classpath:db/migration/core")
+                        .baselineOnMigrate(true)
+                        .cleanDisabled(false)
+                        .load();
+        flyway.clean();
+    }
+
+    @Test
+    void rangeQueryReadsOnlyTheMonthPartition() {
+        flyway.migrate();
+
+        List<Map<String, Object>> plan =
+                jdbcTemplate.queryForList(
+                        "EXPLAIN PARTITIONS SELECT id FROM schedule WHERE user_id = 'user1'"
+                                + " AND start_date >= '2026-03-01' AND start_date < '2026-04-01'");
+
+        assertThat(plan)
+                .singleElement()
+                .extracting(row -> row.get("partitions"))
+                .isEqualTo("p202603");
+    }
+
+    @Test
+    void mapperRangeQueriesReadOnlyTheMonthsSingleSchedulesCanOverlap() {
+        flyway.migrate();
+        LocalDateTime from = LocalDateTime.of(2026, 3, 10, 0, 0);
+        LocalDateTime to = from.plusDays(7);
+        Map<String, Object> params = new HashMap<>();
+        params.put("userId", "user1");
+        params.put("userIds", List.of("user1", "user2"));
+        params.put("from", from);
+        params.put("to", to);
+
+        // 단일 일정 쪽은 시작 하한(기간 시작 - 31일)부터 기간 끝까지의 두 달만, 반복 일정 쪽은 기간 끝 이전 전체를 읽는다
+        for (String statement :
+                new String[] {"selectSchedulesInRange", "selectSchedulesByUserIdsInRange"}) {
+            assertThat(explain(statement, params))
+                    .as(statement)
+                    .extracting(row -> row.get("partitions"))
+                    .startsWith("p202602,p202603", "p_history,p202601,p202602,p202603");
+        }
+
+        params.put("search", ScheduleSearchDto.builder().userId("user1").build());
+        params.put("ids", null);
+        params.put("excludeRecurring", true);
+        params.put("sortField", ScheduleSortField.START_DATE);
+        params.put("descending", false);
+        params.put("cursor", null);
+        params.put("offset", 0);
+        params.put("limit", 20);
+        assertThat(explain("selectSchedules", params))
+                .singleElement()
+                .extracting(row -> row.get("partitions"))
+                .isEqualTo("p202602,p202603");
+    }
+
+    @Test
+    void existingTableIsRebuiltWithRecurrenceColumnsAndRows() {
+        // 파티션 이전 구조 (반복 일정/수정/삭제 컬럼 없음)
+        jdbcTemplate.execute(
+                "CREATE TABLE schedule (id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,"
+                        + " user_id VARCHAR(50) NOT NULL, title VARCHAR(200) NOT NULL,"
+                        + " description VARCHAR(1000), location VARCHAR(200),"
+                        + " start_date DATETIME NOT NULL, end_date DATETIME NOT NULL,"
+                        + " all_day TINYINT(1), schedule_type VARCHAR(30) NOT NULL,"
+                        + " reminder_minutes INT, color VARCHAR(7), is_public TINYINT(1),"
+                        + " created_at DATETIME, created_by VARCHAR(50))");
+        jdbcTemplate.update(
+                "INSERT INTO schedule (id, user_id, title, start_date, end_date, schedule_type)"
+                        + " VALUES (42, 'user1', 'legacy', '2026-03-02 10:00:00',"
+                        + " '2026-03-02 11:00:00', 'MEETING')");
+
+        flyway.migrate();
+
+        assertThat(
+                        jdbcTemplate.queryForList(
+                                "SELECT column_name FROM information_schema.columns"
+                                        + " WHERE table_schema = DATABASE()"
+                                        + " AND table_name = 'schedule'"
+                                        + " AND column_name LIKE 'recurrence%'",
+                                String.class))
+                .containsExactlyInAnyOrder(
+                        "recurrence_rule", "recurrence_exceptions", "recurrence_end");
+        assertThat(
+                        jdbcTemplate.queryForObject(
+                                "SELECT COUNT(*) FROM information_schema.partitions"
+                                        + " WHERE table_schema = DATABASE()"
+                                        + " AND table_name = 'schedule'",
+                                Integer.class))
+                .isGreaterThan(1);
+        assertThat(
+                        jdbcTemplate.queryForObject(
+                                "SELECT title FROM schedule WHERE id = 42", String.class))
+                .isEqualTo("legacy");
+    }
+
+    /** Mapper XML이 만드는 SQL 그대로 EXPLAIN PARTITIONS 실행 */
+    private List<Map<String, Object>> explain(String statement, Map<String, Object> params) {
+        Configuration configuration = new Configuration();
+        configuration.setMapUnderscoreToCamelCase(true);
+        configuration.getTypeAliasRegistry().registerAlias(ScheduleEntity.class);
+        configuration.addMapper(ScheduleMapper.class);
+        BoundSql sql =
+                configuration
+                        .getMappedStatement(ScheduleMapper.class.getName() + "." + statement)
+                        .getBoundSql(params);
+        MetaObject values = configuration.newMetaObject(params);
+        Object[] args =
+                sql.getParameterMappings().stream()
+                        .map(ParameterMapping::getProperty)
+                        .map(
+                                property ->
+                                        sql.hasAdditionalParameter(property)
+                                                ? sql.getAdditionalParameter(property)
+                                                : values.getValue(property))
+                        .toArray();
+        return jdbcTemplate.queryForList("EXPLAIN PARTITIONS " + sql.getSql(), args);
+    }
+}
@@ -0,0 +1,271 @@
+package kr.co.platform.core.domain.schedule.recurrence;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import kr.co.platform.core.domain.schedule.model.entity.ScheduleEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link RecurrenceIterator} 테스트
+ *
+ * <p>epoch 초 연산으로 구한 발생을 {@link LocalDateTime}을 한 주기씩 진행해 구한 발생과 비교한다. 시작 일시(31일, 2월 29일, 1970년 이전,
+ * 자정을 넘는 일정)와 규칙(INTERVAL, COUNT, UNTIL, BYDAY), 조회 구간(시작 직후, 몇 년 뒤)을 조합한다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+class RecurrenceIteratorTest {
+
+    private static final List<LocalDateTime> STARTS =
+            List.of(
+                    LocalDateTime.of(2024, 1, 31, 10, 0),
+                    LocalDateTime.of(2024, 2, 29, 9, 30),
+                    LocalDateTime.of(2026, 10, 14, 23, 0),
+                    LocalDateTime.of(2026, 10, 18, 0, 0),
+                    LocalDateTime.of(1969, 12, 30, 8, 0));
+
+    private static final List<String> RULES =
+            List.of(
+                    "FREQ=DAILY",
+                    "FREQ=DAILY;INTERVAL=3",
+                    "FREQ=DAILY;COUNT=5",
+                    "FREQ=DAILY;INTERVAL=2;UNTIL=20310101T000000",
+                    "FREQ=WEEKLY",
+                    "FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,WE,FR",
+                    "FREQ=WEEKLY;BYDAY=SU,MO;COUNT=7",
+                    "FREQ=WEEKLY;INTERVAL=3;BYDAY=TU;COUNT=4",
+                    "FREQ=WEEKLY;BYDAY=MO,TU,WE,TH,FR,SA,SU;UNTIL=20270301T000000",
+                    "FREQ=MONTHLY",
+                    "FREQ=MONTHLY;INTERVAL=5",
+                    "FREQ=MONTHLY;COUNT=6",
+                    "FREQ=MONTHLY;INTERVAL=7;COUNT=20",
+                    "FREQ=MONTHLY;UNTIL=20280101T000000");
+
+    /** 일정 길이 (자정을 넘는 발생 포함) */
+    private static final List<Duration> DURATIONS = List.of(Duration.ofHours(2), Duration.ZERO);
+
+    @Test
+    void matchesLocalDateTimeStepping() {
+        for (LocalDateTime start : STARTS) {
+            for (String text : RULES) {
+                RecurrenceRule rule = RecurrenceRule.parse(text);
+                for (Duration duration : DURATIONS) {
+                    for (LocalDateTime[] window : windows(start)) {
+                        assertThat(iterate(rule, start, duration, new long[0], window))
+                                .as("%s from %s, window %s ~ %s", text, start, window[0], window[1])
+                                .containsExactlyElementsOf(
+                                        expected(rule, start, duration, List.of(), window));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void exceptionsAreSkippedButCountedTowardCount() {
+        LocalDateTime start = LocalDateTime.of(2026, 10, 19, 9, 0);
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=MO,TH;COUNT=5");
+        List<LocalDateTime> exceptions = List.of(start.plusDays(3), start.plusDays(14));
+        LocalDateTime[] window = {start.minusDays(1), start.plusYears(1)};
+
+        List<LocalDateTime> occurrences =
+                iterate(rule, start, Duration.ofHours(1), epochs(exceptions), window);
+
+        // 10/19, (10/22 제외), 10/26, 10/29, (11/2 제외) 다섯 번에서 끝난다
+        assertThat(occurrences)
+                .containsExactly(start, start.plusDays(7), start.plusDays(10))
+                .containsExactlyElementsOf(
+                        expected(rule, start, Duration.ofHours(1), exceptions, window));
+    }
+
+    @Test
+    void monthlyCountSkipsShortMonths() {
+        LocalDateTime start = LocalDateTime.of(2025, 1, 31, 10, 0);
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=MONTHLY;COUNT=4");
+
+        // 창이 시작 뒤에 있어도 건너뛴 달 중 유효한 달만 COUNT에 센다
+        assertThat(
+                        iterate(
+                                rule,
+                                start,
+                                Duration.ofHours(1),
+                                new long[0],
+                                new LocalDateTime[] {start.plusMonths(3), start.plusYears(2)}))
+                .containsExactly(
+                        LocalDateTime.of(2025, 5, 31, 10, 0), LocalDateTime.of(2025, 7, 31, 10, 0));
+    }
+
+    @Test
+    void leapDayRepeatsOnlyInLeapYears() {
+        LocalDateTime start = LocalDateTime.of(2024, 2, 29, 9, 0);
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=MONTHLY;INTERVAL=12");
+
+        assertThat(
+                        iterate(
+                                rule,
+                                start,
+                                Duration.ofHours(1),
+                                new long[0],
+                                new LocalDateTime[] {start.plusDays(1), start.plusYears(9)}))
+                .containsExactly(
+                        LocalDateTime.of(2028, 2, 29, 9, 0), LocalDateTime.of(2032, 2, 29, 9, 0));
+    }
+
+    @Test
+    void occurrenceStartedBeforeWindowIsIncluded() {
+        LocalDateTime start = LocalDateTime.of(2026, 10, 18, 23, 0);
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=DAILY");
+        LocalDateTime from = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+        assertThat(
+                        iterate(
+                                rule,
+                                start,
+                                Duration.ofHours(2),
+                                new long[0],
+                                new LocalDateTime[] {from, from.plusHours(1)}))
+                .containsExactly(from.minusHours(1));
+    }
+
+    @Test
+    void seriesEndUsesLastCountedOccurrenceOrUntil() {
+        ScheduleEntity monthly =
+                ScheduleEntity.builder()
+                        .startDate(LocalDateTime.of(2025, 1, 31, 10, 0))
+                        .endDate(LocalDateTime.of(2025, 1, 31, 11, 0))
+                        .recurrenceRule("FREQ=MONTHLY;COUNT=3")
+                        .build();
+        assertThat(RecurrenceExpander.seriesEnd(monthly))
+                .isEqualTo(LocalDateTime.of(2025, 5, 31, 11, 0));
+
+        monthly.setRecurrenceRule("FREQ=DAILY;UNTIL=20250210T000000");
+        assertThat(RecurrenceExpander.seriesEnd(monthly))
+                .isEqualTo(LocalDateTime.of(2025, 2, 10, 1, 0));
+
+        monthly.setRecurrenceRule("FREQ=WEEKLY");
+        assertThat(RecurrenceExpander.seriesEnd(monthly)).isNull();
+    }
+
+    /** 시작 직전부터, 1년 뒤 100일, 7년 뒤 60일 */
+    private static List<LocalDateTime[]> windows(LocalDateTime start) {
+        return List.of(
+                new LocalDateTime[] {start.minusDays(1), start.plusDays(40)},
+                new LocalDateTime[] {
+                    start.plusYears(1).plusDays(3), start.plusYears(1).plusDays(103)
+                },
+                new LocalDateTime[] {start.plusYears(7), start.plusYears(7).plusDays(60)},
+                new LocalDateTime[] {start.plusHours(1), start.plusHours(3)});
+    }
+
+    private static List<LocalDateTime> iterate(
+            RecurrenceRule rule,
+            LocalDateTime start,
+            Duration duration,
+            long[] exceptions,
+            LocalDateTime[] window) {
+        RecurrenceIterator iterator =
+                new RecurrenceIterator(
+                        rule,
+                        RecurrenceExpander.toEpoch(start),
+                        duration.getSeconds(),
+                        exceptions,
+                        RecurrenceExpander.toEpoch(window[0]),
+                        RecurrenceExpander.toEpoch(window[1]));
+        List<LocalDateTime> occurrences = new ArrayList<>();
+        while (iterator.next()) {
+            occurrences.add(RecurrenceExpander.toDateTime(iterator.start()));
+        }
+        return occurrences;
+    }
+
+    /** 첫 발생부터 한 주기씩 진행하며 조회 구간과 겹치는 발생을 구한다 */
+    private static List<LocalDateTime> expected(
+            RecurrenceRule rule,
+            LocalDateTime start,
+            Duration duration,
+            List<LocalDateTime> exceptions,
+            LocalDateTime[] window) {
+        Duration length = duration.isZero() ? Duration.ofSeconds(1) : duration;
+        List<LocalDateTime> occurrences = new ArrayList<>();
+        long counted = 0;
+        for (LocalDateTime candidate : candidates(rule, start, window[1])) {
+            if (rule.getCount() > 0 && counted >= rule.getCount()) {
+                break;
+            }
+            if (rule.getUntil() != null && candidate.isAfter(rule.getUntil())) {
+                break;
+            }
+            counted++;
+            if (candidate.plus(length).isAfter(window[0])
+                    && candidate.isBefore(window[1])
+                    && !exceptions.contains(candidate)) {
+                occurrences.add(candidate);
+            }
+        }
+        return occurrences;
+    }
+
+    /** 조회 종료 전까지의 모든 후보 발생 (COUNT, UNTIL 적용 전) */
+    private static List<LocalDateTime> candidates(
+            RecurrenceRule rule, LocalDateTime start, LocalDateTime to) {
+        List<LocalDateTime> candidates = new ArrayList<>();
+        switch (rule.getFrequency()) {
+            case DAILY -> {
+                for (LocalDateTime next = start;
+                        next.isBefore(to);
+                        next = next.plusDays(rule.getInterval())) {
+                    candidates.add(next);
+                }
+            }
+            case WEEKLY -> {
+                LocalDate monday =
+                        start.toLocalDate()
+                                .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                int mask =
+                        rule.getByDayMask() != 0
+                                ? rule.getByDayMask()
+                                : 1 << (start.getDayOfWeek().getValue() - 1);
+                for (LocalDate week = monday;
+                        week.atTime(start.toLocalTime()).isBefore(to);
+                        week = week.plusWeeks(rule.getInterval())) {
+                    for (int day = 0; day < 7; day++) {
+                        LocalDateTime next = week.plusDays(day).atTime(start.toLocalTime());
+                        if ((mask & (1 << day)) != 0
+                                && !next.isBefore(start)
+                                && next.isBefore(to)) {
+                            candidates.add(next);
+                        }
+                    }
+                }
+            }
+            case MONTHLY -> {
+                for (YearMonth month = YearMonth.from(start);
+                        month.atDay(1).atStartOfDay().isBefore(to);
+                        month = month.plusMonths(rule.getInterval())) {
+                    if (month.isValidDay(start.getDayOfMonth())) {
+                        LocalDateTime next =
+                                month.atDay(start.getDayOfMonth()).atTime(start.toLocalTime());
+                        if (next.isBefore(to)) {
+                            candidates.add(next);
+                        }
+                    }
+                }
+            }
+        }
+        return candidates;
+    }
+
+    private static long[] epochs(List<LocalDateTime> dateTimes) {
+        return dateTimes.stream().mapToLong(RecurrenceExpander::toEpoch).sorted().toArray();
+    }
+}
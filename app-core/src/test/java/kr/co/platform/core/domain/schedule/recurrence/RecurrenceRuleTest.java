@@ -0,0 +1,57 @@
+package kr.co.platform.core.domain.schedule.recurrence;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import kr.co.platform.core.domain.schedule.model.enums.RecurrenceFrequency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link RecurrenceRule} 파싱 테스트
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+class RecurrenceRuleTest {
+
+    @Test
+    void parsesSupportedParts() {
+        RecurrenceRule rule =
+                RecurrenceRule.parse("rrule:freq=weekly;interval=2;byday=mo,fr;count=10;");
+
+        assertThat(rule.getFrequency()).isEqualTo(RecurrenceFrequency.WEEKLY);
+        assertThat(rule.getInterval()).isEqualTo(2);
+        assertThat(rule.getCount()).isEqualTo(10);
+        assertThat(rule.getUntil()).isNull();
+        // bit0=월요일, bit4=금요일
+        assertThat(rule.getByDayMask()).isEqualTo(0b1_0001);
+
+        assertThat(RecurrenceRule.parse("FREQ=MONTHLY;UNTIL=20271231T235959").getUntil())
+                .isEqualTo(LocalDateTime.of(2027, 12, 31, 23, 59, 59));
+    }
+
+    @Test
+    void rejectsInvalidRules() {
+        for (String rule :
+                new String[] {
+                    "",
+                    "INTERVAL=2",
+                    "FREQ=HOURLY",
+                    "FREQ=DAILY;COUNT=0",
+                    "FREQ=DAILY;INTERVAL=abc",
+                    "FREQ=DAILY;COUNT=3;UNTIL=20271231T000000",
+                    "FREQ=DAILY;BYDAY=MO",
+                    "FREQ=WEEKLY;BYDAY=XX",
+                    "FREQ=DAILY;UNTIL=2027-12-31",
+                    "FREQ=DAILY;BYMONTH=1",
+                    "FREQ"
+                }) {
+            assertThatThrownBy(() -> RecurrenceRule.parse(rule))
+                    .as(rule)
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
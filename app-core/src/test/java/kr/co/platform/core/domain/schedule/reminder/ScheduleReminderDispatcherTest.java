@@ -0,0 +1,147 @@
+package kr.co.platform.core.domain.schedule.reminder;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.co.platform.core.domain.schedule.config.ScheduleProperties;
+import kr.co.platform.core.domain.schedule.event.ScheduleChangedEvent;
+import kr.co.platform.core.domain.schedule.mapper.ScheduleMapper;
+import kr.co.platform.core.domain.schedule.model.entity.ScheduleEntity;
+import kr.co.platform.core.domain.schedule.model.enums.ScheduleType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * {@link ScheduleReminderDispatcher} 테스트
+ *
+ * <p>시스템 기본 시간대와 다른 시간대를 설정해 알림 시각이 설정 시간대 기준으로 계산되는지 확인한다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@MybatisTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ScheduleReminderDispatcherTest {
+
+    /** 시스템 기본 시간대(UTC 등)와 겹치지 않는 시간대 (UTC+14) */
+    private static final ZoneId ZONE = ZoneId.of("Pacific/Kiritimati");
+
+    @Autowired private ScheduleMapper scheduleMapper;
+    @Autowired private DataSource dataSource;
+
+    private final List<ScheduleReminder> dispatched = new CopyOnWriteArrayList<>();
+    private ScheduleMapper countingMapper;
+    private ScheduleReminderDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        new JdbcTemplate(dataSource).update("DELETE FROM schedule");
+        countingMapper = mock(ScheduleMapper.class, AdditionalAnswers.delegatesTo(scheduleMapper));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.stop();
+        }
+    }
+
+    @Test
+    void recurringSeriesAreNotReadOnEveryLoad() {
+        scheduleMapper.insertSchedule(recurring("매일 회의", LocalDateTime.now(ZONE).plusDays(1)));
+        dispatcher = start(Duration.ofMinutes(10));
+
+        verify(countingMapper, timeout(5_000).atLeast(5))
+                .selectUpcomingReminders(any(), any(), any(), any(), any(), anyInt());
+        verify(countingMapper, times(1)).selectRecurringReminders(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void recurringSeriesCreatedAfterRefreshIsDispatchedInConfiguredZone()
+            throws InterruptedException {
+        dispatcher = start(Duration.ofSeconds(1));
+        // 첫 적재 구간(1초)보다 뒤의 발생이므로 보관 중인 반복 일정 목록에서 적재되어야 한다
+        ScheduleEntity schedule = recurring("매일 회의", LocalDateTime.now(ZONE).plusSeconds(3));
+        scheduleMapper.insertSchedule(schedule);
+        dispatcher.onScheduleChanged(ScheduleChangedEvent.created(schedule));
+
+        Thread.sleep(5_000);
+
+        assertThat(dispatched)
+                .extracting(ScheduleReminder::getScheduleId)
+                .containsExactly(schedule.getId());
+        verify(countingMapper, times(1)).selectRecurringReminders(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void deletedRecurringSeriesIsNotLoadedAgain() throws InterruptedException {
+        ScheduleEntity schedule = recurring("매일 회의", LocalDateTime.now(ZONE).plusSeconds(3));
+        scheduleMapper.insertSchedule(schedule);
+        dispatcher = start(Duration.ofSeconds(1));
+        verify(countingMapper, timeout(1_000))
+                .selectRecurringReminders(any(), any(), any(), anyInt());
+
+        schedule.delete("user1");
+        dispatcher.onScheduleChanged(ScheduleChangedEvent.deleted(schedule));
+        Thread.sleep(5_000);
+
+        assertThat(dispatched).isEmpty();
+    }
+
+    private ScheduleReminderDispatcher start(Duration loadWindow) {
+        ScheduleProperties properties = new ScheduleProperties();
+        ScheduleProperties.Reminder reminder = properties.getReminder();
+        reminder.setEnabled(true);
+        reminder.setTick(Duration.ofMillis(100));
+        reminder.setLoadWindow(loadWindow);
+        reminder.setLoadInterval(Duration.ofMillis(100));
+        reminder.setZoneId(ZONE.getId());
+        ScheduleReminderDispatcher started =
+                new ScheduleReminderDispatcher(
+                        properties, countingMapper, dispatched::add, new SimpleMeterRegistry());
+        started.start();
+        return started;
+    }
+
+    private static ScheduleEntity recurring(String title, LocalDateTime start) {
+        LocalDateTime startDate = start.withNano(0);
+        ScheduleEntity schedule =
+                ScheduleEntity.builder()
+                        .userId("user1")
+                        .title(title)
+                        .startDate(startDate)
+                        .endDate(startDate.plusHours(1))
+                        .scheduleType(ScheduleType.MEETING)
+                        .reminderMinutes(0)
+                        .recurrenceRule("FREQ=DAILY")
+                        .build();
+        schedule.setDefaults();
+        schedule.setCreatedInfo("user1");
+        return schedule;
+    }
+}
@@ -0,0 +1,163 @@
+package kr.co.platform.core.domain.schedule.service.impl;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import kr.co.platform.core.CoreApplication;
+import kr.co.platform.core.common.exception.BusinessException;
+import kr.co.platform.core.common.exception.ErrorCode;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleRequestDto;
+import kr.co.platform.core.domain.schedule.model.entity.ScheduleEntity;
+import kr.co.platform.core.domain.schedule.model.enums.ScheduleType;
+import kr.co.platform.core.domain.schedule.service.ScheduleConflictService;
+import kr.co.platform.core.domain.schedule.service.ScheduleService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link ScheduleConflictServiceImpl} 테스트
+ *
+ * <p>저장할 반복 일정의 첫 발생이 아니라 뒤의 발생만 기존 일정과 겹치는 경우를 일정 생성/수정으로 확인한다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@SpringBootTest(
+        classes = CoreApplication.class,
+        properties = "schedule.conflict.reject-on-save=true")
+@ActiveProfiles("test")
+class ScheduleConflictServiceImplTest {
+
+    @Autowired private ScheduleService scheduleService;
+    @Autowired private ScheduleConflictService scheduleConflictService;
+
+    private final LocalDateTime today = LocalDate.now(ZoneId.of("Asia/Seoul")).atStartOfDay();
+
+    @Test
+    void laterOccurrenceOfRecurringCandidateConflicts() {
+        String userId = "conflict-later";
+        scheduleService.createSchedule(userId, request(today.plusDays(15).plusHours(10), null));
+
+        // 첫 발생(다음 날)은 비어 있고 세 번째 발생이 기존 일정과 겹친다
+        assertConflict(
+                () ->
+                        scheduleService.createSchedule(
+                                userId, request(today.plusDays(1).plusHours(10), "FREQ=WEEKLY")));
+        assertConflict(
+                () ->
+                        scheduleService.createSchedule(
+                                userId,
+                                request(
+                                        today.plusDays(1).plusHours(10),
+                                        "FREQ=DAILY;INTERVAL=2;COUNT=10")));
+
+        // 겹치는 발생이 반복 종료 뒤이거나 제외 일시이면 충돌이 아니다
+        assertThatCode(
+                        () ->
+                                scheduleService.createSchedule(
+                                        userId,
+                                        request(
+                                                today.plusDays(1).plusHours(10),
+                                                "FREQ=WEEKLY;COUNT=2")))
+                .doesNotThrowAnyException();
+        ScheduleRequestDto excepted = request(today.plusDays(15).plusHours(10), "FREQ=WEEKLY");
+        excepted.setRecurrenceExceptions(List.of(today.plusDays(15).plusHours(10)));
+        assertThatCode(() -> scheduleService.createSchedule(userId, excepted))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void updatingToRecurringChecksEveryOccurrenceExceptItself() {
+        String userId = "conflict-update";
+        Long id =
+                scheduleService
+                        .createSchedule(userId, request(today.plusDays(1).plusHours(9), null))
+                        .getId();
+        scheduleService.createSchedule(userId, request(today.plusDays(22).plusHours(9), null));
+
+        assertConflict(
+                () ->
+                        scheduleService.updateSchedule(
+                                userId,
+                                id,
+                                request(today.plusDays(1).plusHours(9), "FREQ=WEEKLY")));
+        assertThatCode(
+                        () ->
+                                scheduleService.updateSchedule(
+                                        userId,
+                                        id,
+                                        request(
+                                                today.plusDays(1).plusHours(9),
+                                                "FREQ=DAILY;COUNT=7")))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void participantScheduleOnLaterOccurrenceConflicts() {
+        scheduleService.createSchedule(
+                "conflict-participant", request(today.plusDays(30).plusHours(14), null));
+
+        ScheduleRequestDto daily = request(today.plusDays(2).plusHours(14), "FREQ=DAILY");
+        daily.setParticipantUserIds(new String[] {"conflict-participant"});
+
+        assertConflict(() -> scheduleService.createSchedule("conflict-owner", daily));
+    }
+
+    @Test
+    void overlapsComparesOccurrencesOfBothSchedules() {
+        ScheduleEntity weekly = entity(today.plusDays(1).plusHours(10), "FREQ=WEEKLY");
+
+        assertThat(
+                        scheduleConflictService.overlaps(
+                                weekly, entity(today.plusDays(29).plusHours(10), "FREQ=MONTHLY")))
+                .isTrue();
+        assertThat(
+                        scheduleConflictService.overlaps(
+                                weekly, entity(today.plusDays(8).plusHours(10), null)))
+                .isTrue();
+        assertThat(
+                        scheduleConflictService.overlaps(
+                                weekly, entity(today.plusDays(2).plusHours(10), "FREQ=WEEKLY")))
+                .isFalse();
+        assertThat(
+                        scheduleConflictService.overlaps(
+                                weekly, entity(today.plusDays(8).plusHours(11), "FREQ=DAILY")))
+                .isFalse();
+    }
+
+    private static void assertConflict(Runnable save) {
+        assertThatThrownBy(save::run)
+                .isInstanceOfSatisfying(
+                        BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.SCHEDULE_CONFLICT));
+    }
+
+    /** 한 시간짜리 회의 등록 요청 */
+    private static ScheduleRequestDto request(LocalDateTime start, String recurrenceRule) {
+        return ScheduleRequestDto.builder()
+                .title("회의")
+                .startDate(start)
+                .endDate(start.plusHours(1))
+                .scheduleType(ScheduleType.MEETING)
+                .recurrenceRule(recurrenceRule)
+                .build();
+    }
+
+    private static ScheduleEntity entity(LocalDateTime start, String recurrenceRule) {
+        return ScheduleEntity.builder()
+                .userId("conflict-pending")
+                .startDate(start)
+                .endDate(start.plusHours(1))
+                .recurrenceRule(recurrenceRule)
+                .build();
+    }
+}
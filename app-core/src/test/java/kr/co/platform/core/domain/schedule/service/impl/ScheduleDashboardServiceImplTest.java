@@ -0,0 +1,225 @@
+package kr.co.platform.core.domain.schedule.service.impl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.co.platform.core.domain.schedule.cache.ScheduleVersionRegistry;
+import kr.co.platform.core.domain.schedule.cache.TodayScheduleCache;
+import kr.co.platform.core.domain.schedule.config.ScheduleProperties;
+import kr.co.platform.core.domain.schedule.index.ScheduleIntervalIndex;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleDashboardReminderDto;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleDashboardResponseDto;
+import kr.co.platform.core.domain.schedule.model.entity.ScheduleEntity;
+import kr.co.platform.core.domain.schedule.model.enums.ScheduleType;
+import kr.co.platform.core.domain.schedule.service.ScheduleService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * {@link ScheduleDashboardServiceImpl} 테스트
+ *
+ * <p>항목이 동시에 실행되는지, 제한 시간을 넘기거나 실행기에서 거절된 항목이 생략되는지, 알림 항목이 설정 시간대 기준으로 계산되는지 확인한다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+class ScheduleDashboardServiceImplTest {
+
+    /** 시스템 기본 시간대(UTC 등)와 겹치지 않는 시간대 (UTC+14) */
+    private static final ZoneId ZONE = ZoneId.of("Pacific/Kiritimati");
+
+    private static final String USER_ID = "user1";
+
+    private final ScheduleService scheduleService = mock(ScheduleService.class);
+    private final ScheduleIntervalIndex scheduleIntervalIndex = mock(ScheduleIntervalIndex.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ScheduleProperties scheduleProperties = new ScheduleProperties();
+    private ThreadPoolTaskExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void partsRunConcurrently() {
+        // 네 항목이 모두 동시에 실행 중이어야 대기가 풀린다 (순차 실행이면 모두 제한 시간 초과)
+        CountDownLatch running = new CountDownLatch(4);
+        when(scheduleService.getTodaySchedules(USER_ID))
+                .thenAnswer(
+                        invocation -> {
+                            arrive(running);
+                            return List.of();
+                        });
+        when(scheduleService.getSchedulesInRange(anyString(), any()))
+                .thenAnswer(
+                        invocation -> {
+                            arrive(running);
+                            return List.of();
+                        });
+        doAnswer(
+                        invocation -> {
+                            arrive(running);
+                            return null;
+                        })
+                .when(scheduleIntervalIndex)
+                .forEachOverlapping(anyString(), any(), any(), any());
+        scheduleProperties.getDashboard().setTimeout(Duration.ofSeconds(5));
+
+        ScheduleDashboardResponseDto response = service(4, 16).getDashboard(USER_ID);
+
+        assertThat(response.getUnavailableParts()).isEmpty();
+        assertThat(response.getToday()).isEmpty();
+        assertThat(response.getUpcoming()).isEmpty();
+        assertThat(response.getReminders()).isEmpty();
+        assertThat(response.getTypeCounts()).hasSize(ScheduleType.values().length);
+    }
+
+    @Test
+    void slowPartIsCancelledAndOmitted() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(scheduleService.getTodaySchedules(USER_ID)).thenReturn(List.of());
+        when(scheduleService.getSchedulesInRange(anyString(), any()))
+                .thenAnswer(
+                        invocation -> {
+                            try {
+                                new CountDownLatch(1).await();
+                            } catch (InterruptedException e) {
+                                interrupted.countDown();
+                            }
+                            return List.of();
+                        });
+        scheduleProperties.getDashboard().setTimeout(Duration.ofSeconds(5));
+        scheduleProperties
+                .getDashboard()
+                .getPartTimeouts()
+                .put(ScheduleDashboardResponseDto.PART_UPCOMING, Duration.ofMillis(100));
+
+        ScheduleDashboardResponseDto response = service(4, 16).getDashboard(USER_ID);
+
+        assertThat(response.getUnavailableParts())
+                .containsExactly(ScheduleDashboardResponseDto.PART_UPCOMING);
+        assertThat(response.getUpcoming()).isNull();
+        assertThat(response.getToday()).isEmpty();
+        assertThat(response.getReminders()).isEmpty();
+        assertThat(response.getTypeCounts()).isNotNull();
+        // 제한 시간이 지난 항목은 인터럽트로 취소된다
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(partCount(ScheduleDashboardResponseDto.PART_UPCOMING, "timeout")).isEqualTo(1);
+        assertThat(partCount(ScheduleDashboardResponseDto.PART_TODAY, "success")).isEqualTo(1);
+    }
+
+    @Test
+    void rejectedPartsAreOmitted() {
+        // 스레드 하나, 대기열 없음: 첫 항목이 실행 중인 동안 나머지는 거절된다
+        CountDownLatch release = new CountDownLatch(1);
+        when(scheduleService.getTodaySchedules(USER_ID))
+                .thenAnswer(
+                        invocation -> {
+                            release.await(300, TimeUnit.MILLISECONDS);
+                            return List.of();
+                        });
+        scheduleProperties.getDashboard().setTimeout(Duration.ofSeconds(5));
+
+        ScheduleDashboardResponseDto response = service(1, 0).getDashboard(USER_ID);
+
+        assertThat(response.getToday()).isEmpty();
+        assertThat(response.getUnavailableParts())
+                .containsExactly(
+                        ScheduleDashboardResponseDto.PART_UPCOMING,
+                        ScheduleDashboardResponseDto.PART_REMINDERS,
+                        ScheduleDashboardResponseDto.PART_TYPE_COUNTS);
+        assertThat(partCount(ScheduleDashboardResponseDto.PART_UPCOMING, "rejected")).isEqualTo(1);
+    }
+
+    @Test
+    void remindersUseConfiguredZone() {
+        LocalDateTime now = LocalDateTime.now(ZONE);
+        ScheduleEntity upcoming = schedule(1L, now.plusMinutes(30), 10);
+        // 설정 시간대로는 이미 시작했지만 UTC 기준으로는 아직 시작 전인 일정
+        ScheduleEntity started = schedule(2L, now.minusHours(1), 10);
+        doAnswer(
+                        invocation -> {
+                            Consumer<ScheduleEntity> consumer = invocation.getArgument(3);
+                            consumer.accept(started);
+                            consumer.accept(upcoming);
+                            return null;
+                        })
+                .when(scheduleIntervalIndex)
+                .forEachOverlapping(anyString(), any(), any(), any());
+        when(scheduleService.getTodaySchedules(USER_ID)).thenReturn(List.of());
+        when(scheduleService.getSchedulesInRange(anyString(), any())).thenReturn(List.of());
+        scheduleProperties.getDashboard().setTimeout(Duration.ofSeconds(5));
+
+        ScheduleDashboardResponseDto response = service(4, 16).getDashboard(USER_ID);
+
+        assertThat(response.getReminders())
+                .extracting(ScheduleDashboardReminderDto::getScheduleId)
+                .containsExactly(1L);
+        assertThat(response.getReminders().get(0).getRemindAt())
+                .isEqualTo(upcoming.getStartDate().minusMinutes(10));
+    }
+
+    private ScheduleDashboardServiceImpl service(int threads, int queueCapacity) {
+        scheduleProperties.getDashboard().setZoneId(ZONE.getId());
+        scheduleProperties.getTodayCache().setZoneId(ZONE.getId());
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.initialize();
+        return new ScheduleDashboardServiceImpl(
+                scheduleService,
+                scheduleIntervalIndex,
+                new TodayScheduleCache(
+                        mock(ScheduleVersionRegistry.class), scheduleProperties, meterRegistry),
+                executor,
+                scheduleProperties,
+                meterRegistry);
+    }
+
+    private long partCount(String part, String outcome) {
+        return meterRegistry
+                .get("schedule.dashboard.part")
+                .tag("part", part)
+                .tag("outcome", outcome)
+                .timer()
+                .count();
+    }
+
+    private static void arrive(CountDownLatch running) throws InterruptedException {
+        running.countDown();
+        if (!running.await(5, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("parts did not run concurrently");
+        }
+    }
+
+    private static ScheduleEntity schedule(Long id, LocalDateTime startDate, int reminderMinutes) {
+        return ScheduleEntity.builder()
+                .id(id)
+                .userId(USER_ID)
+                .title("회의 " + id)
+                .startDate(startDate)
+                .endDate(startDate.plusHours(1))
+                .scheduleType(ScheduleType.MEETING)
+                .reminderMinutes(reminderMinutes)
+                .build();
+    }
+}
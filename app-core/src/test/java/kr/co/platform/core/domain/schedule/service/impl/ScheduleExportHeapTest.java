@@ -0,0 +1,88 @@
+package kr.co.platform.core.domain.schedule.service.impl;
+
+import java.io.OutputStream;
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import kr.co.platform.core.domain.schedule.config.ScheduleProperties;
+import kr.co.platform.core.domain.schedule.mapper.ScheduleMapper;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleSearchDto;
+import kr.co.platform.core.domain.schedule.model.enums.ScheduleExportFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대용량 일정 내보내기 힙 테스트 (smallHeapTest 작업이 작은 힙의 별도 JVM에서 실행)
+ *
+ * <p>100만 행을 힙보다 큰 CSV로 내보내도 메모리 부족 없이 끝나는지 확인한다. 데이터는 파일 DB에 한 번만 만들어 재사용한다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Tag("small-heap")
+@MybatisTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(
+        properties =
+                "spring.datasource.url=jdbc:h2:file:./build/export-heap/schedule;MODE=MariaDB;"
+                        + "CACHE_SIZE=4096;LAZY_QUERY_EXECUTION=TRUE")
+class ScheduleExportHeapTest {
+
+    private static final int ROWS = 1_000_000;
+    private static final int SEED_CHUNK = 100_000;
+
+    @Autowired private ScheduleMapper scheduleMapper;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private DataSource dataSource;
+
+    @Test
+    void exportsMillionRowsWithinSmallHeap() throws Exception {
+        seed();
+        ScheduleExportServiceImpl service =
+                new ScheduleExportServiceImpl(
+                        scheduleMapper, transactionManager, new ScheduleProperties());
+        ScheduleSearchDto search = new ScheduleSearchDto();
+        service.prepare("heap-user", search);
+
+        long written =
+                service.export(search, ScheduleExportFormat.CSV, OutputStream.nullOutputStream());
+
+        assertThat(written).isEqualTo(ROWS);
+    }
+
+    private void seed() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        Integer count =
+                jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM schedule WHERE user_id = 'heap-user'", Integer.class);
+        if (count != null && count == ROWS) {
+            return;
+        }
+        jdbcTemplate.update("DELETE FROM schedule WHERE user_id = 'heap-user'");
+        for (int from = 1; from <= ROWS; from += SEED_CHUNK) {
+            jdbcTemplate.update(
+                    "INSERT INTO schedule (user_id, title, description, location, start_date,"
+                            + " end_date, all_day, schedule_type, is_public)"
+                            + " SELECT 'heap-user', CONCAT('주간 회의 ', X),"
+                            + " REPEAT('설명', 50), '본사 3층 회의실',"
+                            + " DATEADD('MINUTE', X, TIMESTAMP '2026-01-01 09:00:00'),"
+                            + " DATEADD('MINUTE', X + 30, TIMESTAMP '2026-01-01 09:00:00'),"
+                            + " FALSE, 'MEETING', TRUE FROM SYSTEM_RANGE(?, ?)",
+                    from,
+                    from + SEED_CHUNK - 1);
+        }
+    }
+}
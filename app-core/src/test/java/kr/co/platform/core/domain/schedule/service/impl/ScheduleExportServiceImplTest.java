@@ -0,0 +1,64 @@
+package kr.co.platform.core.domain.schedule.service.impl;
+
+import java.io.OutputStream;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import kr.co.platform.core.common.exception.BusinessException;
+import kr.co.platform.core.common.exception.ErrorCode;
+import kr.co.platform.core.domain.schedule.config.ScheduleProperties;
+import kr.co.platform.core.domain.schedule.mapper.ScheduleMapper;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleSearchDto;
+import kr.co.platform.core.domain.schedule.model.enums.ScheduleExportFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link ScheduleExportServiceImpl} 테스트
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@MybatisTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ScheduleExportServiceImplTest {
+
+    @Autowired private ScheduleMapper scheduleMapper;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    @Test
+    void rejectsExportsBeyondMaxConcurrentUntilOneFinishes() throws Exception {
+        ScheduleProperties properties = new ScheduleProperties();
+        properties.getExport().setMaxConcurrent(1);
+        properties.getExport().setAcquireTimeout(Duration.ZERO);
+        ScheduleExportServiceImpl service =
+                new ScheduleExportServiceImpl(scheduleMapper, transactionManager, properties);
+
+        ScheduleSearchDto running = new ScheduleSearchDto();
+        service.prepare("user1", running);
+
+        assertThatThrownBy(() -> service.prepare("user2", new ScheduleSearchDto()))
+                .isInstanceOfSatisfying(
+                        BusinessException.class,
+                        e ->
+                                assertThat(e.getErrorCode())
+                                        .isEqualTo(ErrorCode.SCHEDULE_EXPORT_BUSY));
+
+        service.export(running, ScheduleExportFormat.CSV, OutputStream.nullOutputStream());
+
+        assertThatCode(() -> service.prepare("user2", new ScheduleSearchDto()))
+                .doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,170 @@
+package kr.co.platform.core.domain.schedule.service.impl;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import kr.co.platform.core.CoreApplication;
+import kr.co.platform.core.common.exception.ErrorCode;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleImportResponseDto;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleImportRowResultDto;
+import kr.co.platform.core.domain.schedule.service.ScheduleImportService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link ScheduleImportServiceImpl} 테스트
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@SpringBootTest(
+        classes = CoreApplication.class,
+        properties = {
+            "schedule.bulk-import.chunk-size=2",
+            "schedule.bulk-import.max-rows=5",
+            "schedule.conflict.reject-on-save=true"
+        })
+@ActiveProfiles("test")
+class ScheduleImportServiceImplTest {
+
+    @Autowired private ScheduleImportService scheduleImportService;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void nonObjectElementsFailOnlyTheirRow() {
+        ScheduleImportResponseDto response =
+                importJson(
+                        "non-object",
+                        "[" + row("첫째", 1) + ", 1, [2, {}], \"x\", " + row("둘째", 2) + "]");
+
+        assertThat(response.getTotal()).isEqualTo(5);
+        assertThat(response.getSucceeded()).isEqualTo(2);
+        assertThat(response.getAbortedReason()).isNull();
+        assertThat(response.getResults())
+                .filteredOn(result -> !result.isSuccess())
+                .extracting(ScheduleImportRowResultDto::getIndex)
+                .containsExactly(1, 2, 3);
+        assertThat(count("non-object")).isEqualTo(2);
+    }
+
+    @Test
+    void rowsBeforeMaxRowsAreSaved() {
+        // 청크 크기 2: 네 행은 청크로, 다섯째 행은 대기 중에 최대 행 수를 만난다
+        ScheduleImportResponseDto response =
+                importJson(
+                        "max-rows",
+                        "["
+                                + row("1", 1)
+                                + ","
+                                + row("2", 2)
+                                + ","
+                                + row("3", 3)
+                                + ","
+                                + row("4", 4)
+                                + ","
+                                + row("5", 5)
+                                + ","
+                                + row("6", 6)
+                                + "]");
+
+        assertThat(response.getAbortedReason()).isNotNull();
+        assertThat(response.getSucceeded()).isEqualTo(5);
+        assertThat(count("max-rows")).isEqualTo(5);
+        // 버전은 행마다가 아니라 청크(2, 2, 1행)마다 한 번 올라간다
+        assertThat(
+                        jdbcTemplate.queryForObject(
+                                "SELECT version FROM schedule_version WHERE user_id = ?",
+                                Long.class,
+                                "max-rows"))
+                .isEqualTo(3);
+    }
+
+    @Test
+    void conflictingRowsAreRejectedLikeCreate() {
+        importJson("conflict", "[" + row("기존", 1) + "]");
+
+        // 저장된 일정과 겹치는 행, 같은 요청 안에서 앞 행과 겹치는 행
+        ScheduleImportResponseDto response =
+                importJson(
+                        "conflict",
+                        "[" + row("겹침", 1) + "," + row("새 일정", 2) + "," + row("앞 행과 겹침", 2) + "]");
+
+        assertThat(response.getResults())
+                .extracting(ScheduleImportRowResultDto::isSuccess)
+                .containsExactly(false, true, false);
+        assertThat(response.getResults().get(0).getMessage())
+                .isEqualTo(ErrorCode.SCHEDULE_CONFLICT.getMessage());
+        assertThat(count("conflict")).isEqualTo(2);
+    }
+
+    @Test
+    void recurringRowsAreCheckedOnEveryOccurrence() {
+        LocalDateTime today = LocalDate.now(ZoneId.of("Asia/Seoul")).atStartOfDay();
+        importJson("conflict-recurring", "[" + row("기존", today.plusDays(15), null) + "]");
+
+        // 세 번째 발생이 저장된 일정과 겹치는 행, 대기 중인 반복 행의 세 번째 발생과 겹치는 행
+        ScheduleImportResponseDto response =
+                importJson(
+                        "conflict-recurring",
+                        "["
+                                + row("매주", today.plusDays(1), "FREQ=WEEKLY")
+                                + ","
+                                + row("다른 요일 매주", today.plusDays(2), "FREQ=WEEKLY")
+                                + ","
+                                + row("앞 행 발생과 겹침", today.plusDays(16), null)
+                                + ","
+                                + row("새 일정", today.plusDays(3), null)
+                                + "]");
+
+        assertThat(response.getResults())
+                .extracting(ScheduleImportRowResultDto::isSuccess)
+                .containsExactly(false, true, false, true);
+        assertThat(count("conflict-recurring")).isEqualTo(3);
+    }
+
+    private ScheduleImportResponseDto importJson(String userId, String json) {
+        return scheduleImportService.importSchedules(
+                userId, new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private Integer count(String userId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM schedule WHERE user_id = ?", Integer.class, userId);
+    }
+
+    /** 해당 날짜 10시부터 한 시간짜리 일정 (반복 규칙은 null 가능) */
+    private static String row(String title, LocalDateTime day, String recurrenceRule) {
+        DateTimeFormatter format = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+        return "{\"title\":\""
+                + title
+                + "\",\"startDate\":\""
+                + format.format(day.plusHours(10))
+                + "\",\"endDate\":\""
+                + format.format(day.plusHours(11))
+                + "\",\"scheduleType\":\"MEETING\""
+                + (recurrenceRule == null ? "" : ",\"recurrenceRule\":\"" + recurrenceRule + "\"")
+                + "}";
+    }
+
+    /** day일 10시부터 한 시간짜리 일정 */
+    private static String row(String title, int day) {
+        String date = String.format("2026-05-%02d", day);
+        return "{\"title\":\""
+                + title
+                + "\",\"startDate\":\""
+                + date
+                + " 10:00:00\",\"endDate\":\""
+                + date
+                + " 11:00:00\",\"scheduleType\":\"MEETING\"}";
+    }
+}
@@ -0,0 +1,167 @@
+package kr.co.platform.core.domain.schedule.service.impl;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import kr.co.platform.core.CoreApplication;
+import kr.co.platform.core.common.dto.SliceResponse;
+import kr.co.platform.core.common.exception.BusinessException;
+import kr.co.platform.core.common.exception.ErrorCode;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleRequestDto;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleResponseDto;
+import kr.co.platform.core.domain.schedule.model.dto.ScheduleSearchDto;
+import kr.co.platform.core.domain.schedule.model.enums.ScheduleType;
+import kr.co.platform.core.domain.schedule.service.ScheduleService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link ScheduleServiceImpl} 검색 페이징 테스트
+ *
+ * <p>정렬 값이 같은 행, 삭제된 행, 반복 일정의 발생이 섞인 목록을 작은 페이지 크기의 커서로 끝까지 넘긴 결과가 한 번에 조회한 결과와 같은지 확인한다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@SpringBootTest(classes = CoreApplication.class)
+@ActiveProfiles("test")
+class ScheduleServiceImplTest {
+
+    private static final String USER_ID = "keyset-user";
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 11, 2, 9, 0);
+
+    @Autowired private ScheduleService scheduleService;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM schedule WHERE user_id = ?", USER_ID);
+        for (int day = 0; day < 6; day++) {
+            // 하루 세 건 중 두 건은 시작 일시가 같고 종료 일시가 다르다
+            create(BASE.plusDays(day), 1, null);
+            create(BASE.plusDays(day), 3, null);
+            create(BASE.plusDays(day).plusHours(1), 1, null);
+        }
+        create(BASE.plusHours(2), 2, "FREQ=DAILY;COUNT=5");
+        create(BASE.plusHours(1), 1, "FREQ=WEEKLY");
+        Long deleted = create(BASE.plusDays(1), 1, null);
+        scheduleService.deleteSchedule(USER_ID, deleted);
+    }
+
+    @Test
+    void cursorPagesMatchSinglePage() {
+        for (String sortBy : new String[] {"startDate", "endDate"}) {
+            for (String direction : new String[] {"ASC", "DESC"}) {
+                // 기간이 있으면 반복 일정을 발생으로 펼쳐 병합하고, 없으면 마스터 행만 SQL로 넘긴다
+                for (LocalDate[] range :
+                        new LocalDate[][] {
+                            {BASE.toLocalDate(), BASE.toLocalDate().plusDays(9)}, {null, null}
+                        }) {
+                    List<String> expected = keys(search(sortBy, direction, range, 100, null));
+                    assertThat(pageThrough(sortBy, direction, range, 4))
+                            .as("%s %s %s", sortBy, direction, range[0])
+                            .containsExactlyElementsOf(expected)
+                            .doesNotHaveDuplicates()
+                            .hasSize(range[0] == null ? 20 : 18 + 5 + 2);
+                }
+            }
+        }
+    }
+
+    @Test
+    void pageNumbersStillWork() {
+        LocalDate[] range = {null, null};
+        List<String> all = keys(search("startDate", "ASC", range, 100, null));
+
+        ScheduleSearchDto second = request("startDate", "ASC", range, 7, null);
+        second.setPage(2);
+
+        assertThat(keys(scheduleService.searchSchedules(USER_ID, second)))
+                .containsExactlyElementsOf(all.subList(7, 14));
+    }
+
+    @Test
+    void rejectsUnsupportedSortFieldsAndMismatchedCursor() {
+        LocalDate[] range = {null, null};
+        for (String sortBy : new String[] {"createdAt", "title", "start_date"}) {
+            assertInvalid(() -> search(sortBy, "ASC", range, 10, null));
+        }
+
+        String cursor = search("startDate", "ASC", range, 2, null).getNextCursor();
+        assertThat(cursor).isNotNull();
+        assertInvalid(() -> search("endDate", "ASC", range, 2, cursor));
+        assertInvalid(() -> search("startDate", "DESC", range, 2, cursor));
+        assertInvalid(() -> search("startDate", "ASC", range, 2, cursor + "x"));
+    }
+
+    private List<String> pageThrough(
+            String sortBy, String direction, LocalDate[] range, int pageSize) {
+        List<String> keys = new ArrayList<>();
+        String cursor = null;
+        do {
+            SliceResponse<ScheduleResponseDto> page =
+                    search(sortBy, direction, range, pageSize, cursor);
+            assertThat(page.getContent().size()).isLessThanOrEqualTo(pageSize);
+            keys.addAll(keys(page));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return keys;
+    }
+
+    private SliceResponse<ScheduleResponseDto> search(
+            String sortBy, String direction, LocalDate[] range, int pageSize, String cursor) {
+        return scheduleService.searchSchedules(
+                USER_ID, request(sortBy, direction, range, pageSize, cursor));
+    }
+
+    private static ScheduleSearchDto request(
+            String sortBy, String direction, LocalDate[] range, int pageSize, String cursor) {
+        return ScheduleSearchDto.builder()
+                .startDate(range[0])
+                .endDate(range[1])
+                .sortBy(sortBy)
+                .sortDirection(direction)
+                .pageSize(pageSize)
+                .cursor(cursor)
+                .build();
+    }
+
+    /** 발생까지 구분하는 (ID, 시작 일시) 키 */
+    private static List<String> keys(SliceResponse<ScheduleResponseDto> page) {
+        return page.getContent().stream()
+                .map(schedule -> schedule.getId() + "@" + schedule.getStartDate())
+                .toList();
+    }
+
+    private static void assertInvalid(Runnable search) {
+        assertThatThrownBy(search::run)
+                .isInstanceOfSatisfying(
+                        BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_INPUT_VALUE));
+    }
+
+    private Long create(LocalDateTime start, int hours, String recurrenceRule) {
+        return scheduleService
+                .createSchedule(
+                        USER_ID,
+                        ScheduleRequestDto.builder()
+                                .title("일정")
+                                .startDate(start)
+                                .endDate(start.plusHours(hours))
+                                .scheduleType(ScheduleType.MEETING)
+                                .recurrenceRule(recurrenceRule)
+                                .build())
+                .getId();
+    }
+}
@@ -0,0 +1,73 @@
+package kr.co.platform.core.domain.schedule.web;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import kr.co.platform.core.CoreApplication;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * {@link ScheduleController} 조건부 GET 테스트
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@SpringBootTest(classes = CoreApplication.class)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ScheduleControllerConditionalGetTest {
+
+    private static final String USER_ID = "conditional-get";
+    private static final MediaType CBOR = MediaType.valueOf("application/cbor");
+
+    @Autowired private MockMvc mockMvc;
+
+    @Test
+    void eTagDependsOnRepresentation() throws Exception {
+        MvcResult json = today(MediaType.APPLICATION_JSON, null);
+        MvcResult cbor = today(CBOR, null);
+
+        assertThat(json.getResponse().getContentType()).startsWith("application/json");
+        assertThat(cbor.getResponse().getContentType()).startsWith("application/cbor");
+        String jsonTag = json.getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(jsonTag)
+                .isNotNull()
+                .isNotEqualTo(cbor.getResponse().getHeader(HttpHeaders.ETAG));
+        assertThat(json.getResponse().getHeaders(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT);
+        assertThat(cbor.getResponse().getHeaders(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT);
+
+        // JSON 표현의 ETag로 CBOR를 요청하면 304가 아니라 CBOR 본문을 받는다
+        assertThat(today(CBOR, jsonTag).getResponse().getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void notModifiedKeepsVary() throws Exception {
+        String tag =
+                today(MediaType.APPLICATION_JSON, null).getResponse().getHeader(HttpHeaders.ETAG);
+
+        MvcResult notModified = today(MediaType.APPLICATION_JSON, tag);
+
+        assertThat(notModified.getResponse().getStatus()).isEqualTo(304);
+        assertThat(notModified.getResponse().getHeaders(HttpHeaders.VARY))
+                .contains(HttpHeaders.ACCEPT);
+    }
+
+    private MvcResult today(MediaType accept, String ifNoneMatch) throws Exception {
+        MockHttpServletRequestBuilder request =
+                get("/schedules/today").header("X-User-Id", USER_ID).accept(accept);
+        if (ifNoneMatch != null) {
+            request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return mockMvc.perform(request).andReturn();
+    }
+}
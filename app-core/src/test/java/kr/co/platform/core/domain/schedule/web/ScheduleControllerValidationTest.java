@@ -0,0 +1,72 @@
+package kr.co.platform.core.domain.schedule.web;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import kr.co.platform.core.CoreApplication;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * {@link ScheduleController} 요청 규칙 검증 테스트
+ *
+ * <p>DTO와 반복 규칙 검증 실패가 내부 예외 메시지 없이 공통 입력 오류(400)로 응답되는지 확인한다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@SpringBootTest(classes = CoreApplication.class)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ScheduleControllerValidationTest {
+
+    private static final String USER_ID = "validation";
+
+    @Autowired private MockMvc mockMvc;
+
+    @Test
+    void invalidRecurrenceRuleIsBadRequestWithoutInternalMessage() throws Exception {
+        MvcResult result =
+                create(
+                        """
+                        {"title":"회의","startDate":"2026-10-19 10:00:00",\
+                        "endDate":"2026-10-19 11:00:00","scheduleType":"MEETING",\
+                        "recurrenceRule":"FREQ=HOURLY"}
+                        """);
+
+        assertThat(result.getResponse().getStatus()).isEqualTo(400);
+        assertThat(result.getResponse().getContentAsString())
+                .contains("\"code\":\"COMMON_001\"")
+                .doesNotContain("HOURLY");
+    }
+
+    @Test
+    void endBeforeStartIsBadRequest() throws Exception {
+        MvcResult result =
+                create(
+                        """
+                        {"title":"회의","startDate":"2026-10-19 11:00:00",\
+                        "endDate":"2026-10-19 10:00:00","scheduleType":"MEETING"}
+                        """);
+
+        assertThat(result.getResponse().getStatus()).isEqualTo(400);
+        assertThat(result.getResponse().getContentAsString()).contains("\"code\":\"COMMON_001\"");
+    }
+
+    private MvcResult create(String body) throws Exception {
+        return mockMvc.perform(
+                        post("/schedules")
+                                .header("X-User-Id", USER_ID)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .accept(MediaType.APPLICATION_JSON)
+                                .content(body))
+                .andReturn();
+    }
+}
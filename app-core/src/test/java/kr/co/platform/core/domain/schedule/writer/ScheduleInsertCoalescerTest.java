@@ -0,0 +1,165 @@
+package kr.co.platform.core.domain.schedule.writer;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.co.platform.core.common.exception.BusinessException;
+import kr.co.platform.core.domain.schedule.config.ScheduleProperties;
+import kr.co.platform.core.domain.schedule.mapper.ScheduleMapper;
+import kr.co.platform.core.domain.schedule.model.entity.ScheduleEntity;
+import kr.co.platform.core.domain.schedule.model.enums.ScheduleType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link ScheduleInsertCoalescer} 테스트
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@MybatisTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ScheduleInsertCoalescerTest {
+
+    @Autowired private SqlSessionFactory sqlSessionFactory;
+    @Autowired private ScheduleMapper scheduleMapper;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+    private ScheduleInsertCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("DELETE FROM schedule");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (coalescer != null) {
+            coalescer.stop();
+        }
+    }
+
+    @Test
+    void insertReturnsGeneratedId() {
+        coalescer = start(Duration.ofMillis(5), Duration.ofSeconds(10));
+
+        Long id = coalescer.insert(schedule("저장"));
+
+        assertThat(id).isNotNull();
+        assertThat(titles()).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentCallersInOneBatchGetTheirOwnIds() throws Exception {
+        // 저장 스레드 둘이 최대 16건씩 묶는 동안 64개 호출자가 한꺼번에 저장한다
+        coalescer = start(Duration.ofMillis(50), Duration.ofSeconds(10));
+        int callers = 64;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        CountDownLatch ready = new CountDownLatch(callers);
+        List<Future<Long>> ids = new ArrayList<>();
+        try {
+            for (int i = 0; i < callers; i++) {
+                String title = "호출자" + i;
+                ids.add(
+                        executor.submit(
+                                () -> {
+                                    ready.countDown();
+                                    ready.await();
+                                    return coalescer.insert(schedule(title));
+                                }));
+            }
+            Map<Long, String> titleById = new HashMap<>();
+            for (int i = 0; i < callers; i++) {
+                titleById.put(ids.get(i).get(10, TimeUnit.SECONDS), "호출자" + i);
+            }
+
+            assertThat(titleById).hasSize(callers);
+            for (Map<String, Object> row :
+                    jdbcTemplate.queryForList("SELECT id, title FROM schedule")) {
+                assertThat(row.get("TITLE")).isEqualTo(titleById.get((Long) row.get("ID")));
+            }
+            assertThat(titles()).isEqualTo(callers);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void timedOutInsertIsNeverWritten() throws InterruptedException {
+        // 저장 스레드가 첫 요청을 가져간 뒤 1초 동안 묶음을 기다리는 사이에 호출자가 포기한다
+        coalescer = start(Duration.ofSeconds(1), Duration.ofMillis(100));
+
+        assertThatThrownBy(() -> coalescer.insert(schedule("시간 초과")))
+                .isInstanceOf(BusinessException.class);
+        // 묶음 대기가 끝나 저장 스레드가 묶음을 처리할 때까지 기다린다
+        Thread.sleep(1_500);
+
+        assertThat(titles()).isZero();
+    }
+
+    private ScheduleInsertCoalescer start(Duration maxDelay, Duration timeout) {
+        ScheduleProperties properties = new ScheduleProperties();
+        properties.getGroupCommit().setEnabled(true);
+        properties.getGroupCommit().setFlusherThreads(2);
+        properties.getGroupCommit().setMaxBatchSize(16);
+        properties.getGroupCommit().setMaxDelay(maxDelay);
+        properties.getGroupCommit().setTimeout(timeout);
+        ScheduleInsertCoalescer started =
+                new ScheduleInsertCoalescer(
+                        properties,
+                        sqlSessionFactory,
+                        scheduleMapper,
+                        transactionManager,
+                        new SimpleMeterRegistry());
+        started.start();
+        return started;
+    }
+
+    private Integer titles() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM schedule", Integer.class);
+    }
+
+    private static ScheduleEntity schedule(String title) {
+        LocalDateTime start = LocalDateTime.of(2026, 10, 18, 10, 0);
+        ScheduleEntity schedule =
+                ScheduleEntity.builder()
+                        .userId("user1")
+                        .title(title)
+                        .startDate(start)
+                        .endDate(start.plusHours(1))
+                        .scheduleType(ScheduleType.MEETING)
+                        .build();
+        schedule.setDefaults();
+        return schedule;
+    }
+}
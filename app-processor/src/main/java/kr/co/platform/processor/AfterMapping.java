@@ -0,0 +1,20 @@
+package kr.co.platform.processor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 생성된 매핑 메서드가 값을 모두 복사한 뒤 호출할 메서드
+ *
+ * <p>{@code void method(S source, T target)} 형식이어야 하며, 원본/대상 타입이 같은 매핑 메서드에서 호출된다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.METHOD)
+public @interface AfterMapping {}
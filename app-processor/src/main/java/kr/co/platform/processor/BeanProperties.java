@@ -0,0 +1,164 @@
+package kr.co.platform.processor;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+
+/**
+ * 타입의 속성 목록 (필드 선언 순서, 상위 클래스 먼저)
+ *
+ * <p>접근자는 직접 작성한 메서드를 먼저 찾고, 없으면 필드나 클래스에 Lombok {@code @Getter}/{@code @Setter}/{@code @Data}가 있을
+ * 때 Lombok 규칙의 이름을 사용한다. Lombok이 다른 프로세서보다 늦게 실행되어도 같은 결과가 나오도록 생성 메서드 존재에 의존하지 않는다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+final class BeanProperties {
+
+    private static final Set<String> LOMBOK_GETTERS =
+            Set.of("lombok.Getter", "lombok.Data", "lombok.Value");
+
+    private static final Set<String> LOMBOK_SETTERS = Set.of("lombok.Setter", "lombok.Data");
+
+    private final Types types;
+
+    BeanProperties(Types types) {
+        this.types = types;
+    }
+
+    /**
+     * 속성 목록
+     *
+     * @param type 대상 타입
+     * @return 속성 이름별 속성 (선언 순서)
+     */
+    Map<String, BeanProperty> of(DeclaredType type) {
+        Deque<TypeElement> hierarchy = new ArrayDeque<>();
+        TypeElement current = (TypeElement) type.asElement();
+        while (current != null && !"java.lang.Object".contentEquals(current.getQualifiedName())) {
+            hierarchy.push(current);
+            TypeMirror superclass = current.getSuperclass();
+            current =
+                    superclass.getKind() == TypeKind.DECLARED
+                            ? (TypeElement) ((DeclaredType) superclass).asElement()
+                            : null;
+        }
+
+        Map<String, BeanProperty> properties = new LinkedHashMap<>();
+        for (TypeElement element : hierarchy) {
+            List<ExecutableElement> methods = methods(element);
+            for (VariableElement field : ElementFilter.fieldsIn(element.getEnclosedElements())) {
+                if (field.getModifiers().contains(Modifier.STATIC)) {
+                    continue;
+                }
+                String name = field.getSimpleName().toString();
+                TypeMirror fieldType = types.asMemberOf(type, field);
+                String getter = getter(element, field, name, fieldType, methods);
+                String setter = setter(element, field, name, fieldType, methods);
+                properties.put(name, new BeanProperty(name, fieldType, getter, setter));
+            }
+        }
+        return properties;
+    }
+
+    private static String getter(
+            TypeElement owner,
+            VariableElement field,
+            String name,
+            TypeMirror type,
+            List<ExecutableElement> methods) {
+        boolean primitiveBoolean = type.getKind() == TypeKind.BOOLEAN;
+        String explicit = (primitiveBoolean ? "is" : "get") + capitalize(name);
+        if (hasMethod(methods, explicit, 0)) {
+            return explicit;
+        }
+        if (!hasLombok(owner, field, LOMBOK_GETTERS)) {
+            return null;
+        }
+        if (primitiveBoolean && hasIsPrefix(name)) {
+            return name;
+        }
+        return explicit;
+    }
+
+    private static String setter(
+            TypeElement owner,
+            VariableElement field,
+            String name,
+            TypeMirror type,
+            List<ExecutableElement> methods) {
+        String explicit = "set" + capitalize(name);
+        if (hasMethod(methods, explicit, 1)) {
+            return explicit;
+        }
+        if (field.getModifiers().contains(Modifier.FINAL)
+                || !hasLombok(owner, field, LOMBOK_SETTERS)) {
+            return null;
+        }
+        if (type.getKind() == TypeKind.BOOLEAN && hasIsPrefix(name)) {
+            return "set" + name.substring(2);
+        }
+        return explicit;
+    }
+
+    private static List<ExecutableElement> methods(TypeElement element) {
+        List<ExecutableElement> methods = new ArrayList<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(element.getEnclosedElements())) {
+            if (method.getModifiers().contains(Modifier.PUBLIC)
+                    && !method.getModifiers().contains(Modifier.STATIC)) {
+                methods.add(method);
+            }
+        }
+        return methods;
+    }
+
+    private static boolean hasMethod(List<ExecutableElement> methods, String name, int arity) {
+        for (ExecutableElement method : methods) {
+            if (method.getSimpleName().contentEquals(name)
+                    && method.getParameters().size() == arity) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasLombok(TypeElement owner, Element field, Set<String> annotations) {
+        return hasAnnotation(field, annotations) || hasAnnotation(owner, annotations);
+    }
+
+    private static boolean hasAnnotation(Element element, Set<String> annotations) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            Element annotation = mirror.getAnnotationType().asElement();
+            if (annotation.getKind() == ElementKind.ANNOTATION_TYPE
+                    && annotations.contains(
+                            ((TypeElement) annotation).getQualifiedName().toString())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasIsPrefix(String name) {
+        return name.length() > 2 && name.startsWith("is") && Character.isUpperCase(name.charAt(2));
+    }
+
+    static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+}
@@ -0,0 +1,15 @@
+package kr.co.platform.processor;
+
+import javax.lang.model.type.TypeMirror;
+
+/**
+ * 빈 속성 (필드 기준, 접근자 이름 포함)
+ *
+ * @param name 속성 이름
+ * @param type 속성 타입
+ * @param getter 게터 이름 (없으면 null)
+ * @param setter 세터 이름 (없으면 null)
+ * @author 박성우
+ * @date 2026.10.18
+ */
+record BeanProperty(String name, TypeMirror type, String getter, String setter) {}
@@ -0,0 +1,46 @@
+package kr.co.platform.processor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 변환기 구현 생성 지정
+ *
+ * <p>추상 클래스에 붙이면 같은 패키지에 {@code <클래스명>Impl} 하위 클래스를 생성한다. 남아 있는 추상 메서드 중 다음 형식을 필드 복사 코드로 구현한다
+ * ({@code GenericConverter}의 toDto/toEntity 포함).
+ *
+ * <ul>
+ *   <li>{@code T name(S source)}: 새 T를 만들어 S의 값을 복사
+ *   <li>{@code void name(S source, T target)}: 기존 T에 S의 값을 복사
+ * </ul>
+ *
+ * <p>대상 속성(세터)마다 다음 순서로 값을 찾는다.
+ *
+ * <ol>
+ *   <li>속성 이름과 같은 이름으로 S 하나를 받아 값을 돌려주는 메서드 (직접 작성한 변환)
+ *   <li>S의 같은 이름, 대입 가능한 타입의 속성
+ *   <li>S의 속성 이름 + 하위 속성 이름 (예: scheduleType + DisplayName → {@code
+ *       getScheduleType().getDisplayName()}, null이면 null)
+ * </ol>
+ *
+ * <p>값을 찾지 못한 속성은 건드리지 않으며 생성 코드에 주석으로 남긴다. 복사 후 처리는 {@link AfterMapping} 메서드로 한다. 목록 변환은 {@code
+ * GenericConverter}의 기본 메서드를 사용한다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface GenerateConverter {
+
+    /**
+     * 생성 클래스에 Spring {@code @Component}를 붙일지 여부 (Spring이 클래스패스에 있을 때만)
+     *
+     * @return 사용 여부
+     */
+    boolean component() default true;
+}
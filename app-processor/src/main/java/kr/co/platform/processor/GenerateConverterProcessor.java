@@ -0,0 +1,418 @@
+package kr.co.platform.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+
+/**
+ * {@link GenerateConverter} 처리기
+ *
+ * <p>추상 변환기마다 {@code <클래스명>Impl} 소스를 생성한다. 생성 코드는 게터/세터 호출만으로 이루어져 있어 실행 시 리플렉션이나 스트림을 쓰지 않는다. 지원하지
+ * 않는 형식은 컴파일 오류로 알린다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+@SupportedAnnotationTypes("kr.co.platform.processor.GenerateConverter")
+public class GenerateConverterProcessor extends AbstractProcessor {
+
+    private static final String GENERATED = "javax.annotation.processing.Generated";
+
+    private static final String COMPONENT = "org.springframework.stereotype.Component";
+
+    private static final Set<String> LOMBOK_NO_ARGS =
+            Set.of("lombok.NoArgsConstructor", "lombok.Data");
+
+    private static final Set<String> LOMBOK_ARGS =
+            Set.of(
+                    "lombok.AllArgsConstructor",
+                    "lombok.RequiredArgsConstructor",
+                    "lombok.Builder",
+                    "lombok.Value");
+
+    private static final String INDENT = "    ";
+
+    private Elements elements;
+    private Types types;
+    private Messager messager;
+    private BeanProperties beanProperties;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+        this.messager = processingEnv.getMessager();
+        this.beanProperties = new BeanProperties(types);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(GenerateConverter.class)) {
+            if (element.getKind() != ElementKind.CLASS
+                    || !element.getModifiers().contains(Modifier.ABSTRACT)) {
+                error(element, "@GenerateConverter는 추상 클래스에만 사용할 수 있습니다.");
+                continue;
+            }
+            TypeElement converter = (TypeElement) element;
+            if (!converter.getTypeParameters().isEmpty()) {
+                error(converter, "@GenerateConverter 클래스는 타입 매개변수를 가질 수 없습니다.");
+                continue;
+            }
+            try {
+                generate(converter);
+            } catch (IOException e) {
+                error(converter, "변환기 구현 생성 실패: " + e.getMessage());
+            }
+        }
+        return false;
+    }
+
+    private void generate(TypeElement converter) throws IOException {
+        DeclaredType converterType = (DeclaredType) converter.asType();
+        List<ExecutableElement> members =
+                ElementFilter.methodsIn(elements.getAllMembers(converter));
+        List<ExecutableElement> afterMappings = afterMappings(members);
+        if (afterMappings == null) {
+            return;
+        }
+
+        StringBuilder body = new StringBuilder();
+        boolean valid = true;
+        for (ExecutableElement method : abstractMethods(converter, members)) {
+            ExecutableType signature = (ExecutableType) types.asMemberOf(converterType, method);
+            String code = mappingMethod(converterType, method, signature, members, afterMappings);
+            if (code == null) {
+                valid = false;
+            } else {
+                body.append('\n').append(code);
+            }
+        }
+        if (!valid) {
+            return;
+        }
+
+        String packageName = elements.getPackageOf(converter).getQualifiedName().toString();
+        String simpleName = converter.getSimpleName() + "Impl";
+        String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        if (elements.getTypeElement(GENERATED) != null) {
+            source.append('@')
+                    .append(GENERATED)
+                    .append("(\"")
+                    .append(getClass().getName())
+                    .append("\")\n");
+        }
+        if (converter.getAnnotation(GenerateConverter.class).component()
+                && elements.getTypeElement(COMPONENT) != null) {
+            source.append('@').append(COMPONENT).append('\n');
+        }
+        if (converter.getModifiers().contains(Modifier.PUBLIC)) {
+            source.append("public ");
+        }
+        source.append("class ")
+                .append(simpleName)
+                .append(" extends ")
+                .append(converter.getQualifiedName())
+                .append(" {\n")
+                .append(body)
+                .append("}\n");
+
+        try (Writer writer =
+                processingEnv.getFiler().createSourceFile(qualifiedName, converter).openWriter()) {
+            writer.write(source.toString());
+        }
+    }
+
+    /** 구현해야 할 추상 메서드 (구체 메서드로 이미 구현되었거나 다른 추상 메서드가 재선언한 것은 제외) */
+    private List<ExecutableElement> abstractMethods(
+            TypeElement converter, List<ExecutableElement> members) {
+        List<ExecutableElement> result = new ArrayList<>();
+        for (ExecutableElement method : members) {
+            if (!method.getModifiers().contains(Modifier.ABSTRACT)) {
+                continue;
+            }
+            boolean overridden = false;
+            for (ExecutableElement other : members) {
+                if (other != method && elements.overrides(other, method, converter)) {
+                    overridden = true;
+                    break;
+                }
+            }
+            if (!overridden) {
+                result.add(method);
+            }
+        }
+        return result;
+    }
+
+    /** {@link AfterMapping} 메서드 (형식이 잘못되면 null) */
+    private List<ExecutableElement> afterMappings(List<ExecutableElement> members) {
+        List<ExecutableElement> result = new ArrayList<>();
+        boolean valid = true;
+        for (ExecutableElement method : members) {
+            if (method.getAnnotation(AfterMapping.class) == null) {
+                continue;
+            }
+            if (method.getReturnType().getKind() != TypeKind.VOID
+                    || method.getParameters().size() != 2
+                    || method.getModifiers().contains(Modifier.PRIVATE)
+                    || method.getModifiers().contains(Modifier.ABSTRACT)) {
+                error(method, "@AfterMapping 메서드는 void method(S source, T target) 형식이어야 합니다.");
+                valid = false;
+                continue;
+            }
+            result.add(method);
+        }
+        return valid ? result : null;
+    }
+
+    /** 매핑 메서드 소스 (지원하지 않는 형식이면 오류를 알리고 null) */
+    private String mappingMethod(
+            DeclaredType converterType,
+            ExecutableElement method,
+            ExecutableType signature,
+            List<ExecutableElement> members,
+            List<ExecutableElement> afterMappings) {
+        List<? extends TypeMirror> parameterTypes = signature.getParameterTypes();
+        TypeMirror returnType = signature.getReturnType();
+        boolean create = parameterTypes.size() == 1 && returnType.getKind() == TypeKind.DECLARED;
+        boolean update = parameterTypes.size() == 2 && returnType.getKind() == TypeKind.VOID;
+        if (!create && !update) {
+            error(method, "매핑 메서드는 T name(S source) 또는 void name(S source, T target) 형식이어야 합니다.");
+            return null;
+        }
+        TypeMirror sourceType = parameterTypes.get(0);
+        TypeMirror targetType = create ? returnType : parameterTypes.get(1);
+        if (sourceType.getKind() != TypeKind.DECLARED
+                || targetType.getKind() != TypeKind.DECLARED) {
+            error(method, "매핑 원본/대상은 클래스 타입이어야 합니다.");
+            return null;
+        }
+        if (create && !instantiable((TypeElement) ((DeclaredType) targetType).asElement())) {
+            error(method, targetType + "에 접근 가능한 기본 생성자가 없습니다.");
+            return null;
+        }
+
+        String source = method.getParameters().get(0).getSimpleName().toString();
+        String target =
+                create
+                        ? ("target".equals(source) ? "mapped" : "target")
+                        : method.getParameters().get(1).getSimpleName().toString();
+
+        StringBuilder code = new StringBuilder();
+        code.append(INDENT).append("@Override\n").append(INDENT);
+        if (method.getModifiers().contains(Modifier.PUBLIC)) {
+            code.append("public ");
+        } else if (method.getModifiers().contains(Modifier.PROTECTED)) {
+            code.append("protected ");
+        }
+        code.append(create ? returnType.toString() : "void")
+                .append(' ')
+                .append(method.getSimpleName())
+                .append('(')
+                .append(sourceType)
+                .append(' ')
+                .append(source);
+        if (update) {
+            code.append(", ").append(targetType).append(' ').append(target);
+        }
+        code.append(") {\n");
+        line(code, 2, "if (" + source + " == null) {");
+        line(code, 3, create ? "return null;" : "return;");
+        line(code, 2, "}");
+        if (create) {
+            line(code, 2, targetType + " " + target + " = new " + targetType + "();");
+        }
+
+        Map<String, BeanProperty> sourceProperties = beanProperties.of((DeclaredType) sourceType);
+        List<String> unmapped = new ArrayList<>();
+        for (BeanProperty property : beanProperties.of((DeclaredType) targetType).values()) {
+            if (property.setter() == null) {
+                continue;
+            }
+            String value =
+                    value(converterType, members, property, sourceType, sourceProperties, source);
+            if (value == null) {
+                unmapped.add(property.name());
+            } else {
+                line(code, 2, target + "." + property.setter() + "(" + value + ");");
+            }
+        }
+        if (!unmapped.isEmpty()) {
+            line(code, 2, "// 매핑 없음: " + String.join(", ", unmapped));
+        }
+        for (ExecutableElement afterMapping : afterMappings) {
+            ExecutableType hook = (ExecutableType) types.asMemberOf(converterType, afterMapping);
+            if (types.isAssignable(sourceType, hook.getParameterTypes().get(0))
+                    && types.isAssignable(targetType, hook.getParameterTypes().get(1))) {
+                line(code, 2, afterMapping.getSimpleName() + "(" + source + ", " + target + ");");
+            }
+        }
+        if (create) {
+            line(code, 2, "return " + target + ";");
+        }
+        line(code, 1, "}");
+        return code.toString();
+    }
+
+    /** 대상 속성 값 식 (찾지 못하면 null) */
+    private String value(
+            DeclaredType converterType,
+            List<ExecutableElement> members,
+            BeanProperty property,
+            TypeMirror sourceType,
+            Map<String, BeanProperty> sourceProperties,
+            String source) {
+        for (ExecutableElement member : members) {
+            if (!member.getSimpleName().contentEquals(property.name())
+                    || member.getParameters().size() != 1
+                    || member.getModifiers().contains(Modifier.PRIVATE)
+                    || member.getModifiers().contains(Modifier.ABSTRACT)) {
+                continue;
+            }
+            ExecutableType hook = (ExecutableType) types.asMemberOf(converterType, member);
+            if (types.isSameType(hook.getParameterTypes().get(0), sourceType)
+                    && assignable(hook.getReturnType(), property.type())) {
+                return property.name() + "(" + source + ")";
+            }
+        }
+
+        BeanProperty same = sourceProperties.get(property.name());
+        if (same != null && same.getter() != null && assignable(same.type(), property.type())) {
+            return source + "." + same.getter() + "()";
+        }
+
+        if (property.type().getKind().isPrimitive()) {
+            return null;
+        }
+        BeanProperty prefix = null;
+        String accessor = null;
+        for (BeanProperty candidate : sourceProperties.values()) {
+            String name = candidate.name();
+            if (candidate.getter() == null
+                    || candidate.type().getKind() != TypeKind.DECLARED
+                    || property.name().length() <= name.length()
+                    || !property.name().startsWith(name)
+                    || !Character.isUpperCase(property.name().charAt(name.length()))
+                    || (prefix != null && prefix.name().length() >= name.length())) {
+                continue;
+            }
+            String nested =
+                    nestedGetter(
+                            (DeclaredType) candidate.type(),
+                            property.name().substring(name.length()),
+                            property.type());
+            if (nested != null) {
+                prefix = candidate;
+                accessor = nested;
+            }
+        }
+        if (prefix == null) {
+            return null;
+        }
+        String get = source + "." + prefix.getter() + "()";
+        return get + " == null ? null : " + get + "." + accessor + "()";
+    }
+
+    /** 하위 속성 게터 이름 (public, 인자 없음, 대입 가능한 반환 타입) */
+    private String nestedGetter(DeclaredType owner, String suffix, TypeMirror targetType) {
+        TypeElement element = (TypeElement) owner.asElement();
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(element))) {
+            String name = method.getSimpleName().toString();
+            if (!name.equals("get" + suffix) && !name.equals("is" + suffix)) {
+                continue;
+            }
+            if (method.getParameters().isEmpty()
+                    && method.getModifiers().contains(Modifier.PUBLIC)
+                    && !method.getModifiers().contains(Modifier.STATIC)
+                    && assignable(
+                            ((ExecutableType) types.asMemberOf(owner, method)).getReturnType(),
+                            targetType)) {
+                return name;
+            }
+        }
+        return null;
+    }
+
+    /** 대입 가능 여부 (null일 수 있는 래퍼 타입을 기본 타입에 넣는 경우는 제외) */
+    private boolean assignable(TypeMirror from, TypeMirror to) {
+        if (to.getKind().isPrimitive() && !from.getKind().isPrimitive()) {
+            return false;
+        }
+        return types.isAssignable(from, to);
+    }
+
+    /** 같은 패키지에서 인자 없이 생성할 수 있는지 여부 */
+    private boolean instantiable(TypeElement element) {
+        if (element.getModifiers().contains(Modifier.ABSTRACT)
+                || element.getKind() != ElementKind.CLASS) {
+            return false;
+        }
+        List<ExecutableElement> constructors =
+                ElementFilter.constructorsIn(element.getEnclosedElements());
+        for (ExecutableElement constructor : constructors) {
+            if (constructor.getParameters().isEmpty()
+                    && !constructor.getModifiers().contains(Modifier.PRIVATE)) {
+                return true;
+            }
+        }
+        if (hasAnnotation(element, LOMBOK_NO_ARGS)) {
+            return true;
+        }
+        return constructors.isEmpty() && !hasAnnotation(element, LOMBOK_ARGS);
+    }
+
+    private static boolean hasAnnotation(Element element, Set<String> annotations) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            TypeElement annotation = (TypeElement) mirror.getAnnotationType().asElement();
+            if (annotations.contains(annotation.getQualifiedName().toString())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void line(StringBuilder code, int depth, String content) {
+        for (int i = 0; i < depth; i++) {
+            code.append(INDENT);
+        }
+        code.append(content).append('\n');
+    }
+
+    private void error(Element element, String message) {
+        messager.printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
@@ -0,0 +1,392 @@
+package kr.co.platform.processor;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link GenerateConverterProcessor} 테스트
+ *
+ * <p>메모리에 둔 소스를 javax.tools 컴파일러로 처리기와 함께 컴파일하고, 생성된 소스와 컴파일 오류, 생성 클래스의 실행 결과를 확인한다.
+ *
+ * @author 박성우
+ * @date 2026.10.18
+ */
+class GenerateConverterProcessorTest {
+
+    private static final String SOURCE =
+            """
+            package test;
+
+            public class Source {
+                private String title;
+                private int count;
+                private Type type;
+                private String ignored;
+
+                public String getTitle() { return title; }
+                public void setTitle(String title) { this.title = title; }
+                public int getCount() { return count; }
+                public void setCount(int count) { this.count = count; }
+                public Type getType() { return type; }
+                public void setType(Type type) { this.type = type; }
+                public String getIgnored() { return ignored; }
+                public void setIgnored(String ignored) { this.ignored = ignored; }
+            }
+            """;
+
+    private static final String TYPE_SOURCE =
+            """
+            package test;
+
+            public class Type {
+                private final String displayName;
+
+                public Type(String displayName) { this.displayName = displayName; }
+                public String getDisplayName() { return displayName; }
+            }
+            """;
+
+    private static final String TARGET =
+            """
+            package test;
+
+            public class Target {
+                private String title;
+                private Integer count;
+                private String typeDisplayName;
+                private String label;
+                private String note;
+                private boolean mapped;
+
+                public String getTitle() { return title; }
+                public void setTitle(String title) { this.title = title; }
+                public Integer getCount() { return count; }
+                public void setCount(Integer count) { this.count = count; }
+                public String getTypeDisplayName() { return typeDisplayName; }
+                public void setTypeDisplayName(String value) { this.typeDisplayName = value; }
+                public String getLabel() { return label; }
+                public void setLabel(String label) { this.label = label; }
+                public String getNote() { return note; }
+                public void setNote(String note) { this.note = note; }
+                public boolean isMapped() { return mapped; }
+                public void setMapped(boolean mapped) { this.mapped = mapped; }
+            }
+            """;
+
+    private static final String CONVERTER =
+            """
+            package test;
+
+            import kr.co.platform.processor.AfterMapping;
+            import kr.co.platform.processor.GenerateConverter;
+
+            @GenerateConverter
+            public abstract class TestConverter {
+                public abstract Target toTarget(Source source);
+
+                public abstract void update(Source source, Target target);
+
+                protected String label(Source source) {
+                    return "[" + source.getTitle() + "]";
+                }
+
+                @AfterMapping
+                protected void afterMapping(Source source, Target target) {
+                    target.setMapped(true);
+                }
+            }
+            """;
+
+    @TempDir Path output;
+
+    @Test
+    void generatesFieldCopyWithCustomNestedAndAfterMapping() throws Exception {
+        Compilation compilation =
+                compile(
+                        source("test.Source", SOURCE),
+                        source("test.Type", TYPE_SOURCE),
+                        source("test.Target", TARGET),
+                        source("test.TestConverter", CONVERTER));
+
+        assertThat(compilation.errors()).isEmpty();
+        String generated = compilation.generated("test/TestConverterImpl.java");
+        assertThat(generated)
+                .contains("public class TestConverterImpl extends test.TestConverter")
+                .contains("target.setLabel(label(source));")
+                .contains("// 매핑 없음: note")
+                .doesNotContain("org.springframework.stereotype.Component");
+
+        try (URLClassLoader loader = compilation.classLoader()) {
+            Class<?> converterClass = loader.loadClass("test.TestConverterImpl");
+            Object converter = converterClass.getDeclaredConstructor().newInstance();
+            Object source = loader.loadClass("test.Source").getDeclaredConstructor().newInstance();
+            invoke(source, "setTitle", String.class, "주간 회의");
+            invoke(source, "setCount", int.class, 3);
+            Object type =
+                    loader.loadClass("test.Type")
+                            .getDeclaredConstructor(String.class)
+                            .newInstance("회의");
+            invoke(source, "setType", type.getClass(), type);
+
+            Object target = invoke(converter, "toTarget", source.getClass(), source);
+
+            assertThat(invoke(target, "getTitle")).isEqualTo("주간 회의");
+            // 기본 타입 → 래퍼 타입은 대입 가능
+            assertThat(invoke(target, "getCount")).isEqualTo(3);
+            assertThat(invoke(target, "getTypeDisplayName")).isEqualTo("회의");
+            assertThat(invoke(target, "getLabel")).isEqualTo("[주간 회의]");
+            assertThat(invoke(target, "getNote")).isNull();
+            assertThat(invoke(target, "isMapped")).isEqualTo(true);
+
+            // 하위 속성의 소유 객체가 null이면 null을 넣는다
+            invoke(source, "setType", type.getClass(), null);
+            invoke(converter, "update", source.getClass(), target.getClass(), source, target);
+            assertThat(invoke(target, "getTypeDisplayName")).isNull();
+
+            assertThat(invoke(converter, "toTarget", source.getClass(), (Object) null)).isNull();
+        }
+    }
+
+    @Test
+    void wrapperIsNotCopiedIntoPrimitive() throws IOException {
+        Compilation compilation =
+                compile(
+                        source(
+                                "test.Boxed",
+                                """
+                                package test;
+
+                                public class Boxed {
+                                    private Integer count;
+
+                                    public Integer getCount() { return count; }
+                                    public void setCount(Integer count) { this.count = count; }
+                                }
+                                """),
+                        source(
+                                "test.Primitive",
+                                """
+                                package test;
+
+                                public class Primitive {
+                                    private int count;
+
+                                    public int getCount() { return count; }
+                                    public void setCount(int count) { this.count = count; }
+                                }
+                                """),
+                        source(
+                                "test.BoxedConverter",
+                                """
+                                package test;
+
+                                @kr.co.platform.processor.GenerateConverter
+                                abstract class BoxedConverter {
+                                    abstract Primitive toPrimitive(Boxed source);
+                                }
+                                """));
+
+        assertThat(compilation.errors()).isEmpty();
+        assertThat(compilation.generated("test/BoxedConverterImpl.java"))
+                .startsWith("package test;")
+                .contains("class BoxedConverterImpl extends test.BoxedConverter")
+                .doesNotContain("public class")
+                .contains("// 매핑 없음: count");
+    }
+
+    @Test
+    void rejectsNonAbstractClass() throws IOException {
+        Compilation compilation =
+                compile(
+                        source(
+                                "test.Concrete",
+                                """
+                                package test;
+
+                                @kr.co.platform.processor.GenerateConverter
+                                public class Concrete {}
+                                """));
+
+        assertThat(compilation.errors())
+                .containsExactly("@GenerateConverter는 추상 클래스에만 사용할 수 있습니다.");
+    }
+
+    @Test
+    void rejectsUnsupportedMethodSignature() throws IOException {
+        Compilation compilation =
+                compile(
+                        source("test.Source", SOURCE),
+                        source("test.Type", TYPE_SOURCE),
+                        source(
+                                "test.BadConverter",
+                                """
+                                package test;
+
+                                @kr.co.platform.processor.GenerateConverter
+                                public abstract class BadConverter {
+                                    public abstract String title(Source source, int index);
+                                }
+                                """));
+
+        assertThat(compilation.errors())
+                .contains("매핑 메서드는 T name(S source) 또는 void name(S source, T target) 형식이어야 합니다.");
+        assertThat(compilation.generatedFiles()).isEmpty();
+    }
+
+    @Test
+    void rejectsTargetWithoutDefaultConstructor() throws IOException {
+        Compilation compilation =
+                compile(
+                        source("test.Source", SOURCE),
+                        source("test.Type", TYPE_SOURCE),
+                        source(
+                                "test.TypeConverter",
+                                """
+                                package test;
+
+                                @kr.co.platform.processor.GenerateConverter
+                                public abstract class TypeConverter {
+                                    public abstract Type toType(Source source);
+                                }
+                                """));
+
+        assertThat(compilation.errors()).containsExactly("test.Type에 접근 가능한 기본 생성자가 없습니다.");
+    }
+
+    @Test
+    void rejectsInvalidAfterMapping() throws IOException {
+        Compilation compilation =
+                compile(
+                        source("test.Source", SOURCE),
+                        source("test.Type", TYPE_SOURCE),
+                        source("test.Target", TARGET),
+                        source(
+                                "test.HookConverter",
+                                """
+                                package test;
+
+                                import kr.co.platform.processor.AfterMapping;
+                                import kr.co.platform.processor.GenerateConverter;
+
+                                @GenerateConverter
+                                public abstract class HookConverter {
+                                    public abstract Target toTarget(Source source);
+
+                                    @AfterMapping
+                                    protected Target after(Source source, Target target) {
+                                        return target;
+                                    }
+                                }
+                                """));
+
+        assertThat(compilation.errors())
+                .contains("@AfterMapping 메서드는 void method(S source, T target) 형식이어야 합니다.");
+        assertThat(compilation.generatedFiles()).isEmpty();
+    }
+
+    private Compilation compile(JavaFileObject... sources) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        Path classes = Files.createDirectories(output.resolve("classes"));
+        Path generated = Files.createDirectories(output.resolve("generated"));
+        try (StandardJavaFileManager fileManager =
+                compiler.getStandardFileManager(diagnostics, Locale.ROOT, StandardCharsets.UTF_8)) {
+            fileManager.setLocation(StandardLocation.CLASS_OUTPUT, List.of(classes.toFile()));
+            fileManager.setLocation(StandardLocation.SOURCE_OUTPUT, List.of(generated.toFile()));
+            List<File> classPath = new ArrayList<>();
+            for (String entry :
+                    System.getProperty("java.class.path").split(File.pathSeparator, -1)) {
+                classPath.add(new File(entry));
+            }
+            fileManager.setLocation(StandardLocation.CLASS_PATH, classPath);
+
+            JavaCompiler.CompilationTask task =
+                    compiler.getTask(null, fileManager, diagnostics, null, null, List.of(sources));
+            task.setProcessors(List.of(new GenerateConverterProcessor()));
+            task.call();
+        }
+
+        List<String> errors = new ArrayList<>();
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                errors.add(diagnostic.getMessage(Locale.ROOT));
+            }
+        }
+        return new Compilation(errors, generated, classes);
+    }
+
+    private static JavaFileObject source(String qualifiedName, String code) {
+        URI uri = URI.create("string:///" + qualifiedName.replace('.', '/') + ".java");
+        return new SimpleJavaFileObject(uri, JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+
+    private static Object invoke(Object target, String name) throws ReflectiveOperationException {
+        return target.getClass().getMethod(name).invoke(target);
+    }
+
+    private static Object invoke(Object target, String name, Class<?> type, Object argument)
+            throws ReflectiveOperationException {
+        return target.getClass().getMethod(name, type).invoke(target, argument);
+    }
+
+    private static Object invoke(
+            Object target,
+            String name,
+            Class<?> firstType,
+            Class<?> secondType,
+            Object first,
+            Object second)
+            throws ReflectiveOperationException {
+        return target.getClass()
+                .getMethod(name, firstType, secondType)
+                .invoke(target, first, second);
+    }
+
+    /** 컴파일 결과 */
+    private record Compilation(List<String> errors, Path generatedRoot, Path classesRoot) {
+
+        String generated(String path) throws IOException {
+            return Files.readString(generatedRoot.resolve(path), StandardCharsets.UTF_8);
+        }
+
+        List<Path> generatedFiles() throws IOException {
+            try (Stream<Path> files = Files.walk(generatedRoot)) {
+                return files.filter(Files::isRegularFile).toList();
+            }
+        }
+
+        URLClassLoader classLoader() throws IOException {
+            return new URLClassLoader(
+                    new URL[] {classesRoot.toUri().toURL()},
+                    GenerateConverterProcessorTest.class.getClassLoader());
+        }
+    }
+}
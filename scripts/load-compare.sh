@@ -0,0 +1,65 @@
+#!/usr/bin/env bash
+# 플랫폼 스레드 모드와 가상 스레드 모드의 높은 동시성 부하 비교
+#
+# 사용법: scripts/load-compare.sh [동시 요청 수] [측정 시간]
+#   예) scripts/load-compare.sh 2000 30s
+#
+# - DB(make db-up)가 실행 중이어야 하며, 부하 도구 hey(https://github.com/rakyll/hey)가 필요하다.
+# - 각 모드로 app-core를 띄우고 /schedules/today(캐시 미사용)와 /schedules 목록 조회에 부하를 준 뒤
+#   요청 처리량, 지연 분포, 오류 수를 build/load-compare/ 아래에 모드별로 저장한다.
+# - 가상 스레드 모드에서는 고정(pinning) 스택이 로그에, JFR 기록이 app-core/build/virtual-threads.jfr에 남는다.
+
+set -euo pipefail
+
+CONCURRENCY="${1:-2000}"
+DURATION="${2:-30s}"
+BASE_URL="http://localhost:8080/api/v1"
+OUT_DIR="build/load-compare"
+
+cd "$(dirname "$0")/.."
+mkdir -p "$OUT_DIR"
+
+command -v hey >/dev/null || { echo "hey가 설치되어 있지 않습니다: go install github.com/rakyll/hey@latest"; exit 1; }
+
+wait_for_app() {
+    for _ in $(seq 1 120); do
+        if curl -sf "$BASE_URL/actuator/health" >/dev/null; then
+            return 0
+        fi
+        sleep 1
+    done
+    echo "애플리케이션이 기동되지 않았습니다"
+    return 1
+}
+
+run_mode() {
+    local mode="$1"
+    shift
+    echo "== $mode 모드 (동시 $CONCURRENCY, $DURATION) =="
+    SCHEDULE_TODAY_CACHE_ENABLED=false ./gradlew :app-core:bootRun "$@" >"$OUT_DIR/$mode-app.log" 2>&1 &
+    local pid=$!
+    trap 'kill $pid 2>/dev/null || true' EXIT
+    wait_for_app
+
+    hey -z 10s -c 100 -H "X-User-Id: load-user" "$BASE_URL/schedules/today" >/dev/null  # 워밍업
+    hey -z "$DURATION" -c "$CONCURRENCY" -H "X-User-Id: load-user" \
+        "$BASE_URL/schedules/today" | tee "$OUT_DIR/$mode-today.txt"
+    hey -z "$DURATION" -c "$CONCURRENCY" -H "X-User-Id: load-user" \
+        "$BASE_URL/schedules?startDate=2026-01-01&endDate=2026-12-31" | tee "$OUT_DIR/$mode-list.txt"
+
+    kill "$pid" 2>/dev/null || true
+    wait "$pid" 2>/dev/null || true
+    trap - EXIT
+}
+
+run_mode platform
+run_mode virtual -PvirtualThreads
+
+echo
+echo "== 요약 (Requests/sec, 99% 지연) =="
+for file in "$OUT_DIR"/*-today.txt "$OUT_DIR"/*-list.txt; do
+    printf '%-40s %s / %s\n' "$(basename "$file")" \
+        "$(grep 'Requests/sec' "$file" | awk '{print $2}')" \
+        "$(grep '99%' "$file" | awk '{print $3, $4}')"
+done
+echo "가상 스레드 고정 발생: $(grep -c 'VirtualThread\|<== monitors' "$OUT_DIR/virtual-app.log" || true)건"